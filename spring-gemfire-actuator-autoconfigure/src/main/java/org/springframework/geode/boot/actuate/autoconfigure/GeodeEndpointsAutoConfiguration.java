@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
+import org.springframework.geode.boot.actuate.endpoint.GeodeHotKeysEndpoint;
+import org.springframework.geode.boot.actuate.endpoint.GeodeRegionSizesEndpoint;
+import org.springframework.geode.boot.actuate.endpoint.GeodeServerLoadEndpoint;
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+import org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for Apache Geode actuator {@link Endpoint Endpoints}
+ * of a {@link ClientCache} application.
+ *
+ * The server load {@link Endpoint} is only registered when an {@link ActuatorServerLoadProbeWrapper} bean
+ * has been declared.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.endpoint.GeodeHotKeysEndpoint
+ * @see org.springframework.geode.boot.actuate.endpoint.GeodeRegionSizesEndpoint
+ * @see org.springframework.geode.boot.actuate.endpoint.GeodeServerLoadEndpoint
+ * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnClass({ ClientCacheFactoryBean.class, Endpoint.class })
+@SuppressWarnings("unused")
+public class GeodeEndpointsAutoConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_ENDPOINT_REGION_SIZES_LARGEST_ENTRIES_PROPERTY =
+		"spring.boot.data.gemfire.endpoint.region-sizes.largest-entries";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_ENDPOINT_REGION_SIZES_MAX_SCANNED_ENTRIES_PROPERTY =
+		"spring.boot.data.gemfire.endpoint.region-sizes.max-scanned-entries";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_ENDPOINT_REGION_SIZES_SAMPLE_SIZE_PROPERTY =
+		"spring.boot.data.gemfire.endpoint.region-sizes.sample-size";
+
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	GeodeHotKeysEndpoint geodeHotKeysEndpoint(
+			ObjectProvider<HotKeyTrackingBeanPostProcessor> hotKeyTrackingBeanPostProcessor) {
+
+		return new GeodeHotKeysEndpoint(hotKeyTrackingBeanPostProcessor.getIfAvailable());
+	}
+
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	GeodeRegionSizesEndpoint geodeRegionSizesEndpoint(Environment environment,
+			ObjectProvider<GemFireCache> gemfireCache) {
+
+		return new GeodeRegionSizesEndpoint(gemfireCache.getIfUnique())
+			.withLargestEntries(environment.getProperty(
+				SPRING_BOOT_DATA_GEMFIRE_ENDPOINT_REGION_SIZES_LARGEST_ENTRIES_PROPERTY, Integer.class,
+				GeodeRegionSizesEndpoint.DEFAULT_LARGEST_ENTRIES))
+			.withMaxScannedEntries(environment.getProperty(
+				SPRING_BOOT_DATA_GEMFIRE_ENDPOINT_REGION_SIZES_MAX_SCANNED_ENTRIES_PROPERTY, Integer.class,
+				GeodeRegionSizesEndpoint.DEFAULT_MAX_SCANNED_ENTRIES))
+			.withSampleSize(environment.getProperty(
+				SPRING_BOOT_DATA_GEMFIRE_ENDPOINT_REGION_SIZES_SAMPLE_SIZE_PROPERTY, Integer.class,
+				GeodeRegionSizesEndpoint.DEFAULT_SAMPLE_SIZE));
+	}
+
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	@ConditionalOnBean(ActuatorServerLoadProbeWrapper.class)
+	GeodeServerLoadEndpoint geodeServerLoadEndpoint(ActuatorServerLoadProbeWrapper serverLoadProbe) {
+		return new GeodeServerLoadEndpoint(serverLoadProbe);
+	}
+}
@@ -6,8 +6,10 @@ package org.springframework.geode.boot.actuate.autoconfigure;
 
 import org.apache.geode.cache.client.ClientCache;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -16,33 +18,47 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
 import org.springframework.geode.boot.actuate.autoconfigure.config.BaseGeodeHealthIndicatorConfiguration;
 import org.springframework.geode.boot.actuate.autoconfigure.config.ClientCacheHealthIndicatorConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.ContinuousQueryListenerMonitorConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.GeodeHealthStatusConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.PartitionRegionStatisticsConfiguration;
 import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
 
 /**
  * Spring Boot {@link EnableAutoConfiguration auto-configuration} for Apache Geode
  * {@link HealthIndicator HealthIndicators}.
  *
+ * The auto-configuration runs before the Spring Boot {@link HealthEndpointAutoConfiguration} so that the health
+ * endpoint aggregates the {@literal DEGRADED} status reported by Apache Geode {@link HealthIndicator HealthIndicators}.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator
  * @see org.springframework.boot.actuate.autoconfigure.health.HealthContributorAutoConfiguration
+ * @see org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration
  * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
  * @see org.springframework.context.annotation.Configuration
  * @see org.springframework.context.annotation.Import
  * @see org.springframework.data.gemfire.client.ClientCacheFactoryBean
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.BaseGeodeHealthIndicatorConfiguration
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.ClientCacheHealthIndicatorConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.ContinuousQueryListenerMonitorConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.GeodeHealthStatusConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.PartitionRegionStatisticsConfiguration
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
  * @since 1.0.0
  */
 @Configuration
 @AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@AutoConfigureBefore(HealthEndpointAutoConfiguration.class)
 @ConditionalOnBean(ClientCache.class)
 @ConditionalOnClass(ClientCacheFactoryBean.class)
 @ConditionalOnEnabledHealthIndicator("geode")
 @Import({
 	BaseGeodeHealthIndicatorConfiguration.class,
 	ClientCacheHealthIndicatorConfiguration.class,
+	ContinuousQueryListenerMonitorConfiguration.class,
+	GeodeHealthStatusConfiguration.class,
+	PartitionRegionStatisticsConfiguration.class,
 })
 @SuppressWarnings("unused")
 public class GeodeHealthIndicatorAutoConfiguration {
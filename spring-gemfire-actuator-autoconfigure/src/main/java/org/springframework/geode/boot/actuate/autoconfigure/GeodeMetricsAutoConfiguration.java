@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
+import org.springframework.geode.boot.actuate.autoconfigure.config.ContinuousQueryListenerMonitorConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.FunctionExecutionMetricsConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.GeodeMeterBindersConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.HotKeyTrackingConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.PartitionRegionStatisticsConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.RegionOperationMetricsConfiguration;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for Micrometer metrics
+ * of an Apache Geode {@link ClientCache} application.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.context.annotation.Import
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.ContinuousQueryListenerMonitorConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.FunctionExecutionMetricsConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.GeodeMeterBindersConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.HotKeyTrackingConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.PartitionRegionStatisticsConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.RegionOperationMetricsConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
+ * @since 2.0.0
+ */
+@Configuration
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnClass({ ClientCacheFactoryBean.class, MeterRegistry.class })
+@Import({
+	ContinuousQueryListenerMonitorConfiguration.class,
+	FunctionExecutionMetricsConfiguration.class,
+	GeodeMeterBindersConfiguration.class,
+	HotKeyTrackingConfiguration.class,
+	PartitionRegionStatisticsConfiguration.class,
+	RegionOperationMetricsConfiguration.class,
+})
+@SuppressWarnings("unused")
+public class GeodeMetricsAutoConfiguration {
+
+}
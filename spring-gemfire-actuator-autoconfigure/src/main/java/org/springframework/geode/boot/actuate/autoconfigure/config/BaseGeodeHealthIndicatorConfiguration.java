@@ -4,14 +4,24 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 import org.apache.geode.cache.client.ClientCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.geode.boot.actuate.GeodeCacheHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeDiskStoresHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator;
+import org.springframework.util.StringUtils;
 
 /**
  * Spring {@link Configuration} class declaring Spring beans for general Apache Geode {@link ClientCache}
@@ -32,18 +42,84 @@ import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
 @SuppressWarnings("unused")
 public class BaseGeodeHealthIndicatorConfiguration {
 
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_DISK_STORES_DISK_USAGE_REFRESH_INTERVAL_PROPERTY =
+		"spring.boot.data.gemfire.health.disk-stores.disk-usage-refresh-interval";
+
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_DISK_STORES_MAX_FLUSH_QUEUE_SIZE_PROPERTY =
+		"spring.boot.data.gemfire.health.disk-stores.max-flush-queue-size";
+
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_DISK_STORES_STATUS_ESCALATION_PROPERTY =
+		"spring.boot.data.gemfire.health.disk-stores.status-escalation";
+
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_REGIONS_DETAIL_LEVEL_PROPERTY =
+		"spring.boot.data.gemfire.health.regions.detail-level";
+
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_REGIONS_REFRESH_INTERVAL_PROPERTY =
+		"spring.boot.data.gemfire.health.regions.refresh-interval";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
 	@Bean("GeodeCacheHealthIndicator")
 	GeodeCacheHealthIndicator cacheHealthIndicator(ClientCache gemfireCache) {
 		return new GeodeCacheHealthIndicator(gemfireCache);
 	}
 
 	@Bean("GeodeDiskStoresHealthIndicator")
-	GeodeDiskStoresHealthIndicator diskStoresHealthIndicator(ApplicationContext applicationContext) {
-		return new GeodeDiskStoresHealthIndicator(applicationContext);
+	GeodeDiskStoresHealthIndicator diskStoresHealthIndicator(ApplicationContext applicationContext,
+			Environment environment) {
+
+		GeodeDiskStoresHealthIndicator diskStoresHealthIndicator = new GeodeDiskStoresHealthIndicator(applicationContext);
+
+		Optional.ofNullable(environment.getProperty(
+				SPRING_BOOT_DATA_GEMFIRE_HEALTH_DISK_STORES_MAX_FLUSH_QUEUE_SIZE_PROPERTY, Long.class))
+			.ifPresent(diskStoresHealthIndicator::withMaxFlushQueueSize);
+
+		Optional.ofNullable(environment.getProperty(
+				SPRING_BOOT_DATA_GEMFIRE_HEALTH_DISK_STORES_DISK_USAGE_REFRESH_INTERVAL_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(refreshInterval -> DurationStyle.detectAndParse(refreshInterval.trim(), ChronoUnit.MILLIS))
+			.ifPresent(diskStoresHealthIndicator::withDiskUsageRefreshInterval);
+
+		diskStoresHealthIndicator.withStatusEscalation(environment.getProperty(
+			SPRING_BOOT_DATA_GEMFIRE_HEALTH_DISK_STORES_STATUS_ESCALATION_PROPERTY, Boolean.class, false));
+
+		return diskStoresHealthIndicator;
 	}
 
 	@Bean("GeodeRegionsHealthIndicator")
-	GeodeRegionsHealthIndicator regionsHealthIndicator(ClientCache gemfireCache) {
-		return new GeodeRegionsHealthIndicator(gemfireCache);
+	GeodeRegionsHealthIndicator regionsHealthIndicator(ClientCache gemfireCache, Environment environment,
+			ObjectProvider<PartitionRegionStatisticsAggregator> partitionRegionStatisticsAggregator) {
+
+		GeodeRegionsHealthIndicator regionsHealthIndicator = new GeodeRegionsHealthIndicator(gemfireCache);
+
+		partitionRegionStatisticsAggregator.ifAvailable(regionsHealthIndicator::withPartitionRegionStatisticsAggregator);
+
+		Optional.ofNullable(environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HEALTH_REGIONS_DETAIL_LEVEL_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(this::resolveDetailLevel)
+			.ifPresent(regionsHealthIndicator::withDetailLevel);
+
+		Optional.ofNullable(environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HEALTH_REGIONS_REFRESH_INTERVAL_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(refreshInterval -> DurationStyle.detectAndParse(refreshInterval.trim(), ChronoUnit.MILLIS))
+			.ifPresent(regionsHealthIndicator::withRefreshInterval);
+
+		return regionsHealthIndicator;
+	}
+
+	private GeodeRegionsHealthIndicator.DetailLevel resolveDetailLevel(String detailLevel) {
+
+		return GeodeRegionsHealthIndicator.DetailLevel.from(detailLevel).orElseGet(() -> {
+
+			getLogger().warn("Unknown detail level [{}] set in property [{}]; using the default detail level [{}]",
+				detailLevel, SPRING_BOOT_DATA_GEMFIRE_HEALTH_REGIONS_DETAIL_LEVEL_PROPERTY,
+				GeodeRegionsHealthIndicator.DetailLevel.FULL);
+
+			return GeodeRegionsHealthIndicator.DetailLevel.FULL;
+		});
 	}
 }
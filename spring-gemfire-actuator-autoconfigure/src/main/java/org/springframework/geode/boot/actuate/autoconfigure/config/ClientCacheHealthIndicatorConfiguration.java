@@ -4,16 +4,25 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCache;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.GeodeClusterAvailabilityHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeContinuousQueriesHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodePoolsHealthIndicator;
+import org.springframework.geode.config.annotation.ClusterAvailabilityMonitor;
+import org.springframework.util.StringUtils;
 
 /**
  * Spring {@link Configuration} class declaring Spring beans for Apache Geode {@link ClientCache}
@@ -24,6 +33,7 @@ import org.springframework.geode.boot.actuate.GeodePoolsHealthIndicator;
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.GeodeClusterAvailabilityHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeContinuousQueriesHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodePoolsHealthIndicator
  * @since 1.0.0
@@ -32,15 +42,45 @@ import org.springframework.geode.boot.actuate.GeodePoolsHealthIndicator;
 @SuppressWarnings("unused")
 public class ClientCacheHealthIndicatorConfiguration {
 
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_CONTINUOUS_QUERY_MAX_BACKLOG_PROPERTY =
+		"spring.boot.data.gemfire.health.continuous-query.max-backlog";
+
+	protected static final String SPRING_BOOT_DATA_GEMFIRE_HEALTH_CONTINUOUS_QUERY_MAX_QUEUE_TIME_PROPERTY =
+		"spring.boot.data.gemfire.health.continuous-query.max-queue-time";
+
 	@Bean("GeodeContinuousQueryHealthIndicator")
 	GeodeContinuousQueriesHealthIndicator continuousQueriesHealthIndicator(
-			@Autowired(required = false) ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+			@Autowired(required = false) ContinuousQueryListenerContainer continuousQueryListenerContainer,
+			Environment environment) {
+
+		GeodeContinuousQueriesHealthIndicator continuousQueriesHealthIndicator =
+			new GeodeContinuousQueriesHealthIndicator(continuousQueryListenerContainer);
+
+		Optional.ofNullable(environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HEALTH_CONTINUOUS_QUERY_MAX_BACKLOG_PROPERTY,
+				Long.class))
+			.ifPresent(continuousQueriesHealthIndicator::withMaxBacklog);
 
-		return new GeodeContinuousQueriesHealthIndicator(continuousQueryListenerContainer);
+		Optional.ofNullable(environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HEALTH_CONTINUOUS_QUERY_MAX_QUEUE_TIME_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(maxQueueTime -> DurationStyle.detectAndParse(maxQueueTime.trim(), ChronoUnit.MILLIS))
+			.ifPresent(continuousQueriesHealthIndicator::withMaxQueueTime);
+
+		return continuousQueriesHealthIndicator;
 	}
 
 	@Bean("GeodePoolsHealthIndicator")
 	GeodePoolsHealthIndicator poolsHealthIndicator(ClientCache gemfireCache) {
 		return new GeodePoolsHealthIndicator(gemfireCache);
 	}
+
+	@Bean("GeodeClusterAvailabilityHealthIndicator")
+	@ConditionalOnProperty(
+		name = ClusterAvailabilityMonitor.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_MONITOR_ENABLED_PROPERTY,
+		havingValue = "true"
+	)
+	GeodeClusterAvailabilityHealthIndicator clusterAvailabilityHealthIndicator(
+			@Autowired(required = false) ClusterAvailabilityMonitor clusterAvailabilityMonitor) {
+
+		return new GeodeClusterAvailabilityHealthIndicator(clusterAvailabilityMonitor);
+	}
 }
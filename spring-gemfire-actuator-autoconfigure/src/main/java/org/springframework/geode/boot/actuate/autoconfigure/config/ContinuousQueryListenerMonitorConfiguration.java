@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor;
+import org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitorBeanPostProcessor;
+
+/**
+ * Spring {@link Configuration} class installing a {@link ContinuousQueryListenerMonitor} on
+ * the {@link ContinuousQueryListenerContainer} used by the Continuous Query health indicator and metrics.
+ *
+ * The {@link ContinuousQueryListenerMonitor} replaces the task executor of the container, therefore it is only
+ * installed when enabled with the {@literal spring.boot.data.gemfire.continuous-query.monitor.enabled} property
+ * set to {@literal true}.  Otherwise, the listener backlog and processing time are not reported.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor
+ * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitorBeanPostProcessor
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+	name = ContinuousQueryListenerMonitorConfiguration.SPRING_BOOT_DATA_GEMFIRE_CONTINUOUS_QUERY_MONITOR_ENABLED_PROPERTY,
+	havingValue = "true"
+)
+@SuppressWarnings("unused")
+public class ContinuousQueryListenerMonitorConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_CONTINUOUS_QUERY_MONITOR_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.continuous-query.monitor.enabled";
+
+	@Bean
+	static ContinuousQueryListenerMonitorBeanPostProcessor continuousQueryListenerMonitorBeanPostProcessor() {
+		return new ContinuousQueryListenerMonitorBeanPostProcessor();
+	}
+}
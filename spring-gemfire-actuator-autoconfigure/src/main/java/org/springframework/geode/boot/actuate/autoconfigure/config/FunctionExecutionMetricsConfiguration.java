@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.apache.geode.cache.execute.Execution;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.geode.boot.actuate.metrics.FunctionExecutionMetricsBeanPostProcessor;
+
+/**
+ * Spring {@link Configuration} class declaring Spring beans used to record Micrometer metrics
+ * for Apache Geode Function {@link Execution Executions}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.metrics.FunctionExecutionMetricsBeanPostProcessor
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+	name = FunctionExecutionMetricsConfiguration.SPRING_BOOT_DATA_GEMFIRE_METRICS_FUNCTION_ENABLED_PROPERTY,
+	havingValue = "true",
+	matchIfMissing = true
+)
+@SuppressWarnings("unused")
+public class FunctionExecutionMetricsConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_METRICS_FUNCTION_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.metrics.function.enabled";
+
+	@Bean
+	static FunctionExecutionMetricsBeanPostProcessor functionExecutionMetricsBeanPostProcessor(
+			ObjectProvider<MeterRegistry> meterRegistryProvider) {
+
+		return new FunctionExecutionMetricsBeanPostProcessor(meterRegistryProvider::getIfAvailable);
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+
+/**
+ * Spring {@link Configuration} class declaring the {@link StatusAggregator} used by the Spring Boot health endpoint
+ * and health groups, ordering the {@link AbstractGeodeHealthIndicator#DEGRADED_STATUS degraded} status reported by
+ * Apache Geode {@link org.springframework.boot.actuate.health.HealthIndicator HealthIndicators} between
+ * {@literal DOWN} and {@literal UP}.
+ *
+ * The status order configured with the {@literal management.endpoint.health.status.order} property is used
+ * when present, otherwise the {@link AbstractGeodeHealthIndicator#STATUS_ORDER}.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.actuate.health.SimpleStatusAggregator
+ * @see org.springframework.boot.actuate.health.StatusAggregator
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @since 2.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class GeodeHealthStatusConfiguration {
+
+	protected static final String MANAGEMENT_ENDPOINT_HEALTH_STATUS_ORDER_PROPERTY =
+		"management.endpoint.health.status.order";
+
+	@Bean
+	@ConditionalOnMissingBean
+	StatusAggregator geodeHealthStatusAggregator(Environment environment) {
+
+		List<String> statusOrder = Binder.get(environment)
+			.bind(MANAGEMENT_ENDPOINT_HEALTH_STATUS_ORDER_PROPERTY, Bindable.listOf(String.class))
+			.orElseGet(Collections::emptyList);
+
+		return new SimpleStatusAggregator(statusOrder.isEmpty() ? AbstractGeodeHealthIndicator.STATUS_ORDER
+			: statusOrder);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator;
+import org.springframework.geode.boot.actuate.metrics.GeodeContinuousQueryMetrics;
+import org.springframework.geode.boot.actuate.metrics.GeodePoolMetrics;
+import org.springframework.geode.boot.actuate.metrics.GeodeRegionMetrics;
+import org.springframework.geode.boot.actuate.metrics.GeodeServerLoadMetrics;
+
+/**
+ * Spring {@link Configuration} class declaring Micrometer {@link MeterBinder MeterBinders} for Apache Geode
+ * {@link ClientCache} Regions, Pools, Continuous Queries and server load.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeContinuousQueryMetrics
+ * @see org.springframework.geode.boot.actuate.metrics.GeodePoolMetrics
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionMetrics
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeServerLoadMetrics
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(ClientCache.class)
+@ConditionalOnProperty(
+	name = GeodeMeterBindersConfiguration.SPRING_BOOT_DATA_GEMFIRE_METRICS_CACHE_ENABLED_PROPERTY,
+	havingValue = "true",
+	matchIfMissing = true
+)
+@SuppressWarnings("unused")
+public class GeodeMeterBindersConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_METRICS_CACHE_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.metrics.cache.enabled";
+
+	@Bean
+	GeodeRegionMetrics geodeRegionMetrics(ClientCache gemfireCache,
+			ObjectProvider<PartitionRegionStatisticsAggregator> partitionRegionStatisticsAggregator) {
+
+		return new GeodeRegionMetrics(gemfireCache, partitionRegionStatisticsAggregator.getIfAvailable());
+	}
+
+	@Bean
+	GeodePoolMetrics geodePoolMetrics(ClientCache gemfireCache) {
+		return new GeodePoolMetrics(gemfireCache);
+	}
+
+	@Bean
+	GeodeContinuousQueryMetrics geodeContinuousQueryMetrics(
+			ObjectProvider<ContinuousQueryListenerContainer> continuousQueryListenerContainer) {
+
+		return new GeodeContinuousQueryMetrics(continuousQueryListenerContainer.getIfAvailable());
+	}
+
+	@Bean
+	GeodeServerLoadMetrics geodeServerLoadMetrics(ObjectProvider<ActuatorServerLoadProbeWrapper> serverLoadProbe) {
+		return new GeodeServerLoadMetrics(serverLoadProbe.getIfAvailable());
+	}
+}
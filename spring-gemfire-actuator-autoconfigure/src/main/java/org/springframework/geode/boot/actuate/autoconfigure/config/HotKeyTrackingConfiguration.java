@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.actuate.metrics.GeodeHotKeyMetrics;
+import org.springframework.geode.boot.actuate.metrics.HotKeyTracker;
+import org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring {@link Configuration} class declaring Spring beans used to track the most frequently accessed keys
+ * of the client {@link Region Regions} selected by name with
+ * the {@literal spring.boot.data.gemfire.hot-keys.regions} property.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeHotKeyMetrics
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(HotKeyTrackingConfiguration.SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_REGIONS_PROPERTY)
+@SuppressWarnings("unused")
+public class HotKeyTrackingConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_REGIONS_PROPERTY =
+		"spring.boot.data.gemfire.hot-keys.regions";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_SKETCH_DEPTH_PROPERTY =
+		"spring.boot.data.gemfire.hot-keys.sketch-depth";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_SKETCH_WIDTH_PROPERTY =
+		"spring.boot.data.gemfire.hot-keys.sketch-width";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_TOP_KEYS_PROPERTY =
+		"spring.boot.data.gemfire.hot-keys.top-keys";
+
+	@Bean
+	static HotKeyTrackingBeanPostProcessor hotKeyTrackingBeanPostProcessor(Environment environment) {
+
+		return new HotKeyTrackingBeanPostProcessor(
+			StringUtils.commaDelimitedListToSet(StringUtils.trimAllWhitespace(
+				environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_REGIONS_PROPERTY, ""))),
+			environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_TOP_KEYS_PROPERTY, Integer.class,
+				HotKeyTracker.DEFAULT_TOP_KEYS),
+			environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_SKETCH_WIDTH_PROPERTY, Integer.class,
+				HotKeyTracker.DEFAULT_SKETCH_WIDTH),
+			environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_HOT_KEYS_SKETCH_DEPTH_PROPERTY, Integer.class,
+				HotKeyTracker.DEFAULT_SKETCH_DEPTH));
+	}
+
+	@Bean
+	GeodeHotKeyMetrics geodeHotKeyMetrics(HotKeyTrackingBeanPostProcessor hotKeyTrackingBeanPostProcessor) {
+		return new GeodeHotKeyMetrics(hotKeyTrackingBeanPostProcessor);
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import org.apache.geode.cache.Cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator;
+
+/**
+ * Spring {@link Configuration} class declaring the {@link PartitionRegionStatisticsAggregator} shared by
+ * the Apache Geode Region {@link org.springframework.boot.actuate.health.HealthIndicator} and Region metrics.
+ *
+ * The {@link PartitionRegionStatisticsAggregator} is only declared for a peer {@link Cache}, since a client cache
+ * never hosts the data of partitioned Regions, and independently of whether Region metrics are enabled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(Cache.class)
+@ConditionalOnProperty(
+	name = PartitionRegionStatisticsConfiguration.SPRING_BOOT_DATA_GEMFIRE_PARTITION_STATISTICS_ENABLED_PROPERTY,
+	havingValue = "true",
+	matchIfMissing = true
+)
+@SuppressWarnings("unused")
+public class PartitionRegionStatisticsConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_PARTITION_STATISTICS_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.partition-statistics.enabled";
+
+	@Bean
+	@ConditionalOnMissingBean
+	PartitionRegionStatisticsAggregator partitionRegionStatisticsAggregator() {
+		return new PartitionRegionStatisticsAggregator();
+	}
+}
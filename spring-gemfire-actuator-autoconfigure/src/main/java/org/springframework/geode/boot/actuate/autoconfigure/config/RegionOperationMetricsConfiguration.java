@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.actuate.metrics.RegionOperationMetricsBeanPostProcessor;
+
+/**
+ * Spring {@link Configuration} class declaring Spring beans used to record Micrometer metrics
+ * for the latency of client {@link Region} operations.
+ *
+ * Timing every client {@link Region} operation and maintaining a percentile histogram per {@link Region},
+ * operation and outcome is not free, therefore the metrics are only recorded when
+ * {@literal spring.boot.data.gemfire.metrics.region.operations.enabled} is set to {@literal true}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.metrics.RegionOperationMetricsBeanPostProcessor
+ * @since 2.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+	name = RegionOperationMetricsConfiguration.SPRING_BOOT_DATA_GEMFIRE_METRICS_REGION_OPERATIONS_ENABLED_PROPERTY,
+	havingValue = "true"
+)
+@SuppressWarnings("unused")
+public class RegionOperationMetricsConfiguration {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_METRICS_REGION_OPERATIONS_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.metrics.region.operations.enabled";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_METRICS_REGION_OPERATIONS_SAMPLING_RATE_PROPERTY =
+		"spring.boot.data.gemfire.metrics.region.operations.sampling-rate";
+
+	@Bean
+	static RegionOperationMetricsBeanPostProcessor regionOperationMetricsBeanPostProcessor(Environment environment,
+			ObjectProvider<MeterRegistry> meterRegistryProvider) {
+
+		double samplingRate = environment.getProperty(
+			SPRING_BOOT_DATA_GEMFIRE_METRICS_REGION_OPERATIONS_SAMPLING_RATE_PROPERTY, Double.class,
+			RegionOperationMetricsBeanPostProcessor.DEFAULT_SAMPLING_RATE);
+
+		return new RegionOperationMetricsBeanPostProcessor(meterRegistryProvider::getIfAvailable, samplingRate);
+	}
+}
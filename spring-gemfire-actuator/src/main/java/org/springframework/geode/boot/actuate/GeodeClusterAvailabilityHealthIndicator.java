@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate;
+
+import java.util.Optional;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.config.annotation.ClusterAvailabilityMonitor;
+
+/**
+ * The {@link GeodeClusterAvailabilityHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details
+ * about the availability of the Apache Geode-based cluster as observed by the {@link ClusterAvailabilityMonitor}.
+ *
+ * The status is {@literal UP} when the cluster was available at startup and the application runs with
+ * client/server Regions.  Otherwise, the application runs in {@literal local-only mode} and the status is
+ * {@literal OUT_OF_SERVICE}, even when the cluster has since become reachable, since the Regions remain
+ * {@literal LOCAL} until the application is reconfigured.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.actuate.health.Health
+ * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.config.annotation.ClusterAvailabilityMonitor
+ * @since 2.0.0
+ */
+public class GeodeClusterAvailabilityHealthIndicator extends AbstractGeodeHealthIndicator {
+
+	private final ClusterAvailabilityMonitor clusterAvailabilityMonitor;
+
+	/**
+	 * Default constructor to construct an uninitialized instance of {@link GeodeClusterAvailabilityHealthIndicator},
+	 * which will not provide any health information.
+	 */
+	public GeodeClusterAvailabilityHealthIndicator() {
+		this(null);
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeClusterAvailabilityHealthIndicator} initialized with a reference to
+	 * the {@link ClusterAvailabilityMonitor}.
+	 *
+	 * @param clusterAvailabilityMonitor {@link ClusterAvailabilityMonitor} used to collect health information.
+	 * @see org.springframework.geode.config.annotation.ClusterAvailabilityMonitor
+	 */
+	public GeodeClusterAvailabilityHealthIndicator(ClusterAvailabilityMonitor clusterAvailabilityMonitor) {
+		super("Cluster availability health check failed");
+		this.clusterAvailabilityMonitor = clusterAvailabilityMonitor;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link ClusterAvailabilityMonitor}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link ClusterAvailabilityMonitor}.
+	 * @see org.springframework.geode.config.annotation.ClusterAvailabilityMonitor
+	 */
+	protected Optional<ClusterAvailabilityMonitor> getClusterAvailabilityMonitor() {
+		return Optional.ofNullable(this.clusterAvailabilityMonitor);
+	}
+
+	@Override
+	protected void doHealthCheck(Health.Builder builder) {
+
+		if (getClusterAvailabilityMonitor().isPresent()) {
+
+			ClusterAvailabilityMonitor clusterAvailabilityMonitor = getClusterAvailabilityMonitor().get();
+
+			boolean clusterAvailable = clusterAvailabilityMonitor.isClusterAvailable();
+
+			builder.withDetail("geode.cluster.available", toYesNoString(clusterAvailable))
+				.withDetail("geode.cluster.reachable", toYesNoString(clusterAvailabilityMonitor.isClusterReachable()))
+				.withDetail("geode.cluster.monitor.running", toYesNoString(clusterAvailabilityMonitor.isRunning()))
+				.withDetail("geode.cluster.monitor.interval", clusterAvailabilityMonitor.getInterval().toMillis())
+				.withDetail("geode.cluster.monitor.probe-count", clusterAvailabilityMonitor.getProbeCount())
+				.withDetail("geode.cluster.monitor.last-probe-time", clusterAvailabilityMonitor.getLastProbeTime());
+
+			if (clusterAvailable) {
+				builder.up();
+			}
+			else {
+				builder.outOfService();
+			}
+
+			return;
+		}
+
+		builder.unknown();
+	}
+}
@@ -4,11 +4,17 @@
  */
 package org.springframework.geode.boot.actuate;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.CqState;
@@ -21,11 +27,23 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor;
+import org.springframework.geode.boot.actuate.health.support.CounterSampleWindow;
 
 /**
  * The {@link GeodeContinuousQueriesHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details
  * about the health of the registered Apache Geode {@link CqQuery Continuous Queries}.
  *
+ * Besides the cumulative counts, the event rate of each CQ is computed from the change in the number of events
+ * over a {@link CounterSampleWindow window} of health checks spanning at least
+ * {@link CounterSampleWindow#DEFAULT_WINDOW one minute}, so that the rate does not depend on how often
+ * the health is checked.  When a {@link ContinuousQueryListenerMonitor} is installed on the
+ * {@link ContinuousQueryListenerContainer}, the event arrival and processing rates, the backlog of events waiting
+ * to be processed by the listeners and the listener processing time are reported as well.  The health status
+ * is {@link #DEGRADED_STATUS degraded} when the backlog exceeds the {@link #withMaxBacklog(long) maximum backlog}
+ * or events wait longer than the {@link #withMaxQueueTime(Duration) maximum queue time}; both limits are disabled
+ * by default.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.query.CqQuery
  * @see org.apache.geode.cache.query.Query
@@ -34,13 +52,23 @@ import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicato
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor
+ * @see org.springframework.geode.boot.actuate.health.support.CounterSampleWindow
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIndicator {
 
+	protected static final String LISTENER_EVENT_COUNTS_KEY = "geode.continuous-query.listener";
+
+	private final ConcurrentMap<String, CounterSampleWindow> eventCountWindows = new ConcurrentHashMap<>();
+
 	private final ContinuousQueryListenerContainer continuousQueryListenerContainer;
 
+	private volatile Duration maxQueueTime = Duration.ZERO;
+
+	private volatile long maxBacklog;
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodeContinuousQueriesHealthIndicator},
 	 * which will not provide any health information.
@@ -75,6 +103,78 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 		return Optional.ofNullable(this.continuousQueryListenerContainer);
 	}
 
+	/**
+	 * Returns an {@link Optional} reference to the {@link ContinuousQueryListenerMonitor} installed on
+	 * the configured {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @return an {@link Optional} reference to the installed {@link ContinuousQueryListenerMonitor}.
+	 * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor
+	 * @see java.util.Optional
+	 */
+	protected Optional<ContinuousQueryListenerMonitor> getContinuousQueryListenerMonitor() {
+		return ContinuousQueryListenerMonitor.from(this.continuousQueryListenerContainer);
+	}
+
+	/**
+	 * Configures the maximum number of events waiting to be processed by the listeners before the health status
+	 * is {@link #DEGRADED_STATUS degraded}.
+	 *
+	 * A {@literal 0} or negative value disables the limit, which is the default.
+	 *
+	 * @param maxBacklog maximum number of events waiting to be processed by the listeners.
+	 * @return this {@link GeodeContinuousQueriesHealthIndicator}.
+	 */
+	public GeodeContinuousQueriesHealthIndicator withMaxBacklog(long maxBacklog) {
+		this.maxBacklog = Math.max(0L, maxBacklog);
+		return this;
+	}
+
+	/**
+	 * Returns the configured maximum number of events waiting to be processed by the listeners.
+	 *
+	 * @return the configured maximum number of events waiting to be processed by the listeners;
+	 * {@literal 0} if the limit is disabled.
+	 */
+	protected long getMaxBacklog() {
+		return this.maxBacklog;
+	}
+
+	/**
+	 * Configures the maximum {@link Duration time} an event may wait to be processed by the listeners before
+	 * the health status is {@link #DEGRADED_STATUS degraded}.
+	 *
+	 * A {@literal null}, {@link Duration#ZERO zero} or negative {@link Duration} disables the limit,
+	 * which is the default.
+	 *
+	 * @param maxQueueTime maximum {@link Duration time} an event may wait to be processed by the listeners.
+	 * @return this {@link GeodeContinuousQueriesHealthIndicator}.
+	 * @see java.time.Duration
+	 */
+	public GeodeContinuousQueriesHealthIndicator withMaxQueueTime(Duration maxQueueTime) {
+		this.maxQueueTime = maxQueueTime != null && !maxQueueTime.isNegative() ? maxQueueTime : Duration.ZERO;
+		return this;
+	}
+
+	/**
+	 * Returns the configured maximum {@link Duration time} an event may wait to be processed by the listeners.
+	 *
+	 * @return the configured maximum {@link Duration time} an event may wait to be processed by the listeners;
+	 * {@link Duration#ZERO} if the limit is disabled.
+	 * @see java.time.Duration
+	 */
+	protected Duration getMaxQueueTime() {
+		return this.maxQueueTime;
+	}
+
+	/**
+	 * Returns the current value of the monotonic clock used to compute event rates.
+	 *
+	 * @return the current value of the monotonic clock in nanoseconds.
+	 */
+	protected long currentTimeNanos() {
+		return System.nanoTime();
+	}
+
 	@Override
 	protected void doHealthCheck(Health.Builder builder) {
 
@@ -101,6 +201,8 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 						.withDetail("geode.continuous-query.number-on-client", cqServiceStatistics.numCqsOnClient())
 				);
 
+			long now = currentTimeNanos();
+
 			continuousQueries.stream()
 				.filter(Objects::nonNull)
 				.forEach(continuousQuery -> {
@@ -130,14 +232,35 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 
 					if (continuousQueryStatistics != null) {
 
+						long numberOfEvents = continuousQueryStatistics.numEvents();
+
 						builder.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-deletes"), continuousQueryStatistics.numDeletes())
-							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-events"), continuousQueryStatistics.numEvents())
+							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-events"), numberOfEvents)
 							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-inserts"), continuousQueryStatistics.numInserts())
-							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-updates"), continuousQueryStatistics.numUpdates());
+							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "number-of-updates"), continuousQueryStatistics.numUpdates())
+							.withDetail(continuousQueryStatisticsKey(continuousQueryName, "event-rate"),
+								rate(continuousQueryName, now, numberOfEvents)[0]);
 					}
 				});
 
-			builder.up();
+			Set<String> continuousQueryNames = continuousQueries.stream()
+				.filter(Objects::nonNull)
+				.map(CqQuery::getName)
+				.collect(Collectors.toSet());
+
+			this.eventCountWindows.keySet().removeIf(key -> !LISTENER_EVENT_COUNTS_KEY.equals(key)
+				&& !continuousQueryNames.contains(key));
+
+			boolean lagging = getContinuousQueryListenerMonitor()
+				.map(monitor -> withListenerDetails(builder, monitor, now))
+				.orElse(false);
+
+			if (lagging) {
+				builder.status(DEGRADED_STATUS);
+			}
+			else {
+				builder.up();
+			}
 
 			return;
 		}
@@ -145,6 +268,60 @@ public class GeodeContinuousQueriesHealthIndicator extends AbstractGeodeHealthIn
 		builder.unknown();
 	}
 
+	private boolean withListenerDetails(Health.Builder builder, ContinuousQueryListenerMonitor monitor, long now) {
+
+		long processedEventCount = monitor.getProcessedEventCount();
+		long dispatchedEventCount = monitor.getDispatchedEventCount();
+		long backlog = Math.max(0L, dispatchedEventCount - processedEventCount);
+		long queueTime = monitor.getQueueTime(TimeUnit.MILLISECONDS);
+
+		double[] rates = rate(LISTENER_EVENT_COUNTS_KEY, now, dispatchedEventCount, processedEventCount);
+
+		boolean lagging = (getMaxBacklog() > 0L && backlog > getMaxBacklog())
+			|| (!getMaxQueueTime().isZero() && queueTime > getMaxQueueTime().toMillis());
+
+		builder.withDetail(listenerKey("number-of-events-dispatched"), dispatchedEventCount)
+			.withDetail(listenerKey("number-of-events-processed"), processedEventCount)
+			.withDetail(listenerKey("backlog"), backlog)
+			.withDetail(listenerKey("arrival-rate"), rates[0])
+			.withDetail(listenerKey("processing-rate"), rates[1])
+			.withDetail(listenerKey("average-processing-time"),
+				monitor.getAverageProcessingTime(TimeUnit.MILLISECONDS))
+			.withDetail(listenerKey("queue-time"), queueTime)
+			.withDetail(listenerKey("lagging"), toYesNoString(lagging));
+
+		return lagging;
+	}
+
+	/**
+	 * Computes the rate per second of each of the given counts over the {@link CounterSampleWindow window}
+	 * of health checks.
+	 *
+	 * The rates are {@literal 0.0} on the first health check or when a count was reset.
+	 */
+	private double[] rate(String key, long now, long... counts) {
+
+		CounterSampleWindow eventCountWindow =
+			this.eventCountWindows.computeIfAbsent(key, it -> new CounterSampleWindow(counts.length));
+
+		double[] rates = new double[counts.length];
+
+		synchronized (eventCountWindow) {
+
+			eventCountWindow.record(now, counts);
+
+			for (int index = 0; index < counts.length; index++) {
+				rates[index] = eventCountWindow.rate(index);
+			}
+		}
+
+		return rates;
+	}
+
+	private String listenerKey(String suffix) {
+		return String.format("%1$s.%2$s", LISTENER_EVENT_COUNTS_KEY, suffix);
+	}
+
 	private String continuousQueryKey(String continuousQueryName, String suffix) {
 		return String.format("geode.continuous-query.%1$s.%2$s", continuousQueryName, suffix);
 	}
@@ -5,38 +5,74 @@
 package org.springframework.geode.boot.actuate;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.GemFireCache;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsSampler;
 import org.springframework.util.Assert;
 
 /**
  * The {@link GeodeDiskStoresHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details about
  * the health of Apache Geode {@link DiskStore DiskStores}.
  *
+ * Besides the configuration, the write and flush throughput, the flush queue size, the compaction and oplog activity
+ * and the disk usage of each {@link DiskStore} are reported.  Computing the disk usage lists the files in
+ * the {@link DiskStore DiskStore's} directories, therefore the disk usage is recomputed at most once per
+ * {@link #withDiskUsageRefreshInterval(Duration) disk usage refresh interval}.
+ *
+ * The state of each {@link DiskStore} is {@literal critical} when its disk usage reaches its disk usage critical
+ * percentage, and {@literal warning} when the disk usage reaches the disk usage warning percentage or the flush queue
+ * backs up (see {@link #withMaxFlushQueueSize(long)}).  By default, the state is only reported in the details.
+ * When {@link #withStatusEscalation(boolean) status escalation} is enabled, the health status is
+ * {@link Status#DOWN down} when any {@link DiskStore} is critical and {@link #DEGRADED_STATUS degraded}
+ * when any {@link DiskStore} is in the warning state.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.DiskStore
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.context.ApplicationContext
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsSampler
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator {
 
+	protected static final String CRITICAL_STATE = "critical";
+	protected static final String NORMAL_STATE = "normal";
+	protected static final String WARNING_STATE = "warning";
+
+	protected static final Duration DEFAULT_DISK_USAGE_REFRESH_INTERVAL = Duration.ofSeconds(30L);
+
 	private final ApplicationContext applicationContext;
 
+	private final ConcurrentMap<String, DiskUsageSample> diskUsageSamples = new ConcurrentHashMap<>();
+
+	private volatile boolean statusEscalation;
+
+	private volatile DiskStoreStatisticsSampler diskStoreStatisticsSampler;
+
+	private volatile Duration diskUsageRefreshInterval = DEFAULT_DISK_USAGE_REFRESH_INTERVAL;
+
+	private volatile long maxFlushQueueSize;
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodeDiskStoresHealthIndicator},
 	 * which will not provide any health information.
@@ -74,6 +110,126 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 		return Optional.ofNullable(this.applicationContext);
 	}
 
+	/**
+	 * Returns an {@link Optional} reference to the {@link DiskStoreStatisticsSampler} used to sample
+	 * the I/O activity of the {@link DiskStore DiskStores}.
+	 *
+	 * The {@link DiskStoreStatisticsSampler} is created on first use from the {@link GemFireCache} bean
+	 * declared in the Spring {@link ApplicationContext}.
+	 *
+	 * @return an {@link Optional} reference to the {@link DiskStoreStatisticsSampler}.
+	 * @see org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsSampler
+	 * @see java.util.Optional
+	 */
+	protected Optional<DiskStoreStatisticsSampler> getDiskStoreStatisticsSampler() {
+
+		DiskStoreStatisticsSampler diskStoreStatisticsSampler = this.diskStoreStatisticsSampler;
+
+		if (diskStoreStatisticsSampler == null) {
+
+			diskStoreStatisticsSampler = getApplicationContext()
+				.map(it -> it.getBeanProvider(GemFireCache.class))
+				.map(ObjectProvider::getIfUnique)
+				.map(GemFireCache::getDistributedSystem)
+				.map(DiskStoreStatisticsSampler::new)
+				.orElse(null);
+
+			this.diskStoreStatisticsSampler = diskStoreStatisticsSampler;
+		}
+
+		return Optional.ofNullable(diskStoreStatisticsSampler);
+	}
+
+	/**
+	 * Configures the maximum number of entries waiting in the flush queue of a {@link DiskStore} before
+	 * the health status is {@link #DEGRADED_STATUS degraded}.
+	 *
+	 * A {@literal 0} or negative value disables the limit, which is the default.  Regardless of this limit,
+	 * the health status is degraded when the flush queue of a {@link DiskStore} reaches the configured
+	 * {@link DiskStore#getQueueSize() queue size}, at which point writes block.
+	 *
+	 * @param maxFlushQueueSize maximum number of entries waiting in the flush queue of a {@link DiskStore}.
+	 * @return this {@link GeodeDiskStoresHealthIndicator}.
+	 */
+	public GeodeDiskStoresHealthIndicator withMaxFlushQueueSize(long maxFlushQueueSize) {
+		this.maxFlushQueueSize = Math.max(0L, maxFlushQueueSize);
+		return this;
+	}
+
+	/**
+	 * Returns the configured maximum number of entries waiting in the flush queue of a {@link DiskStore}.
+	 *
+	 * @return the configured maximum number of entries waiting in the flush queue of a {@link DiskStore};
+	 * {@literal 0} if the limit is disabled.
+	 */
+	protected long getMaxFlushQueueSize() {
+		return this.maxFlushQueueSize;
+	}
+
+	/**
+	 * Configures the {@link Duration interval} at which the disk usage of a {@link DiskStore} is recomputed.
+	 *
+	 * Health checks within the {@link Duration interval} report the previously computed disk usage.
+	 * A {@link Duration#ZERO zero} or negative {@link Duration interval} recomputes the disk usage on every
+	 * health check.  Defaults to {@literal 30 seconds}.
+	 *
+	 * @param diskUsageRefreshInterval {@link Duration interval} at which the disk usage is recomputed.
+	 * @return this {@link GeodeDiskStoresHealthIndicator}.
+	 * @see java.time.Duration
+	 */
+	public GeodeDiskStoresHealthIndicator withDiskUsageRefreshInterval(Duration diskUsageRefreshInterval) {
+
+		this.diskUsageRefreshInterval = diskUsageRefreshInterval == null ? DEFAULT_DISK_USAGE_REFRESH_INTERVAL
+			: diskUsageRefreshInterval.isNegative() ? Duration.ZERO
+			: diskUsageRefreshInterval;
+
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link Duration interval} at which the disk usage of a {@link DiskStore} is recomputed.
+	 *
+	 * @return the configured {@link Duration interval} at which the disk usage of a {@link DiskStore} is recomputed.
+	 * @see java.time.Duration
+	 */
+	protected Duration getDiskUsageRefreshInterval() {
+		return this.diskUsageRefreshInterval;
+	}
+
+	/**
+	 * Configures whether the health status is {@link Status#DOWN down} or {@link #DEGRADED_STATUS degraded}
+	 * when a {@link DiskStore} is in the critical or warning state.
+	 *
+	 * Disabled by default, in which case the state of each {@link DiskStore} is only reported in the details.
+	 *
+	 * @param statusEscalation boolean value indicating whether the state of the {@link DiskStore DiskStores}
+	 * determines the health status.
+	 * @return this {@link GeodeDiskStoresHealthIndicator}.
+	 */
+	public GeodeDiskStoresHealthIndicator withStatusEscalation(boolean statusEscalation) {
+		this.statusEscalation = statusEscalation;
+		return this;
+	}
+
+	/**
+	 * Determines whether the state of the {@link DiskStore DiskStores} determines the health status.
+	 *
+	 * @return a boolean value indicating whether the state of the {@link DiskStore DiskStores} determines
+	 * the health status.
+	 */
+	protected boolean isStatusEscalationEnabled() {
+		return this.statusEscalation;
+	}
+
+	/**
+	 * Returns the current value of the monotonic clock used to expire the computed disk usage.
+	 *
+	 * @return the current value of the monotonic clock in nanoseconds.
+	 */
+	protected long currentTimeNanos() {
+		return System.nanoTime();
+	}
+
 	@Override
 	protected void doHealthCheck(Health.Builder builder) {
 
@@ -85,7 +241,11 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 
 			builder.withDetail("geode.disk-store.count", diskStores.size());
 
-			diskStores.values().forEach(diskStore -> {
+			Optional<DiskStoreStatisticsSampler> diskStoreStatisticsSampler = getDiskStoreStatisticsSampler();
+
+			Status status = Status.UP;
+
+			for (DiskStore diskStore : diskStores.values()) {
 
 				String diskStoreName = diskStore.getName();
 
@@ -102,9 +262,34 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 					.withDetail(diskStoreKey(diskStoreName, "uuid"), diskStore.getDiskStoreUUID().toString())
 					.withDetail(diskStoreKey(diskStoreName, "write-buffer-size"), diskStore.getWriteBufferSize())
 					.withDetail(diskStoreKey(diskStoreName, "segments"), diskStore.getSegments());
-			});
 
-			builder.up();
+				Map<String, Object> sample = diskStoreStatisticsSampler
+					.map(sampler -> sampler.sample(diskStore))
+					.orElseGet(Collections::emptyMap);
+
+				sample.forEach((key, value) -> builder.withDetail(diskStoreKey(diskStoreName, key), value));
+
+				String state = withDiskUsageDetails(builder, diskStore);
+
+				Object flushQueueSize = sample.get("flush-queue-size");
+
+				if (NORMAL_STATE.equals(state) && flushQueueSize instanceof Long
+						&& isFlushQueueBackedUp(diskStore, (Long) flushQueueSize)) {
+
+					state = WARNING_STATE;
+				}
+
+				builder.withDetail(diskStoreKey(diskStoreName, "state"), state);
+
+				if (CRITICAL_STATE.equals(state)) {
+					status = Status.DOWN;
+				}
+				else if (WARNING_STATE.equals(state) && Status.UP.equals(status)) {
+					status = DEGRADED_STATUS;
+				}
+			}
+
+			builder.status(isStatusEscalationEnabled() ? status : Status.UP);
 
 			return;
 		}
@@ -112,6 +297,68 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 		builder.unknown();
 	}
 
+	private String withDiskUsageDetails(Health.Builder builder, DiskStore diskStore) {
+
+		String diskStoreName = diskStore.getName();
+
+		DiskStoreStatisticsSampler.DiskUsage diskUsage = resolveDiskUsage(diskStore);
+
+		double usagePercentage = diskUsage.getUsagePercentage();
+		double volumeUsagePercentage = diskUsage.getVolumeUsagePercentage();
+
+		builder.withDetail(diskStoreKey(diskStoreName, "disk-usage"), diskUsage.getUsed())
+			.withDetail(diskStoreKey(diskStoreName, "disk-limit"), diskUsage.getLimit());
+
+		if (!Double.isNaN(usagePercentage)) {
+			builder.withDetail(diskStoreKey(diskStoreName, "disk-usage-percentage"), usagePercentage);
+		}
+
+		if (!Double.isNaN(volumeUsagePercentage)) {
+			builder.withDetail(diskStoreKey(diskStoreName, "volume-usage-percentage"), volumeUsagePercentage);
+		}
+
+		double highestUsagePercentage = Double.isNaN(usagePercentage) ? volumeUsagePercentage
+			: Double.isNaN(volumeUsagePercentage) ? usagePercentage
+			: Math.max(usagePercentage, volumeUsagePercentage);
+
+		if (!Double.isNaN(highestUsagePercentage)) {
+
+			float criticalPercentage = diskStore.getDiskUsageCriticalPercentage();
+			float warningPercentage = diskStore.getDiskUsageWarningPercentage();
+
+			if (criticalPercentage > 0.0f && highestUsagePercentage >= criticalPercentage) {
+				return CRITICAL_STATE;
+			}
+			else if (warningPercentage > 0.0f && highestUsagePercentage >= warningPercentage) {
+				return WARNING_STATE;
+			}
+		}
+
+		return NORMAL_STATE;
+	}
+
+	private DiskStoreStatisticsSampler.DiskUsage resolveDiskUsage(DiskStore diskStore) {
+
+		long now = currentTimeNanos();
+
+		DiskUsageSample diskUsageSample = this.diskUsageSamples.get(diskStore.getName());
+
+		if (diskUsageSample == null || diskUsageSample.isExpired(now, getDiskUsageRefreshInterval())) {
+			diskUsageSample = new DiskUsageSample(DiskStoreStatisticsSampler.sampleDiskUsage(diskStore), now);
+			this.diskUsageSamples.put(diskStore.getName(), diskUsageSample);
+		}
+
+		return diskUsageSample.getDiskUsage();
+	}
+
+	private boolean isFlushQueueBackedUp(DiskStore diskStore, long flushQueueSize) {
+
+		int queueSize = diskStore.getQueueSize();
+
+		return (queueSize > 0 && flushQueueSize >= queueSize)
+			|| (getMaxFlushQueueSize() > 0L && flushQueueSize > getMaxFlushQueueSize());
+	}
+
 	private String diskStoreKey(String diskStoreName, String suffix) {
 		return String.format("geode.disk-store.%1$s.%2$s", diskStoreName, suffix);
 	}
@@ -128,4 +375,27 @@ public class GeodeDiskStoresHealthIndicator extends AbstractGeodeHealthIndicator
 			.distinct()
 			.toArray());
 	}
+
+	/**
+	 * The computed {@link DiskStoreStatisticsSampler.DiskUsage} of a {@link DiskStore} and the time it was computed.
+	 */
+	static class DiskUsageSample {
+
+		private final DiskStoreStatisticsSampler.DiskUsage diskUsage;
+
+		private final long timestamp;
+
+		DiskUsageSample(DiskStoreStatisticsSampler.DiskUsage diskUsage, long timestamp) {
+			this.diskUsage = diskUsage;
+			this.timestamp = timestamp;
+		}
+
+		DiskStoreStatisticsSampler.DiskUsage getDiskUsage() {
+			return this.diskUsage;
+		}
+
+		boolean isExpired(long now, Duration refreshInterval) {
+			return now - this.timestamp >= refreshInterval.toNanos();
+		}
+	}
 }
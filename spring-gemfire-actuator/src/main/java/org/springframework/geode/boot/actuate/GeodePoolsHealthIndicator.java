@@ -10,6 +10,7 @@ import java.net.InetSocketAddress;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.Pool;
@@ -18,12 +19,17 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.PoolStatisticsSampler;
 import org.springframework.util.StringUtils;
 
 /**
  * The {@link GeodePoolsHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details about
  * the health of the configured Apache Geode client {@link Pool Pools}.
  *
+ * Besides the {@link Pool} configuration, the live behavior of each {@link Pool}, such as active and idle
+ * connections, connection waits and per-server connections, is sampled with the {@link PoolStatisticsSampler}.
+ * The single-hop ratio is reported once for all {@link Pool Pools}.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.apache.geode.cache.client.Pool
@@ -31,11 +37,14 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.PoolStatisticsSampler
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class GeodePoolsHealthIndicator extends AbstractGeodeHealthIndicator {
 
+	private volatile PoolStatisticsSampler poolStatisticsSampler;
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodePoolsHealthIndicator},
 	 * which will not provide any health information.
@@ -100,8 +109,20 @@ public class GeodePoolsHealthIndicator extends AbstractGeodeHealthIndicator {
 						.map(ClientCache.class::cast)
 						.filter(CacheUtils::isDurable)
 						.ifPresent(it -> builder.withDetail(poolKey(poolName, "pending-event-count"), pool.getPendingEventCount()));
+
+					if (!pool.isDestroyed()) {
+						getPoolStatisticsSampler().ifPresent(poolStatisticsSampler -> poolStatisticsSampler.sample(pool)
+							.forEach((key, value) -> builder.withDetail(poolKey(poolName, key), value)));
+					}
 				});
 
+			getPoolStatisticsSampler()
+				.map(poolStatisticsSampler -> poolStatisticsSampler.sampleSingleHopRatio(pools.values().stream()
+					.filter(Objects::nonNull)
+					.filter(pool -> !pool.isDestroyed())
+					.collect(Collectors.toList())))
+				.ifPresent(singleHopRatio -> builder.withDetail("geode.pool.single-hop-ratio", singleHopRatio));
+
 			builder.up();
 
 			return;
@@ -110,6 +131,30 @@ public class GeodePoolsHealthIndicator extends AbstractGeodeHealthIndicator {
 		builder.unknown();
 	}
 
+	/**
+	 * Returns an {@link Optional} reference to the {@link PoolStatisticsSampler} used to sample the live behavior
+	 * of the {@link Pool Pools} from the {@link ClientCache} {@link org.apache.geode.Statistics}.
+	 *
+	 * @return an {@link Optional} reference to the {@link PoolStatisticsSampler}.
+	 * @see org.springframework.geode.boot.actuate.health.support.PoolStatisticsSampler
+	 */
+	protected Optional<PoolStatisticsSampler> getPoolStatisticsSampler() {
+
+		PoolStatisticsSampler poolStatisticsSampler = this.poolStatisticsSampler;
+
+		if (poolStatisticsSampler == null) {
+
+			poolStatisticsSampler = getGemFireCache()
+				.map(ClientCache::getDistributedSystem)
+				.map(PoolStatisticsSampler::new)
+				.orElse(null);
+
+			this.poolStatisticsSampler = poolStatisticsSampler;
+		}
+
+		return Optional.ofNullable(poolStatisticsSampler);
+	}
+
 	Map<String, Pool> findAllPools() {
 		return PoolManager.getAll();
 	}
@@ -4,10 +4,18 @@
  */
 package org.springframework.geode.boot.actuate;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.apache.geode.cache.EvictionAlgorithm;
@@ -18,9 +26,11 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.internal.cache.LocalDataSet;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator;
 import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver;
 import org.springframework.util.StringUtils;
 
@@ -28,6 +38,11 @@ import org.springframework.util.StringUtils;
  * The {@link GeodeRegionsHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details about
  * the health of the {@link ClientCache} {@link Region Regions}.
  *
+ * Optionally, the health details can be served from a snapshot that is periodically refreshed in the background
+ * (see {@link #withRefreshInterval(Duration)}), and limited to a summary (see {@link #withDetailLevel(DetailLevel)}),
+ * which is useful when the health endpoint is frequently probed (e.g. by Kubernetes) on members with many
+ * {@link Region Regions} or buckets.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.apache.geode.cache.Region
@@ -37,7 +52,10 @@ import org.springframework.util.StringUtils;
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
-public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
+public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator implements DisposableBean {
+
+	protected static final String REGIONS_DETAIL_KEY_PREFIX = "geode.cache.regions.";
+	protected static final String THREAD_NAME = "geode-regions-health-snapshot";
 
 	private final BiConsumer<Region<?, ?>, Health.Builder> gemfireRegionHealthIndicatorConsumers = withRegionDetails()
 		.andThen(withPartitionRegionDetails())
@@ -45,6 +63,21 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 		.andThen(withRegionExpirationPolicyDetails())
 		.andThen(withRegionStatisticsDetails());
 
+	private final BiConsumer<Region<?, ?>, Health.Builder> gemfireRegionSummaryHealthIndicatorConsumers =
+		withRegionSummaryDetails();
+
+	private final ConcurrentMap<String, ConcurrentMap<String, String>> regionDetailKeys = new ConcurrentHashMap<>();
+
+	private volatile DetailLevel detailLevel = DetailLevel.FULL;
+
+	private volatile Duration refreshInterval = Duration.ZERO;
+
+	private volatile Map<String, Object> snapshot;
+
+	private volatile PartitionRegionStatisticsAggregator partitionRegionStatisticsAggregator;
+
+	private volatile ScheduledExecutorService scheduler;
+
 	/**
 	 * Default constructor to construct an uninitialized instance of {@link GeodeRegionsHealthIndicator},
 	 * which will not provide any health information.
@@ -76,30 +109,105 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 	 * @see java.util.function.BiConsumer
 	 */
 	protected BiConsumer<Region<?, ?>, Health.Builder> getGemfireRegionHealthIndicatorConsumers() {
-		return this.gemfireRegionHealthIndicatorConsumers;
+
+		return DetailLevel.SUMMARY.equals(getDetailLevel())
+			? this.gemfireRegionSummaryHealthIndicatorConsumers
+			: this.gemfireRegionHealthIndicatorConsumers;
 	}
 
-	@Override
-	protected void doHealthCheck(Health.Builder builder) {
+	/**
+	 * Configures the {@link DetailLevel level of detail} provided by this {@link HealthIndicator}.
+	 *
+	 * @param detailLevel {@link DetailLevel level of detail}; defaults to {@link DetailLevel#FULL}
+	 * if {@literal null}.
+	 * @return this {@link GeodeRegionsHealthIndicator}.
+	 * @see DetailLevel
+	 */
+	public GeodeRegionsHealthIndicator withDetailLevel(DetailLevel detailLevel) {
+		this.detailLevel = detailLevel != null ? detailLevel : DetailLevel.FULL;
+		this.snapshot = null;
+		return this;
+	}
 
-		if (getGemFireCache().isPresent()) {
+	/**
+	 * Returns the configured {@link DetailLevel level of detail} provided by this {@link HealthIndicator}.
+	 *
+	 * @return the configured {@link DetailLevel level of detail}.
+	 * @see DetailLevel
+	 */
+	protected DetailLevel getDetailLevel() {
+		return this.detailLevel;
+	}
+
+	/**
+	 * Configures the {@link PartitionRegionStatisticsAggregator} used to lookup the statistics of partitioned
+	 * {@link Region Regions} in constant time rather than scanning all local buckets on every health check.
+	 *
+	 * @param partitionRegionStatisticsAggregator {@link PartitionRegionStatisticsAggregator} used to lookup
+	 * the statistics of partitioned {@link Region Regions}; may be {@literal null}.
+	 * @return this {@link GeodeRegionsHealthIndicator}.
+	 * @see PartitionRegionStatisticsAggregator
+	 */
+	public GeodeRegionsHealthIndicator withPartitionRegionStatisticsAggregator(
+			PartitionRegionStatisticsAggregator partitionRegionStatisticsAggregator) {
+
+		this.partitionRegionStatisticsAggregator = partitionRegionStatisticsAggregator;
+		return this;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link PartitionRegionStatisticsAggregator}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link PartitionRegionStatisticsAggregator}.
+	 * @see PartitionRegionStatisticsAggregator
+	 */
+	protected Optional<PartitionRegionStatisticsAggregator> getPartitionRegionStatisticsAggregator() {
+		return Optional.ofNullable(this.partitionRegionStatisticsAggregator);
+	}
 
-			Set<Region<?, ?>> rootRegions = getGemFireCache()
-				.map(ClientCache::rootRegions)
-				.orElseGet(Collections::emptySet);
+	/**
+	 * Configures the {@link Duration interval} at which the health details are recomputed in the background.
+	 *
+	 * When the {@link Duration interval} is positive, health checks are served from a snapshot of the health details
+	 * that is refreshed on a background {@link Thread} rather than walking all {@link Region Regions} on every
+	 * health check.  A {@literal null}, {@link Duration#ZERO zero} or negative {@link Duration interval} disables
+	 * the snapshot, which is the default.
+	 *
+	 * @param refreshInterval {@link Duration interval} at which the health details are recomputed.
+	 * @return this {@link GeodeRegionsHealthIndicator}.
+	 * @see java.time.Duration
+	 */
+	public GeodeRegionsHealthIndicator withRefreshInterval(Duration refreshInterval) {
+		this.refreshInterval = refreshInterval != null && !refreshInterval.isNegative() ? refreshInterval : Duration.ZERO;
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link Duration interval} at which the health details are recomputed.
+	 *
+	 * @return the configured {@link Duration interval} at which the health details are recomputed.
+	 * @see java.time.Duration
+	 */
+	protected Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
 
-			builder.withDetail("geode.cache.regions", rootRegions.stream()
-				.filter(Objects::nonNull)
-				.map(Region::getFullPath)
-				.sorted()
-				.collect(Collectors.toList()));
+	/**
+	 * Determines whether health checks are served from a snapshot refreshed in the background.
+	 *
+	 * @return a boolean value indicating whether health checks are served from a snapshot.
+	 * @see #getRefreshInterval()
+	 */
+	protected boolean isSnapshotEnabled() {
+		return !getRefreshInterval().isZero();
+	}
 
-			builder.withDetail("geode.cache.regions.count", rootRegions.stream().filter(Objects::nonNull).count());
+	@Override
+	protected void doHealthCheck(Health.Builder builder) {
 
-			rootRegions.stream()
-				.filter(Objects::nonNull)
-				.forEach(region -> getGemfireRegionHealthIndicatorConsumers().accept(region, builder));
+		if (getGemFireCache().isPresent()) {
 
+			builder.withDetails(isSnapshotEnabled() ? resolveSnapshot() : computeHealthDetails());
 			builder.up();
 
 			return;
@@ -108,6 +216,128 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 		builder.unknown();
 	}
 
+	private Map<String, Object> resolveSnapshot() {
+
+		Map<String, Object> snapshot = this.snapshot;
+
+		if (snapshot == null) {
+			snapshot = refreshSnapshot();
+			scheduleSnapshotRefresh();
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * Recomputes the snapshot of the health details.
+	 *
+	 * @return the new snapshot of the health details.
+	 */
+	protected Map<String, Object> refreshSnapshot() {
+
+		Map<String, Object> snapshot = computeHealthDetails();
+
+		this.snapshot = snapshot;
+
+		return snapshot;
+	}
+
+	private synchronized void scheduleSnapshotRefresh() {
+
+		if (this.scheduler == null) {
+
+			long refreshIntervalInMilliseconds = Math.max(1L, getRefreshInterval().toMillis());
+
+			ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			scheduler.scheduleWithFixedDelay(this::safeRefreshSnapshot, refreshIntervalInMilliseconds,
+				refreshIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+
+			this.scheduler = scheduler;
+		}
+	}
+
+	private void safeRefreshSnapshot() {
+
+		try {
+			refreshSnapshot();
+		}
+		catch (RuntimeException ignore) {
+			// Keep serving the last snapshot; the next refresh is attempted at the next interval
+		}
+	}
+
+	/**
+	 * Stops refreshing the snapshot of the health details in the background.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			this.scheduler = null;
+		}
+	}
+
+	/**
+	 * Computes the health details of all {@link ClientCache} {@link Region Regions}.
+	 *
+	 * @return a {@link Map} of the health details.
+	 */
+	protected Map<String, Object> computeHealthDetails() {
+
+		Health.Builder builder = new Health.Builder();
+
+		Set<Region<?, ?>> rootRegions = getGemFireCache()
+			.map(ClientCache::rootRegions)
+			.orElseGet(Collections::emptySet);
+
+		builder.withDetail("geode.cache.regions", rootRegions.stream()
+			.filter(Objects::nonNull)
+			.map(Region::getFullPath)
+			.sorted()
+			.collect(Collectors.toList()));
+
+		builder.withDetail("geode.cache.regions.count", rootRegions.stream().filter(Objects::nonNull).count());
+
+		BiConsumer<Region<?, ?>, Health.Builder> gemfireRegionHealthIndicatorConsumers =
+			getGemfireRegionHealthIndicatorConsumers();
+
+		rootRegions.stream()
+			.filter(Objects::nonNull)
+			.forEach(region -> gemfireRegionHealthIndicatorConsumers.accept(region, builder));
+
+		Set<String> regionNames = rootRegions.stream()
+			.filter(Objects::nonNull)
+			.map(Region::getName)
+			.collect(Collectors.toSet());
+
+		this.regionDetailKeys.keySet().retainAll(regionNames);
+
+		return Collections.unmodifiableMap(new LinkedHashMap<>(builder.build().getDetails()));
+	}
+
+	private BiConsumer<Region<?, ?>, Health.Builder> withRegionSummaryDetails() {
+
+		return (region, builder) -> {
+
+			String regionName = region.getName();
+
+			builder.withDetail(cacheRegionKey(regionName, "full-path"), region.getFullPath());
+
+			if (isRegionAttributesPresent(region)) {
+				builder.withDetail(cacheRegionKey(regionName, "data-policy"),
+					String.valueOf(region.getAttributes().getDataPolicy()));
+			}
+		};
+	}
+
 	private BiConsumer<Region<?, ?>, Health.Builder> withRegionDetails() {
 
 		return (region, builder) -> {
@@ -145,11 +375,13 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 
 					String regionName = region.getName();
 
-					builder.withDetail(cachePartitionRegionKey(regionName, "collocated-with"), emptyIfUnset(partitionAttributes.getColocatedWith()))
-						.withDetail(cachePartitionRegionKey(regionName, "local-max-memory"), partitionAttributes.getLocalMaxMemory())
-						.withDetail(cachePartitionRegionKey(regionName, "redundant-copies"), partitionAttributes.getRedundantCopies())
-						//.withDetail(cachePartitionRegionKey(regionName, "total-max-memory"), partitionAttributes.getTotalMaxMemory())
-						.withDetail(cachePartitionRegionKey(regionName, "total-number-of-buckets"), partitionAttributes.getTotalNumBuckets());
+					builder.withDetail(cacheRegionKey(regionName, "partition.collocated-with"),
+						emptyIfUnset(partitionAttributes.getColocatedWith()))
+						.withDetail(cacheRegionKey(regionName, "partition.local-max-memory"), partitionAttributes.getLocalMaxMemory())
+						.withDetail(cacheRegionKey(regionName, "partition.redundant-copies"), partitionAttributes.getRedundantCopies())
+						//.withDetail(cacheRegionKey(regionName, "partition.total-max-memory"), partitionAttributes.getTotalMaxMemory())
+						.withDetail(cacheRegionKey(regionName, "partition.total-number-of-buckets"),
+							partitionAttributes.getTotalNumBuckets());
 				}
 			}
 		};
@@ -167,14 +399,14 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 
 					String regionName = region.getName();
 
-					builder.withDetail(cacheRegionEvictionKey(regionName, "action"), String.valueOf(evictionAttributes.getAction()))
-						.withDetail(cacheRegionEvictionKey(regionName, "algorithm"), String.valueOf(evictionAttributes.getAlgorithm()));
+					builder.withDetail(cacheRegionKey(regionName, "eviction.action"), String.valueOf(evictionAttributes.getAction()))
+						.withDetail(cacheRegionKey(regionName, "eviction.algorithm"), String.valueOf(evictionAttributes.getAlgorithm()));
 
 					EvictionAlgorithm evictionAlgorithm = evictionAttributes.getAlgorithm();
 
 					// NOTE: Eviction Maximum does not apply when Eviction Algorithm is Heap LRU.
 					if (evictionAlgorithm != null && !evictionAlgorithm.isLRUHeap()) {
-						builder.withDetail(cacheRegionEvictionKey(regionName,"maximum"),
+						builder.withDetail(cacheRegionKey(regionName, "eviction.maximum"),
 							evictionAttributes.getMaximum());
 					}
 				}
@@ -195,15 +427,17 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 				ExpirationAttributes entryTimeToLive = regionAttributes.getEntryTimeToLive();
 
 				if (entryTimeToLive != null) {
-					builder.withDetail(cacheRegionExpirationKey(regionName, "entry.ttl.action"), String.valueOf(entryTimeToLive.getAction()))
-						.withDetail(cacheRegionExpirationKey(regionName, "entry.ttl.timeout"), entryTimeToLive.getTimeout());
+					builder.withDetail(cacheRegionKey(regionName, "expiration.entry.ttl.action"),
+						String.valueOf(entryTimeToLive.getAction()))
+						.withDetail(cacheRegionKey(regionName, "expiration.entry.ttl.timeout"), entryTimeToLive.getTimeout());
 				}
 
 				ExpirationAttributes entryIdleTimeout = regionAttributes.getEntryIdleTimeout();
 
 				if (entryIdleTimeout != null) {
-					builder.withDetail(cacheRegionExpirationKey(regionName, "entry.tti.action"), String.valueOf(entryIdleTimeout.getAction()))
-						.withDetail(cacheRegionExpirationKey(regionName, "entry.tti.timeout"), entryIdleTimeout.getTimeout());
+					builder.withDetail(cacheRegionKey(regionName, "expiration.entry.tti.action"),
+						String.valueOf(entryIdleTimeout.getAction()))
+						.withDetail(cacheRegionKey(regionName, "expiration.entry.tti.timeout"), entryIdleTimeout.getTimeout());
 				}
 			}
 		};
@@ -218,14 +452,15 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 			Optional.of(region)
 				.filter(this::isNotLocalDataSet)
 				.filter(this::isStatisticsEnabled)
-				.map(RegionStatisticsResolver::resolve)
+				.map(it -> RegionStatisticsResolver.resolve(it, getPartitionRegionStatisticsAggregator().orElse(null)))
 				.ifPresent(cacheStatistics -> builder
-					.withDetail(cacheRegionStatisticsKey(regionName, "cache-statistics-type"), nullSafeClassName(cacheStatistics.getClass()))
-					.withDetail(cacheRegionStatisticsKey(regionName, "hit-count"), cacheStatistics.getHitCount())
-					.withDetail(cacheRegionStatisticsKey(regionName, "hit-ratio"), cacheStatistics.getHitRatio())
-					.withDetail(cacheRegionStatisticsKey(regionName, "last-accessed-time"), cacheStatistics.getLastAccessedTime())
-					.withDetail(cacheRegionStatisticsKey(regionName, "last-modified-time"), cacheStatistics.getLastModifiedTime())
-					.withDetail(cacheRegionStatisticsKey(regionName, "miss-count"), cacheStatistics.getMissCount()));
+					.withDetail(cacheRegionKey(regionName, "statistics.cache-statistics-type"),
+						nullSafeClassName(cacheStatistics.getClass()))
+					.withDetail(cacheRegionKey(regionName, "statistics.hit-count"), cacheStatistics.getHitCount())
+					.withDetail(cacheRegionKey(regionName, "statistics.hit-ratio"), cacheStatistics.getHitRatio())
+					.withDetail(cacheRegionKey(regionName, "statistics.last-accessed-time"), cacheStatistics.getLastAccessedTime())
+					.withDetail(cacheRegionKey(regionName, "statistics.last-modified-time"), cacheStatistics.getLastModifiedTime())
+					.withDetail(cacheRegionKey(regionName, "statistics.miss-count"), cacheStatistics.getMissCount()));
 		};
 	}
 
@@ -245,27 +480,60 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 		return isRegionAttributesPresent(region) && region.getAttributes().getStatisticsEnabled();
 	}
 
-	private String cachePartitionRegionKey(String regionName, String suffix) {
-		return cacheRegionKey(regionName, String.format("partition.%s", suffix));
-	}
-
+	/**
+	 * Returns the {@link String health detail key} for the given {@link Region} {@link String name}
+	 * and {@link String suffix}.
+	 *
+	 * The keys are built once per {@link Region} and reused by subsequent health checks; the keys of
+	 * {@link Region Regions} that no longer exist are discarded when the health details are computed.
+	 *
+	 * @param regionName {@link String name} of the {@link Region}.
+	 * @param suffix {@link String suffix} of the health detail key.
+	 * @return the {@link String health detail key}.
+	 */
 	private String cacheRegionKey(String regionName, String suffix) {
-		return String.format("geode.cache.regions.%1$s.%2$s", regionName, suffix);
-	}
 
-	private String cacheRegionEvictionKey(String regionName, String suffix) {
-		return cacheRegionKey(regionName, String.format("eviction.%s", suffix));
+		return this.regionDetailKeys.computeIfAbsent(regionName, name -> new ConcurrentHashMap<>())
+			.computeIfAbsent(suffix, it -> REGIONS_DETAIL_KEY_PREFIX + regionName + "." + it);
 	}
 
-	private String cacheRegionExpirationKey(String regionName, String suffix) {
-		return cacheRegionKey(regionName, String.format("expiration.%s", suffix));
+	private String emptyIfUnset(String value) {
+		return StringUtils.hasText(value) ? value : "";
 	}
 
-	private String cacheRegionStatisticsKey(String regionName, String suffix) {
-		return cacheRegionKey(regionName, String.format("statistics.%s", suffix));
-	}
+	/**
+	 * The {@link DetailLevel} enum defines the level of detail provided by the {@link GeodeRegionsHealthIndicator}.
+	 */
+	public enum DetailLevel {
+
+		/**
+		 * The {@link Region} names, count, full paths and {@link org.apache.geode.cache.DataPolicy DataPolicies}.
+		 */
+		SUMMARY,
+
+		/**
+		 * All {@link Region} configuration and statistics details.
+		 */
+		FULL;
+
+		/**
+		 * Returns the {@link DetailLevel} with the given {@link String name}, ignoring case and surrounding whitespace.
+		 *
+		 * @param name {@link String name} of the {@link DetailLevel}.
+		 * @return an {@link Optional} {@link DetailLevel} with the given {@link String name};
+		 * {@link Optional#empty()} if no {@link DetailLevel} has the given {@link String name}.
+		 */
+		public static Optional<DetailLevel> from(String name) {
+
+			String trimmedName = name != null ? name.trim() : null;
+
+			for (DetailLevel detailLevel : values()) {
+				if (detailLevel.name().equalsIgnoreCase(trimmedName)) {
+					return Optional.of(detailLevel);
+				}
+			}
 
-	private String emptyIfUnset(String value) {
-		return StringUtils.hasText(value) ? value : "";
+			return Optional.empty();
+		}
 	}
 }
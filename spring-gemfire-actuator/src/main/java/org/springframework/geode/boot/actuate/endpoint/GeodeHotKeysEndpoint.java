@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.endpoint;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.geode.boot.actuate.metrics.HotKeyTracker;
+import org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring Boot actuator {@link Endpoint} exposing the most frequently accessed keys of the {@link Region Regions}
+ * tracked by the {@link HotKeyTrackingBeanPostProcessor}.
+ *
+ * For each tracked {@link Region}, the endpoint reports the number of key accesses recorded since the last reset
+ * and the most frequently accessed keys with their estimated number of accesses and share of those accesses.
+ * The recorded key accesses can be cleared with a delete operation.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTracker
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor
+ * @since 2.0.0
+ */
+@Endpoint(id = GeodeHotKeysEndpoint.ENDPOINT_ID)
+public class GeodeHotKeysEndpoint {
+
+	public static final String ENDPOINT_ID = "gemfirehotkeys";
+
+	private final HotKeyTrackingBeanPostProcessor hotKeyTrackingBeanPostProcessor;
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotKeysEndpoint} initialized with the given
+	 * {@link HotKeyTrackingBeanPostProcessor}.
+	 *
+	 * @param hotKeyTrackingBeanPostProcessor {@link HotKeyTrackingBeanPostProcessor} tracking the hot keys;
+	 * may be {@literal null}, in which case no hot keys are reported.
+	 */
+	public GeodeHotKeysEndpoint(@Nullable HotKeyTrackingBeanPostProcessor hotKeyTrackingBeanPostProcessor) {
+		this.hotKeyTrackingBeanPostProcessor = hotKeyTrackingBeanPostProcessor;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link HotKeyTrackingBeanPostProcessor}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link HotKeyTrackingBeanPostProcessor}.
+	 */
+	protected Optional<HotKeyTrackingBeanPostProcessor> getHotKeyTrackingBeanPostProcessor() {
+		return Optional.ofNullable(this.hotKeyTrackingBeanPostProcessor);
+	}
+
+	@ReadOperation
+	public Map<String, Object> hotKeys() {
+
+		Map<String, Object> hotKeys = new TreeMap<>();
+
+		getHotKeyTrackingBeanPostProcessor()
+			.map(HotKeyTrackingBeanPostProcessor::getHotKeyTrackers)
+			.orElseGet(Collections::emptyMap)
+			.forEach((regionName, hotKeyTracker) -> hotKeys.put(regionName, describe(hotKeyTracker)));
+
+		return hotKeys;
+	}
+
+	@ReadOperation
+	public @Nullable Map<String, Object> regionHotKeys(@Selector String regionName) {
+
+		return getHotKeyTrackingBeanPostProcessor()
+			.flatMap(hotKeyTrackingBeanPostProcessor -> hotKeyTrackingBeanPostProcessor.getHotKeyTracker(regionName))
+			.map(this::describe)
+			.orElse(null);
+	}
+
+	@DeleteOperation
+	public void reset() {
+
+		getHotKeyTrackingBeanPostProcessor()
+			.map(HotKeyTrackingBeanPostProcessor::getHotKeyTrackers)
+			.ifPresent(hotKeyTrackers -> hotKeyTrackers.values().forEach(HotKeyTracker::reset));
+	}
+
+	private Map<String, Object> describe(@NonNull HotKeyTracker hotKeyTracker) {
+
+		long total = hotKeyTracker.getWindowTotal();
+
+		Map<String, Object> hotKeys = new LinkedHashMap<>();
+
+		hotKeys.put("total", total);
+		hotKeys.put("top-keys", hotKeyTracker.getTopKeys());
+		hotKeys.put("sketch-width", hotKeyTracker.getSketchWidth());
+		hotKeys.put("sketch-depth", hotKeyTracker.getSketchDepth());
+		hotKeys.put("keys", hotKeyTracker.getHotKeys().stream()
+			.map(hotKey -> {
+
+				Map<String, Object> describedHotKey = new LinkedHashMap<>();
+
+				describedHotKey.put("key", String.valueOf(hotKey.getKey()));
+				describedHotKey.put("estimated-count", hotKey.getEstimatedCount());
+				describedHotKey.put("share", total > 0L ? (double) hotKey.getEstimatedCount() / total : 0.0d);
+
+				return describedHotKey;
+			})
+			.collect(Collectors.toList()));
+
+		return hotKeys;
+	}
+}
@@ -0,0 +1,564 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.endpoint;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring Boot actuator {@link Endpoint} estimating the memory used by the entries of the cache {@link Region Regions}
+ * from a sample of the entries.
+ *
+ * For each {@link Region}, at most {@link #getSampleSize()} entries are sampled.  For {@link Region Regions}
+ * storing data locally, a uniform random sample of the first {@link #getMaxScannedEntries()} local entries
+ * is selected with reservoir sampling, so that sampling a large {@link Region} does not iterate all its entries.
+ * For client {@literal PROXY} {@link Region Regions}, the number of entries is {@link Region#sizeOnServer()
+ * counted on the server} and the sample is the first {@link #getSampleSize() n} keys returned by
+ * a limited OQL query on the server, with the values fetched by {@link Region#getAll(Collection)}, so that not
+ * all keys are transferred to the client.  The sample of a {@literal PROXY} {@link Region} is therefore not random
+ * and favors the entries the server iterates first.
+ *
+ * The endpoint reports the sampled serialized and object (heap) sizes, estimates of the total sizes
+ * extrapolated to all entries of the {@link Region}, the largest sampled entries and the distribution
+ * of the sampled value sizes.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @since 2.0.0
+ */
+@Endpoint(id = GeodeRegionSizesEndpoint.ENDPOINT_ID)
+public class GeodeRegionSizesEndpoint {
+
+	public static final int DEFAULT_LARGEST_ENTRIES = 10;
+	public static final int DEFAULT_MAX_SCANNED_ENTRIES = 10000;
+	public static final int DEFAULT_SAMPLE_SIZE = 100;
+
+	public static final String ENDPOINT_ID = "gemfireregionsizes";
+
+	protected static final String SAMPLE_KEYS_QUERY = "SELECT k FROM %s.keySet k LIMIT %d";
+
+	protected static final long[] VALUE_SIZE_BUCKETS = {
+		64L, 256L, 1024L, 4096L, 16384L, 65536L, 262144L, 1048576L
+	};
+
+	private final GemFireCache cache;
+
+	private int largestEntries = DEFAULT_LARGEST_ENTRIES;
+	private int maxScannedEntries = DEFAULT_MAX_SCANNED_ENTRIES;
+	private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+	/**
+	 * Constructs a new instance of {@link GeodeRegionSizesEndpoint} initialized with the given {@link GemFireCache}.
+	 *
+	 * @param cache {@link GemFireCache} containing the {@link Region Regions} to sample; may be {@literal null},
+	 * in which case no {@link Region Regions} are reported.
+	 */
+	public GeodeRegionSizesEndpoint(@Nullable GemFireCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link GemFireCache}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link GemFireCache}.
+	 */
+	protected Optional<GemFireCache> getGemFireCache() {
+		return Optional.ofNullable(this.cache);
+	}
+
+	/**
+	 * Returns the number of largest sampled entries reported per {@link Region}.
+	 *
+	 * @return the number of largest sampled entries reported per {@link Region}.
+	 */
+	public int getLargestEntries() {
+		return this.largestEntries;
+	}
+
+	/**
+	 * Returns the maximum number of local entries scanned per {@link Region} to select the sampled entries.
+	 *
+	 * @return the maximum number of local entries scanned per {@link Region}.
+	 */
+	public int getMaxScannedEntries() {
+		return this.maxScannedEntries;
+	}
+
+	/**
+	 * Returns the maximum number of entries sampled per {@link Region}.
+	 *
+	 * @return the maximum number of entries sampled per {@link Region}.
+	 */
+	public int getSampleSize() {
+		return this.sampleSize;
+	}
+
+	/**
+	 * Builder method used to configure the number of largest sampled entries reported per {@link Region}.
+	 *
+	 * @param largestEntries number of largest sampled entries reported per {@link Region};
+	 * must not be less than {@literal 0}.
+	 * @return this {@link GeodeRegionSizesEndpoint}.
+	 * @throws IllegalArgumentException if {@code largestEntries} is less than {@literal 0}.
+	 */
+	public @NonNull GeodeRegionSizesEndpoint withLargestEntries(int largestEntries) {
+
+		Assert.isTrue(largestEntries >= 0,
+			() -> String.format("Largest entries [%d] must be greater than or equal to 0", largestEntries));
+
+		this.largestEntries = largestEntries;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of local entries scanned per {@link Region} to select
+	 * the sampled entries.
+	 *
+	 * @param maxScannedEntries maximum number of local entries scanned per {@link Region};
+	 * must be greater than {@literal 0}.
+	 * @return this {@link GeodeRegionSizesEndpoint}.
+	 * @throws IllegalArgumentException if {@code maxScannedEntries} is less than {@literal 1}.
+	 */
+	public @NonNull GeodeRegionSizesEndpoint withMaxScannedEntries(int maxScannedEntries) {
+
+		Assert.isTrue(maxScannedEntries > 0,
+			() -> String.format("Max scanned entries [%d] must be greater than 0", maxScannedEntries));
+
+		this.maxScannedEntries = maxScannedEntries;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of entries sampled per {@link Region}.
+	 *
+	 * @param sampleSize maximum number of entries sampled per {@link Region}; must be greater than {@literal 0}.
+	 * @return this {@link GeodeRegionSizesEndpoint}.
+	 * @throws IllegalArgumentException if {@code sampleSize} is less than {@literal 1}.
+	 */
+	public @NonNull GeodeRegionSizesEndpoint withSampleSize(int sampleSize) {
+
+		Assert.isTrue(sampleSize > 0, () -> String.format("Sample size [%d] must be greater than 0", sampleSize));
+
+		this.sampleSize = sampleSize;
+
+		return this;
+	}
+
+	@ReadOperation
+	public Map<String, Object> regionSizes() {
+
+		Map<String, Object> regionSizes = new LinkedHashMap<>();
+
+		rootRegions().stream()
+			.sorted(Comparator.comparing(Region::getFullPath))
+			.forEach(region -> regionSizes.put(region.getName(), describe(region)));
+
+		return regionSizes;
+	}
+
+	@ReadOperation
+	public @Nullable Map<String, Object> regionSize(@Selector String regionName) {
+
+		return rootRegions().stream()
+			.filter(region -> region.getName().equals(regionName))
+			.findFirst()
+			.map(this::describe)
+			.orElse(null);
+	}
+
+	private Set<Region<?, ?>> rootRegions() {
+
+		return getGemFireCache()
+			.map(GemFireCache::rootRegions)
+			.map(regions -> regions.stream().filter(Objects::nonNull).collect(Collectors.<Region<?, ?>>toSet()))
+			.orElseGet(Collections::emptySet);
+	}
+
+	private Map<String, Object> describe(@NonNull Region<?, ?> region) {
+
+		EntrySizeStatistics statistics = new EntrySizeStatistics(getLargestEntries());
+
+		long entryCount = sample(region, statistics);
+
+		Map<String, Object> regionSize = new LinkedHashMap<>();
+
+		regionSize.put("full-path", region.getFullPath());
+		regionSize.put("entries", entryCount);
+		regionSize.put("sampled-entries", statistics.getCount());
+		regionSize.put("serialized-size", statistics.describeSerializedSizes(entryCount));
+		regionSize.put("object-size", statistics.describeObjectSizes(entryCount));
+		regionSize.put("largest-entries", statistics.describeLargestEntries());
+		regionSize.put("value-size-distribution", statistics.describeValueSizeDistribution());
+
+		return regionSize;
+	}
+
+	/**
+	 * Samples the entries of the given {@link Region}.
+	 *
+	 * @param region {@link Region} to sample.
+	 * @param statistics {@link EntrySizeStatistics} recording the sizes of the sampled entries.
+	 * @return the number of entries in the {@link Region}.
+	 */
+	@SuppressWarnings("unchecked")
+	private long sample(@NonNull Region<?, ?> region, @NonNull EntrySizeStatistics statistics) {
+
+		try {
+			if (isProxyRegion(region)) {
+
+				long entryCount = region.sizeOnServer();
+
+				if (entryCount > 0L) {
+
+					Collection<Object> keys = sampleKeysOnServer(region);
+
+					Map<?, ?> entries = !keys.isEmpty() ? ((Region<Object, ?>) region).getAll(keys) : null;
+
+					if (entries != null) {
+						entries.forEach((key, value) -> record(statistics, key, value));
+					}
+				}
+
+				return entryCount;
+			}
+			else {
+
+				sample(region.entrySet()).forEach(entry -> record(statistics, entry.getKey(), entry.getValue()));
+
+				return region.size();
+			}
+		}
+		catch (Exception ignore) {
+			// The Region is closed or its entries are not accessible
+			return statistics.getCount();
+		}
+	}
+
+	/**
+	 * Selects the first {@link #getSampleSize() n} keys of the given {@literal PROXY} {@link Region}
+	 * returned by the server.
+	 */
+	@SuppressWarnings("unchecked")
+	private Collection<Object> sampleKeysOnServer(@NonNull Region<?, ?> region) throws Exception {
+
+		String queryString = String.format(SAMPLE_KEYS_QUERY, region.getFullPath(), getSampleSize());
+
+		Object keys = resolveQueryService(region).newQuery(queryString).execute();
+
+		return keys instanceof Collection ? (Collection<Object>) keys : Collections.emptyList();
+	}
+
+	private QueryService resolveQueryService(@NonNull Region<?, ?> region) {
+
+		RegionService regionService = region.getRegionService();
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		String poolName = regionAttributes != null ? regionAttributes.getPoolName() : null;
+
+		return regionService instanceof ClientCache && StringUtils.hasText(poolName)
+			? ((ClientCache) regionService).getQueryService(poolName)
+			: regionService.getQueryService();
+	}
+
+	/**
+	 * Selects a uniform random sample of at most {@link #getSampleSize()} elements of the first
+	 * {@link #getMaxScannedEntries()} elements using reservoir sampling.
+	 */
+	private <T> List<T> sample(@NonNull Collection<? extends T> elements) {
+
+		List<T> sample = new ArrayList<>(Math.min(elements.size(), getSampleSize()));
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		int index = 0;
+
+		for (T element : elements) {
+
+			if (index >= getMaxScannedEntries()) {
+				break;
+			}
+
+			if (sample.size() < getSampleSize()) {
+				sample.add(element);
+			}
+			else {
+
+				int position = random.nextInt(index + 1);
+
+				if (position < getSampleSize()) {
+					sample.set(position, element);
+				}
+			}
+
+			index++;
+		}
+
+		return sample;
+	}
+
+	private void record(@NonNull EntrySizeStatistics statistics, @Nullable Object key, @Nullable Object value) {
+
+		if (key != null && value != null) {
+			statistics.record(String.valueOf(key), objectSize(key), objectSize(value), serializedSize(value));
+		}
+	}
+
+	private boolean isProxyRegion(@NonNull Region<?, ?> region) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		return regionAttributes != null && DataPolicy.EMPTY.equals(regionAttributes.getDataPolicy());
+	}
+
+	/**
+	 * Estimates the size of the given {@link Object} on the Java heap.
+	 *
+	 * @param target {@link Object} to size.
+	 * @return the estimated size in bytes of the given {@link Object} on the Java heap,
+	 * or {@literal -1} if the size cannot be estimated.
+	 * @see org.apache.geode.cache.util.ObjectSizer#DEFAULT
+	 */
+	protected long objectSize(@NonNull Object target) {
+
+		try {
+			return ObjectSizer.DEFAULT.sizeof(target);
+		}
+		catch (RuntimeException ignore) {
+			return -1L;
+		}
+	}
+
+	/**
+	 * Computes the size of the given {@link Object} serialized with the Apache Geode {@link DataSerializer}.
+	 *
+	 * @param target {@link Object} to serialize.
+	 * @return the size in bytes of the serialized {@link Object}, or {@literal -1} if the {@link Object}
+	 * cannot be serialized.
+	 * @see org.apache.geode.DataSerializer#writeObject(Object, java.io.DataOutput)
+	 */
+	protected long serializedSize(@NonNull Object target) {
+
+		ByteCountingOutputStream out = new ByteCountingOutputStream();
+
+		try (DataOutputStream dataOutput = new DataOutputStream(out)) {
+			DataSerializer.writeObject(target, dataOutput);
+			dataOutput.flush();
+			return out.getCount();
+		}
+		catch (IOException | RuntimeException ignore) {
+			return -1L;
+		}
+	}
+
+	static class ByteCountingOutputStream extends OutputStream {
+
+		private long count;
+
+		long getCount() {
+			return this.count;
+		}
+
+		@Override
+		public void write(int b) {
+			this.count++;
+		}
+
+		@Override
+		public void write(@NonNull byte[] bytes, int offset, int length) {
+			this.count += length;
+		}
+	}
+
+	/**
+	 * Sizes of the sampled entries of a {@link Region}.
+	 */
+	static class EntrySizeStatistics {
+
+		private final int largestEntries;
+
+		private final long[] valueSizeDistribution = new long[VALUE_SIZE_BUCKETS.length + 1];
+
+		private long count;
+		private long maxObjectSize;
+		private long maxSerializedSize;
+		private long objectSizedCount;
+		private long serializedSizedCount;
+		private long totalKeySize;
+		private long totalObjectSize;
+		private long totalSerializedSize;
+
+		private final PriorityQueue<SampledEntry> largest =
+			new PriorityQueue<>(Comparator.comparingLong(SampledEntry::getObjectSize));
+
+		EntrySizeStatistics(int largestEntries) {
+			this.largestEntries = largestEntries;
+		}
+
+		long getCount() {
+			return this.count;
+		}
+
+		void record(String key, long keySize, long objectSize, long serializedSize) {
+
+			this.count++;
+
+			if (objectSize >= 0L) {
+
+				this.objectSizedCount++;
+				this.totalKeySize += Math.max(0L, keySize);
+				this.totalObjectSize += objectSize;
+				this.maxObjectSize = Math.max(this.maxObjectSize, objectSize);
+				this.valueSizeDistribution[bucket(objectSize)]++;
+
+				if (this.largestEntries > 0) {
+
+					this.largest.offer(new SampledEntry(key, objectSize, serializedSize));
+
+					if (this.largest.size() > this.largestEntries) {
+						this.largest.poll();
+					}
+				}
+			}
+
+			if (serializedSize >= 0L) {
+				this.serializedSizedCount++;
+				this.totalSerializedSize += serializedSize;
+				this.maxSerializedSize = Math.max(this.maxSerializedSize, serializedSize);
+			}
+		}
+
+		private int bucket(long size) {
+
+			for (int index = 0; index < VALUE_SIZE_BUCKETS.length; index++) {
+				if (size <= VALUE_SIZE_BUCKETS[index]) {
+					return index;
+				}
+			}
+
+			return VALUE_SIZE_BUCKETS.length;
+		}
+
+		Map<String, Object> describeObjectSizes(long entryCount) {
+
+			Map<String, Object> objectSizes = describeSizes(this.totalObjectSize, this.maxObjectSize,
+				this.objectSizedCount, entryCount);
+
+			objectSizes.put("average-key", average(this.totalKeySize, this.objectSizedCount));
+
+			return objectSizes;
+		}
+
+		Map<String, Object> describeSerializedSizes(long entryCount) {
+			return describeSizes(this.totalSerializedSize, this.maxSerializedSize, this.serializedSizedCount,
+				entryCount);
+		}
+
+		private Map<String, Object> describeSizes(long total, long max, long sizedCount, long entryCount) {
+
+			double average = average(total, sizedCount);
+
+			Map<String, Object> sizes = new LinkedHashMap<>();
+
+			sizes.put("sampled-total", total);
+			sizes.put("average", average);
+			sizes.put("max", max);
+			sizes.put("estimated-total", Math.round(average * entryCount));
+
+			return sizes;
+		}
+
+		private double average(long total, long sizedCount) {
+			return sizedCount > 0L ? (double) total / sizedCount : 0.0d;
+		}
+
+		List<Map<String, Object>> describeLargestEntries() {
+
+			return this.largest.stream()
+				.sorted(Comparator.comparingLong(SampledEntry::getObjectSize).reversed())
+				.map(SampledEntry::describe)
+				.collect(Collectors.toList());
+		}
+
+		Map<String, Long> describeValueSizeDistribution() {
+
+			Map<String, Long> distribution = new LinkedHashMap<>();
+
+			for (int index = 0; index < VALUE_SIZE_BUCKETS.length; index++) {
+				distribution.put("le-" + VALUE_SIZE_BUCKETS[index], this.valueSizeDistribution[index]);
+			}
+
+			distribution.put("gt-" + VALUE_SIZE_BUCKETS[VALUE_SIZE_BUCKETS.length - 1],
+				this.valueSizeDistribution[VALUE_SIZE_BUCKETS.length]);
+
+			return distribution;
+		}
+	}
+
+	static class SampledEntry {
+
+		private final long objectSize;
+		private final long serializedSize;
+
+		private final String key;
+
+		SampledEntry(String key, long objectSize, long serializedSize) {
+			this.key = key;
+			this.objectSize = objectSize;
+			this.serializedSize = serializedSize;
+		}
+
+		long getObjectSize() {
+			return this.objectSize;
+		}
+
+		Map<String, Object> describe() {
+
+			Map<String, Object> entry = new LinkedHashMap<>();
+
+			entry.put("key", this.key);
+			entry.put("object-size", this.objectSize);
+			entry.put("serialized-size", this.serializedSize);
+
+			return entry;
+		}
+	}
+}
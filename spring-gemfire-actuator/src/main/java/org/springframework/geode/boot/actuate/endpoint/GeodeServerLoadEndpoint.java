@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.endpoint;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+import org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring Boot actuator {@link Endpoint} exposing rolling percentiles and rates of the recent server load
+ * sampled by the {@link ActuatorServerLoadProbeWrapper}.
+ *
+ * For each sampled {@link ServerLoadSampleBuffer.Series}, the endpoint reports the latest value,
+ * the 50th, 90th and 99th percentiles, the maximum and the average rate of change per second
+ * over the sampled window.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @see org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer
+ * @since 2.0.0
+ */
+@Endpoint(id = GeodeServerLoadEndpoint.ENDPOINT_ID)
+public class GeodeServerLoadEndpoint {
+
+	public static final String ENDPOINT_ID = "gemfireserverload";
+
+	private final ActuatorServerLoadProbeWrapper serverLoadProbe;
+
+	/**
+	 * Constructs a new instance of {@link GeodeServerLoadEndpoint} initialized with the given
+	 * {@link ActuatorServerLoadProbeWrapper}.
+	 *
+	 * @param serverLoadProbe {@link ActuatorServerLoadProbeWrapper} sampling the server load;
+	 * may be {@literal null}, in which case no server load is reported.
+	 */
+	public GeodeServerLoadEndpoint(@Nullable ActuatorServerLoadProbeWrapper serverLoadProbe) {
+		this.serverLoadProbe = serverLoadProbe;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link ActuatorServerLoadProbeWrapper}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link ActuatorServerLoadProbeWrapper}.
+	 */
+	protected Optional<ActuatorServerLoadProbeWrapper> getServerLoadProbe() {
+		return Optional.ofNullable(this.serverLoadProbe);
+	}
+
+	@ReadOperation
+	public Map<String, Object> serverLoad() {
+
+		return getServerLoadProbe()
+			.map(ActuatorServerLoadProbeWrapper::getServerLoadSamples)
+			.map(this::describe)
+			.orElseGet(Collections::emptyMap);
+	}
+
+	private Map<String, Object> describe(@NonNull ServerLoadSampleBuffer serverLoadSamples) {
+
+		Map<String, Object> serverLoad = new LinkedHashMap<>();
+
+		serverLoad.put("capacity", serverLoadSamples.getCapacity());
+		serverLoad.put("samples", serverLoadSamples.size());
+		serverLoad.put("window", serverLoadSamples.getWindow());
+
+		for (ServerLoadSampleBuffer.Series series : ServerLoadSampleBuffer.Series.values()) {
+
+			Map<String, Object> statistics = new LinkedHashMap<>();
+
+			statistics.put("latest", serverLoadSamples.latest(series));
+			statistics.put("p50", serverLoadSamples.percentile(series, 0.5d));
+			statistics.put("p90", serverLoadSamples.percentile(series, 0.9d));
+			statistics.put("p99", serverLoadSamples.percentile(series, 0.99d));
+			statistics.put("max", serverLoadSamples.percentile(series, 1.0d));
+			statistics.put("rate", serverLoadSamples.rate(series));
+
+			serverLoad.put(series.getName(), statistics);
+		}
+
+		return serverLoad;
+	}
+}
@@ -5,26 +5,47 @@
 
 package org.springframework.geode.boot.actuate.health;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.geode.cache.client.ClientCache;
 import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.util.Assert;
 
 /**
  * The {@link AbstractGeodeHealthIndicator} class is an abstract base class encapsulating functionality common to all
  * Apache Geode {@link HealthIndicator} objects.
  *
+ * Apache Geode {@link HealthIndicator HealthIndicators} report the {@link #DEGRADED_STATUS degraded} status when
+ * a component crossed a configured threshold before it is {@link Status#DOWN down}.  Spring Boot only aggregates
+ * the {@link #DEGRADED_STATUS degraded} status when it is part of the configured status order,
+ * such as the {@link #STATUS_ORDER}.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.springframework.boot.actuate.health.AbstractHealthIndicator
  * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.boot.actuate.health.Status
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public abstract class AbstractGeodeHealthIndicator extends AbstractHealthIndicator {
 
+	public static final Status DEGRADED_STATUS =
+		new Status("DEGRADED", "A component crossed a configured threshold and may soon be down");
+
+	/**
+	 * Order of the health {@link Status} codes, from most to least severe, including
+	 * the {@link #DEGRADED_STATUS degraded} status between {@link Status#DOWN down} and {@link Status#UP up}.
+	 */
+	public static final List<String> STATUS_ORDER = Collections.unmodifiableList(Arrays.asList(
+		Status.DOWN.getCode(), Status.OUT_OF_SERVICE.getCode(), DEGRADED_STATUS.getCode(), Status.UP.getCode(),
+		Status.UNKNOWN.getCode()));
+
 	protected static final String UNKNOWN = "unknown";
 
 	private final ClientCache gemfireCache;
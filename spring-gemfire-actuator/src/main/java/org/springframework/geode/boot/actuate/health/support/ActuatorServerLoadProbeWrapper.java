@@ -17,10 +17,14 @@ import org.springframework.util.Assert;
  * The ActuatorServerLoadProbeWrapper class is an implementation of Apache Geode's {@link ServerLoadProbe} interface
  * used to capture the current {@link ServerMetrics} and access the latest {@link ServerLoad} details.
  *
+ * Each time the server is probed for its load, a sample of the {@link ServerLoad} and {@link ServerMetrics} is
+ * recorded in a fixed-size {@link ServerLoadSampleBuffer}, providing rolling percentiles and rates of recent load.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.server.ServerLoad
  * @see org.apache.geode.cache.server.ServerLoadProbe
  * @see org.apache.geode.cache.server.ServerMetrics
+ * @see org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -30,6 +34,8 @@ public class ActuatorServerLoadProbeWrapper implements ServerLoadProbe {
 
 	private final ServerLoadProbe delegate;
 
+	private final ServerLoadSampleBuffer serverLoadSamples;
+
 	/**
 	 * Constructs a new instance of {@link ActuatorServerLoadProbeWrapper} initialized with the required
 	 * {@link ServerLoadProbe} used as the delegate.
@@ -39,10 +45,27 @@ public class ActuatorServerLoadProbeWrapper implements ServerLoadProbe {
 	 * @see org.apache.geode.cache.server.ServerLoadProbe
 	 */
 	public ActuatorServerLoadProbeWrapper(ServerLoadProbe serverLoadProbe) {
+		this(serverLoadProbe, ServerLoadSampleBuffer.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ActuatorServerLoadProbeWrapper} initialized with the required
+	 * {@link ServerLoadProbe} used as the delegate, keeping the given number of the most recent
+	 * server load samples.
+	 *
+	 * @param serverLoadProbe required {@link ServerLoadProbe}.
+	 * @param sampleCapacity maximum number of server load samples kept; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link ServerLoadProbe} is {@literal null}
+	 * or {@code sampleCapacity} is less than {@literal 1}.
+	 * @see org.apache.geode.cache.server.ServerLoadProbe
+	 * @see ServerLoadSampleBuffer
+	 */
+	public ActuatorServerLoadProbeWrapper(ServerLoadProbe serverLoadProbe, int sampleCapacity) {
 
 		Assert.notNull(serverLoadProbe, "ServerLoaderProbe is required");
 
 		this.delegate = serverLoadProbe;
+		this.serverLoadSamples = new ServerLoadSampleBuffer(sampleCapacity);
 	}
 
 	/**
@@ -66,6 +89,16 @@ public class ActuatorServerLoadProbeWrapper implements ServerLoadProbe {
 		return Optional.ofNullable(this.currentServerMetrics.get());
 	}
 
+	/**
+	 * Returns the {@link ServerLoadSampleBuffer} containing the most recent server load samples.
+	 *
+	 * @return the {@link ServerLoadSampleBuffer} containing the most recent server load samples.
+	 * @see ServerLoadSampleBuffer
+	 */
+	public ServerLoadSampleBuffer getServerLoadSamples() {
+		return this.serverLoadSamples;
+	}
+
 	/**
 	 * Returns the underlying, wrapped {@link ServerLoadProbe} backing this instance.
 	 *
@@ -81,7 +114,13 @@ public class ActuatorServerLoadProbeWrapper implements ServerLoadProbe {
 
 		this.currentServerMetrics.set(metrics);
 
-		return getDelegate().getLoad(metrics);
+		ServerLoad serverLoad = getDelegate().getLoad(metrics);
+
+		if (serverLoad != null && metrics != null) {
+			getServerLoadSamples().record(System.currentTimeMillis(), serverLoad, metrics);
+		}
+
+		return serverLoad;
 	}
 
 	@Override
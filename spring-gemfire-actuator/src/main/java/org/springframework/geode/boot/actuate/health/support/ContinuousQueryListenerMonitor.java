@@ -0,0 +1,283 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.cache.query.CqEvent;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.core.util.ObjectUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ContinuousQueryListenerMonitor} class is an {@link Executor} decorating the task {@link Executor}
+ * of a {@link ContinuousQueryListenerContainer} to monitor the processing of {@link CqEvent CqEvents}
+ * by the {@link ContinuousQueryListener ContinuousQueryListeners}.
+ *
+ * The {@link ContinuousQueryListenerContainer} dispatches each {@link CqEvent} to its listener as a task
+ * on the task {@link Executor}.  The monitor counts the dispatched and processed events, the events waiting
+ * to be processed (the backlog) and the time each event spends queued and being processed by the listener.
+ * The dispatch times of the events waiting to be processed are kept in dispatch order so that the queue time
+ * reflects the oldest waiting event.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Executor
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 2.0.0
+ */
+public class ContinuousQueryListenerMonitor implements Executor {
+
+	protected static final String TASK_EXECUTOR_METHOD_NAME = "getTaskExecutor";
+
+	/**
+	 * Installs a {@link ContinuousQueryListenerMonitor} on the given {@link ContinuousQueryListenerContainer}
+	 * by decorating its configured task {@link Executor}.
+	 *
+	 * @param container {@link ContinuousQueryListenerContainer} to monitor; may be {@literal null}.
+	 * @return an {@link Optional} reference to the {@link ContinuousQueryListenerMonitor} installed on
+	 * the {@link ContinuousQueryListenerContainer}, or {@link Optional#empty()} if the container has
+	 * no task {@link Executor}.
+	 */
+	public static Optional<ContinuousQueryListenerMonitor> install(
+			@Nullable ContinuousQueryListenerContainer container) {
+
+		Optional<ContinuousQueryListenerMonitor> installedMonitor = from(container);
+
+		if (installedMonitor.isPresent()) {
+			return installedMonitor;
+		}
+
+		Executor taskExecutor = resolveTaskExecutor(container);
+
+		if (taskExecutor != null) {
+
+			ContinuousQueryListenerMonitor monitor = new ContinuousQueryListenerMonitor(taskExecutor);
+
+			container.setTaskExecutor(monitor);
+
+			return Optional.of(monitor);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link ContinuousQueryListenerMonitor} installed on the given
+	 * {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @param container {@link ContinuousQueryListenerContainer} to evaluate; may be {@literal null}.
+	 * @return an {@link Optional} reference to the {@link ContinuousQueryListenerMonitor} installed on
+	 * the {@link ContinuousQueryListenerContainer}, or {@link Optional#empty()} if no monitor is installed.
+	 */
+	public static Optional<ContinuousQueryListenerMonitor> from(@Nullable ContinuousQueryListenerContainer container) {
+
+		Executor taskExecutor = resolveTaskExecutor(container);
+
+		return taskExecutor instanceof ContinuousQueryListenerMonitor
+			? Optional.of((ContinuousQueryListenerMonitor) taskExecutor)
+			: Optional.empty();
+	}
+
+	private static @Nullable Executor resolveTaskExecutor(@Nullable ContinuousQueryListenerContainer container) {
+
+		if (container != null) {
+			try {
+				return ObjectUtils.invoke(container, TASK_EXECUTOR_METHOD_NAME);
+			}
+			catch (RuntimeException ignore) {
+				// The container does not expose its task Executor
+			}
+		}
+
+		return null;
+	}
+
+	private final AtomicLong dispatchSequence = new AtomicLong(0L);
+	private final AtomicLong dispatchedEvents = new AtomicLong(0L);
+	private final AtomicLong processedEvents = new AtomicLong(0L);
+	private final AtomicLong startedEvents = new AtomicLong(0L);
+	private final AtomicLong totalProcessingTime = new AtomicLong(0L);
+	private final AtomicLong totalQueueTime = new AtomicLong(0L);
+
+	private final Executor delegate;
+
+	private final ConcurrentNavigableMap<Long, Long> pendingDispatchTimes = new ConcurrentSkipListMap<>();
+
+	private final LongSupplier clock;
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryListenerMonitor} decorating the given, required
+	 * task {@link Executor}.
+	 *
+	 * @param delegate task {@link Executor} used to process the {@link CqEvent CqEvents}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the task {@link Executor} is {@literal null}.
+	 */
+	public ContinuousQueryListenerMonitor(@NonNull Executor delegate) {
+		this(delegate, System::nanoTime);
+	}
+
+	ContinuousQueryListenerMonitor(@NonNull Executor delegate, @NonNull LongSupplier clock) {
+
+		Assert.notNull(delegate, "Executor must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.delegate = delegate;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the decorated task {@link Executor}.
+	 *
+	 * @return the decorated task {@link Executor}.
+	 */
+	protected @NonNull Executor getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public void execute(@NonNull Runnable task) {
+
+		long dispatchTime = this.clock.getAsLong();
+		long sequence = this.dispatchSequence.incrementAndGet();
+
+		this.pendingDispatchTimes.put(sequence, dispatchTime);
+		this.dispatchedEvents.incrementAndGet();
+
+		try {
+			getDelegate().execute(() -> process(task, sequence, dispatchTime));
+		}
+		catch (RuntimeException cause) {
+			this.pendingDispatchTimes.remove(sequence);
+			this.dispatchedEvents.decrementAndGet();
+			throw cause;
+		}
+	}
+
+	private void process(Runnable task, long sequence, long dispatchTime) {
+
+		long startTime = this.clock.getAsLong();
+		long queueTime = Math.max(0L, startTime - dispatchTime);
+
+		this.pendingDispatchTimes.remove(sequence);
+		this.totalQueueTime.addAndGet(queueTime);
+		this.startedEvents.incrementAndGet();
+
+		try {
+			task.run();
+		}
+		finally {
+			this.totalProcessingTime.addAndGet(Math.max(0L, this.clock.getAsLong() - startTime));
+			this.processedEvents.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CqEvents} dispatched to the listeners.
+	 *
+	 * @return the number of {@link CqEvent CqEvents} dispatched to the listeners.
+	 */
+	public long getDispatchedEventCount() {
+		return this.dispatchedEvents.get();
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CqEvents} processed by the listeners.
+	 *
+	 * @return the number of {@link CqEvent CqEvents} processed by the listeners.
+	 */
+	public long getProcessedEventCount() {
+		return this.processedEvents.get();
+	}
+
+	/**
+	 * Returns the number of dispatched {@link CqEvent CqEvents} that have not been processed yet,
+	 * including the events currently being processed.
+	 *
+	 * @return the number of dispatched {@link CqEvent CqEvents} that have not been processed yet.
+	 */
+	public long getBacklog() {
+		return Math.max(0L, getDispatchedEventCount() - getProcessedEventCount());
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CqEvents} for which processing by the listener started.
+	 *
+	 * @return the number of {@link CqEvent CqEvents} for which processing by the listener started.
+	 */
+	public long getStartedEventCount() {
+		return this.startedEvents.get();
+	}
+
+	/**
+	 * Returns the time the oldest {@link CqEvent} still waiting in the task {@link Executor} has been waiting
+	 * to be processed by the listener.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the time the oldest waiting {@link CqEvent} has been waiting to be processed, or {@literal 0}
+	 * if no events are waiting.
+	 */
+	public long getQueueTime(@NonNull TimeUnit timeUnit) {
+
+		Map.Entry<Long, Long> oldestPendingDispatchTime = this.pendingDispatchTimes.firstEntry();
+
+		long queueTime = oldestPendingDispatchTime != null
+			? Math.max(0L, this.clock.getAsLong() - oldestPendingDispatchTime.getValue())
+			: 0L;
+
+		return timeUnit.convert(queueTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the total time all started {@link CqEvent CqEvents} waited in the task {@link Executor}
+	 * before being processed by the listener.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the total time all started {@link CqEvent CqEvents} waited to be processed.
+	 */
+	public double getTotalQueueTime(@NonNull TimeUnit timeUnit) {
+		return toTimeUnit(this.totalQueueTime.get(), timeUnit);
+	}
+
+	/**
+	 * Returns the total time the listeners spent processing {@link CqEvent CqEvents}.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the total time the listeners spent processing {@link CqEvent CqEvents}.
+	 */
+	public double getTotalProcessingTime(@NonNull TimeUnit timeUnit) {
+		return toTimeUnit(this.totalProcessingTime.get(), timeUnit);
+	}
+
+	/**
+	 * Returns the average time the listeners spent processing a {@link CqEvent}.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned time.
+	 * @return the average time the listeners spent processing a {@link CqEvent}, or {@literal 0.0}
+	 * if no events were processed.
+	 */
+	public double getAverageProcessingTime(@NonNull TimeUnit timeUnit) {
+
+		long processedEventCount = getProcessedEventCount();
+
+		return processedEventCount > 0L ? getTotalProcessingTime(timeUnit) / processedEventCount : 0.0d;
+	}
+
+	private double toTimeUnit(long nanoseconds, TimeUnit timeUnit) {
+		return (double) nanoseconds / TimeUnit.NANOSECONDS.convert(1L, timeUnit);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring {@link BeanPostProcessor} installing a {@link ContinuousQueryListenerMonitor} on every
+ * {@link ContinuousQueryListenerContainer} bean once the container has been initialized.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor
+ * @since 2.0.0
+ */
+public class ContinuousQueryListenerMonitorBeanPostProcessor implements BeanPostProcessor {
+
+	@Override
+	public @Nullable Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+			throws BeansException {
+
+		if (bean instanceof ContinuousQueryListenerContainer) {
+			ContinuousQueryListenerMonitor.install((ContinuousQueryListenerContainer) bean);
+		}
+
+		return bean;
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.time.Duration;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CounterSampleWindow} class is a fixed-size ring buffer of timestamped samples of one or more
+ * monotonically increasing counters, from which the change and the rate of change of each counter over
+ * a time window are computed.
+ *
+ * Samples are retained for at least the configured {@link #getWindow() window}: the oldest sample is only discarded
+ * once the next oldest sample spans the whole window, so the change is computed over at least the window,
+ * regardless of how often samples are recorded, once enough samples have been recorded.  When the buffer is full,
+ * the oldest sample is overwritten.  A sample with a counter lower than in the previous sample, as when
+ * the counters are reset, discards all previous samples.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @since 2.0.0
+ */
+public class CounterSampleWindow {
+
+	public static final int DEFAULT_CAPACITY = 120;
+
+	public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1L);
+
+	private int count;
+	private int next;
+
+	private final long window;
+
+	private final long[] timestamps;
+
+	private final long[][] values;
+
+	/**
+	 * Constructs a new instance of {@link CounterSampleWindow} sampling the given number of counters over
+	 * the {@link #DEFAULT_WINDOW} and holding up to {@link #DEFAULT_CAPACITY} samples.
+	 *
+	 * @param counters number of sampled counters; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code counters} is less than {@literal 1}.
+	 */
+	public CounterSampleWindow(int counters) {
+		this(counters, DEFAULT_WINDOW, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CounterSampleWindow} sampling the given number of counters over
+	 * the given {@link Duration window} and holding up to the given number of samples.
+	 *
+	 * @param counters number of sampled counters; must be greater than {@literal 0}.
+	 * @param window {@link Duration} over which the counters are sampled; must not be {@literal null}.
+	 * @param capacity maximum number of samples held by this buffer; must be greater than {@literal 1}.
+	 * @throws IllegalArgumentException if {@code counters} is less than {@literal 1}, {@code window}
+	 * is {@literal null} or negative, or {@code capacity} is less than {@literal 2}.
+	 * @see java.time.Duration
+	 */
+	public CounterSampleWindow(int counters, @NonNull Duration window, int capacity) {
+
+		Assert.isTrue(counters > 0, () -> String.format("Counters [%d] must be greater than 0", counters));
+		Assert.isTrue(window != null && !window.isNegative(),
+			() -> String.format("Window [%s] must not be null or negative", window));
+		Assert.isTrue(capacity > 1, () -> String.format("Capacity [%d] must be greater than 1", capacity));
+
+		this.window = window.toNanos();
+		this.timestamps = new long[capacity];
+		this.values = new long[counters][capacity];
+	}
+
+	/**
+	 * Returns the maximum number of samples held by this buffer.
+	 *
+	 * @return the maximum number of samples held by this buffer.
+	 */
+	public int getCapacity() {
+		return this.timestamps.length;
+	}
+
+	/**
+	 * Returns the {@link Duration window} over which the counters are sampled.
+	 *
+	 * @return the {@link Duration window} over which the counters are sampled.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getWindow() {
+		return Duration.ofNanos(this.window);
+	}
+
+	/**
+	 * Records a sample of the counters taken at the given time.
+	 *
+	 * @param timestamp time, in nanoseconds of a monotonic clock, at which the sample was taken.
+	 * @param counters sampled values of the counters, in the order of the counters.
+	 * @throws IllegalArgumentException if the number of values does not match the number of sampled counters.
+	 */
+	public synchronized void record(long timestamp, long... counters) {
+
+		Assert.isTrue(counters != null && counters.length == this.values.length,
+			() -> String.format("Expected [%d] counters", this.values.length));
+
+		if (this.count > 0 && isReset(timestamp, counters)) {
+			this.count = 0;
+		}
+
+		int index = this.next;
+
+		this.timestamps[index] = timestamp;
+
+		for (int counter = 0; counter < counters.length; counter++) {
+			this.values[counter][index] = counters[counter];
+		}
+
+		this.next = (index + 1) % getCapacity();
+		this.count = Math.min(this.count + 1, getCapacity());
+
+		while (this.count > 2 && timestamp - this.timestamps[nextOldestIndex()] >= this.window) {
+			this.count--;
+		}
+	}
+
+	private boolean isReset(long timestamp, long[] counters) {
+
+		int newestIndex = newestIndex();
+
+		if (timestamp < this.timestamps[newestIndex]) {
+			return true;
+		}
+
+		for (int counter = 0; counter < counters.length; counter++) {
+			if (counters[counter] < this.values[counter][newestIndex]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the number of samples currently held by this buffer.
+	 *
+	 * @return the number of samples currently held by this buffer.
+	 */
+	public synchronized int size() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the time, in nanoseconds, between the oldest and the most recent sample.
+	 *
+	 * @return the time, in nanoseconds, between the oldest and the most recent sample,
+	 * or {@literal 0} if fewer than 2 samples were recorded.
+	 */
+	public synchronized long getElapsedTime() {
+		return this.count > 1 ? this.timestamps[newestIndex()] - this.timestamps[oldestIndex()] : 0L;
+	}
+
+	/**
+	 * Returns the change of the given counter between the oldest and the most recent sample.
+	 *
+	 * @param counter index of the counter.
+	 * @return the change of the given counter between the oldest and the most recent sample,
+	 * or {@literal 0} if fewer than 2 samples were recorded.
+	 */
+	public synchronized long delta(int counter) {
+
+		long[] values = this.values[counter];
+
+		return this.count > 1 ? values[newestIndex()] - values[oldestIndex()] : 0L;
+	}
+
+	/**
+	 * Returns the average rate of change per second of the given counter between the oldest
+	 * and the most recent sample.
+	 *
+	 * @param counter index of the counter.
+	 * @return the average rate of change per second of the given counter, or {@literal 0.0}
+	 * if the samples do not span any time.
+	 */
+	public synchronized double rate(int counter) {
+
+		long elapsedTime = getElapsedTime();
+
+		return elapsedTime > 0L ? delta(counter) * (double) Duration.ofSeconds(1L).toNanos() / elapsedTime : 0.0d;
+	}
+
+	/**
+	 * Removes all samples from this buffer.
+	 */
+	public synchronized void clear() {
+		this.count = 0;
+		this.next = 0;
+	}
+
+	private int newestIndex() {
+		return (this.next - 1 + getCapacity()) % getCapacity();
+	}
+
+	private int oldestIndex() {
+		return (this.next - this.count + getCapacity()) % getCapacity();
+	}
+
+	private int nextOldestIndex() {
+		return (oldestIndex() + 1) % getCapacity();
+	}
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.DiskStore;
+
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link DiskStoreStatisticsSampler} class samples the runtime I/O activity and disk usage
+ * of Apache Geode {@link DiskStore DiskStores}.
+ *
+ * The I/O activity is read from the {@link Statistics} recorded for each {@link DiskStore}; the {@link Statistics}
+ * instance of each {@link DiskStore} is resolved once and reused until closed.  Write and flush throughput is computed
+ * from the change in the number of bytes written and flushed between samples.  Disk usage is the size of the files
+ * in the {@link DiskStore DiskStore's} directories, compared to the configured directory size limits and
+ * the capacity of the file systems holding the directories.
+ *
+ * Values for {@link Statistics} that are not recorded are not reported.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.apache.geode.cache.DiskStore
+ * @since 2.0.0
+ */
+public class DiskStoreStatisticsSampler {
+
+	protected static final String DISK_STORE_STATISTICS_TYPE_NAME = "DiskStoreStatistics";
+
+	protected static final String COMPACTABLE_OPLOGS_STATISTIC = "compactableOplogs";
+	protected static final String COMPACTS_IN_PROGRESS_STATISTIC = "compactsInProgress";
+	protected static final String COMPACTS_STATISTIC = "compacts";
+	protected static final String FLUSHED_BYTES_STATISTIC = "flushedBytes";
+	protected static final String FLUSHES_IN_PROGRESS_STATISTIC = "flushesInProgress";
+	protected static final String FLUSHES_STATISTIC = "flushes";
+	protected static final String INACTIVE_OPLOGS_STATISTIC = "inactiveOplogs";
+	protected static final String OPEN_OPLOGS_STATISTIC = "openOplogs";
+	protected static final String QUEUE_SIZE_STATISTIC = "queueSize";
+	protected static final String WRITES_STATISTIC = "writes";
+	protected static final String WRITTEN_BYTES_STATISTIC = "writtenBytes";
+
+	protected static final long MEGABYTE = 1024L * 1024L;
+
+	private final ConcurrentMap<String, DiskStoreSampleState> diskStoreSampleStates = new ConcurrentHashMap<>();
+
+	private final LongSupplier clock;
+
+	private final StatisticsFactory statisticsFactory;
+
+	/**
+	 * Constructs a new instance of {@link DiskStoreStatisticsSampler} initialized with the given, required
+	 * {@link StatisticsFactory} used to find the recorded {@link Statistics}.
+	 *
+	 * @param statisticsFactory {@link StatisticsFactory} used to find the recorded {@link Statistics},
+	 * typically the {@link org.apache.geode.distributed.DistributedSystem}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link StatisticsFactory} is {@literal null}.
+	 */
+	public DiskStoreStatisticsSampler(@NonNull StatisticsFactory statisticsFactory) {
+		this(statisticsFactory, System::nanoTime);
+	}
+
+	DiskStoreStatisticsSampler(@NonNull StatisticsFactory statisticsFactory, @NonNull LongSupplier clock) {
+
+		Assert.notNull(statisticsFactory, "StatisticsFactory must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.statisticsFactory = statisticsFactory;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the configured {@link StatisticsFactory}.
+	 *
+	 * @return the configured {@link StatisticsFactory}.
+	 */
+	protected @NonNull StatisticsFactory getStatisticsFactory() {
+		return this.statisticsFactory;
+	}
+
+	/**
+	 * Samples the I/O activity recorded for the given {@link DiskStore}.
+	 *
+	 * @param diskStore {@link DiskStore} to sample; must not be {@literal null}.
+	 * @return a {@link Map} of the sampled values keyed by name; empty if no {@link Statistics} are recorded
+	 * for the {@link DiskStore}.
+	 */
+	public @NonNull Map<String, Object> sample(@NonNull DiskStore diskStore) {
+
+		String diskStoreName = diskStore.getName();
+
+		DiskStoreSampleState sampleState =
+			this.diskStoreSampleStates.computeIfAbsent(diskStoreName, name -> new DiskStoreSampleState());
+
+		Statistics diskStoreStatistics = sampleState.getDiskStoreStatistics();
+
+		if (diskStoreStatistics == null || diskStoreStatistics.isClosed()) {
+			diskStoreStatistics = resolveDiskStoreStatistics(diskStoreName);
+			sampleState.setDiskStoreStatistics(diskStoreStatistics);
+		}
+
+		if (diskStoreStatistics == null) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> sample = new LinkedHashMap<>();
+
+		Long writtenBytes = get(diskStoreStatistics, WRITTEN_BYTES_STATISTIC);
+		Long flushedBytes = get(diskStoreStatistics, FLUSHED_BYTES_STATISTIC);
+
+		putIfPresent(sample, "writes", get(diskStoreStatistics, WRITES_STATISTIC));
+		putIfPresent(sample, "written-bytes", writtenBytes);
+		putIfPresent(sample, "flushes", get(diskStoreStatistics, FLUSHES_STATISTIC));
+		putIfPresent(sample, "flushes-in-progress", get(diskStoreStatistics, FLUSHES_IN_PROGRESS_STATISTIC));
+		putIfPresent(sample, "flushed-bytes", flushedBytes);
+		putIfPresent(sample, "flush-queue-size", get(diskStoreStatistics, QUEUE_SIZE_STATISTIC));
+		putIfPresent(sample, "compactions", get(diskStoreStatistics, COMPACTS_STATISTIC));
+		putIfPresent(sample, "compactions-in-progress", get(diskStoreStatistics, COMPACTS_IN_PROGRESS_STATISTIC));
+		putIfPresent(sample, "oplogs.open", get(diskStoreStatistics, OPEN_OPLOGS_STATISTIC));
+		putIfPresent(sample, "oplogs.inactive", get(diskStoreStatistics, INACTIVE_OPLOGS_STATISTIC));
+		putIfPresent(sample, "oplogs.compactable", get(diskStoreStatistics, COMPACTABLE_OPLOGS_STATISTIC));
+
+		double[] rates = sampleState.recordBytes(this.clock.getAsLong(),
+			writtenBytes != null ? writtenBytes : 0L, flushedBytes != null ? flushedBytes : 0L);
+
+		if (writtenBytes != null) {
+			sample.put("write-rate", rates[0]);
+		}
+
+		if (flushedBytes != null) {
+			sample.put("flush-rate", rates[1]);
+		}
+
+		return sample;
+	}
+
+	/**
+	 * Samples the disk usage of the given {@link DiskStore}.
+	 *
+	 * Sampling lists the files in each of the {@link DiskStore DiskStore's} directories, therefore callers
+	 * sampling frequently should reuse the returned {@link DiskUsage} for a period of time.
+	 *
+	 * @param diskStore {@link DiskStore} to sample; must not be {@literal null}.
+	 * @return the {@link DiskUsage} of the {@link DiskStore}.
+	 * @see DiskUsage
+	 */
+	public static @NonNull DiskUsage sampleDiskUsage(@NonNull DiskStore diskStore) {
+
+		File[] diskDirectories = ArrayUtils.nullSafeArray(diskStore.getDiskDirs(), File.class);
+		int[] diskDirectorySizes = diskStore.getDiskDirSizes();
+
+		long limit = 0L;
+		long used = 0L;
+		double volumeUsagePercentage = Double.NaN;
+
+		for (int index = 0; index < diskDirectories.length; index++) {
+
+			File diskDirectory = diskDirectories[index];
+
+			if (diskDirectory != null) {
+
+				used += Arrays.stream(ArrayUtils.nullSafeArray(diskDirectory.listFiles(), File.class))
+					.filter(Objects::nonNull)
+					.filter(File::isFile)
+					.mapToLong(File::length)
+					.sum();
+
+				if (diskDirectorySizes != null && index < diskDirectorySizes.length) {
+					limit += Math.max(0L, diskDirectorySizes[index] * MEGABYTE);
+				}
+
+				long totalSpace = diskDirectory.getTotalSpace();
+
+				if (totalSpace > 0L) {
+
+					double directoryVolumeUsagePercentage =
+						(totalSpace - diskDirectory.getUsableSpace()) * 100.0d / totalSpace;
+
+					volumeUsagePercentage = Double.isNaN(volumeUsagePercentage) ? directoryVolumeUsagePercentage
+						: Math.max(volumeUsagePercentage, directoryVolumeUsagePercentage);
+				}
+			}
+		}
+
+		return new DiskUsage(used, limit, volumeUsagePercentage);
+	}
+
+	private @Nullable Statistics resolveDiskStoreStatistics(@NonNull String diskStoreName) {
+
+		Statistics[] diskStoreStatistics = getStatisticsFactory().findStatisticsByTextId(diskStoreName);
+
+		return Arrays.stream(ArrayUtils.nullSafeArray(diskStoreStatistics, Statistics.class))
+			.filter(statistics -> !statistics.isClosed())
+			.filter(this::isDiskStoreStatistics)
+			.findFirst()
+			.orElse(null);
+	}
+
+	private @Nullable Long get(@NonNull Statistics statistics, @NonNull String name) {
+
+		try {
+			return Optional.ofNullable(statistics.get(name)).map(Number::longValue).orElse(null);
+		}
+		catch (IllegalArgumentException ignore) {
+			// The Statistic is not recorded
+			return null;
+		}
+	}
+
+	private boolean isDiskStoreStatistics(@NonNull Statistics statistics) {
+
+		StatisticsType type = statistics.getType();
+
+		return type != null && DISK_STORE_STATISTICS_TYPE_NAME.equals(type.getName());
+	}
+
+	private void putIfPresent(@NonNull Map<String, Object> sample, @NonNull String key, @Nullable Object value) {
+
+		if (value != null) {
+			sample.put(key, value);
+		}
+	}
+
+	/**
+	 * The {@link DiskUsage} class is a value type holding the disk usage of a {@link DiskStore}.
+	 */
+	public static class DiskUsage {
+
+		private final double volumeUsagePercentage;
+
+		private final long limit;
+		private final long used;
+
+		DiskUsage(long used, long limit, double volumeUsagePercentage) {
+			this.used = used;
+			this.limit = limit;
+			this.volumeUsagePercentage = volumeUsagePercentage;
+		}
+
+		/**
+		 * Returns the sum of the configured size limits of the {@link DiskStore DiskStore's} directories in bytes.
+		 *
+		 * @return the sum of the configured directory size limits in bytes; {@literal 0} if no limit is configured.
+		 */
+		public long getLimit() {
+			return this.limit;
+		}
+
+		/**
+		 * Returns the number of bytes used by the files in the {@link DiskStore DiskStore's} directories.
+		 *
+		 * @return the number of bytes used by the files in the {@link DiskStore DiskStore's} directories.
+		 */
+		public long getUsed() {
+			return this.used;
+		}
+
+		/**
+		 * Returns the percentage of the configured directory size limits used by the {@link DiskStore}.
+		 *
+		 * @return the percentage of the configured directory size limits used by the {@link DiskStore},
+		 * or {@link Double#NaN} if no limit is configured.
+		 */
+		public double getUsagePercentage() {
+			return getLimit() > 0L ? getUsed() * 100.0d / getLimit() : Double.NaN;
+		}
+
+		/**
+		 * Returns the highest percentage of capacity used on the file systems holding
+		 * the {@link DiskStore DiskStore's} directories.
+		 *
+		 * @return the highest percentage of file system capacity used, or {@link Double#NaN} if unknown.
+		 */
+		public double getVolumeUsagePercentage() {
+			return this.volumeUsagePercentage;
+		}
+	}
+
+	/**
+	 * Sampling state of a single {@link DiskStore}, used to compute throughput from the change in
+	 * {@link Statistics} between samples.
+	 */
+	static class DiskStoreSampleState {
+
+		private long flushedBytes = -1L;
+		private long timestamp;
+		private long writtenBytes = -1L;
+
+		private volatile Statistics diskStoreStatistics;
+
+		@Nullable Statistics getDiskStoreStatistics() {
+			return this.diskStoreStatistics;
+		}
+
+		void setDiskStoreStatistics(@Nullable Statistics diskStoreStatistics) {
+			this.diskStoreStatistics = diskStoreStatistics;
+		}
+
+		synchronized double[] recordBytes(long timestamp, long writtenBytes, long flushedBytes) {
+
+			double[] rates = new double[2];
+
+			long elapsedTime = timestamp - this.timestamp;
+
+			if (this.writtenBytes >= 0L && elapsedTime > 0L) {
+				rates[0] = rate(writtenBytes - this.writtenBytes, elapsedTime);
+				rates[1] = rate(flushedBytes - this.flushedBytes, elapsedTime);
+			}
+
+			this.timestamp = timestamp;
+			this.writtenBytes = writtenBytes;
+			this.flushedBytes = flushedBytes;
+
+			return rates;
+		}
+
+		private double rate(long delta, long elapsedTime) {
+			return delta > 0L ? delta * (double) TimeUnit.SECONDS.toNanos(1L) / elapsedTime : 0.0d;
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PartitionRegionStatisticsAggregator} class incrementally aggregates the {@link CacheStatistics}
+ * of the local buckets of partitioned {@link Region Regions}.
+ *
+ * A partitioned {@link Region} is registered on the first lookup of its {@link CacheStatistics}, at which point
+ * its local buckets are sampled once.  Afterwards, the local buckets of all registered {@link Region Regions} are
+ * sampled periodically on a background {@link Thread}, adding the change in the hit and miss counts of each bucket
+ * since the previous sample to running totals.  Therefore, looking up the {@link CacheStatistics} of a partitioned
+ * {@link Region} takes constant time regardless of the number of buckets hosted by this member.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.internal.cache.BucketRegion
+ * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver
+ * @since 2.0.0
+ */
+public class PartitionRegionStatisticsAggregator implements DisposableBean {
+
+	public static final Duration DEFAULT_SAMPLING_INTERVAL = Duration.ofSeconds(10);
+
+	protected static final String THREAD_NAME = "partition-region-statistics-aggregator";
+
+	private final ConcurrentMap<String, AggregateCacheStatistics> statistics = new ConcurrentHashMap<>();
+
+	private final Duration samplingInterval;
+
+	private volatile ScheduledExecutorService scheduler;
+
+	/**
+	 * Constructs a new instance of {@link PartitionRegionStatisticsAggregator} sampling the local buckets
+	 * at the {@link #DEFAULT_SAMPLING_INTERVAL}.
+	 */
+	public PartitionRegionStatisticsAggregator() {
+		this(DEFAULT_SAMPLING_INTERVAL);
+	}
+
+	/**
+	 * Constructs a new instance of {@link PartitionRegionStatisticsAggregator} sampling the local buckets
+	 * at the given {@link Duration interval}.
+	 *
+	 * @param samplingInterval {@link Duration interval} at which the local buckets are sampled;
+	 * must not be {@literal null} and must be positive.
+	 * @throws IllegalArgumentException if the {@link Duration sampling interval} is {@literal null}
+	 * or not positive.
+	 */
+	public PartitionRegionStatisticsAggregator(@NonNull Duration samplingInterval) {
+
+		Assert.notNull(samplingInterval, "Sampling interval must not be null");
+		Assert.isTrue(!samplingInterval.isNegative() && !samplingInterval.isZero(),
+			() -> String.format("Sampling interval [%s] must be positive", samplingInterval));
+
+		this.samplingInterval = samplingInterval;
+	}
+
+	/**
+	 * Returns the configured {@link Duration interval} at which the local buckets are sampled.
+	 *
+	 * @return the configured {@link Duration interval} at which the local buckets are sampled.
+	 */
+	protected @NonNull Duration getSamplingInterval() {
+		return this.samplingInterval;
+	}
+
+	/**
+	 * Returns the aggregated {@link CacheStatistics} for the given partitioned {@link Region}.
+	 *
+	 * @param region partitioned {@link Region} for which to return the aggregated {@link CacheStatistics};
+	 * must not be {@literal null}.
+	 * @return the aggregated {@link CacheStatistics} for the given partitioned {@link Region}.
+	 * @throws IllegalArgumentException if the {@link Region} is not a {@link PartitionedRegion}.
+	 * @see org.apache.geode.cache.CacheStatistics
+	 */
+	public @NonNull CacheStatistics getStatistics(@NonNull Region<?, ?> region) {
+
+		Assert.isInstanceOf(PartitionedRegion.class, region, () ->
+			String.format("Region [%1$s] must be of type [%2$s]", RegionUtils.toRegionPath(region),
+				PartitionedRegion.class.getName()));
+
+		AggregateCacheStatistics statistics = this.statistics.get(region.getFullPath());
+
+		if (statistics == null || statistics.getPartitionRegion() != region) {
+			statistics = register((PartitionedRegion) region);
+		}
+
+		return statistics;
+	}
+
+	private AggregateCacheStatistics register(PartitionedRegion region) {
+
+		AggregateCacheStatistics statistics = new AggregateCacheStatistics(region);
+
+		statistics.sample();
+
+		this.statistics.put(region.getFullPath(), statistics);
+
+		scheduleSampling();
+
+		return statistics;
+	}
+
+	private synchronized void scheduleSampling() {
+
+		if (this.scheduler == null) {
+
+			long samplingIntervalInMilliseconds = Math.max(1L, getSamplingInterval().toMillis());
+
+			ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			scheduler.scheduleWithFixedDelay(this::sample, samplingIntervalInMilliseconds,
+				samplingIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+
+			this.scheduler = scheduler;
+		}
+	}
+
+	/**
+	 * Samples the local buckets of all registered partitioned {@link Region Regions}, removing any
+	 * {@link Region Regions} that have been destroyed.
+	 */
+	public void sample() {
+
+		for (Iterator<AggregateCacheStatistics> iterator = this.statistics.values().iterator(); iterator.hasNext(); ) {
+
+			AggregateCacheStatistics statistics = iterator.next();
+
+			if (statistics.getPartitionRegion().isDestroyed()) {
+				iterator.remove();
+			}
+			else {
+				try {
+					statistics.sample();
+				}
+				catch (RuntimeException ignore) {
+					// Keep the running totals; the Region is sampled again at the next interval
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stops sampling the local buckets of the registered partitioned {@link Region Regions}.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			this.scheduler = null;
+		}
+	}
+
+	/**
+	 * {@link CacheStatistics} implementation maintaining running totals of the hit and miss counts of the local
+	 * buckets of a partitioned {@link Region}.
+	 */
+	protected static class AggregateCacheStatistics implements CacheStatistics {
+
+		private final Map<Integer, long[]> bucketCounts = new HashMap<>();
+
+		private final PartitionedRegion partitionRegion;
+
+		private volatile long hitCount = 0L;
+		private volatile long lastAccessedTime = 0L;
+		private volatile long lastModifiedTime = 0L;
+		private volatile long missCount = 0L;
+
+		protected AggregateCacheStatistics(@NonNull PartitionedRegion partitionRegion) {
+			this.partitionRegion = partitionRegion;
+		}
+
+		protected @NonNull PartitionedRegion getPartitionRegion() {
+			return this.partitionRegion;
+		}
+
+		/**
+		 * Adds the change in the hit and miss counts of each local bucket since the previous sample
+		 * to the running totals.
+		 *
+		 * Buckets that are no longer hosted by this member have their last sampled counts removed
+		 * from the running totals.
+		 */
+		protected synchronized void sample() {
+
+			Set<BucketRegion> bucketRegions = Optional.of(getPartitionRegion())
+				.map(PartitionedRegion::getDataStore)
+				.map(PartitionedRegionDataStore::getAllLocalBucketRegions)
+				.orElseGet(Collections::emptySet);
+
+			Map<Integer, long[]> previousBucketCounts = new HashMap<>(this.bucketCounts);
+
+			long hitCountDelta = 0L;
+			long maxLastAccessedTime = this.lastAccessedTime;
+			long maxLastModifiedTime = this.lastModifiedTime;
+			long missCountDelta = 0L;
+
+			for (BucketRegion bucket : bucketRegions) {
+
+				CacheStatistics bucketStatistics = bucket.getStatistics();
+
+				if (bucketStatistics != null) {
+
+					long bucketHitCount = bucketStatistics.getHitCount();
+					long bucketMissCount = bucketStatistics.getMissCount();
+
+					long[] previousCounts = previousBucketCounts.remove(bucket.getId());
+
+					hitCountDelta += bucketHitCount - (previousCounts != null ? previousCounts[0] : 0L);
+					missCountDelta += bucketMissCount - (previousCounts != null ? previousCounts[1] : 0L);
+					maxLastAccessedTime = Math.max(maxLastAccessedTime, bucketStatistics.getLastAccessedTime());
+					maxLastModifiedTime = Math.max(maxLastModifiedTime, bucketStatistics.getLastModifiedTime());
+
+					this.bucketCounts.put(bucket.getId(), new long[] { bucketHitCount, bucketMissCount });
+				}
+			}
+
+			for (Map.Entry<Integer, long[]> removedBucket : previousBucketCounts.entrySet()) {
+				hitCountDelta -= removedBucket.getValue()[0];
+				missCountDelta -= removedBucket.getValue()[1];
+				this.bucketCounts.remove(removedBucket.getKey());
+			}
+
+			this.hitCount = Math.max(0L, this.hitCount + hitCountDelta);
+			this.missCount = Math.max(0L, this.missCount + missCountDelta);
+			this.lastAccessedTime = maxLastAccessedTime;
+			this.lastModifiedTime = maxLastModifiedTime;
+		}
+
+		@Override
+		public long getHitCount() throws StatisticsDisabledException {
+			return this.hitCount;
+		}
+
+		@Override
+		public float getHitRatio() throws StatisticsDisabledException {
+			return RegionStatisticsResolver.computeHitRatio(getHitCount(), getMissCount());
+		}
+
+		@Override
+		public long getLastAccessedTime() throws StatisticsDisabledException {
+			return this.lastAccessedTime;
+		}
+
+		@Override
+		public long getLastModifiedTime() {
+			return this.lastModifiedTime;
+		}
+
+		@Override
+		public long getMissCount() throws StatisticsDisabledException {
+			return this.missCount;
+		}
+
+		/**
+		 * Resets the running totals and records the current hit and miss counts of each local bucket as the baselines
+		 * of the next sample, so that accesses before the reset are not added to the running totals.
+		 */
+		@Override
+		public synchronized void resetCounts() throws StatisticsDisabledException {
+
+			sample();
+
+			this.hitCount = 0L;
+			this.lastAccessedTime = 0L;
+			this.lastModifiedTime = 0L;
+			this.missCount = 0L;
+		}
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.client.Pool;
+
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PoolStatisticsSampler} class samples the live behavior of Apache Geode client {@link Pool Pools}
+ * from the {@link Statistics} recorded by the client.
+ *
+ * Sampling only reads the current values of the already recorded {@link Statistics}; the {@link Statistics}
+ * instances of each {@link Pool} are resolved once and reused until closed.  Connection waits are reported as
+ * the number of connection waits and the total connection wait time recorded by the client.
+ *
+ * The single-hop ratio is sampled once for all {@link Pool Pools}, since the client only records the count of
+ * operations needing more than one hop cache-wide.  It is the fraction of the operations of all {@link Pool Pools}
+ * that did not require an additional hop over a {@link CounterSampleWindow window} of samples spanning at least
+ * {@link CounterSampleWindow#DEFAULT_WINDOW one minute}.
+ *
+ * Values for {@link Statistics} that are not recorded by the client are not reported.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.springframework.geode.boot.actuate.health.support.CounterSampleWindow
+ * @since 2.0.0
+ */
+public class PoolStatisticsSampler {
+
+	protected static final String CACHE_PERF_STATISTICS_TYPE_NAME = "CachePerfStats";
+	protected static final String CLIENT_STATISTICS_TYPE_NAME = "ClientStats";
+	protected static final String POOL_STATISTICS_TYPE_NAME = "PoolStats";
+	protected static final String SERVER_LOCATION_SEPARATOR = "->";
+
+	protected static final String CLIENT_OPS_IN_PROGRESS_STATISTIC = "clientOpsInProgress";
+	protected static final String CLIENT_OPS_STATISTIC = "clientOps";
+	protected static final String CONNECTION_WAIT_TIME_STATISTIC = "connectionWaitTime";
+	protected static final String CONNECTION_WAIT_TIMEOUTS_STATISTIC = "connectionWaitTimeouts";
+	protected static final String CONNECTION_WAITS_IN_PROGRESS_STATISTIC = "connectionWaitsInProgress";
+	protected static final String CONNECTION_WAITS_STATISTIC = "connectionWaits";
+	protected static final String CONNECTIONS_STATISTIC = "connections";
+	protected static final String NON_SINGLE_HOPS_STATISTIC = "nonSingleHopsCount";
+	protected static final String POOL_CONNECTIONS_STATISTIC = "poolConnections";
+
+	private final ConcurrentMap<String, PoolSampleState> poolSampleStates = new ConcurrentHashMap<>();
+
+	private final CounterSampleWindow hopsSampleWindow = new CounterSampleWindow(2);
+
+	private final StatisticsFactory statisticsFactory;
+
+	private volatile Statistics cachePerfStatistics;
+
+	private double singleHopRatio = 1.0d;
+
+	/**
+	 * Constructs a new instance of {@link PoolStatisticsSampler} initialized with the given, required
+	 * {@link StatisticsFactory} used to find the recorded {@link Statistics}.
+	 *
+	 * @param statisticsFactory {@link StatisticsFactory} used to find the recorded {@link Statistics},
+	 * typically the {@link org.apache.geode.distributed.DistributedSystem}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link StatisticsFactory} is {@literal null}.
+	 */
+	public PoolStatisticsSampler(@NonNull StatisticsFactory statisticsFactory) {
+
+		Assert.notNull(statisticsFactory, "StatisticsFactory must not be null");
+
+		this.statisticsFactory = statisticsFactory;
+	}
+
+	/**
+	 * Returns the configured {@link StatisticsFactory}.
+	 *
+	 * @return the configured {@link StatisticsFactory}.
+	 */
+	protected @NonNull StatisticsFactory getStatisticsFactory() {
+		return this.statisticsFactory;
+	}
+
+	/**
+	 * Returns the current value of the monotonic clock used to time samples.
+	 *
+	 * @return the current value of the monotonic clock in nanoseconds.
+	 */
+	protected long currentTimeNanos() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Samples the live behavior of the given {@link Pool}.
+	 *
+	 * @param pool {@link Pool} to sample; must not be {@literal null}.
+	 * @return a {@link Map} of the sampled values keyed by name; empty if no {@link Statistics} are recorded
+	 * for the {@link Pool}.
+	 */
+	public @NonNull Map<String, Object> sample(@NonNull Pool pool) {
+
+		String poolName = pool.getName();
+
+		Statistics poolStatistics = getPoolStatistics(poolName);
+
+		if (poolStatistics == null) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> sample = new LinkedHashMap<>();
+
+		Long connections = get(poolStatistics, POOL_CONNECTIONS_STATISTIC);
+		Long clientOpsInProgress = get(poolStatistics, CLIENT_OPS_IN_PROGRESS_STATISTIC);
+
+		if (connections != null) {
+
+			sample.put("connections.total", connections);
+
+			if (clientOpsInProgress != null) {
+
+				long activeConnections = Math.min(connections, clientOpsInProgress);
+
+				sample.put("connections.active", activeConnections);
+				sample.put("connections.idle", connections - activeConnections);
+			}
+		}
+
+		Long connectionWaitTime = get(poolStatistics, CONNECTION_WAIT_TIME_STATISTIC);
+
+		putIfPresent(sample, "connection-waits", get(poolStatistics, CONNECTION_WAITS_STATISTIC));
+		putIfPresent(sample, "connection-waits-in-progress",
+			get(poolStatistics, CONNECTION_WAITS_IN_PROGRESS_STATISTIC));
+		putIfPresent(sample, "connection-wait-time",
+			connectionWaitTime != null ? TimeUnit.NANOSECONDS.toMillis(connectionWaitTime) : null);
+		putIfPresent(sample, "free-connection-timeouts", get(poolStatistics, CONNECTION_WAIT_TIMEOUTS_STATISTIC));
+
+		resolveServerConnections(poolName).forEach((server, serverConnections) ->
+			sample.put(String.format("servers.%s.connections", server), serverConnections));
+
+		return sample;
+	}
+
+	/**
+	 * Samples the fraction of the operations of the given {@link Pool Pools} that did not require an additional hop.
+	 *
+	 * @param pools {@link Collection} of {@link Pool Pools} to sample; must not be {@literal null}.
+	 * @return the fraction of the operations of the given {@link Pool Pools} that did not require an additional hop,
+	 * or {@literal null} if the {@link Statistics} are not recorded by the client.
+	 */
+	public synchronized @Nullable Double sampleSingleHopRatio(@NonNull Collection<Pool> pools) {
+
+		Long nonSingleHops = get(resolveCachePerfStatistics(), NON_SINGLE_HOPS_STATISTIC);
+
+		if (nonSingleHops == null) {
+			return null;
+		}
+
+		Long clientOps = null;
+
+		for (Pool pool : pools) {
+
+			Long poolClientOps = get(getPoolStatistics(pool.getName()), CLIENT_OPS_STATISTIC);
+
+			if (poolClientOps != null) {
+				clientOps = clientOps != null ? clientOps + poolClientOps : poolClientOps;
+			}
+		}
+
+		if (clientOps == null) {
+			return null;
+		}
+
+		this.hopsSampleWindow.record(currentTimeNanos(), clientOps, nonSingleHops);
+
+		long ops = this.hopsSampleWindow.delta(0);
+		long hops = this.hopsSampleWindow.delta(1);
+
+		if (ops > 0L) {
+			this.singleHopRatio = Math.max(0.0d, 1.0d - (double) Math.min(hops, ops) / ops);
+		}
+
+		return this.singleHopRatio;
+	}
+
+	private @Nullable Statistics getPoolStatistics(@NonNull String poolName) {
+
+		PoolSampleState sampleState = this.poolSampleStates.computeIfAbsent(poolName, name -> new PoolSampleState());
+
+		Statistics poolStatistics = sampleState.getPoolStatistics();
+
+		if (poolStatistics == null || poolStatistics.isClosed()) {
+			poolStatistics = resolvePoolStatistics(poolName);
+			sampleState.setPoolStatistics(poolStatistics);
+		}
+
+		return poolStatistics;
+	}
+
+	private @Nullable Statistics resolvePoolStatistics(@NonNull String poolName) {
+
+		Statistics[] poolStatistics = getStatisticsFactory().findStatisticsByTextId(poolName);
+
+		return Arrays.stream(ArrayUtils.nullSafeArray(poolStatistics, Statistics.class))
+			.filter(statistics -> !statistics.isClosed())
+			.filter(statistics -> isType(statistics, POOL_STATISTICS_TYPE_NAME))
+			.findFirst()
+			.orElse(null);
+	}
+
+	private @Nullable Statistics resolveCachePerfStatistics() {
+
+		Statistics cachePerfStatistics = this.cachePerfStatistics;
+
+		if (cachePerfStatistics == null || cachePerfStatistics.isClosed()) {
+			cachePerfStatistics = Arrays.stream(findStatisticsByType(CACHE_PERF_STATISTICS_TYPE_NAME))
+				.findFirst()
+				.orElse(null);
+			this.cachePerfStatistics = cachePerfStatistics;
+		}
+
+		return cachePerfStatistics;
+	}
+
+	private @NonNull Map<String, Long> resolveServerConnections(@NonNull String poolName) {
+
+		String textIdPrefix = poolName + SERVER_LOCATION_SEPARATOR;
+
+		Map<String, Long> serverConnections = new TreeMap<>();
+
+		for (Statistics clientStatistics : findStatisticsByType(CLIENT_STATISTICS_TYPE_NAME)) {
+
+			String textId = clientStatistics.getTextId();
+
+			if (textId != null && textId.startsWith(textIdPrefix)) {
+
+				Long connections = get(clientStatistics, CONNECTIONS_STATISTIC);
+
+				if (connections != null) {
+					serverConnections.merge(textId.substring(textIdPrefix.length()), connections, Long::sum);
+				}
+			}
+		}
+
+		return serverConnections;
+	}
+
+	private @NonNull Statistics[] findStatisticsByType(@NonNull String typeName) {
+
+		StatisticsType type = getStatisticsFactory().findType(typeName);
+
+		Statistics[] statistics = type != null ? getStatisticsFactory().findStatisticsByType(type) : null;
+
+		return statistics != null
+			? Arrays.stream(statistics).filter(it -> !it.isClosed()).toArray(Statistics[]::new)
+			: new Statistics[0];
+	}
+
+	private @Nullable Long get(@Nullable Statistics statistics, @NonNull String name) {
+
+		if (statistics != null) {
+			try {
+				return Optional.ofNullable(statistics.get(name)).map(Number::longValue).orElse(null);
+			}
+			catch (IllegalArgumentException ignore) {
+				// The Statistic is not recorded
+			}
+		}
+
+		return null;
+	}
+
+	private boolean isType(@NonNull Statistics statistics, @NonNull String typeName) {
+
+		StatisticsType type = statistics.getType();
+
+		return type != null && typeName.equals(type.getName());
+	}
+
+	private void putIfPresent(@NonNull Map<String, Object> sample, @NonNull String key, @Nullable Object value) {
+
+		if (value != null) {
+			sample.put(key, value);
+		}
+	}
+
+	/**
+	 * Sampling state of a single {@link Pool}, caching the resolved {@link Statistics} of the {@link Pool}.
+	 */
+	static class PoolSampleState {
+
+		private volatile Statistics poolStatistics;
+
+		@Nullable Statistics getPoolStatistics() {
+			return this.poolStatistics;
+		}
+
+		void setPoolStatistics(@Nullable Statistics poolStatistics) {
+			this.poolStatistics = poolStatistics;
+		}
+	}
+}
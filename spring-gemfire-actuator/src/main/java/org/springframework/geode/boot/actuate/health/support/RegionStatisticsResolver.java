@@ -45,6 +45,39 @@ public class RegionStatisticsResolver {
 			: null;
 	}
 
+	/**
+	 * Resolves the {@link CacheStatistics} for the given {@link Region}, using the given
+	 * {@link PartitionRegionStatisticsAggregator} to lookup the {@link CacheStatistics} of a partitioned {@link Region}
+	 * in constant time rather than scanning all local buckets.
+	 *
+	 * @param region {@link Region} for which to resolve the {@link CacheStatistics}.
+	 * @param aggregator {@link PartitionRegionStatisticsAggregator} used to lookup the {@link CacheStatistics}
+	 * of a partitioned {@link Region}; may be {@literal null}.
+	 * @return the {@link CacheStatistics} for the given {@link Region}.
+	 * @see PartitionRegionStatisticsAggregator
+	 * @see #resolve(Region)
+	 */
+	public static CacheStatistics resolve(Region<?, ?> region, PartitionRegionStatisticsAggregator aggregator) {
+
+		return aggregator != null && region != null && PartitionRegionHelper.isPartitionedRegion(region)
+			? aggregator.getStatistics(region)
+			: resolve(region);
+	}
+
+	/**
+	 * Computes the hit ratio from the given hit and miss counts.
+	 *
+	 * @param hitCount number of hits.
+	 * @param missCount number of misses.
+	 * @return the ratio of hits to the total number of hits and misses, or {@literal 0.0f} if there were none.
+	 */
+	static float computeHitRatio(long hitCount, long missCount) {
+
+		long totalCount = hitCount + missCount;
+
+		return totalCount > 0L ? (float) ((double) hitCount / totalCount) : 0.0f;
+	}
+
 	protected static class PartitionRegionCacheStatistics implements CacheStatistics {
 
 		private final PartitionedRegion partitionRegion;
@@ -67,8 +100,6 @@ public class RegionStatisticsResolver {
 
 		protected PartitionedRegion computeStatistics(PartitionedRegion region) {
 
-			float totalHitRatio = 0.0f;
-
 			int totalCount = 0;
 
 			long totalHitCount = 0L;
@@ -90,7 +121,6 @@ public class RegionStatisticsResolver {
 					totalCount++;
 
 					totalHitCount += bucketStatistics.getHitCount();
-					totalHitRatio += bucketStatistics.getHitRatio();
 					maxLastAccessedTime = Math.max(maxLastAccessedTime, bucketStatistics.getLastAccessedTime());
 					maxLastModifiedTime = Math.max(maxLastModifiedTime, bucketStatistics.getLastModifiedTime());
 					totalMissCount += bucketStatistics.getMissCount();
@@ -98,11 +128,11 @@ public class RegionStatisticsResolver {
 			}
 
 			if (totalCount > 0) {
-				this.hitCount = totalHitCount / totalCount;
-				this.hitRatio = totalHitRatio / totalCount;
+				this.hitCount = totalHitCount;
+				this.hitRatio = computeHitRatio(totalHitCount, totalMissCount);
 				this.lastAccessedTime = maxLastAccessedTime;
 				this.lastModifiedTime = maxLastModifiedTime;
-				this.missCount = totalMissCount / totalCount;
+				this.missCount = totalMissCount;
 			}
 
 			return region;
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.util.Arrays;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerMetrics;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ServerLoadSampleBuffer} class is a fixed-size ring buffer of the most recent server load samples,
+ * from which rolling percentiles and rates are computed.
+ *
+ * Samples are stored in preallocated, primitive arrays; recording a sample does not allocate any objects and
+ * overwrites the oldest sample once the buffer is full.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.server.ServerLoad
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @since 2.0.0
+ */
+public class ServerLoadSampleBuffer {
+
+	public static final int DEFAULT_CAPACITY = 120;
+
+	private final double[][] values;
+
+	private int count;
+	private int next;
+
+	private final long[] timestamps;
+
+	/**
+	 * Constructs a new instance of {@link ServerLoadSampleBuffer} holding up to {@link #DEFAULT_CAPACITY} samples.
+	 */
+	public ServerLoadSampleBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ServerLoadSampleBuffer} holding up to the given number of samples.
+	 *
+	 * @param capacity maximum number of samples held by this buffer; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@literal 1}.
+	 */
+	public ServerLoadSampleBuffer(int capacity) {
+
+		Assert.isTrue(capacity > 0, () -> String.format("Capacity [%d] must be greater than 0", capacity));
+
+		this.timestamps = new long[capacity];
+		this.values = new double[Series.values().length][capacity];
+	}
+
+	/**
+	 * Returns the maximum number of samples held by this buffer.
+	 *
+	 * @return the maximum number of samples held by this buffer.
+	 */
+	public int getCapacity() {
+		return this.timestamps.length;
+	}
+
+	/**
+	 * Records a sample of the given {@link ServerLoad} and {@link ServerMetrics} taken at the given time.
+	 *
+	 * @param timestamp time, in milliseconds since the epoch, at which the sample was taken.
+	 * @param serverLoad {@link ServerLoad} to sample; must not be {@literal null}.
+	 * @param serverMetrics {@link ServerMetrics} to sample; must not be {@literal null}.
+	 */
+	public void record(long timestamp, @NonNull ServerLoad serverLoad, @NonNull ServerMetrics serverMetrics) {
+		record(timestamp, serverLoad.getConnectionLoad(), serverLoad.getSubscriptionConnectionLoad(),
+			serverMetrics.getClientCount());
+	}
+
+	/**
+	 * Records a sample taken at the given time.
+	 *
+	 * @param timestamp time, in milliseconds since the epoch, at which the sample was taken.
+	 * @param connectionLoad sampled connection load.
+	 * @param subscriptionConnectionLoad sampled subscription connection load.
+	 * @param clientCount sampled number of connected clients.
+	 */
+	public synchronized void record(long timestamp, double connectionLoad, double subscriptionConnectionLoad,
+			int clientCount) {
+
+		int index = this.next;
+
+		this.timestamps[index] = timestamp;
+		this.values[Series.CONNECTION_LOAD.ordinal()][index] = connectionLoad;
+		this.values[Series.SUBSCRIPTION_CONNECTION_LOAD.ordinal()][index] = subscriptionConnectionLoad;
+		this.values[Series.CLIENT_COUNT.ordinal()][index] = clientCount;
+		this.next = (index + 1) % getCapacity();
+		this.count = Math.min(this.count + 1, getCapacity());
+	}
+
+	/**
+	 * Returns the number of samples currently held by this buffer.
+	 *
+	 * @return the number of samples currently held by this buffer.
+	 */
+	public synchronized int size() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, between the oldest and the most recent sample.
+	 *
+	 * @return the time, in milliseconds, between the oldest and the most recent sample,
+	 * or {@literal 0} if fewer than 2 samples were recorded.
+	 */
+	public synchronized long getWindow() {
+		return this.count > 1 ? this.timestamps[newestIndex()] - this.timestamps[oldestIndex()] : 0L;
+	}
+
+	/**
+	 * Returns the most recent value of the given {@link Series}.
+	 *
+	 * @param series {@link Series} of samples.
+	 * @return the most recent value of the given {@link Series}, or {@link Double#NaN} if the buffer is empty.
+	 */
+	public synchronized double latest(@NonNull Series series) {
+		return this.count > 0 ? this.values[series.ordinal()][newestIndex()] : Double.NaN;
+	}
+
+	/**
+	 * Returns the given percentile of the values of the given {@link Series} held by this buffer,
+	 * using the nearest-rank method.
+	 *
+	 * @param series {@link Series} of samples.
+	 * @param percentile percentile to compute, between {@literal 0.0} and {@literal 1.0}.
+	 * @return the given percentile of the values of the given {@link Series}, or {@link Double#NaN}
+	 * if the buffer is empty.
+	 * @throws IllegalArgumentException if {@code percentile} is not between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public double percentile(@NonNull Series series, double percentile) {
+
+		Assert.isTrue(percentile >= 0.0d && percentile <= 1.0d,
+			() -> String.format("Percentile [%s] must be between 0.0 and 1.0", percentile));
+
+		double[] sortedValues;
+
+		synchronized (this) {
+			sortedValues = Arrays.copyOf(this.values[series.ordinal()], this.count);
+		}
+
+		if (sortedValues.length == 0) {
+			return Double.NaN;
+		}
+
+		Arrays.sort(sortedValues);
+
+		int rank = (int) Math.ceil(percentile * sortedValues.length);
+
+		return sortedValues[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Returns the average rate of change per second of the given {@link Series} between the oldest
+	 * and the most recent sample.
+	 *
+	 * @param series {@link Series} of samples.
+	 * @return the average rate of change per second of the given {@link Series}, or {@literal 0.0}
+	 * if the samples do not span any time.
+	 */
+	public synchronized double rate(@NonNull Series series) {
+
+		long window = getWindow();
+
+		if (window > 0L) {
+
+			double[] values = this.values[series.ordinal()];
+
+			return (values[newestIndex()] - values[oldestIndex()]) * 1000.0d / window;
+		}
+
+		return 0.0d;
+	}
+
+	/**
+	 * Removes all samples from this buffer.
+	 */
+	public synchronized void clear() {
+		this.count = 0;
+		this.next = 0;
+	}
+
+	private int newestIndex() {
+		return (this.next - 1 + getCapacity()) % getCapacity();
+	}
+
+	private int oldestIndex() {
+		return (this.next - this.count + getCapacity()) % getCapacity();
+	}
+
+	/**
+	 * The {@link Series} enum defines the sampled server load values.
+	 */
+	public enum Series {
+
+		CONNECTION_LOAD("connection-load"),
+		SUBSCRIPTION_CONNECTION_LOAD("subscription-connection-load"),
+		CLIENT_COUNT("client-count");
+
+		private final String name;
+
+		Series(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Returns the hyphenated {@link String name} of this {@link Series} used in metric tags
+		 * and endpoint responses.
+		 *
+		 * @return the hyphenated {@link String name} of this {@link Series}.
+		 */
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.SocketTimeoutException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.geode.function.config.AbstractFunctionExecutionProxyBeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring {@link org.springframework.beans.factory.config.BeanPostProcessor} used to instrument SDG POJO
+ * interfaces defining Apache Geode Function {@link Execution Executions} with Micrometer {@link Meter Meters}.
+ *
+ * For each Function, the following {@link Meter Meters} are recorded, tagged with
+ * the {@literal function} ID and the {@literal interface} declaring the Function execution method:
+ *
+ * <ul>
+ *   <li>{@literal gemfire.function.executions} - {@link Timer} of Function executions, further tagged with
+ *   the {@literal outcome} ({@literal success}, {@literal error} or {@literal timeout}).</li>
+ *   <li>{@literal gemfire.function.results} - {@link DistributionSummary} of the number of results returned.</li>
+ *   <li>{@literal gemfire.function.errors} - {@link Counter} of failed Function executions.</li>
+ *   <li>{@literal gemfire.function.timeouts} - {@link Counter} of timed out Function executions.</li>
+ * </ul>
+ *
+ * The {@link MeterRegistry} is resolved lazily on each Function execution.  No {@link Meter Meters}
+ * are recorded when no {@link MeterRegistry} is available.  The {@link Meter Meters} are registered once,
+ * on first use, and cached per Function execution method and outcome.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.springframework.geode.function.config.AbstractFunctionExecutionProxyBeanPostProcessor
+ * @since 2.0.0
+ */
+public class FunctionExecutionMetricsBeanPostProcessor extends AbstractFunctionExecutionProxyBeanPostProcessor {
+
+	public static final String FUNCTION_ERRORS_METER_NAME = "gemfire.function.errors";
+	public static final String FUNCTION_EXECUTIONS_METER_NAME = "gemfire.function.executions";
+	public static final String FUNCTION_RESULTS_METER_NAME = "gemfire.function.results";
+	public static final String FUNCTION_TIMEOUTS_METER_NAME = "gemfire.function.timeouts";
+
+	protected static final String ERROR_OUTCOME = "error";
+	protected static final String SUCCESS_OUTCOME = "success";
+	protected static final String TIMEOUT_OUTCOME = "timeout";
+
+	private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+	/**
+	 * Constructs a new instance of {@link FunctionExecutionMetricsBeanPostProcessor} initialized with
+	 * the given, required {@link Supplier} of the {@link MeterRegistry}.
+	 *
+	 * @param meterRegistrySupplier {@link Supplier} of the {@link MeterRegistry} used to record the Function
+	 * execution {@link Meter Meters}; must not be {@literal null}.
+	 * The {@link Supplier} may return {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	public FunctionExecutionMetricsBeanPostProcessor(@NonNull Supplier<MeterRegistry> meterRegistrySupplier) {
+
+		Assert.notNull(meterRegistrySupplier, "Supplier of MeterRegistry must not be null");
+
+		this.meterRegistrySupplier = meterRegistrySupplier;
+	}
+
+	/**
+	 * Returns the configured {@link Supplier} of the {@link MeterRegistry}.
+	 *
+	 * @return the configured {@link Supplier} of the {@link MeterRegistry}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected @NonNull Supplier<MeterRegistry> getMeterRegistrySupplier() {
+		return this.meterRegistrySupplier;
+	}
+
+	@Override
+	protected @NonNull MethodInterceptor newMethodInterceptor() {
+		return new FunctionExecutionMetricsInterceptor(getMeterRegistrySupplier());
+	}
+
+	/**
+	 * {@link MethodInterceptor} recording Micrometer {@link Meter Meters}
+	 * for SDG Function {@link Execution} proxy method invocations.
+	 */
+	static class FunctionExecutionMetricsInterceptor implements MethodInterceptor {
+
+		private final Map<Method, Tags> methodTags = new ConcurrentHashMap<>();
+
+		private final Map<Method, Map<String, Meter>> methodMeters = new ConcurrentHashMap<>();
+
+		private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+		FunctionExecutionMetricsInterceptor(@NonNull Supplier<MeterRegistry> meterRegistrySupplier) {
+			this.meterRegistrySupplier = meterRegistrySupplier;
+		}
+
+		@Override
+		public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			MeterRegistry meterRegistry = ReflectionUtils.isObjectMethod(method) ? null
+				: this.meterRegistrySupplier.get();
+
+			if (meterRegistry == null) {
+				return invocation.proceed();
+			}
+
+			long startTime = meterRegistry.config().clock().monotonicTime();
+
+			try {
+
+				Object result = invocation.proceed();
+
+				recordExecution(meterRegistry, method, SUCCESS_OUTCOME, startTime);
+				resolveResultsSummary(meterRegistry, method).record(resultSize(result));
+
+				return result;
+			}
+			catch (Throwable cause) {
+
+				String outcome = isTimeout(cause) ? TIMEOUT_OUTCOME : ERROR_OUTCOME;
+
+				recordExecution(meterRegistry, method, outcome, startTime);
+				resolveFailureCounter(meterRegistry, method, outcome, cause).increment();
+
+				throw cause;
+			}
+		}
+
+		private void recordExecution(MeterRegistry meterRegistry, Method method, String outcome, long startTime) {
+
+			resolveExecutionTimer(meterRegistry, method, outcome)
+				.record(meterRegistry.config().clock().monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+		}
+
+		@NonNull Timer resolveExecutionTimer(@NonNull MeterRegistry meterRegistry, @NonNull Method method,
+				@NonNull String outcome) {
+
+			return (Timer) resolveMeters(method).computeIfAbsent(outcome,
+				key -> Timer.builder(FUNCTION_EXECUTIONS_METER_NAME)
+					.description("Time taken to execute a Function")
+					.tags(resolveTags(method))
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+
+		@NonNull DistributionSummary resolveResultsSummary(@NonNull MeterRegistry meterRegistry,
+				@NonNull Method method) {
+
+			return (DistributionSummary) resolveMeters(method).computeIfAbsent(FUNCTION_RESULTS_METER_NAME,
+				key -> DistributionSummary.builder(FUNCTION_RESULTS_METER_NAME)
+					.description("Number of results returned by a Function execution")
+					.baseUnit("results")
+					.tags(resolveTags(method))
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+
+		@NonNull Counter resolveFailureCounter(@NonNull MeterRegistry meterRegistry, @NonNull Method method,
+				@NonNull String outcome, @NonNull Throwable cause) {
+
+			boolean timeout = TIMEOUT_OUTCOME.equals(outcome);
+
+			String meterName = timeout ? FUNCTION_TIMEOUTS_METER_NAME : FUNCTION_ERRORS_METER_NAME;
+			String exception = cause.getClass().getSimpleName();
+
+			return (Counter) resolveMeters(method).computeIfAbsent(meterName + "." + exception,
+				key -> Counter.builder(meterName)
+					.description(timeout ? "Number of timed out Function executions"
+						: "Number of failed Function executions")
+					.tags(resolveTags(method))
+					.tag("exception", exception)
+					.register(meterRegistry));
+		}
+
+		private Map<String, Meter> resolveMeters(Method method) {
+			return this.methodMeters.computeIfAbsent(method, it -> new ConcurrentHashMap<>());
+		}
+
+		private Tags resolveTags(Method method) {
+			return this.methodTags.computeIfAbsent(method, this::newTags);
+		}
+
+		private Tags newTags(Method method) {
+
+			FunctionId functionId = AnnotatedElementUtils.findMergedAnnotation(method, FunctionId.class);
+
+			String functionName = functionId != null && StringUtils.hasText(functionId.value())
+				? functionId.value()
+				: method.getName();
+
+			return Tags.of("function", functionName, "interface", method.getDeclaringClass().getSimpleName());
+		}
+
+		boolean isTimeout(@Nullable Throwable cause) {
+
+			for (Throwable throwable = cause; throwable != null; throwable = throwable.getCause()) {
+				if (throwable instanceof TimeoutException
+					|| throwable instanceof SocketTimeoutException
+					|| throwable.getClass().getSimpleName().endsWith("TimeoutException")) {
+
+					return true;
+				}
+
+				if (throwable.getCause() == throwable) {
+					break;
+				}
+			}
+
+			return false;
+		}
+
+		long resultSize(@Nullable Object result) {
+
+			if (result == null) {
+				return 0L;
+			}
+			else if (result instanceof Collection) {
+				return ((Collection<?>) result).size();
+			}
+			else if (result instanceof Map) {
+				return ((Map<?, ?>) result).size();
+			}
+			else if (result.getClass().isArray()) {
+				return Array.getLength(result);
+			}
+
+			return 1L;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqServiceStatistics;
+import org.apache.geode.cache.query.CqStatistics;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Micrometer {@link MeterBinder} binding the {@link CqServiceStatistics} and {@link CqStatistics}
+ * of the {@link CqQuery Continuous Queries} registered by the {@link ContinuousQueryListenerContainer}
+ * as {@link io.micrometer.core.instrument.Meter Meters}.
+ *
+ * <ul>
+ *   <li>{@literal gemfire.cqs} - {@link Gauge} of the number of CQs, tagged with the {@literal state}
+ *   ({@literal active}, {@literal stopped} or {@literal on-client}).</li>
+ *   <li>{@literal gemfire.cqs.created} - {@link FunctionCounter} of the number of CQs created.</li>
+ *   <li>{@literal gemfire.cqs.closed} - {@link FunctionCounter} of the number of CQs closed.</li>
+ *   <li>{@literal gemfire.cq.events} - {@link FunctionCounter} of the number of CQ events received by all CQs,
+ *   tagged with the event {@literal type} ({@literal insert}, {@literal update}, {@literal delete}
+ *   or {@literal all}).</li>
+ *   <li>{@literal gemfire.cq.listener.events} - {@link FunctionCounter} of the number of CQ events dispatched to
+ *   and processed by the listeners, tagged with the {@literal state} ({@literal dispatched} or
+ *   {@literal processed}).</li>
+ *   <li>{@literal gemfire.cq.listener.backlog} - {@link Gauge} of the number of CQ events waiting to be processed
+ *   by the listeners.</li>
+ *   <li>{@literal gemfire.cq.listener.processing} - {@link FunctionTimer} of the time the listeners spent
+ *   processing CQ events.</li>
+ *   <li>{@literal gemfire.cq.listener.queue} - {@link FunctionTimer} of the time CQ events waited to be processed
+ *   by the listeners.</li>
+ * </ul>
+ *
+ * The listener {@link io.micrometer.core.instrument.Meter Meters} are only recorded when
+ * a {@link ContinuousQueryListenerMonitor} is installed on the {@link ContinuousQueryListenerContainer}.
+ *
+ * CQs are typically registered when the {@link ContinuousQueryListenerContainer} starts, after the
+ * {@link MeterBinder} was bound, therefore the CQ event counts are summed over all CQs registered
+ * at the time the {@link io.micrometer.core.instrument.Meter Meters} are read.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.query.CqServiceStatistics
+ * @see org.apache.geode.cache.query.CqStatistics
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor
+ * @since 2.0.0
+ */
+public class GeodeContinuousQueryMetrics implements MeterBinder {
+
+	public static final String CQ_EVENTS_METER_NAME = "gemfire.cq.events";
+	public static final String CQ_LISTENER_BACKLOG_METER_NAME = "gemfire.cq.listener.backlog";
+	public static final String CQ_LISTENER_EVENTS_METER_NAME = "gemfire.cq.listener.events";
+	public static final String CQ_LISTENER_PROCESSING_METER_NAME = "gemfire.cq.listener.processing";
+	public static final String CQ_LISTENER_QUEUE_METER_NAME = "gemfire.cq.listener.queue";
+	public static final String CQS_CLOSED_METER_NAME = "gemfire.cqs.closed";
+	public static final String CQS_CREATED_METER_NAME = "gemfire.cqs.created";
+	public static final String CQS_METER_NAME = "gemfire.cqs";
+
+	private final ContinuousQueryListenerContainer continuousQueryListenerContainer;
+
+	/**
+	 * Constructs a new instance of {@link GeodeContinuousQueryMetrics} initialized with the given
+	 * {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @param continuousQueryListenerContainer {@link ContinuousQueryListenerContainer} registering the CQs;
+	 * may be {@literal null}, in which case no {@link io.micrometer.core.instrument.Meter Meters} are bound.
+	 */
+	public GeodeContinuousQueryMetrics(@Nullable ContinuousQueryListenerContainer continuousQueryListenerContainer) {
+		this.continuousQueryListenerContainer = continuousQueryListenerContainer;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link ContinuousQueryListenerContainer}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link ContinuousQueryListenerContainer}.
+	 */
+	protected Optional<ContinuousQueryListenerContainer> getContinuousQueryListenerContainer() {
+		return Optional.ofNullable(this.continuousQueryListenerContainer);
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+
+		getContinuousQueryListenerContainer().ifPresent(container -> {
+
+			Gauge.builder(CQS_METER_NAME, container, serviceStatistic(CqServiceStatistics::numCqsActive))
+				.description("Number of CQs")
+				.tag("state", "active")
+				.register(registry);
+
+			Gauge.builder(CQS_METER_NAME, container, serviceStatistic(CqServiceStatistics::numCqsStopped))
+				.description("Number of CQs")
+				.tag("state", "stopped")
+				.register(registry);
+
+			Gauge.builder(CQS_METER_NAME, container, serviceStatistic(CqServiceStatistics::numCqsOnClient))
+				.description("Number of CQs")
+				.tag("state", "on-client")
+				.register(registry);
+
+			FunctionCounter.builder(CQS_CREATED_METER_NAME, container,
+					serviceStatistic(CqServiceStatistics::numCqsCreated))
+				.description("Number of CQs created")
+				.register(registry);
+
+			FunctionCounter.builder(CQS_CLOSED_METER_NAME, container,
+					serviceStatistic(CqServiceStatistics::numCqsClosed))
+				.description("Number of CQs closed")
+				.register(registry);
+
+			bindEventCounter(registry, container, "all", CqStatistics::numEvents);
+			bindEventCounter(registry, container, "delete", CqStatistics::numDeletes);
+			bindEventCounter(registry, container, "insert", CqStatistics::numInserts);
+			bindEventCounter(registry, container, "update", CqStatistics::numUpdates);
+
+			bindListenerMeters(registry, container);
+		});
+	}
+
+	private void bindListenerMeters(MeterRegistry registry, ContinuousQueryListenerContainer container) {
+
+		FunctionCounter.builder(CQ_LISTENER_EVENTS_METER_NAME, container,
+				listenerStatistic(ContinuousQueryListenerMonitor::getDispatchedEventCount)::applyAsLong)
+			.description("Number of CQ events dispatched to the listeners")
+			.tag("state", "dispatched")
+			.register(registry);
+
+		FunctionCounter.builder(CQ_LISTENER_EVENTS_METER_NAME, container,
+				listenerStatistic(ContinuousQueryListenerMonitor::getProcessedEventCount)::applyAsLong)
+			.description("Number of CQ events processed by the listeners")
+			.tag("state", "processed")
+			.register(registry);
+
+		Gauge.builder(CQ_LISTENER_BACKLOG_METER_NAME, container,
+				it -> ContinuousQueryListenerMonitor.from(it)
+					.map(ContinuousQueryListenerMonitor::getBacklog)
+					.map(Long::doubleValue)
+					.orElse(Double.NaN))
+			.description("Number of CQ events waiting to be processed by the listeners")
+			.baseUnit("events")
+			.register(registry);
+
+		FunctionTimer.builder(CQ_LISTENER_PROCESSING_METER_NAME, container,
+				listenerStatistic(ContinuousQueryListenerMonitor::getProcessedEventCount),
+				it -> ContinuousQueryListenerMonitor.from(it)
+					.map(monitor -> monitor.getTotalProcessingTime(TimeUnit.NANOSECONDS))
+					.orElse(0.0d),
+				TimeUnit.NANOSECONDS)
+			.description("Time taken by the listeners to process CQ events")
+			.register(registry);
+
+		FunctionTimer.builder(CQ_LISTENER_QUEUE_METER_NAME, container,
+				listenerStatistic(ContinuousQueryListenerMonitor::getStartedEventCount),
+				it -> ContinuousQueryListenerMonitor.from(it)
+					.map(monitor -> monitor.getTotalQueueTime(TimeUnit.NANOSECONDS))
+					.orElse(0.0d),
+				TimeUnit.NANOSECONDS)
+			.description("Time CQ events waited to be processed by the listeners")
+			.register(registry);
+	}
+
+	private void bindEventCounter(MeterRegistry registry, ContinuousQueryListenerContainer container, String type,
+			ToLongFunction<CqStatistics> function) {
+
+		FunctionCounter.builder(CQ_EVENTS_METER_NAME, container, it -> resolveQueryService(it)
+				.map(QueryService::getCqs)
+				.map(Arrays::stream)
+				.map(continuousQueries -> continuousQueries
+					.filter(Objects::nonNull)
+					.map(CqQuery::getStatistics)
+					.filter(Objects::nonNull)
+					.mapToLong(function)
+					.sum())
+				.orElse(0L))
+			.description("Number of events received by the CQs")
+			.tag("type", type)
+			.register(registry);
+	}
+
+	private ToLongFunction<ContinuousQueryListenerContainer> listenerStatistic(
+			ToLongFunction<ContinuousQueryListenerMonitor> function) {
+
+		return container -> ContinuousQueryListenerMonitor.from(container)
+			.map(function::applyAsLong)
+			.orElse(0L);
+	}
+
+	private Optional<QueryService> resolveQueryService(ContinuousQueryListenerContainer container) {
+		return Optional.ofNullable(container.getQueryService());
+	}
+
+	private ToDoubleFunction<ContinuousQueryListenerContainer> serviceStatistic(
+			ToLongFunction<CqServiceStatistics> function) {
+
+		return container -> resolveQueryService(container)
+			.map(QueryService::getCqStatistics)
+			.map(function::applyAsLong)
+			.map(Long::doubleValue)
+			.orElse(Double.NaN);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Optional;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Micrometer {@link MeterBinder} binding the {@link HotKeyTracker HotKeyTrackers} of the {@link Region Regions}
+ * tracked by the {@link HotKeyTrackingBeanPostProcessor} as {@link io.micrometer.core.instrument.Meter Meters}.
+ *
+ * <ul>
+ *   <li>{@literal gemfire.region.key.accesses} - {@link FunctionCounter} of the number of recorded key accesses,
+ *   tagged with the {@literal region} name.</li>
+ *   <li>{@literal gemfire.region.hot.keys} - {@link Gauge} of the estimated number of accesses of the top keys,
+ *   tagged with the {@literal region} name and the {@literal rank} of the key, from {@literal 1} to the number
+ *   of tracked top keys.</li>
+ * </ul>
+ *
+ * The keys themselves are not used as tags to bound the number of {@link io.micrometer.core.instrument.Meter Meters};
+ * the keys are exposed by the {@link org.springframework.geode.boot.actuate.endpoint.GeodeHotKeysEndpoint}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTracker
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor
+ * @since 2.0.0
+ */
+public class GeodeHotKeyMetrics implements MeterBinder {
+
+	public static final String HOT_KEYS_METER_NAME = "gemfire.region.hot.keys";
+	public static final String KEY_ACCESSES_METER_NAME = "gemfire.region.key.accesses";
+
+	private final HotKeyTrackingBeanPostProcessor hotKeyTrackingBeanPostProcessor;
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotKeyMetrics} initialized with the given
+	 * {@link HotKeyTrackingBeanPostProcessor}.
+	 *
+	 * @param hotKeyTrackingBeanPostProcessor {@link HotKeyTrackingBeanPostProcessor} tracking the hot keys;
+	 * may be {@literal null}, in which case no {@link io.micrometer.core.instrument.Meter Meters} are bound.
+	 */
+	public GeodeHotKeyMetrics(@Nullable HotKeyTrackingBeanPostProcessor hotKeyTrackingBeanPostProcessor) {
+		this.hotKeyTrackingBeanPostProcessor = hotKeyTrackingBeanPostProcessor;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link HotKeyTrackingBeanPostProcessor}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link HotKeyTrackingBeanPostProcessor}.
+	 */
+	protected Optional<HotKeyTrackingBeanPostProcessor> getHotKeyTrackingBeanPostProcessor() {
+		return Optional.ofNullable(this.hotKeyTrackingBeanPostProcessor);
+	}
+
+	/**
+	 * Binds the {@link io.micrometer.core.instrument.Meter Meters} of every tracked {@link Region}.
+	 *
+	 * {@link Region Regions} may be created after the {@link MeterBinder} was bound, therefore
+	 * the {@link HotKeyTracker} of each {@link Region} is resolved when the
+	 * {@link io.micrometer.core.instrument.Meter Meters} are read.
+	 *
+	 * @param registry {@link MeterRegistry} to bind the {@link io.micrometer.core.instrument.Meter Meters} to.
+	 */
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+
+		getHotKeyTrackingBeanPostProcessor().ifPresent(hotKeyTrackingBeanPostProcessor -> {
+
+			for (String regionName : hotKeyTrackingBeanPostProcessor.getRegionNames()) {
+
+				FunctionCounter.builder(KEY_ACCESSES_METER_NAME, hotKeyTrackingBeanPostProcessor,
+						it -> it.getHotKeyTracker(regionName).map(HotKeyTracker::getTotal).orElse(0L))
+					.description("Number of recorded Region key accesses")
+					.tag("region", regionName)
+					.register(registry);
+
+				for (int rank = 1; rank <= hotKeyTrackingBeanPostProcessor.getTopKeys(); rank++) {
+
+					int keyRank = rank;
+
+					Gauge.builder(HOT_KEYS_METER_NAME, hotKeyTrackingBeanPostProcessor,
+							it -> it.getHotKeyTracker(regionName)
+								.map(hotKeyTracker -> hotKeyTracker.getEstimatedCount(keyRank))
+								.orElse(0L))
+						.description("Estimated number of accesses of the most frequently accessed Region keys")
+						.baseUnit("accesses")
+						.tag("region", regionName)
+						.tag("rank", String.valueOf(keyRank))
+						.register(registry);
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.client.internal.PoolImpl;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer {@link MeterBinder} binding the configured Apache Geode client {@link Pool Pools}
+ * as {@link io.micrometer.core.instrument.Meter Meters} tagged with the {@literal pool} name.
+ *
+ * <ul>
+ *   <li>{@literal gemfire.pool.connections} - {@link Gauge} of the number of open connections.</li>
+ *   <li>{@literal gemfire.pool.connections.max} - {@link Gauge} of the maximum number of connections.</li>
+ *   <li>{@literal gemfire.pool.connections.min} - {@link Gauge} of the minimum number of connections.</li>
+ *   <li>{@literal gemfire.pool.locators.online} - {@link Gauge} of the number of online Locators.</li>
+ *   <li>{@literal gemfire.pool.pending.events} - {@link Gauge} of the number of events queued on the servers
+ *   for a durable client when the client connected.</li>
+ * </ul>
+ *
+ * {@link Pool#getPendingEventCount()} throws an {@link IllegalStateException} once the durable client is
+ * {@link ClientCache#readyForEvents() ready for events}, therefore the number of pending events is captured once,
+ * when the {@link Pool Pools} are bound, and not bound at all when the client is already ready for events.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.cache.client.PoolManager
+ * @since 2.0.0
+ */
+public class GeodePoolMetrics implements MeterBinder {
+
+	public static final String POOL_CONNECTIONS_MAX_METER_NAME = "gemfire.pool.connections.max";
+	public static final String POOL_CONNECTIONS_METER_NAME = "gemfire.pool.connections";
+	public static final String POOL_CONNECTIONS_MIN_METER_NAME = "gemfire.pool.connections.min";
+	public static final String POOL_LOCATORS_ONLINE_METER_NAME = "gemfire.pool.locators.online";
+	public static final String POOL_PENDING_EVENTS_METER_NAME = "gemfire.pool.pending.events";
+
+	private final ClientCache clientCache;
+
+	private final Supplier<Map<String, Pool>> poolsSupplier;
+
+	/**
+	 * Constructs a new instance of {@link GeodePoolMetrics} initialized with the given, required
+	 * {@link ClientCache}, instrumenting all {@link Pool Pools} registered with the {@link PoolManager}.
+	 *
+	 * @param clientCache {@link ClientCache} using the {@link Pool Pools}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ClientCache} is {@literal null}.
+	 */
+	public GeodePoolMetrics(@NonNull ClientCache clientCache) {
+		this(clientCache, PoolManager::getAll);
+	}
+
+	/**
+	 * Constructs a new instance of {@link GeodePoolMetrics} initialized with the given, required
+	 * {@link ClientCache} and {@link Supplier} of the {@link Pool Pools} to instrument.
+	 *
+	 * @param clientCache {@link ClientCache} using the {@link Pool Pools}; must not be {@literal null}.
+	 * @param poolsSupplier {@link Supplier} of the {@link Pool Pools} to instrument; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ClientCache} or {@link Supplier} is {@literal null}.
+	 */
+	public GeodePoolMetrics(@NonNull ClientCache clientCache, @NonNull Supplier<Map<String, Pool>> poolsSupplier) {
+
+		Assert.notNull(clientCache, "ClientCache must not be null");
+		Assert.notNull(poolsSupplier, "Pools Supplier must not be null");
+
+		this.clientCache = clientCache;
+		this.poolsSupplier = poolsSupplier;
+	}
+
+	/**
+	 * Returns the configured {@link ClientCache}.
+	 *
+	 * @return the configured {@link ClientCache}.
+	 */
+	protected @NonNull ClientCache getClientCache() {
+		return this.clientCache;
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+
+		boolean durable = CacheUtils.isDurable(getClientCache());
+
+		nullSafeMap(this.poolsSupplier.get()).values().stream()
+			.filter(Objects::nonNull)
+			.forEach(pool -> bindTo(registry, pool, durable));
+	}
+
+	private void bindTo(MeterRegistry registry, Pool pool, boolean durable) {
+
+		Tags tags = Tags.of("pool", pool.getName());
+
+		if (pool instanceof PoolImpl) {
+			Gauge.builder(POOL_CONNECTIONS_METER_NAME, (PoolImpl) pool,
+					it -> it.isDestroyed() ? Double.NaN : it.getConnectionCount())
+				.description("Number of open connections in the Pool")
+				.tags(tags)
+				.register(registry);
+		}
+
+		Gauge.builder(POOL_CONNECTIONS_MAX_METER_NAME, pool, Pool::getMaxConnections)
+			.description("Maximum number of connections in the Pool")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(POOL_CONNECTIONS_MIN_METER_NAME, pool, Pool::getMinConnections)
+			.description("Minimum number of connections in the Pool")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(POOL_LOCATORS_ONLINE_METER_NAME, pool,
+				it -> it.isDestroyed() ? Double.NaN : nullSafeList(it.getOnlineLocators()).size())
+			.description("Number of Locators the Pool is connected to")
+			.tags(tags)
+			.register(registry);
+
+		if (durable) {
+			resolvePendingEventCount(pool).ifPresent(pendingEventCount ->
+				Gauge.builder(POOL_PENDING_EVENTS_METER_NAME, () -> pendingEventCount)
+					.description("Number of events queued on the servers for the durable client when it connected")
+					.tags(tags)
+					.register(registry));
+		}
+	}
+
+	private Optional<Integer> resolvePendingEventCount(Pool pool) {
+
+		try {
+			return pool.isDestroyed() ? Optional.empty() : Optional.of(pool.getPendingEventCount());
+		}
+		catch (IllegalStateException ignore) {
+			// The durable client is already ready for events
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.LocalDataSet;
+
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator;
+import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer {@link MeterBinder} binding the {@link CacheStatistics} of the root {@link Region Regions}
+ * in the {@link GemFireCache} as {@link io.micrometer.core.instrument.Meter Meters} tagged with
+ * the {@literal region} path.
+ *
+ * The {@link CacheStatistics} are resolved with the {@link RegionStatisticsResolver}.  Only {@link Region Regions}
+ * with statistics enabled that exist when the {@link MeterBinder} is bound are instrumented.
+ *
+ * <ul>
+ *   <li>{@literal gemfire.region.hits} - {@link FunctionCounter} of {@link Region} hits.</li>
+ *   <li>{@literal gemfire.region.misses} - {@link FunctionCounter} of {@link Region} misses.</li>
+ *   <li>{@literal gemfire.region.hit.ratio} - {@link Gauge} of the {@link Region} hit ratio.</li>
+ *   <li>{@literal gemfire.region.last.accessed.time} - {@link Gauge} of the time the {@link Region}
+ *   was last accessed.</li>
+ *   <li>{@literal gemfire.region.last.modified.time} - {@link Gauge} of the time the {@link Region}
+ *   was last modified.</li>
+ * </ul>
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver
+ * @since 2.0.0
+ */
+public class GeodeRegionMetrics implements MeterBinder {
+
+	public static final String REGION_HIT_RATIO_METER_NAME = "gemfire.region.hit.ratio";
+	public static final String REGION_HITS_METER_NAME = "gemfire.region.hits";
+	public static final String REGION_LAST_ACCESSED_TIME_METER_NAME = "gemfire.region.last.accessed.time";
+	public static final String REGION_LAST_MODIFIED_TIME_METER_NAME = "gemfire.region.last.modified.time";
+	public static final String REGION_MISSES_METER_NAME = "gemfire.region.misses";
+
+	private final GemFireCache gemfireCache;
+
+	private final PartitionRegionStatisticsAggregator partitionRegionStatisticsAggregator;
+
+	/**
+	 * Constructs a new instance of {@link GeodeRegionMetrics} initialized with the given, required
+	 * {@link GemFireCache}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} containing the {@link Region Regions} to instrument;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is {@literal null}.
+	 */
+	public GeodeRegionMetrics(@NonNull GemFireCache gemfireCache) {
+		this(gemfireCache, null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link GeodeRegionMetrics} initialized with the given, required
+	 * {@link GemFireCache} and optional {@link PartitionRegionStatisticsAggregator} used to lookup
+	 * the {@link CacheStatistics} of partitioned {@link Region Regions}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} containing the {@link Region Regions} to instrument;
+	 * must not be {@literal null}.
+	 * @param partitionRegionStatisticsAggregator {@link PartitionRegionStatisticsAggregator} used to lookup
+	 * the {@link CacheStatistics} of partitioned {@link Region Regions}; may be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is {@literal null}.
+	 */
+	public GeodeRegionMetrics(@NonNull GemFireCache gemfireCache,
+			@Nullable PartitionRegionStatisticsAggregator partitionRegionStatisticsAggregator) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+
+		this.gemfireCache = gemfireCache;
+		this.partitionRegionStatisticsAggregator = partitionRegionStatisticsAggregator;
+	}
+
+	/**
+	 * Returns the configured {@link GemFireCache}.
+	 *
+	 * @return the configured {@link GemFireCache}.
+	 */
+	protected @NonNull GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	/**
+	 * Returns the configured {@link PartitionRegionStatisticsAggregator}, if any.
+	 *
+	 * @return the configured {@link PartitionRegionStatisticsAggregator}; may be {@literal null}.
+	 */
+	protected @Nullable PartitionRegionStatisticsAggregator getPartitionRegionStatisticsAggregator() {
+		return this.partitionRegionStatisticsAggregator;
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+
+		Set<Region<?, ?>> rootRegions = Optional.ofNullable(getGemFireCache().rootRegions())
+			.orElseGet(Collections::emptySet);
+
+		rootRegions.stream()
+			.filter(Objects::nonNull)
+			.filter(this::isStatisticsEnabled)
+			.forEach(region -> bindTo(registry, region));
+	}
+
+	private void bindTo(MeterRegistry registry, Region<?, ?> region) {
+
+		Tags tags = Tags.of("region", region.getFullPath());
+
+		FunctionCounter.builder(REGION_HITS_METER_NAME, region, statistic(CacheStatistics::getHitCount))
+			.description("Number of hits on the Region")
+			.tags(tags)
+			.register(registry);
+
+		FunctionCounter.builder(REGION_MISSES_METER_NAME, region, statistic(CacheStatistics::getMissCount))
+			.description("Number of misses on the Region")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(REGION_HIT_RATIO_METER_NAME, region, statistic(CacheStatistics::getHitRatio))
+			.description("Ratio of hits to hits and misses on the Region")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(REGION_LAST_ACCESSED_TIME_METER_NAME, region, statistic(CacheStatistics::getLastAccessedTime))
+			.description("Time the Region was last accessed")
+			.tags(tags)
+			.register(registry);
+
+		Gauge.builder(REGION_LAST_MODIFIED_TIME_METER_NAME, region, statistic(CacheStatistics::getLastModifiedTime))
+			.description("Time the Region was last modified")
+			.tags(tags)
+			.register(registry);
+	}
+
+	private ToDoubleFunction<Region<?, ?>> statistic(ToDoubleFunction<CacheStatistics> function) {
+
+		return region -> {
+
+			if (!region.isDestroyed()) {
+
+				CacheStatistics statistics =
+					RegionStatisticsResolver.resolve(region, getPartitionRegionStatisticsAggregator());
+
+				if (statistics != null) {
+					return function.applyAsDouble(statistics);
+				}
+			}
+
+			return Double.NaN;
+		};
+	}
+
+	private boolean isStatisticsEnabled(Region<?, ?> region) {
+
+		return !(region instanceof LocalDataSet)
+			&& region.getAttributes() != null
+			&& region.getAttributes().getStatisticsEnabled();
+	}
+}
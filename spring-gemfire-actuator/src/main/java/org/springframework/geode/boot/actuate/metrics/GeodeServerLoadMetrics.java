@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerMetrics;
+
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+import org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Micrometer {@link MeterBinder} binding the {@link ServerLoad} and {@link ServerMetrics} captured by
+ * the {@link ActuatorServerLoadProbeWrapper} as {@link io.micrometer.core.instrument.Meter Meters}.
+ *
+ * <ul>
+ *   <li>{@literal gemfire.server.load.connection} - {@link Gauge} of the connection load.</li>
+ *   <li>{@literal gemfire.server.load.connection.per-connection} - {@link Gauge} of the load added
+ *   by each additional connection.</li>
+ *   <li>{@literal gemfire.server.load.subscription} - {@link Gauge} of the subscription connection load.</li>
+ *   <li>{@literal gemfire.server.load.subscription.per-connection} - {@link Gauge} of the load added
+ *   by each additional subscription connection.</li>
+ *   <li>{@literal gemfire.server.clients} - {@link Gauge} of the number of connected clients.</li>
+ *   <li>{@literal gemfire.server.connections} - {@link Gauge} of the number of client connections.</li>
+ *   <li>{@literal gemfire.server.connections.max} - {@link Gauge} of the maximum number of client connections.</li>
+ *   <li>{@literal gemfire.server.subscription.connections} - {@link Gauge} of the number of
+ *   subscription connections.</li>
+ *   <li>{@literal gemfire.server.load.rolling} - {@link Gauge} of the 50th, 90th and 99th {@literal percentile}
+ *   of each recently sampled {@literal series} (connection load, subscription connection load
+ *   and client count).</li>
+ *   <li>{@literal gemfire.server.load.rate} - {@link Gauge} of the rate of change per second of each recently
+ *   sampled {@literal series}.</li>
+ * </ul>
+ *
+ * The {@link Gauge Gauges} report {@link Double#NaN} until the server has been probed for its load.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.cache.server.ServerLoad
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @see org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer
+ * @since 2.0.0
+ */
+public class GeodeServerLoadMetrics implements MeterBinder {
+
+	public static final String SERVER_CLIENTS_METER_NAME = "gemfire.server.clients";
+	public static final String SERVER_CONNECTIONS_MAX_METER_NAME = "gemfire.server.connections.max";
+	public static final String SERVER_CONNECTIONS_METER_NAME = "gemfire.server.connections";
+	public static final String SERVER_LOAD_CONNECTION_METER_NAME = "gemfire.server.load.connection";
+	public static final String SERVER_LOAD_CONNECTION_PER_CONNECTION_METER_NAME =
+		"gemfire.server.load.connection.per-connection";
+	public static final String SERVER_LOAD_RATE_METER_NAME = "gemfire.server.load.rate";
+	public static final String SERVER_LOAD_ROLLING_METER_NAME = "gemfire.server.load.rolling";
+	public static final String SERVER_LOAD_SUBSCRIPTION_METER_NAME = "gemfire.server.load.subscription";
+	public static final String SERVER_LOAD_SUBSCRIPTION_PER_CONNECTION_METER_NAME =
+		"gemfire.server.load.subscription.per-connection";
+	public static final String SERVER_SUBSCRIPTION_CONNECTIONS_METER_NAME = "gemfire.server.subscription.connections";
+
+	private static final double[] ROLLING_PERCENTILES = { 0.5d, 0.9d, 0.99d };
+
+	private final ActuatorServerLoadProbeWrapper serverLoadProbe;
+
+	/**
+	 * Constructs a new instance of {@link GeodeServerLoadMetrics} initialized with the given
+	 * {@link ActuatorServerLoadProbeWrapper}.
+	 *
+	 * @param serverLoadProbe {@link ActuatorServerLoadProbeWrapper} capturing the {@link ServerMetrics};
+	 * may be {@literal null}, in which case no {@link io.micrometer.core.instrument.Meter Meters} are bound.
+	 */
+	public GeodeServerLoadMetrics(@Nullable ActuatorServerLoadProbeWrapper serverLoadProbe) {
+		this.serverLoadProbe = serverLoadProbe;
+	}
+
+	/**
+	 * Returns the configured {@link ActuatorServerLoadProbeWrapper}, if any.
+	 *
+	 * @return the configured {@link ActuatorServerLoadProbeWrapper}; may be {@literal null}.
+	 */
+	protected @Nullable ActuatorServerLoadProbeWrapper getServerLoadProbe() {
+		return this.serverLoadProbe;
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+
+		ActuatorServerLoadProbeWrapper serverLoadProbe = getServerLoadProbe();
+
+		if (serverLoadProbe != null) {
+
+			bindServerLoadGauge(registry, serverLoadProbe, SERVER_LOAD_CONNECTION_METER_NAME,
+				"Connection load of the server", ServerLoad::getConnectionLoad);
+
+			bindServerLoadGauge(registry, serverLoadProbe, SERVER_LOAD_CONNECTION_PER_CONNECTION_METER_NAME,
+				"Load added by each additional connection to the server", ServerLoad::getLoadPerConnection);
+
+			bindServerLoadGauge(registry, serverLoadProbe, SERVER_LOAD_SUBSCRIPTION_METER_NAME,
+				"Subscription connection load of the server", ServerLoad::getSubscriptionConnectionLoad);
+
+			bindServerLoadGauge(registry, serverLoadProbe, SERVER_LOAD_SUBSCRIPTION_PER_CONNECTION_METER_NAME,
+				"Load added by each additional subscription connection to the server",
+					ServerLoad::getLoadPerSubscriptionConnection);
+
+			bindServerMetricsGauge(registry, serverLoadProbe, SERVER_CLIENTS_METER_NAME,
+				"Number of clients connected to the server", ServerMetrics::getClientCount);
+
+			bindServerMetricsGauge(registry, serverLoadProbe, SERVER_CONNECTIONS_METER_NAME,
+				"Number of client connections to the server", ServerMetrics::getConnectionCount);
+
+			bindServerMetricsGauge(registry, serverLoadProbe, SERVER_CONNECTIONS_MAX_METER_NAME,
+				"Maximum number of client connections to the server", ServerMetrics::getMaxConnections);
+
+			bindServerMetricsGauge(registry, serverLoadProbe, SERVER_SUBSCRIPTION_CONNECTIONS_METER_NAME,
+				"Number of subscription connections to the server", ServerMetrics::getSubscriptionConnectionCount);
+
+			for (ServerLoadSampleBuffer.Series series : ServerLoadSampleBuffer.Series.values()) {
+
+				for (double percentile : ROLLING_PERCENTILES) {
+					Gauge.builder(SERVER_LOAD_ROLLING_METER_NAME, serverLoadProbe,
+							it -> it.getServerLoadSamples().percentile(series, percentile))
+						.description("Percentile of the recently sampled server load")
+						.tag("series", series.getName())
+						.tag("percentile", String.valueOf(percentile))
+						.register(registry);
+				}
+
+				Gauge.builder(SERVER_LOAD_RATE_METER_NAME, serverLoadProbe,
+						it -> it.getServerLoadSamples().rate(series))
+					.description("Rate of change per second of the recently sampled server load")
+					.tag("series", series.getName())
+					.register(registry);
+			}
+		}
+	}
+
+	private void bindServerLoadGauge(MeterRegistry registry, ActuatorServerLoadProbeWrapper serverLoadProbe,
+			String name, String description, ToDoubleFunction<ServerLoad> function) {
+
+		Gauge.builder(name, serverLoadProbe, it -> it.getCurrentServerLoad()
+				.map(function::applyAsDouble)
+				.orElse(Double.NaN))
+			.description(description)
+			.register(registry);
+	}
+
+	private void bindServerMetricsGauge(MeterRegistry registry, ActuatorServerLoadProbeWrapper serverLoadProbe,
+			String name, String description, ToDoubleFunction<ServerMetrics> function) {
+
+		Gauge.builder(name, serverLoadProbe, it -> it.getCurrentServerMetrics()
+				.map(function::applyAsDouble)
+				.orElse(Double.NaN))
+			.description(description)
+			.register(registry);
+	}
+}
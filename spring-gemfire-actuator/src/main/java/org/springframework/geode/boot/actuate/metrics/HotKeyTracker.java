@@ -0,0 +1,384 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link HotKeyTracker} class tracks the most frequently accessed keys of a {@link org.apache.geode.cache.Region}
+ * in bounded memory.
+ *
+ * Access frequencies are estimated with a count-min sketch and the keys with the highest estimated frequencies
+ * are kept in a fixed number of slots.  The sketch is a preallocated, fixed-size array.  Recording an access of a key
+ * that is already tracked only raises the key's count with a compare-and-set and does not allocate any objects.
+ * The tracker only synchronizes when a key that is not tracked may become one of the top keys, in which case
+ * the least frequently accessed tracked key is found by scanning the slots.
+ *
+ * The estimated frequencies never under count the accesses of a key, but may over count them when keys collide
+ * in the sketch.  The {@link #getTotal() total} number of recorded key accesses is never reset, while
+ * the {@link #getWindowTotal() window total} counts the key accesses recorded since the last {@link #reset()}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @since 2.0.0
+ */
+public class HotKeyTracker {
+
+	public static final int DEFAULT_SKETCH_DEPTH = 4;
+	public static final int DEFAULT_SKETCH_WIDTH = 1024;
+	public static final int DEFAULT_TOP_KEYS = 10;
+
+	private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F, 0x165667B1, 0xD3A2646C,
+		0xFD7046C5, 0xB55A4F09 };
+
+	private final AtomicLongArray[] sketch;
+
+	private final ConcurrentMap<Object, TrackedKey> trackedKeysByKey = new ConcurrentHashMap<>();
+
+	private final int mask;
+
+	private volatile long threshold;
+
+	private final long[] rankedCounts;
+
+	private final LongAdder total = new LongAdder();
+	private final LongAdder windowTotal = new LongAdder();
+
+	private final TrackedKey[] trackedKeys;
+
+	private int trackedKeyCount;
+
+	/**
+	 * Constructs a new instance of {@link HotKeyTracker} tracking the {@link #DEFAULT_TOP_KEYS} most frequently
+	 * accessed keys with a sketch of the default width and depth.
+	 */
+	public HotKeyTracker() {
+		this(DEFAULT_TOP_KEYS, DEFAULT_SKETCH_WIDTH, DEFAULT_SKETCH_DEPTH);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HotKeyTracker} tracking the given number of most frequently accessed keys
+	 * with a sketch of the given width and depth.
+	 *
+	 * @param topKeys number of most frequently accessed keys to track; must be greater than {@literal 0}.
+	 * @param sketchWidth number of counters per row of the sketch, rounded up to a power of 2;
+	 * must be greater than {@literal 0}.
+	 * @param sketchDepth number of rows of the sketch; must be between {@literal 1} and {@literal 8}.
+	 * @throws IllegalArgumentException if any argument is out of range.
+	 */
+	public HotKeyTracker(int topKeys, int sketchWidth, int sketchDepth) {
+
+		Assert.isTrue(topKeys > 0, () -> String.format("Top keys [%d] must be greater than 0", topKeys));
+		Assert.isTrue(sketchWidth > 0, () -> String.format("Sketch width [%d] must be greater than 0", sketchWidth));
+		Assert.isTrue(sketchDepth > 0 && sketchDepth <= SEEDS.length,
+			() -> String.format("Sketch depth [%d] must be between 1 and %d", sketchDepth, SEEDS.length));
+
+		int width = Integer.highestOneBit(sketchWidth);
+
+		width = width < sketchWidth ? width << 1 : width;
+
+		this.mask = width - 1;
+		this.sketch = new AtomicLongArray[sketchDepth];
+
+		for (int row = 0; row < sketchDepth; row++) {
+			this.sketch[row] = new AtomicLongArray(width);
+		}
+
+		this.rankedCounts = new long[topKeys];
+		this.trackedKeys = new TrackedKey[topKeys];
+	}
+
+	/**
+	 * Returns the number of most frequently accessed keys tracked.
+	 *
+	 * @return the number of most frequently accessed keys tracked.
+	 */
+	public int getTopKeys() {
+		return this.trackedKeys.length;
+	}
+
+	/**
+	 * Returns the number of counters per row of the sketch.
+	 *
+	 * @return the number of counters per row of the sketch.
+	 */
+	public int getSketchWidth() {
+		return this.mask + 1;
+	}
+
+	/**
+	 * Returns the number of rows of the sketch.
+	 *
+	 * @return the number of rows of the sketch.
+	 */
+	public int getSketchDepth() {
+		return this.sketch.length;
+	}
+
+	/**
+	 * Returns the total number of recorded key accesses.  The total is not cleared by {@link #reset()}.
+	 *
+	 * @return the total number of recorded key accesses.
+	 */
+	public long getTotal() {
+		return this.total.sum();
+	}
+
+	/**
+	 * Returns the number of key accesses recorded since the last {@link #reset()}.
+	 *
+	 * @return the number of key accesses recorded since the last {@link #reset()}.
+	 */
+	public long getWindowTotal() {
+		return this.windowTotal.sum();
+	}
+
+	/**
+	 * Records an access of the given key.
+	 *
+	 * @param key key that was accessed; {@literal null} keys are ignored.
+	 */
+	public void record(@Nullable Object key) {
+
+		if (key != null) {
+
+			int hash = key.hashCode();
+
+			long estimate = Long.MAX_VALUE;
+
+			for (int row = 0; row < this.sketch.length; row++) {
+				estimate = Math.min(estimate, this.sketch[row].incrementAndGet(index(hash, row)));
+			}
+
+			this.total.increment();
+			this.windowTotal.increment();
+
+			if (estimate > this.threshold) {
+				offer(key, estimate);
+			}
+		}
+	}
+
+	/**
+	 * Returns the estimated number of accesses of the given key.
+	 *
+	 * @param key key to evaluate.
+	 * @return the estimated number of accesses of the given key, or {@literal 0} if the key is {@literal null}.
+	 */
+	public long estimate(@Nullable Object key) {
+
+		if (key == null) {
+			return 0L;
+		}
+
+		int hash = key.hashCode();
+
+		long estimate = Long.MAX_VALUE;
+
+		for (int row = 0; row < this.sketch.length; row++) {
+			estimate = Math.min(estimate, this.sketch[row].get(index(hash, row)));
+		}
+
+		return estimate;
+	}
+
+	private int index(int hash, int row) {
+
+		int mixed = (hash ^ SEEDS[row]) * 0x85EBCA6B;
+
+		mixed ^= mixed >>> 13;
+		mixed *= 0xC2B2AE35;
+		mixed ^= mixed >>> 16;
+
+		return mixed & this.mask;
+	}
+
+	private void offer(Object key, long estimate) {
+
+		TrackedKey trackedKey = this.trackedKeysByKey.get(key);
+
+		if (trackedKey != null) {
+			trackedKey.raise(estimate);
+		}
+		else {
+			track(key, estimate);
+		}
+	}
+
+	private synchronized void track(Object key, long estimate) {
+
+		TrackedKey trackedKey = this.trackedKeysByKey.get(key);
+
+		if (trackedKey != null) {
+			trackedKey.raise(estimate);
+		}
+		else if (this.trackedKeyCount < this.trackedKeys.length) {
+			this.trackedKeys[this.trackedKeyCount++] = newTrackedKey(key, estimate);
+		}
+		else {
+
+			int index = indexOfLeastFrequentlyAccessedKey();
+
+			if (estimate > this.trackedKeys[index].getCount()) {
+				this.trackedKeysByKey.remove(this.trackedKeys[index].getKey());
+				this.trackedKeys[index] = newTrackedKey(key, estimate);
+			}
+		}
+
+		this.threshold = this.trackedKeyCount < this.trackedKeys.length ? 0L
+			: this.trackedKeys[indexOfLeastFrequentlyAccessedKey()].getCount();
+	}
+
+	private TrackedKey newTrackedKey(Object key, long estimate) {
+
+		TrackedKey trackedKey = new TrackedKey(key, estimate);
+
+		this.trackedKeysByKey.put(key, trackedKey);
+
+		return trackedKey;
+	}
+
+	private int indexOfLeastFrequentlyAccessedKey() {
+
+		int leastFrequentlyAccessedIndex = 0;
+
+		for (int index = 1; index < this.trackedKeyCount; index++) {
+			if (this.trackedKeys[index].getCount() < this.trackedKeys[leastFrequentlyAccessedIndex].getCount()) {
+				leastFrequentlyAccessedIndex = index;
+			}
+		}
+
+		return leastFrequentlyAccessedIndex;
+	}
+
+	/**
+	 * Returns the estimated number of accesses of the top key at the given rank.
+	 *
+	 * @param rank rank of the top key, where {@literal 1} is the most frequently accessed key.
+	 * @return the estimated number of accesses of the top key at the given rank, or {@literal 0}
+	 * if fewer keys were tracked.
+	 */
+	public synchronized long getEstimatedCount(int rank) {
+
+		if (rank < 1 || rank > this.trackedKeyCount) {
+			return 0L;
+		}
+
+		for (int index = 0; index < this.trackedKeyCount; index++) {
+			this.rankedCounts[index] = this.trackedKeys[index].getCount();
+		}
+
+		Arrays.sort(this.rankedCounts, 0, this.trackedKeyCount);
+
+		return this.rankedCounts[this.trackedKeyCount - rank];
+	}
+
+	/**
+	 * Returns the tracked, most frequently accessed keys, ordered from most to least frequently accessed.
+	 *
+	 * @return the tracked, most frequently accessed keys.
+	 * @see HotKey
+	 */
+	public @NonNull List<HotKey> getHotKeys() {
+
+		List<HotKey> hotKeys = new ArrayList<>(getTopKeys());
+
+		synchronized (this) {
+			for (int index = 0; index < this.trackedKeyCount; index++) {
+				hotKeys.add(new HotKey(this.trackedKeys[index].getKey(), this.trackedKeys[index].getCount()));
+			}
+		}
+
+		hotKeys.sort(Comparator.comparingLong(HotKey::getEstimatedCount).reversed());
+
+		return hotKeys;
+	}
+
+	/**
+	 * Clears all recorded key accesses, except for the {@link #getTotal() total} number of recorded key accesses.
+	 */
+	public synchronized void reset() {
+
+		for (AtomicLongArray row : this.sketch) {
+			for (int index = 0; index < row.length(); index++) {
+				row.set(index, 0L);
+			}
+		}
+
+		Arrays.fill(this.trackedKeys, null);
+
+		this.trackedKeysByKey.clear();
+		this.trackedKeyCount = 0;
+		this.threshold = 0L;
+		this.windowTotal.reset();
+	}
+
+	/**
+	 * A tracked key together with its estimated number of accesses, which is only ever raised.
+	 */
+	static class TrackedKey {
+
+		private final AtomicLong count;
+
+		private final Object key;
+
+		TrackedKey(@NonNull Object key, long count) {
+			this.key = key;
+			this.count = new AtomicLong(count);
+		}
+
+		long getCount() {
+			return this.count.get();
+		}
+
+		@NonNull Object getKey() {
+			return this.key;
+		}
+
+		void raise(long estimate) {
+
+			long count = this.count.get();
+
+			while (estimate > count && !this.count.compareAndSet(count, estimate)) {
+				count = this.count.get();
+			}
+		}
+	}
+
+	/**
+	 * A tracked key together with its estimated number of accesses.
+	 */
+	public static class HotKey {
+
+		private final long estimatedCount;
+
+		private final Object key;
+
+		HotKey(@NonNull Object key, long estimatedCount) {
+			this.key = key;
+			this.estimatedCount = estimatedCount;
+		}
+
+		public @NonNull Object getKey() {
+			return this.key;
+		}
+
+		public long getEstimatedCount() {
+			return this.estimatedCount;
+		}
+	}
+}
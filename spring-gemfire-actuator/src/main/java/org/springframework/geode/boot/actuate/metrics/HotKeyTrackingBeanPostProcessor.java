@@ -0,0 +1,240 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link BeanPostProcessor} decorating the selected client {@link Region} beans with a proxy recording
+ * the keys accessed by {@link Region} data access operations in a {@link HotKeyTracker}.
+ *
+ * {@link Region Regions} are selected by {@link Region#getName() name}.  A {@link HotKeyTracker} is created
+ * for each selected {@link Region}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTracker
+ * @since 2.0.0
+ */
+public class HotKeyTrackingBeanPostProcessor implements BeanPostProcessor {
+
+	private final int sketchDepth;
+	private final int sketchWidth;
+	private final int topKeys;
+
+	private final Map<String, HotKeyTracker> hotKeyTrackers = new ConcurrentHashMap<>();
+
+	private final Set<String> regionNames;
+
+	/**
+	 * Constructs a new instance of {@link HotKeyTrackingBeanPostProcessor} tracking the hot keys
+	 * of the {@link Region Regions} with the given {@link String names} with the default {@link HotKeyTracker}
+	 * configuration.
+	 *
+	 * @param regionNames {@link Collection} of {@link Region} {@link String names} to track;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+	 */
+	public HotKeyTrackingBeanPostProcessor(@NonNull Collection<String> regionNames) {
+		this(regionNames, HotKeyTracker.DEFAULT_TOP_KEYS, HotKeyTracker.DEFAULT_SKETCH_WIDTH,
+			HotKeyTracker.DEFAULT_SKETCH_DEPTH);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HotKeyTrackingBeanPostProcessor} tracking the hot keys
+	 * of the {@link Region Regions} with the given {@link String names}.
+	 *
+	 * @param regionNames {@link Collection} of {@link Region} {@link String names} to track;
+	 * must not be {@literal null}.
+	 * @param topKeys number of most frequently accessed keys tracked per {@link Region}.
+	 * @param sketchWidth number of counters per row of the sketch of each {@link HotKeyTracker}.
+	 * @param sketchDepth number of rows of the sketch of each {@link HotKeyTracker}.
+	 * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+	 * @see HotKeyTracker#HotKeyTracker(int, int, int)
+	 */
+	public HotKeyTrackingBeanPostProcessor(@NonNull Collection<String> regionNames, int topKeys, int sketchWidth,
+			int sketchDepth) {
+
+		Assert.notNull(regionNames, "Region names must not be null");
+
+		this.regionNames = Collections.unmodifiableSet(new LinkedHashSet<>(regionNames));
+		this.topKeys = topKeys;
+		this.sketchWidth = sketchWidth;
+		this.sketchDepth = sketchDepth;
+
+		// Validate the HotKeyTracker configuration eagerly
+		newHotKeyTracker();
+	}
+
+	/**
+	 * Returns the {@link String names} of the tracked {@link Region Regions}.
+	 *
+	 * @return the {@link String names} of the tracked {@link Region Regions}.
+	 */
+	public @NonNull Set<String> getRegionNames() {
+		return this.regionNames;
+	}
+
+	/**
+	 * Returns the number of most frequently accessed keys tracked per {@link Region}.
+	 *
+	 * @return the number of most frequently accessed keys tracked per {@link Region}.
+	 */
+	public int getTopKeys() {
+		return this.topKeys;
+	}
+
+	/**
+	 * Returns the {@link HotKeyTracker} of the {@link Region} with the given {@link String name}.
+	 *
+	 * @param regionName {@link String name} of the {@link Region}.
+	 * @return an {@link Optional} reference to the {@link HotKeyTracker} of the {@link Region},
+	 * or {@link Optional#empty()} if the {@link Region} is not tracked.
+	 */
+	public Optional<HotKeyTracker> getHotKeyTracker(@Nullable String regionName) {
+		return Optional.ofNullable(regionName).map(this.hotKeyTrackers::get);
+	}
+
+	/**
+	 * Returns the {@link HotKeyTracker HotKeyTrackers} keyed by {@link Region} {@link String name}.
+	 *
+	 * @return the {@link HotKeyTracker HotKeyTrackers} keyed by {@link Region} {@link String name}.
+	 */
+	public @NonNull Map<String, HotKeyTracker> getHotKeyTrackers() {
+		return Collections.unmodifiableMap(this.hotKeyTrackers);
+	}
+
+	@Override
+	public @Nullable Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+			throws BeansException {
+
+		if (isTrackedClientRegion(bean)) {
+
+			Region<?, ?> region = (Region<?, ?>) bean;
+
+			if (!this.hotKeyTrackers.containsKey(region.getName())) {
+
+				HotKeyTracker hotKeyTracker =
+					this.hotKeyTrackers.computeIfAbsent(region.getName(), name -> newHotKeyTracker());
+
+				return newHotKeyTrackingRegionProxy(region, hotKeyTracker);
+			}
+		}
+
+		return bean;
+	}
+
+	private boolean isTrackedClientRegion(Object bean) {
+
+		return bean instanceof Region
+			&& ((Region<?, ?>) bean).getRegionService() instanceof ClientCache
+			&& getRegionNames().contains(((Region<?, ?>) bean).getName());
+	}
+
+	private HotKeyTracker newHotKeyTracker() {
+		return new HotKeyTracker(this.topKeys, this.sketchWidth, this.sketchDepth);
+	}
+
+	/**
+	 * Decorates the given {@link Region} with a proxy recording the accessed keys in the given {@link HotKeyTracker}.
+	 *
+	 * The advice is added to the {@link Region} when the {@link Region} is already a proxy.
+	 *
+	 * @param region {@link Region} to decorate; must not be {@literal null}.
+	 * @param hotKeyTracker {@link HotKeyTracker} recording the accessed keys; must not be {@literal null}.
+	 * @return the decorated {@link Region}.
+	 */
+	protected @NonNull Object newHotKeyTrackingRegionProxy(@NonNull Region<?, ?> region,
+			@NonNull HotKeyTracker hotKeyTracker) {
+
+		HotKeyTrackingInterceptor interceptor = new HotKeyTrackingInterceptor(hotKeyTracker);
+
+		if (region instanceof Advised && !((Advised) region).isFrozen()) {
+			((Advised) region).addAdvice(0, interceptor);
+			return region;
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(region);
+
+		proxyFactory.addAdvice(interceptor);
+
+		return proxyFactory.getProxy();
+	}
+
+	/**
+	 * {@link MethodInterceptor} recording the keys accessed by {@link Region} operations.
+	 */
+	static class HotKeyTrackingInterceptor implements MethodInterceptor {
+
+		private final HotKeyTracker hotKeyTracker;
+
+		HotKeyTrackingInterceptor(@NonNull HotKeyTracker hotKeyTracker) {
+			this.hotKeyTracker = hotKeyTracker;
+		}
+
+		@Override
+		public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			Object[] arguments = invocation.getArguments();
+
+			if (arguments.length > 0) {
+				switch (invocation.getMethod().getName()) {
+					case "containsKeyOnServer":
+					case "create":
+					case "destroy":
+					case "get":
+					case "getEntry":
+					case "invalidate":
+					case "put":
+					case "putIfAbsent":
+					case "remove":
+					case "replace":
+						this.hotKeyTracker.record(arguments[0]);
+						break;
+					case "getAll":
+					case "removeAll":
+						recordAll(arguments[0]);
+						break;
+					case "putAll":
+						if (arguments[0] instanceof Map) {
+							recordAll(((Map<?, ?>) arguments[0]).keySet());
+						}
+						break;
+				}
+			}
+
+			return invocation.proceed();
+		}
+
+		private void recordAll(Object keys) {
+
+			if (keys instanceof Collection) {
+				for (Object key : (Collection<?>) keys) {
+					this.hotKeyTracker.record(key);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link BeanPostProcessor} decorating client {@link Region} beans with a proxy recording the latency
+ * of {@link Region} data access operations in Micrometer {@link Timer Timers}.
+ *
+ * The {@literal gemfire.region.operations} {@link Timer} is tagged with the {@link Region#getFullPath() Region path},
+ * the {@literal operation} ({@literal get}, {@literal getAll}, {@literal put} or {@literal destroy})
+ * and the {@literal outcome} ({@literal success} or {@literal error}).  The {@link Timer Timers} publish
+ * a percentile histogram, which Micrometer maintains with HdrHistogram.
+ *
+ * Only a configurable fraction of the operations is timed.  Operations that are not sampled are passed
+ * directly to the {@link Region}.  The {@link MeterRegistry} is resolved lazily and no {@link Meter Meters}
+ * are recorded when no {@link MeterRegistry} is available.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.Timer
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @since 2.0.0
+ */
+public class RegionOperationMetricsBeanPostProcessor implements BeanPostProcessor {
+
+	public static final double DEFAULT_SAMPLING_RATE = 1.0d;
+
+	public static final String REGION_OPERATIONS_METER_NAME = "gemfire.region.operations";
+
+	protected static final String ERROR_OUTCOME = "error";
+	protected static final String SUCCESS_OUTCOME = "success";
+
+	private final double samplingRate;
+
+	private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+	/**
+	 * Constructs a new instance of {@link RegionOperationMetricsBeanPostProcessor} initialized with
+	 * the given, required {@link Supplier} of the {@link MeterRegistry}, timing every {@link Region} operation.
+	 *
+	 * @param meterRegistrySupplier {@link Supplier} of the {@link MeterRegistry} used to record the {@link Region}
+	 * operation {@link Timer Timers}; must not be {@literal null}.  The {@link Supplier} may return {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 * @see #RegionOperationMetricsBeanPostProcessor(Supplier, double)
+	 */
+	public RegionOperationMetricsBeanPostProcessor(@NonNull Supplier<MeterRegistry> meterRegistrySupplier) {
+		this(meterRegistrySupplier, DEFAULT_SAMPLING_RATE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RegionOperationMetricsBeanPostProcessor} initialized with
+	 * the given, required {@link Supplier} of the {@link MeterRegistry} and the fraction of {@link Region}
+	 * operations to time.
+	 *
+	 * @param meterRegistrySupplier {@link Supplier} of the {@link MeterRegistry} used to record the {@link Region}
+	 * operation {@link Timer Timers}; must not be {@literal null}.  The {@link Supplier} may return {@literal null}.
+	 * @param samplingRate fraction of {@link Region} operations to time, between {@literal 0.0} and {@literal 1.0}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null} or the {@code samplingRate}
+	 * is not between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public RegionOperationMetricsBeanPostProcessor(@NonNull Supplier<MeterRegistry> meterRegistrySupplier,
+			double samplingRate) {
+
+		Assert.notNull(meterRegistrySupplier, "Supplier of MeterRegistry must not be null");
+		Assert.isTrue(samplingRate >= 0.0d && samplingRate <= 1.0d,
+			() -> String.format("Sampling rate [%s] must be between 0.0 and 1.0", samplingRate));
+
+		this.meterRegistrySupplier = meterRegistrySupplier;
+		this.samplingRate = samplingRate;
+	}
+
+	/**
+	 * Returns the configured {@link Supplier} of the {@link MeterRegistry}.
+	 *
+	 * @return the configured {@link Supplier} of the {@link MeterRegistry}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected @NonNull Supplier<MeterRegistry> getMeterRegistrySupplier() {
+		return this.meterRegistrySupplier;
+	}
+
+	/**
+	 * Returns the fraction of {@link Region} operations that are timed.
+	 *
+	 * @return the fraction of {@link Region} operations that are timed.
+	 */
+	public double getSamplingRate() {
+		return this.samplingRate;
+	}
+
+	@Override
+	public @Nullable Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+			throws BeansException {
+
+		return isClientRegion(bean) && !isInstrumented(bean) && getSamplingRate() > 0.0d
+			? newInstrumentedRegionProxy((Region<?, ?>) bean)
+			: bean;
+	}
+
+	private boolean isClientRegion(Object bean) {
+		return bean instanceof Region && ((Region<?, ?>) bean).getRegionService() instanceof ClientCache;
+	}
+
+	private boolean isInstrumented(Object bean) {
+
+		if (bean instanceof Advised) {
+			for (Advisor advisor : ((Advised) bean).getAdvisors()) {
+				if (advisor.getAdvice() instanceof RegionOperationMetricsInterceptor) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Constructs a new proxy for the given {@link Region} recording the latency of {@link Region} operations.
+	 *
+	 * The proxy implements all the interfaces of the {@link Region} implementation.  The advice is added
+	 * to the {@link Region} when the {@link Region} is already a proxy.
+	 *
+	 * @param region {@link Region} to instrument; must not be {@literal null}.
+	 * @return a new proxy for the given {@link Region}.
+	 */
+	protected @NonNull Object newInstrumentedRegionProxy(@NonNull Region<?, ?> region) {
+
+		RegionOperationMetricsInterceptor interceptor = new RegionOperationMetricsInterceptor(region.getFullPath(),
+			getMeterRegistrySupplier(), getSamplingRate());
+
+		if (region instanceof Advised && !((Advised) region).isFrozen()) {
+			((Advised) region).addAdvice(interceptor);
+			return region;
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(region);
+
+		proxyFactory.addAdvice(interceptor);
+
+		return proxyFactory.getProxy();
+	}
+
+	/**
+	 * {@link MethodInterceptor} timing sampled {@link Region} operations.
+	 */
+	static class RegionOperationMetricsInterceptor implements MethodInterceptor {
+
+		private final double samplingRate;
+
+		private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+		private final String regionPath;
+
+		private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+		RegionOperationMetricsInterceptor(@NonNull String regionPath,
+				@NonNull Supplier<MeterRegistry> meterRegistrySupplier, double samplingRate) {
+
+			this.regionPath = regionPath;
+			this.meterRegistrySupplier = meterRegistrySupplier;
+			this.samplingRate = samplingRate;
+		}
+
+		@Override
+		public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			String operation = resolveOperation(invocation.getMethod());
+
+			MeterRegistry meterRegistry = operation != null && isSampled() ? this.meterRegistrySupplier.get() : null;
+
+			if (meterRegistry == null) {
+				return invocation.proceed();
+			}
+
+			long startTime = meterRegistry.config().clock().monotonicTime();
+
+			String outcome = ERROR_OUTCOME;
+
+			try {
+
+				Object result = invocation.proceed();
+
+				outcome = SUCCESS_OUTCOME;
+
+				return result;
+			}
+			finally {
+				resolveTimer(meterRegistry, operation, outcome)
+					.record(meterRegistry.config().clock().monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		boolean isSampled() {
+			return this.samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < this.samplingRate;
+		}
+
+		@Nullable String resolveOperation(@NonNull Method method) {
+
+			switch (method.getName()) {
+				case "get":
+				case "getEntry":
+					return "get";
+				case "getAll":
+					return "getAll";
+				case "create":
+				case "put":
+				case "putIfAbsent":
+				case "replace":
+					return "put";
+				case "destroy":
+				case "remove":
+					return "destroy";
+				default:
+					return null;
+			}
+		}
+
+		private Timer resolveTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+
+			return this.timers.computeIfAbsent(operation + "." + outcome, key ->
+				Timer.builder(REGION_OPERATIONS_METER_NAME)
+					.description("Time taken by a client Region operation")
+					.tag("region", this.regionPath)
+					.tag("operation", operation)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+	}
+}
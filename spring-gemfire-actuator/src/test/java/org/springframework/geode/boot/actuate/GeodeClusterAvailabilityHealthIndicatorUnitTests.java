@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.geode.config.annotation.ClusterAvailabilityMonitor;
+
+/**
+ * Unit Tests for {@link GeodeClusterAvailabilityHealthIndicator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.boot.actuate.health.Health
+ * @see org.springframework.geode.boot.actuate.GeodeClusterAvailabilityHealthIndicator
+ * @see org.springframework.geode.config.annotation.ClusterAvailabilityMonitor
+ * @since 2.0.0
+ */
+public class GeodeClusterAvailabilityHealthIndicatorUnitTests {
+
+	@Test
+	public void healthCheckCapturesDetails() throws Exception {
+
+		ClusterAvailabilityMonitor mockMonitor = mock(ClusterAvailabilityMonitor.class);
+
+		when(mockMonitor.isClusterAvailable()).thenReturn(false);
+		when(mockMonitor.isClusterReachable()).thenReturn(false);
+		when(mockMonitor.isRunning()).thenReturn(true);
+		when(mockMonitor.getInterval()).thenReturn(Duration.ofSeconds(10));
+		when(mockMonitor.getProbeCount()).thenReturn(3);
+		when(mockMonitor.getLastProbeTime()).thenReturn(123456789L);
+
+		GeodeClusterAvailabilityHealthIndicator healthIndicator = new GeodeClusterAvailabilityHealthIndicator(mockMonitor);
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health).isNotNull();
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails()).containsEntry("geode.cluster.available", "No");
+		assertThat(health.getDetails()).containsEntry("geode.cluster.reachable", "No");
+		assertThat(health.getDetails()).containsEntry("geode.cluster.monitor.running", "Yes");
+		assertThat(health.getDetails()).containsEntry("geode.cluster.monitor.interval", 10000L);
+		assertThat(health.getDetails()).containsEntry("geode.cluster.monitor.probe-count", 3);
+		assertThat(health.getDetails()).containsEntry("geode.cluster.monitor.last-probe-time", 123456789L);
+	}
+
+	@Test
+	public void healthCheckIsOutOfServiceWhenClusterBecomesReachableAfterStartup() throws Exception {
+
+		ClusterAvailabilityMonitor mockMonitor = mock(ClusterAvailabilityMonitor.class);
+
+		when(mockMonitor.isClusterAvailable()).thenReturn(false);
+		when(mockMonitor.isClusterReachable()).thenReturn(true);
+		when(mockMonitor.getInterval()).thenReturn(Duration.ofSeconds(10));
+
+		Health.Builder builder = new Health.Builder();
+
+		new GeodeClusterAvailabilityHealthIndicator(mockMonitor).doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails()).containsEntry("geode.cluster.available", "No");
+		assertThat(health.getDetails()).containsEntry("geode.cluster.reachable", "Yes");
+	}
+
+	@Test
+	public void healthCheckIsUpWhenClusterIsAvailable() throws Exception {
+
+		ClusterAvailabilityMonitor mockMonitor = mock(ClusterAvailabilityMonitor.class);
+
+		when(mockMonitor.isClusterAvailable()).thenReturn(true);
+		when(mockMonitor.isClusterReachable()).thenReturn(true);
+		when(mockMonitor.getInterval()).thenReturn(Duration.ofSeconds(10));
+
+		Health.Builder builder = new Health.Builder();
+
+		new GeodeClusterAvailabilityHealthIndicator(mockMonitor).doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("geode.cluster.available", "Yes");
+		assertThat(health.getDetails()).containsEntry("geode.cluster.reachable", "Yes");
+	}
+
+	@Test
+	public void healthCheckWithoutClusterAvailabilityMonitorIsUnknown() throws Exception {
+
+		Health.Builder builder = new Health.Builder();
+
+		new GeodeClusterAvailabilityHealthIndicator().doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+		assertThat(health.getDetails()).isEmpty();
+	}
+}
@@ -6,12 +6,19 @@
 package org.springframework.geode.boot.actuate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.CqServiceStatistics;
@@ -26,8 +33,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
 import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.actuate.health.StatusAggregator;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor;
 
 /**
  * Unit tests for {@link GeodeContinuousQueriesHealthIndicator}.
@@ -161,4 +171,127 @@ public class GeodeContinuousQueriesHealthIndicatorUnitTests {
 		assertThat(health.getDetails()).isEmpty();
 		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
 	}
+
+	@Test
+	public void healthCheckCapturesContinuousQueryEventRate() {
+
+		CqQuery mockContinuousQuery = mock(CqQuery.class, "MockContinuousQuery");
+
+		CqStatistics mockContinuousQueryStatistics = mock(CqStatistics.class);
+
+		when(mockContinuousQuery.getName()).thenReturn("MockContinuousQuery");
+		when(mockContinuousQuery.getStatistics()).thenReturn(mockContinuousQueryStatistics);
+		when(mockContinuousQueryStatistics.numEvents()).thenReturn(10L, 30L);
+		when(this.mockQueryService.getCqs()).thenReturn(new CqQuery[] { mockContinuousQuery });
+
+		GeodeContinuousQueriesHealthIndicator healthIndicator = spy(this.continuousQueriesHealthIndicator);
+
+		doReturn(0L, TimeUnit.SECONDS.toNanos(2L)).when(healthIndicator).currentTimeNanos();
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		assertThat(builder.build().getDetails())
+			.containsEntry("geode.continuous-query.MockContinuousQuery.statistics.event-rate", 0.0d);
+
+		builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		assertThat(builder.build().getDetails())
+			.containsEntry("geode.continuous-query.MockContinuousQuery.statistics.number-of-events", 30L)
+			.containsEntry("geode.continuous-query.MockContinuousQuery.statistics.event-rate", 10.0d);
+	}
+
+	@Test
+	public void healthCheckComputesContinuousQueryEventRateOverWindowOfHealthChecks() {
+
+		CqQuery mockContinuousQuery = mock(CqQuery.class, "MockContinuousQuery");
+
+		CqStatistics mockContinuousQueryStatistics = mock(CqStatistics.class);
+
+		when(mockContinuousQuery.getName()).thenReturn("MockContinuousQuery");
+		when(mockContinuousQuery.getStatistics()).thenReturn(mockContinuousQueryStatistics);
+		when(mockContinuousQueryStatistics.numEvents()).thenReturn(10L, 30L, 30L);
+		when(this.mockQueryService.getCqs()).thenReturn(new CqQuery[] { mockContinuousQuery });
+
+		GeodeContinuousQueriesHealthIndicator healthIndicator = spy(this.continuousQueriesHealthIndicator);
+
+		doReturn(0L, TimeUnit.SECONDS.toNanos(2L), TimeUnit.SECONDS.toNanos(2L) + TimeUnit.MILLISECONDS.toNanos(1L),
+			TimeUnit.SECONDS.toNanos(4L)).when(healthIndicator).currentTimeNanos();
+
+		for (int check = 0; check < 3; check++) {
+			healthIndicator.doHealthCheck(new Health.Builder());
+		}
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		assertThat(builder.build().getDetails())
+			.containsEntry("geode.continuous-query.MockContinuousQuery.statistics.event-rate", 5.0d);
+	}
+
+	@Test
+	public void healthCheckIsDegradedWhenListenersFallBehind() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		ContinuousQueryListenerMonitor monitor = new ContinuousQueryListenerMonitor(tasks::add);
+
+		GeodeContinuousQueriesHealthIndicator healthIndicator =
+			spy(this.continuousQueriesHealthIndicator.withMaxBacklog(1L).withMaxQueueTime(Duration.ofMinutes(1L)));
+
+		doReturn(Optional.of(monitor)).when(healthIndicator).getContinuousQueryListenerMonitor();
+
+		monitor.execute(() -> {});
+		monitor.execute(() -> {});
+		tasks.get(0).run();
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails())
+			.containsEntry("geode.continuous-query.listener.number-of-events-dispatched", 2L)
+			.containsEntry("geode.continuous-query.listener.number-of-events-processed", 1L)
+			.containsEntry("geode.continuous-query.listener.backlog", 1L)
+			.containsEntry("geode.continuous-query.listener.lagging", "No");
+
+		monitor.execute(() -> {});
+
+		builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(GeodeContinuousQueriesHealthIndicator.DEGRADED_STATUS);
+		assertThat(health.getDetails())
+			.containsEntry("geode.continuous-query.listener.backlog", 2L)
+			.containsEntry("geode.continuous-query.listener.lagging", "Yes");
+	}
+
+	@Test
+	public void degradedStatusIsAggregatedBetweenDownAndUp() {
+
+		StatusAggregator statusAggregator =
+			new SimpleStatusAggregator(GeodeContinuousQueriesHealthIndicator.STATUS_ORDER);
+
+		assertThat(statusAggregator.getAggregateStatus(Status.UP, GeodeContinuousQueriesHealthIndicator.DEGRADED_STATUS))
+			.isEqualTo(GeodeContinuousQueriesHealthIndicator.DEGRADED_STATUS);
+
+		assertThat(statusAggregator.getAggregateStatus(Status.DOWN,
+			GeodeContinuousQueriesHealthIndicator.DEGRADED_STATUS)).isEqualTo(Status.DOWN);
+
+		assertThat(statusAggregator.getAggregateStatus(Status.OUT_OF_SERVICE,
+			GeodeContinuousQueriesHealthIndicator.DEGRADED_STATUS)).isEqualTo(Status.OUT_OF_SERVICE);
+
+		assertThat(new SimpleStatusAggregator().getAggregateStatus(Status.UP,
+			GeodeContinuousQueriesHealthIndicator.DEGRADED_STATUS)).isEqualTo(Status.UP);
+	}
 }
@@ -7,14 +7,19 @@ package org.springframework.geode.boot.actuate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.geode.cache.DiskStore;
 import org.junit.Before;
@@ -27,6 +32,7 @@ import org.springframework.boot.actuate.health.Status;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.gemfire.tests.mock.DiskStoreMockObjects;
 import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsSampler;
 
 /**
  * Unit tests for {@link GeodeDiskStoresHealthIndicator}.
@@ -141,4 +147,140 @@ public class GeodeDiskStoresHealthIndicatorUnitTests {
 		assertThat(health.getDetails()).isEmpty();
 		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
 	}
+
+	private DiskStore mockDiskStore(String name, int queueSize, float criticalPercentage, float warningPercentage,
+			File... diskDirectories) {
+
+		return DiskStoreMockObjects.mockDiskStore(name, true, true, 50, diskDirectories,
+			new int[] { 1024 }, criticalPercentage, warningPercentage, 1024000L, queueSize,
+			1000L, 32768, 1);
+	}
+
+	@Test
+	public void healthCheckIsDegradedWhenFlushQueueIsFull() {
+
+		DiskStore mockDiskStore = mockDiskStore("MockDiskStore", 1000, 99.0f, 90.0f);
+
+		DiskStoreStatisticsSampler mockDiskStoreStatisticsSampler = mock(DiskStoreStatisticsSampler.class);
+
+		when(mockDiskStoreStatisticsSampler.sample(mockDiskStore))
+			.thenReturn(Collections.singletonMap("flush-queue-size", 1000L));
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("MockDiskStore", mockDiskStore));
+
+		GeodeDiskStoresHealthIndicator healthIndicator = spy(this.diskStoresHealthIndicator.withStatusEscalation(true));
+
+		doReturn(Optional.of(mockDiskStoreStatisticsSampler)).when(healthIndicator).getDiskStoreStatisticsSampler();
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(GeodeDiskStoresHealthIndicator.DEGRADED_STATUS);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.MockDiskStore.flush-queue-size", 1000L);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.MockDiskStore.state", "warning");
+	}
+
+	@Test
+	public void healthCheckIsDegradedWhenFlushQueueExceedsConfiguredMaximum() {
+
+		DiskStore mockDiskStore = mockDiskStore("MockDiskStore", 0, 99.0f, 90.0f);
+
+		DiskStoreStatisticsSampler mockDiskStoreStatisticsSampler = mock(DiskStoreStatisticsSampler.class);
+
+		when(mockDiskStoreStatisticsSampler.sample(mockDiskStore))
+			.thenReturn(Collections.singletonMap("flush-queue-size", 101L));
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("MockDiskStore", mockDiskStore));
+
+		GeodeDiskStoresHealthIndicator healthIndicator = spy(this.diskStoresHealthIndicator
+			.withMaxFlushQueueSize(100L)
+			.withStatusEscalation(true));
+
+		doReturn(Optional.of(mockDiskStoreStatisticsSampler)).when(healthIndicator).getDiskStoreStatisticsSampler();
+
+		Health.Builder builder = new Health.Builder();
+
+		healthIndicator.doHealthCheck(builder);
+
+		assertThat(builder.build().getStatus()).isEqualTo(GeodeDiskStoresHealthIndicator.DEGRADED_STATUS);
+	}
+
+	@Test
+	public void healthCheckIsDownWhenDiskUsageIsCritical() {
+
+		File mockDirectory = mock(File.class);
+
+		when(mockDirectory.getTotalSpace()).thenReturn(1000L);
+		when(mockDirectory.getUsableSpace()).thenReturn(50L);
+
+		DiskStore mockDiskStore = mockDiskStore("MockDiskStore", 0, 95.0f, 90.0f, mockDirectory);
+
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("MockDiskStore", mockDiskStore));
+
+		Health.Builder builder = new Health.Builder();
+
+		this.diskStoresHealthIndicator.withStatusEscalation(true).doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.MockDiskStore.volume-usage-percentage", 95.0d);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.MockDiskStore.state", "critical");
+	}
+
+	@Test
+	public void healthCheckOnlyReportsCriticalDiskUsageInDetailsByDefault() {
+
+		File mockDirectory = mock(File.class);
+
+		when(mockDirectory.getTotalSpace()).thenReturn(1000L);
+		when(mockDirectory.getUsableSpace()).thenReturn(50L);
+
+		DiskStore mockDiskStore = mockDiskStore("MockDiskStore", 0, 95.0f, 90.0f, mockDirectory);
+
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("MockDiskStore", mockDiskStore));
+
+		Health.Builder builder = new Health.Builder();
+
+		this.diskStoresHealthIndicator.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("geode.disk-store.MockDiskStore.state", "critical");
+	}
+
+	@Test
+	public void healthCheckRecomputesDiskUsageOncePerRefreshInterval() {
+
+		File mockDirectory = mock(File.class);
+
+		when(mockDirectory.listFiles()).thenReturn(new File[0]);
+
+		DiskStore mockDiskStore = mockDiskStore("MockDiskStore", 0, 95.0f, 90.0f, mockDirectory);
+
+		when(this.mockApplicationContext.getBeansOfType(DiskStore.class))
+			.thenReturn(Collections.singletonMap("MockDiskStore", mockDiskStore));
+
+		GeodeDiskStoresHealthIndicator healthIndicator =
+			spy(this.diskStoresHealthIndicator.withDiskUsageRefreshInterval(Duration.ofSeconds(30L)));
+
+		doReturn(Optional.empty()).when(healthIndicator).getDiskStoreStatisticsSampler();
+		doReturn(0L, Duration.ofSeconds(10L).toNanos(), Duration.ofSeconds(30L).toNanos())
+			.when(healthIndicator).currentTimeNanos();
+
+		healthIndicator.doHealthCheck(new Health.Builder());
+		healthIndicator.doHealthCheck(new Health.Builder());
+
+		verify(mockDirectory, times(1)).listFiles();
+
+		healthIndicator.doHealthCheck(new Health.Builder());
+
+		verify(mockDirectory, times(2)).listFiles();
+	}
 }
@@ -5,6 +5,7 @@
 package org.springframework.geode.boot.actuate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -13,8 +14,10 @@ import static org.mockito.Mockito.when;
 import java.net.InetSocketAddress;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.Pool;
@@ -28,6 +31,7 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.data.gemfire.tests.mock.PoolMockObjects;
 import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.geode.boot.actuate.health.support.PoolStatisticsSampler;
 
 /**
  * Unit tests for {@link GeodePoolsHealthIndicator}.
@@ -159,4 +163,38 @@ public class GeodePoolsHealthIndicatorUnitTests {
 	public void healthCheckFailsWhenGemFireCacheIsNotPresent() {
 		testHealthCheckFailsWhenGemFireCacheIsInvalid(null);
 	}
+
+	@Test
+	public void healthCheckCapturesSampledPoolStatistics() {
+
+		Pool mockPool = mock(Pool.class);
+
+		PoolStatisticsSampler mockPoolStatisticsSampler = mock(PoolStatisticsSampler.class);
+
+		Map<String, Object> sample = new LinkedHashMap<>();
+
+		sample.put("connections.active", 8L);
+		sample.put("connections.idle", 2L);
+		sample.put("free-connection-timeouts", 3L);
+
+		when(mockPoolStatisticsSampler.sample(mockPool)).thenReturn(sample);
+		when(mockPoolStatisticsSampler.sampleSingleHopRatio(Collections.singletonList(mockPool))).thenReturn(0.75d);
+		when(this.poolsHealthIndicator.findAllPools()).thenReturn(Collections.singletonMap("MockPool", mockPool));
+		doReturn(Optional.of(mockPoolStatisticsSampler)).when(this.poolsHealthIndicator).getPoolStatisticsSampler();
+
+		Health.Builder builder = new Health.Builder();
+
+		this.poolsHealthIndicator.doHealthCheck(builder);
+
+		Map<String, Object> healthDetails = builder.build().getDetails();
+
+		assertThat(healthDetails).containsEntry("geode.pool.MockPool.connections.active", 8L);
+		assertThat(healthDetails).containsEntry("geode.pool.MockPool.connections.idle", 2L);
+		assertThat(healthDetails).containsEntry("geode.pool.MockPool.free-connection-timeouts", 3L);
+		assertThat(healthDetails).containsEntry("geode.pool.single-hop-ratio", 0.75d);
+		assertThat(healthDetails).doesNotContainKey("geode.pool.MockPool.single-hop-ratio");
+
+		verify(mockPoolStatisticsSampler, times(1)).sample(mockPool);
+		verify(mockPoolStatisticsSampler, times(1)).sampleSingleHopRatio(Collections.singletonList(mockPool));
+	}
 }
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Currency;
 import java.util.Map;
@@ -33,6 +34,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.data.gemfire.tests.mock.CacheMockObjects;
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator;
 
 /**
  * Unit tests for {@link GeodeRegionsHealthIndicator}.
@@ -206,4 +208,125 @@ public class GeodeRegionsHealthIndicatorUnitTests {
 		assertThat(health.getDetails()).isEmpty();
 		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
 	}
+
+	@Test
+	public void healthCheckWithSummaryDetailLevelCapturesSummaryDetailsOnly() {
+
+		Region<?, ?> mockRegion = CacheMockObjects.mockRegion("MockRegion", DataPolicy.REPLICATE);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		Health.Builder builder = new Health.Builder();
+
+		this.regionsHealthIndicator.withDetailLevel(GeodeRegionsHealthIndicator.DetailLevel.SUMMARY)
+			.doHealthCheck(builder);
+
+		Health health = builder.build();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsOnlyKeys("geode.cache.regions", "geode.cache.regions.count",
+			"geode.cache.regions.MockRegion.full-path", "geode.cache.regions.MockRegion.data-policy");
+		assertThat(health.getDetails()).containsEntry("geode.cache.regions.MockRegion.data-policy",
+			DataPolicy.REPLICATE.toString());
+	}
+
+	@Test
+	public void healthCheckWithRefreshIntervalServesSnapshot() {
+
+		Region<?, ?> mockRegion = CacheMockObjects.mockRegion("MockRegion", DataPolicy.REPLICATE);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsHealthIndicator.withDetailLevel(GeodeRegionsHealthIndicator.DetailLevel.SUMMARY)
+			.withRefreshInterval(Duration.ofMinutes(5));
+
+		try {
+
+			Health.Builder builderOne = new Health.Builder();
+			Health.Builder builderTwo = new Health.Builder();
+
+			this.regionsHealthIndicator.doHealthCheck(builderOne);
+			this.regionsHealthIndicator.doHealthCheck(builderTwo);
+
+			assertThat(builderOne.build().getDetails())
+				.containsEntry("geode.cache.regions.count", 1L)
+				.isEqualTo(builderTwo.build().getDetails());
+
+			assertThat(builderTwo.build().getStatus()).isEqualTo(Status.UP);
+
+			verify(this.mockGemFireCache, times(1)).rootRegions();
+		}
+		finally {
+			this.regionsHealthIndicator.destroy();
+		}
+	}
+
+	@Test
+	public void healthCheckReusesRegionDetailKeys() {
+
+		Region<?, ?> mockRegion = CacheMockObjects.mockRegion("MockRegion", DataPolicy.REPLICATE);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsHealthIndicator.withDetailLevel(GeodeRegionsHealthIndicator.DetailLevel.SUMMARY);
+
+		Health.Builder builderOne = new Health.Builder();
+		Health.Builder builderTwo = new Health.Builder();
+
+		this.regionsHealthIndicator.doHealthCheck(builderOne);
+		this.regionsHealthIndicator.doHealthCheck(builderTwo);
+
+		String fullPathKey = "geode.cache.regions.MockRegion.full-path";
+
+		assertThat(findKey(builderOne.build().getDetails(), fullPathKey))
+			.isSameAs(findKey(builderTwo.build().getDetails(), fullPathKey));
+	}
+
+	private String findKey(Map<String, Object> details, String key) {
+
+		return details.keySet().stream()
+			.filter(key::equals)
+			.findFirst()
+			.orElseThrow(() -> new AssertionError(String.format("Key [%s] not found", key)));
+	}
+
+	@Test
+	public void detailLevelFromNameIgnoresCaseAndWhitespace() {
+
+		assertThat(GeodeRegionsHealthIndicator.DetailLevel.from(" summary "))
+			.contains(GeodeRegionsHealthIndicator.DetailLevel.SUMMARY);
+		assertThat(GeodeRegionsHealthIndicator.DetailLevel.from("Full"))
+			.contains(GeodeRegionsHealthIndicator.DetailLevel.FULL);
+	}
+
+	@Test
+	public void detailLevelFromUnknownNameIsEmpty() {
+
+		assertThat(GeodeRegionsHealthIndicator.DetailLevel.from("summry")).isEmpty();
+		assertThat(GeodeRegionsHealthIndicator.DetailLevel.from("")).isEmpty();
+		assertThat(GeodeRegionsHealthIndicator.DetailLevel.from(null)).isEmpty();
+	}
+
+	@Test
+	public void refreshIntervalDefaultsToZero() {
+
+		assertThat(this.regionsHealthIndicator.getRefreshInterval()).isZero();
+		assertThat(this.regionsHealthIndicator.isSnapshotEnabled()).isFalse();
+		assertThat(this.regionsHealthIndicator.withRefreshInterval(Duration.ofSeconds(-1)).isSnapshotEnabled())
+			.isFalse();
+		assertThat(this.regionsHealthIndicator.withRefreshInterval(Duration.ofSeconds(30)).isSnapshotEnabled())
+			.isTrue();
+	}
+
+	@Test
+	public void partitionRegionStatisticsAggregatorIsOptional() {
+
+		PartitionRegionStatisticsAggregator aggregator = new PartitionRegionStatisticsAggregator();
+
+		assertThat(this.regionsHealthIndicator.getPartitionRegionStatisticsAggregator()).isEmpty();
+		assertThat(this.regionsHealthIndicator.withPartitionRegionStatisticsAggregator(aggregator)
+			.getPartitionRegionStatisticsAggregator()).containsSame(aggregator);
+		assertThat(this.regionsHealthIndicator.withPartitionRegionStatisticsAggregator(null)
+			.getPartitionRegionStatisticsAggregator()).isEmpty();
+	}
 }
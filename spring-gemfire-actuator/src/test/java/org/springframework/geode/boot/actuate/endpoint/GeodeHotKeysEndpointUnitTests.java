@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.junit.Test;
+
+import org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor;
+
+/**
+ * Unit Tests for {@link GeodeHotKeysEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.endpoint.GeodeHotKeysEndpoint
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor
+ * @since 2.0.0
+ */
+public class GeodeHotKeysEndpointUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> newTrackedRegion(HotKeyTrackingBeanPostProcessor beanPostProcessor) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("Example").when(mockRegion).getName();
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(mock(ClientCache.class)).when(mockRegion).getRegionService();
+
+		return (Region<Object, Object>) beanPostProcessor.postProcessAfterInitialization(mockRegion, "Example");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void hotKeysReportsTrackedRegions() {
+
+		HotKeyTrackingBeanPostProcessor beanPostProcessor =
+			new HotKeyTrackingBeanPostProcessor(Collections.singleton("Example"));
+
+		Region<Object, Object> region = newTrackedRegion(beanPostProcessor);
+
+		region.get(1);
+		region.get(1);
+		region.get(1);
+		region.get(2);
+
+		GeodeHotKeysEndpoint endpoint = new GeodeHotKeysEndpoint(beanPostProcessor);
+
+		Map<String, Object> hotKeys = endpoint.hotKeys();
+
+		assertThat(hotKeys).containsOnlyKeys("Example");
+		assertThat(endpoint.regionHotKeys("Example")).isEqualTo(hotKeys.get("Example"));
+
+		Map<String, Object> regionHotKeys = (Map<String, Object>) hotKeys.get("Example");
+
+		assertThat(regionHotKeys).containsEntry("total", 4L);
+		assertThat(regionHotKeys).containsEntry("top-keys", 10);
+
+		List<Map<String, Object>> keys = (List<Map<String, Object>>) regionHotKeys.get("keys");
+
+		assertThat(keys).hasSize(2);
+		assertThat(keys.get(0)).containsEntry("key", "1");
+		assertThat(keys.get(0)).containsEntry("estimated-count", 3L);
+		assertThat(keys.get(0)).containsEntry("share", 0.75d);
+
+		endpoint.reset();
+
+		assertThat(endpoint.regionHotKeys("Example")).containsEntry("total", 0L);
+	}
+
+	@Test
+	public void hotKeysWithoutBeanPostProcessorIsEmpty() {
+
+		GeodeHotKeysEndpoint endpoint = new GeodeHotKeysEndpoint(null);
+
+		assertThat(endpoint.hotKeys()).isEmpty();
+		assertThat(endpoint.regionHotKeys("Example")).isNull();
+	}
+}
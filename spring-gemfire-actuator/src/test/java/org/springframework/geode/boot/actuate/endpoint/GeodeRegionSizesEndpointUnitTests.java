@@ -0,0 +1,278 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link GeodeRegionSizesEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.endpoint.GeodeRegionSizesEndpoint
+ * @since 2.0.0
+ */
+public class GeodeRegionSizesEndpointUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String name, DataPolicy dataPolicy) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(dataPolicy).when(mockRegionAttributes).getDataPolicy();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(name).when(mockRegion).getName();
+		doReturn("/" + name).when(mockRegion).getFullPath();
+
+		return mockRegion;
+	}
+
+	private GemFireCache mockCache(Region<?, ?>... regions) {
+
+		GemFireCache mockCache = mock(GemFireCache.class);
+
+		doReturn(new HashSet<>(Arrays.asList(regions))).when(mockCache).rootRegions();
+
+		return mockCache;
+	}
+
+	/**
+	 * Sizes values by the length of their {@link String} representation to keep the tests independent
+	 * of the JVM object layout.
+	 */
+	private GeodeRegionSizesEndpoint newEndpoint(GemFireCache cache) {
+
+		return new GeodeRegionSizesEndpoint(cache) {
+
+			@Override
+			protected long objectSize(Object target) {
+				return String.valueOf(target).length();
+			}
+
+			@Override
+			protected long serializedSize(Object target) {
+				return String.valueOf(target).length() / 2;
+			}
+		};
+	}
+
+	private Set<Map.Entry<Object, Object>> entries(int... valueSizes) {
+
+		return IntStream.range(0, valueSizes.length)
+			.mapToObj(index -> new AbstractMap.SimpleEntry<Object, Object>("key" + index,
+				"x".repeat(valueSizes[index])))
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	@Test
+	public void withInvalidSampleSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new GeodeRegionSizesEndpoint(null).withSampleSize(0))
+			.withMessage("Sample size [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void withInvalidMaxScannedEntriesThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new GeodeRegionSizesEndpoint(null).withMaxScannedEntries(0))
+			.withMessage("Max scanned entries [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void regionSizesWithoutCacheIsEmpty() {
+		assertThat(new GeodeRegionSizesEndpoint(null).regionSizes()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionSizesSamplesLocalRegionEntries() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", DataPolicy.NORMAL);
+
+		doReturn(entries(100, 2000, 10, 500)).when(mockRegion).entrySet();
+		doReturn(30).when(mockRegion).size();
+
+		GeodeRegionSizesEndpoint endpoint = newEndpoint(mockCache(mockRegion))
+			.withSampleSize(4)
+			.withLargestEntries(2);
+
+		Map<String, Object> regionSizes = endpoint.regionSizes();
+
+		assertThat(regionSizes).containsOnlyKeys("Example");
+
+		Map<String, Object> regionSize = (Map<String, Object>) regionSizes.get("Example");
+
+		assertThat(regionSize).containsEntry("full-path", "/Example");
+		assertThat(regionSize).containsEntry("entries", 30L);
+		assertThat(regionSize).containsEntry("sampled-entries", 4L);
+
+		Map<String, Object> objectSize = (Map<String, Object>) regionSize.get("object-size");
+
+		assertThat(objectSize).containsEntry("sampled-total", 2610L);
+		assertThat(objectSize).containsEntry("max", 2000L);
+		assertThat(objectSize).containsEntry("estimated-total", 19575L);
+		assertThat(objectSize).containsEntry("average-key", 4.0d);
+
+		Map<String, Object> serializedSize = (Map<String, Object>) regionSize.get("serialized-size");
+
+		assertThat(serializedSize).containsEntry("sampled-total", 1305L);
+		assertThat(serializedSize).containsEntry("max", 1000L);
+
+		List<Map<String, Object>> largestEntries = (List<Map<String, Object>>) regionSize.get("largest-entries");
+
+		assertThat(largestEntries).extracting(entry -> entry.get("key")).containsExactly("key1", "key3");
+
+		Map<String, Long> distribution = (Map<String, Long>) regionSize.get("value-size-distribution");
+
+		assertThat(distribution).containsEntry("le-64", 1L);
+		assertThat(distribution).containsEntry("le-256", 1L);
+		assertThat(distribution).containsEntry("le-1024", 1L);
+		assertThat(distribution).containsEntry("le-4096", 1L);
+		assertThat(distribution).containsEntry("gt-1048576", 0L);
+	}
+
+	@Test
+	public void regionSizesSamplesAtMostSampleSizeLocalRegionEntries() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", DataPolicy.NORMAL);
+
+		doReturn(entries(100, 2000, 10, 500, 50, 250)).when(mockRegion).entrySet();
+		doReturn(6).when(mockRegion).size();
+
+		Map<String, Object> regionSize = newEndpoint(mockCache(mockRegion))
+			.withSampleSize(2)
+			.regionSize("Example");
+
+		assertThat(regionSize).containsEntry("entries", 6L);
+		assertThat(regionSize).containsEntry("sampled-entries", 2L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionSizesScansAtMostMaxScannedEntriesLocalRegionEntries() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", DataPolicy.NORMAL);
+
+		doReturn(entries(100, 200, 10, 500, 50, 250)).when(mockRegion).entrySet();
+		doReturn(6).when(mockRegion).size();
+
+		Map<String, Object> regionSize = newEndpoint(mockCache(mockRegion))
+			.withSampleSize(10)
+			.withMaxScannedEntries(3)
+			.regionSize("Example");
+
+		assertThat(regionSize).containsEntry("entries", 6L);
+		assertThat(regionSize).containsEntry("sampled-entries", 3L);
+		assertThat((Map<String, Object>) regionSize.get("object-size")).containsEntry("sampled-total", 310L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionSizeSamplesProxyRegionEntriesFromServer() throws Exception {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", DataPolicy.EMPTY);
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+
+		doReturn(mockClientCache).when(mockRegion).getRegionService();
+		doReturn(10).when(mockRegion).sizeOnServer();
+		doReturn(mockQueryService).when(mockClientCache).getQueryService();
+		doReturn(mockQuery).when(mockQueryService).newQuery("SELECT k FROM /Example.keySet k LIMIT 2");
+		doReturn(Arrays.asList("key1", "key2")).when(mockQuery).execute();
+
+		Map<String, Object> sampledEntries = new LinkedHashMap<>();
+
+		sampledEntries.put("key1", "x".repeat(64));
+		sampledEntries.put("key2", "x".repeat(128));
+
+		doReturn(sampledEntries).when(mockRegion).getAll(Arrays.asList("key1", "key2"));
+
+		Map<String, Object> regionSize = newEndpoint(mockCache(mockRegion))
+			.withSampleSize(2)
+			.regionSize("Example");
+
+		assertThat(regionSize).containsEntry("entries", 10L);
+		assertThat(regionSize).containsEntry("sampled-entries", 2L);
+
+		Map<String, Object> objectSize = (Map<String, Object>) regionSize.get("object-size");
+
+		assertThat(objectSize).containsEntry("average", 96.0d);
+		assertThat(objectSize).containsEntry("estimated-total", 960L);
+
+		verify(mockRegion, never()).keySetOnServer();
+	}
+
+	@Test
+	public void regionSizeSamplesProxyRegionEntriesUsingRegionPool() throws Exception {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", DataPolicy.EMPTY);
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+
+		doReturn("TestPool").when(mockRegion.getAttributes()).getPoolName();
+		doReturn(mockClientCache).when(mockRegion).getRegionService();
+		doReturn(10).when(mockRegion).sizeOnServer();
+		doReturn(mockQueryService).when(mockClientCache).getQueryService("TestPool");
+		doReturn(mockQuery).when(mockQueryService).newQuery(anyString());
+		doReturn(Collections.emptyList()).when(mockQuery).execute();
+
+		Map<String, Object> regionSize = newEndpoint(mockCache(mockRegion)).regionSize("Example");
+
+		assertThat(regionSize).containsEntry("entries", 10L);
+		assertThat(regionSize).containsEntry("sampled-entries", 0L);
+
+		verify(mockQuery).execute();
+		verify(mockRegion, never()).getAll(any(Collection.class));
+	}
+
+	@Test
+	public void regionSizeForUnknownRegionIsNull() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", DataPolicy.NORMAL);
+
+		assertThat(newEndpoint(mockCache(mockRegion)).regionSize("Unknown")).isNull();
+	}
+}
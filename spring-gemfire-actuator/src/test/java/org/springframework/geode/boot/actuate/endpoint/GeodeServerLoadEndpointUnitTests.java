@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerMetrics;
+import org.junit.Test;
+
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+
+/**
+ * Unit Tests for {@link GeodeServerLoadEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.endpoint.GeodeServerLoadEndpoint
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @since 2.0.0
+ */
+public class GeodeServerLoadEndpointUnitTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void serverLoadReportsRollingStatistics() {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		ServerMetrics mockServerMetrics = mock(ServerMetrics.class);
+
+		doReturn(new ServerLoad(0.5f, 0.01f, 0.25f, 0.02f)).when(mockServerLoadProbe).getLoad(any());
+		doReturn(4).when(mockServerMetrics).getClientCount();
+
+		ActuatorServerLoadProbeWrapper serverLoadProbe = new ActuatorServerLoadProbeWrapper(mockServerLoadProbe, 8);
+
+		serverLoadProbe.getLoad(mockServerMetrics);
+
+		Map<String, Object> serverLoad = new GeodeServerLoadEndpoint(serverLoadProbe).serverLoad();
+
+		assertThat(serverLoad).containsEntry("capacity", 8);
+		assertThat(serverLoad).containsEntry("samples", 1);
+		assertThat(serverLoad).containsEntry("window", 0L);
+		assertThat(serverLoad).containsKeys("connection-load", "subscription-connection-load", "client-count");
+
+		Map<String, Object> clientCount = (Map<String, Object>) serverLoad.get("client-count");
+
+		assertThat(clientCount).containsEntry("latest", 4.0d);
+		assertThat(clientCount).containsEntry("p50", 4.0d);
+		assertThat(clientCount).containsEntry("max", 4.0d);
+		assertThat(clientCount).containsEntry("rate", 0.0d);
+		assertThat(clientCount).containsKeys("p90", "p99");
+	}
+
+	@Test
+	public void serverLoadWithoutServerLoadProbeIsEmpty() {
+		assertThat(new GeodeServerLoadEndpoint(null).serverLoad()).isEmpty();
+	}
+}
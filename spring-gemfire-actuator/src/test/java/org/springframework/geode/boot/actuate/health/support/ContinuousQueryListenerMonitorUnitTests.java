@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+
+/**
+ * Unit Tests for {@link ContinuousQueryListenerMonitor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor
+ * @since 2.0.0
+ */
+public class ContinuousQueryListenerMonitorUnitTests {
+
+	private final AtomicLong clock = new AtomicLong(0L);
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	private final ContinuousQueryListenerMonitor monitor =
+		new ContinuousQueryListenerMonitor(this.tasks::add, this.clock::get);
+
+	@Test
+	public void constructWithNullExecutorThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ContinuousQueryListenerMonitor(null));
+	}
+
+	@Test
+	public void monitorsDispatchedAndProcessedEvents() {
+
+		this.monitor.execute(() -> this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(20L)));
+		this.monitor.execute(() -> this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(40L)));
+		this.monitor.execute(() -> {});
+
+		assertThat(this.monitor.getDispatchedEventCount()).isEqualTo(3L);
+		assertThat(this.monitor.getProcessedEventCount()).isZero();
+		assertThat(this.monitor.getBacklog()).isEqualTo(3L);
+
+		this.clock.set(TimeUnit.MILLISECONDS.toNanos(100L));
+		this.tasks.get(0).run();
+		this.tasks.get(1).run();
+
+		assertThat(this.monitor.getProcessedEventCount()).isEqualTo(2L);
+		assertThat(this.monitor.getStartedEventCount()).isEqualTo(2L);
+		assertThat(this.monitor.getBacklog()).isOne();
+		assertThat(this.monitor.getAverageProcessingTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0d);
+		assertThat(this.monitor.getQueueTime(TimeUnit.MILLISECONDS)).isEqualTo(160L);
+		assertThat(this.monitor.getTotalQueueTime(TimeUnit.MILLISECONDS)).isEqualTo(220.0d);
+
+		this.tasks.get(2).run();
+
+		assertThat(this.monitor.getBacklog()).isZero();
+		assertThat(this.monitor.getQueueTime(TimeUnit.MILLISECONDS)).isZero();
+	}
+
+	@Test
+	public void queueTimeIsTheTimeTheOldestWaitingEventHasBeenWaiting() {
+
+		this.monitor.execute(() -> {});
+
+		this.clock.set(TimeUnit.MILLISECONDS.toNanos(50L));
+		this.monitor.execute(() -> {});
+
+		this.clock.set(TimeUnit.MILLISECONDS.toNanos(80L));
+
+		assertThat(this.monitor.getStartedEventCount()).isZero();
+		assertThat(this.monitor.getQueueTime(TimeUnit.MILLISECONDS)).isEqualTo(80L);
+
+		this.tasks.get(0).run();
+
+		assertThat(this.monitor.getQueueTime(TimeUnit.MILLISECONDS)).isEqualTo(30L);
+
+		this.tasks.get(1).run();
+
+		assertThat(this.monitor.getQueueTime(TimeUnit.MILLISECONDS)).isZero();
+	}
+
+	@Test
+	public void countsEventsProcessedByFailingListeners() {
+
+		this.monitor.execute(() -> { throw new IllegalStateException("TEST"); });
+
+		assertThatIllegalStateException().isThrownBy(() -> this.tasks.get(0).run());
+		assertThat(this.monitor.getProcessedEventCount()).isOne();
+		assertThat(this.monitor.getBacklog()).isZero();
+	}
+
+	@Test
+	public void rejectedEventsAreNotCounted() {
+
+		Executor rejectingExecutor = task -> { throw new IllegalStateException("Rejected"); };
+
+		ContinuousQueryListenerMonitor monitor = new ContinuousQueryListenerMonitor(rejectingExecutor);
+
+		assertThatIllegalStateException().isThrownBy(() -> monitor.execute(() -> {}));
+		assertThat(monitor.getDispatchedEventCount()).isZero();
+		assertThat(monitor.getBacklog()).isZero();
+		assertThat(monitor.getQueueTime(TimeUnit.MILLISECONDS)).isZero();
+	}
+
+	@Test
+	public void installDecoratesTaskExecutorOnce() {
+
+		ContinuousQueryListenerContainer container = new ContinuousQueryListenerContainer();
+
+		container.setTaskExecutor(this.tasks::add);
+
+		ContinuousQueryListenerMonitor installedMonitor = ContinuousQueryListenerMonitor.install(container).orElse(null);
+
+		assertThat(installedMonitor).isNotNull();
+		assertThat(ContinuousQueryListenerMonitor.from(container)).containsSame(installedMonitor);
+		assertThat(ContinuousQueryListenerMonitor.install(container)).containsSame(installedMonitor);
+	}
+
+	@Test
+	public void fromNullContainerIsEmpty() {
+
+		assertThat(ContinuousQueryListenerMonitor.from(null)).isEmpty();
+		assertThat(ContinuousQueryListenerMonitor.install(null)).isEmpty();
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link CounterSampleWindow}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.health.support.CounterSampleWindow
+ * @since 2.0.0
+ */
+public class CounterSampleWindowUnitTests {
+
+	private static long seconds(long seconds) {
+		return TimeUnit.SECONDS.toNanos(seconds);
+	}
+
+	@Test
+	public void constructWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new CounterSampleWindow(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CounterSampleWindow(1, null, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CounterSampleWindow(1, Duration.ofSeconds(-1L), 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CounterSampleWindow(1, Duration.ofMinutes(1L), 1));
+	}
+
+	@Test
+	public void recordWithWrongNumberOfCountersThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CounterSampleWindow(2).record(0L, 1L));
+	}
+
+	@Test
+	public void emptyWindowReportsNoChange() {
+
+		CounterSampleWindow window = new CounterSampleWindow(1);
+
+		assertThat(window.getCapacity()).isEqualTo(CounterSampleWindow.DEFAULT_CAPACITY);
+		assertThat(window.getWindow()).isEqualTo(CounterSampleWindow.DEFAULT_WINDOW);
+		assertThat(window.size()).isZero();
+		assertThat(window.getElapsedTime()).isZero();
+		assertThat(window.delta(0)).isZero();
+		assertThat(window.rate(0)).isZero();
+
+		window.record(0L, 10L);
+
+		assertThat(window.size()).isOne();
+		assertThat(window.delta(0)).isZero();
+		assertThat(window.rate(0)).isZero();
+	}
+
+	@Test
+	public void rateDoesNotDependOnHowOftenSamplesAreRecorded() {
+
+		CounterSampleWindow window = new CounterSampleWindow(2);
+
+		window.record(seconds(0L), 10L, 0L);
+		window.record(seconds(1L), 20L, 5L);
+		window.record(seconds(2L), 20L, 10L);
+
+		assertThat(window.size()).isEqualTo(3);
+		assertThat(window.getElapsedTime()).isEqualTo(seconds(2L));
+		assertThat(window.delta(0)).isEqualTo(10L);
+		assertThat(window.rate(0)).isEqualTo(5.0d);
+		assertThat(window.rate(1)).isEqualTo(5.0d);
+	}
+
+	@Test
+	public void retainsSamplesSpanningTheWindow() {
+
+		CounterSampleWindow window = new CounterSampleWindow(1, Duration.ofMinutes(1L), 10);
+
+		window.record(seconds(0L), 0L);
+		window.record(seconds(30L), 60L);
+		window.record(seconds(61L), 122L);
+
+		assertThat(window.size()).isEqualTo(3);
+		assertThat(window.getElapsedTime()).isEqualTo(seconds(61L));
+		assertThat(window.rate(0)).isEqualTo(2.0d);
+
+		window.record(seconds(91L), 182L);
+
+		assertThat(window.size()).isEqualTo(3);
+		assertThat(window.getElapsedTime()).isEqualTo(seconds(61L));
+		assertThat(window.delta(0)).isEqualTo(122L);
+		assertThat(window.rate(0)).isEqualTo(2.0d);
+	}
+
+	@Test
+	public void fullWindowOverwritesOldestSample() {
+
+		CounterSampleWindow window = new CounterSampleWindow(1, Duration.ofMinutes(1L), 2);
+
+		window.record(seconds(0L), 0L);
+		window.record(seconds(1L), 1L);
+		window.record(seconds(2L), 3L);
+
+		assertThat(window.size()).isEqualTo(2);
+		assertThat(window.getElapsedTime()).isEqualTo(seconds(1L));
+		assertThat(window.delta(0)).isEqualTo(2L);
+		assertThat(window.rate(0)).isEqualTo(2.0d);
+	}
+
+	@Test
+	public void resetCounterDiscardsPreviousSamples() {
+
+		CounterSampleWindow window = new CounterSampleWindow(1);
+
+		window.record(seconds(0L), 100L);
+		window.record(seconds(1L), 200L);
+		window.record(seconds(2L), 50L);
+
+		assertThat(window.size()).isOne();
+		assertThat(window.delta(0)).isZero();
+		assertThat(window.rate(0)).isZero();
+
+		window.record(seconds(4L), 70L);
+
+		assertThat(window.rate(0)).isEqualTo(10.0d);
+	}
+
+	@Test
+	public void clearRemovesAllSamples() {
+
+		CounterSampleWindow window = new CounterSampleWindow(1);
+
+		window.record(seconds(0L), 0L);
+		window.record(seconds(1L), 10L);
+		window.clear();
+
+		assertThat(window.size()).isZero();
+		assertThat(window.rate(0)).isZero();
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.DiskStore;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link DiskStoreStatisticsSampler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.cache.DiskStore
+ * @see org.springframework.geode.boot.actuate.health.support.DiskStoreStatisticsSampler
+ * @since 2.0.0
+ */
+public class DiskStoreStatisticsSamplerUnitTests {
+
+	private final AtomicLong clock = new AtomicLong(0L);
+
+	private final StatisticsFactory mockStatisticsFactory = mock(StatisticsFactory.class);
+
+	private DiskStore mockDiskStore(String name) {
+
+		DiskStore mockDiskStore = mock(DiskStore.class, name);
+
+		doReturn(name).when(mockDiskStore).getName();
+
+		return mockDiskStore;
+	}
+
+	private File mockFile(String name, boolean file, long length) {
+
+		File mockFile = mock(File.class, name);
+
+		doReturn(file).when(mockFile).isFile();
+		doReturn(length).when(mockFile).length();
+
+		return mockFile;
+	}
+
+	private File mockDirectory(String name, long totalSpace, long usableSpace, File... files) {
+
+		File mockDirectory = mock(File.class, name);
+
+		doReturn(files).when(mockDirectory).listFiles();
+		doReturn(totalSpace).when(mockDirectory).getTotalSpace();
+		doReturn(usableSpace).when(mockDirectory).getUsableSpace();
+
+		return mockDirectory;
+	}
+
+	@Test
+	public void constructWithNullStatisticsFactoryThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new DiskStoreStatisticsSampler(null));
+	}
+
+	@Test
+	public void sampleWithoutDiskStoreStatisticsIsEmpty() {
+
+		assertThat(new DiskStoreStatisticsSampler(this.mockStatisticsFactory).sample(mockDiskStore("TestDiskStore")))
+			.isEmpty();
+	}
+
+	@Test
+	public void sampleReportsIoActivityAndThroughput() {
+
+		Statistics mockStatistics = mock(Statistics.class);
+		StatisticsType mockStatisticsType = mock(StatisticsType.class);
+
+		doReturn("DiskStoreStatistics").when(mockStatisticsType).getName();
+		doReturn(mockStatisticsType).when(mockStatistics).getType();
+		doThrow(new IllegalArgumentException("TEST")).when(mockStatistics).get(anyString());
+		doReturn(100L).when(mockStatistics).get("writes");
+		doReturn(4096L).when(mockStatistics).get("writtenBytes");
+		doReturn(10L).when(mockStatistics).get("flushes");
+		doReturn(2048L).when(mockStatistics).get("flushedBytes");
+		doReturn(16).when(mockStatistics).get("queueSize");
+		doReturn(3).when(mockStatistics).get("compacts");
+		doReturn(2).when(mockStatistics).get("openOplogs");
+		doReturn(new Statistics[] { mockStatistics }).when(this.mockStatisticsFactory)
+			.findStatisticsByTextId("TestDiskStore");
+
+		DiskStoreStatisticsSampler sampler = new DiskStoreStatisticsSampler(this.mockStatisticsFactory, this.clock::get);
+
+		DiskStore mockDiskStore = mockDiskStore("TestDiskStore");
+
+		Map<String, Object> sample = sampler.sample(mockDiskStore);
+
+		assertThat(sample).containsEntry("writes", 100L);
+		assertThat(sample).containsEntry("written-bytes", 4096L);
+		assertThat(sample).containsEntry("flushes", 10L);
+		assertThat(sample).containsEntry("flushed-bytes", 2048L);
+		assertThat(sample).containsEntry("flush-queue-size", 16L);
+		assertThat(sample).containsEntry("compactions", 3L);
+		assertThat(sample).containsEntry("oplogs.open", 2L);
+		assertThat(sample).containsEntry("write-rate", 0.0d);
+		assertThat(sample).containsEntry("flush-rate", 0.0d);
+		assertThat(sample).doesNotContainKeys("compactions-in-progress", "oplogs.inactive");
+
+		this.clock.set(TimeUnit.SECONDS.toNanos(2L));
+
+		doReturn(8192L).when(mockStatistics).get("writtenBytes");
+		doReturn(6144L).when(mockStatistics).get("flushedBytes");
+
+		sample = sampler.sample(mockDiskStore);
+
+		assertThat(sample).containsEntry("write-rate", 2048.0d);
+		assertThat(sample).containsEntry("flush-rate", 2048.0d);
+
+		verify(this.mockStatisticsFactory, times(1)).findStatisticsByTextId("TestDiskStore");
+	}
+
+	@Test
+	public void sampleDiskUsageComparesUsedSpaceToLimits() {
+
+		File directoryOne = mockDirectory("one", 1000L, 400L,
+			mockFile("oplog.crf", true, 512L * 1024L), mockFile("subdirectory", false, 4096L));
+
+		File directoryTwo = mockDirectory("two", 1000L, 100L, mockFile("oplog.drf", true, 512L * 1024L));
+
+		DiskStore mockDiskStore = mockDiskStore("TestDiskStore");
+
+		doReturn(new File[] { directoryOne, directoryTwo }).when(mockDiskStore).getDiskDirs();
+		doReturn(new int[] { 1, 1 }).when(mockDiskStore).getDiskDirSizes();
+
+		DiskStoreStatisticsSampler.DiskUsage diskUsage = DiskStoreStatisticsSampler.sampleDiskUsage(mockDiskStore);
+
+		assertThat(diskUsage.getUsed()).isEqualTo(1024L * 1024L);
+		assertThat(diskUsage.getLimit()).isEqualTo(2L * 1024L * 1024L);
+		assertThat(diskUsage.getUsagePercentage()).isEqualTo(50.0d);
+		assertThat(diskUsage.getVolumeUsagePercentage()).isEqualTo(90.0d);
+	}
+
+	@Test
+	public void sampleDiskUsageWithoutDirectoriesIsUnknown() {
+
+		DiskStoreStatisticsSampler.DiskUsage diskUsage =
+			DiskStoreStatisticsSampler.sampleDiskUsage(mockDiskStore("TestDiskStore"));
+
+		assertThat(diskUsage.getUsed()).isZero();
+		assertThat(diskUsage.getLimit()).isZero();
+		assertThat(diskUsage.getUsagePercentage()).isNaN();
+		assertThat(diskUsage.getVolumeUsagePercentage()).isNaN();
+	}
+}
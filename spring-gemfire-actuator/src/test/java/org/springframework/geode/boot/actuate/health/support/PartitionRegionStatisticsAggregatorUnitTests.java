@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+import static org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolverUnitTests.mockBucket;
+import static org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolverUnitTests.mockPartitionedRegion;
+
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+
+/**
+ * Unit Tests for {@link PartitionRegionStatisticsAggregator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsAggregator
+ * @since 2.0.0
+ */
+public class PartitionRegionStatisticsAggregatorUnitTests {
+
+	private final PartitionRegionStatisticsAggregator aggregator =
+		new PartitionRegionStatisticsAggregator(Duration.ofMinutes(5));
+
+	@After
+	public void tearDown() {
+		this.aggregator.destroy();
+	}
+
+	@Test
+	public void constructWithInvalidSamplingIntervalThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new PartitionRegionStatisticsAggregator(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> new PartitionRegionStatisticsAggregator(Duration.ZERO));
+	}
+
+	@Test
+	public void getStatisticsForNonPartitionedRegionThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.aggregator.getStatistics(mock(Region.class)));
+	}
+
+	@Test
+	public void getStatisticsSamplesLocalBucketsOnce() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example",
+			mockBucket(0, 100L, 20L, 10L, 5L), mockBucket(1, 300L, 80L, 30L, 50L));
+
+		CacheStatistics statistics = this.aggregator.getStatistics(mockRegion);
+
+		assertThat(this.aggregator.getStatistics(mockRegion)).isSameAs(statistics);
+		assertThat(statistics.getHitCount()).isEqualTo(400L);
+		assertThat(statistics.getMissCount()).isEqualTo(100L);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.8f);
+		assertThat(statistics.getLastAccessedTime()).isEqualTo(30L);
+		assertThat(statistics.getLastModifiedTime()).isEqualTo(50L);
+
+		verify(mockRegion, times(1)).getDataStore();
+	}
+
+	@Test
+	public void sampleAddsBucketDeltasAndRemovesMovedBuckets() {
+
+		BucketRegion mockBucketZero = mockBucket(0, 100L, 20L, 10L, 5L);
+		BucketRegion mockBucketOne = mockBucket(1, 300L, 80L, 30L, 50L);
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example", mockBucketZero, mockBucketOne);
+
+		CacheStatistics statistics = this.aggregator.getStatistics(mockRegion);
+
+		assertThat(statistics.getHitCount()).isEqualTo(400L);
+
+		BucketRegion mockBucketZeroUpdated = mockBucket(0, 150L, 30L, 60L, 5L);
+		BucketRegion mockBucketTwo = mockBucket(2, 50L, 10L, 20L, 70L);
+
+		doReturn(asSet(mockBucketZeroUpdated, mockBucketTwo)).when(mockRegion.getDataStore())
+			.getAllLocalBucketRegions();
+
+		this.aggregator.sample();
+
+		assertThat(statistics.getHitCount()).isEqualTo(200L);
+		assertThat(statistics.getMissCount()).isEqualTo(40L);
+		assertThat(statistics.getHitRatio()).isEqualTo(200.0f / 240.0f);
+		assertThat(statistics.getLastAccessedTime()).isEqualTo(60L);
+		assertThat(statistics.getLastModifiedTime()).isEqualTo(70L);
+	}
+
+	@Test
+	public void resetCountsCountsFromTheNextSample() {
+
+		BucketRegion mockBucket = mockBucket(0, 10L, 10L, 1L, 1L);
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example", mockBucket);
+
+		CacheStatistics statistics = this.aggregator.getStatistics(mockRegion);
+
+		statistics.resetCounts();
+
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getMissCount()).isZero();
+
+		doReturn(asSet(mockBucket(0, 15L, 10L, 2L, 1L))).when(mockRegion.getDataStore()).getAllLocalBucketRegions();
+
+		this.aggregator.sample();
+
+		assertThat(statistics.getHitCount()).isEqualTo(5L);
+		assertThat(statistics.getMissCount()).isZero();
+		assertThat(statistics.getHitRatio()).isEqualTo(1.0f);
+	}
+
+	@Test
+	public void resetCountsResetsBucketBaselines() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example", mockBucket(0, 10L, 10L, 1L, 1L));
+
+		CacheStatistics statistics = this.aggregator.getStatistics(mockRegion);
+
+		doReturn(asSet(mockBucket(0, 12L, 14L, 2L, 1L))).when(mockRegion.getDataStore()).getAllLocalBucketRegions();
+
+		statistics.resetCounts();
+
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getMissCount()).isZero();
+
+		doReturn(asSet(mockBucket(0, 15L, 15L, 3L, 1L))).when(mockRegion.getDataStore()).getAllLocalBucketRegions();
+
+		this.aggregator.sample();
+
+		assertThat(statistics.getHitCount()).isEqualTo(3L);
+		assertThat(statistics.getMissCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void sampleRemovesDestroyedRegions() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example", mockBucket(0, 1L, 1L, 1L, 1L));
+
+		CacheStatistics statistics = this.aggregator.getStatistics(mockRegion);
+
+		doReturn(true).when(mockRegion).isDestroyed();
+
+		this.aggregator.sample();
+
+		doReturn(false).when(mockRegion).isDestroyed();
+
+		assertThat(this.aggregator.getStatistics(mockRegion)).isNotSameAs(statistics);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.client.Pool;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link PoolStatisticsSampler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.springframework.geode.boot.actuate.health.support.PoolStatisticsSampler
+ * @since 2.0.0
+ */
+public class PoolStatisticsSamplerUnitTests {
+
+	private final StatisticsFactory mockStatisticsFactory = mock(StatisticsFactory.class);
+
+	private Pool mockPool(String name) {
+
+		Pool mockPool = mock(Pool.class, name);
+
+		doReturn(name).when(mockPool).getName();
+
+		return mockPool;
+	}
+
+	private Statistics mockStatistics(String typeName, String textId) {
+
+		Statistics mockStatistics = mock(Statistics.class, textId);
+
+		StatisticsType mockStatisticsType = mock(StatisticsType.class, typeName);
+
+		doReturn(typeName).when(mockStatisticsType).getName();
+		doReturn(mockStatisticsType).when(mockStatistics).getType();
+		doReturn(textId).when(mockStatistics).getTextId();
+		doThrow(new IllegalArgumentException("TEST")).when(mockStatistics).get(anyString());
+
+		return mockStatistics;
+	}
+
+	private void register(Statistics statistics, String typeName, String textId) {
+
+		StatisticsType type = statistics.getType();
+
+		doReturn(type).when(this.mockStatisticsFactory).findType(typeName);
+		doReturn(new Statistics[] { statistics }).when(this.mockStatisticsFactory).findStatisticsByType(type);
+		doReturn(new Statistics[] { statistics }).when(this.mockStatisticsFactory).findStatisticsByTextId(textId);
+	}
+
+	@Test
+	public void constructWithNullStatisticsFactoryThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PoolStatisticsSampler(null));
+	}
+
+	@Test
+	public void sampleWithoutPoolStatisticsIsEmpty() {
+		assertThat(new PoolStatisticsSampler(this.mockStatisticsFactory).sample(mockPool("TestPool"))).isEmpty();
+	}
+
+	@Test
+	public void sampleReportsLivePoolBehavior() {
+
+		Statistics poolStatistics = mockStatistics("PoolStats", "TestPool");
+		Statistics clientStatistics = mockStatistics("ClientStats", "TestPool->localhost:40404");
+
+		doReturn(10).when(poolStatistics).get("poolConnections");
+		doReturn(3).when(poolStatistics).get("clientOpsInProgress");
+		doReturn(5).when(poolStatistics).get("connectionWaits");
+		doReturn(1).when(poolStatistics).get("connectionWaitsInProgress");
+		doReturn(TimeUnit.MILLISECONDS.toNanos(10L)).when(poolStatistics).get("connectionWaitTime");
+		doReturn(6).when(clientStatistics).get("connections");
+
+		register(poolStatistics, "PoolStats", "TestPool");
+		register(clientStatistics, "ClientStats", "TestPool->localhost:40404");
+
+		PoolStatisticsSampler sampler = new PoolStatisticsSampler(this.mockStatisticsFactory);
+
+		Pool mockPool = mockPool("TestPool");
+
+		Map<String, Object> sample = sampler.sample(mockPool);
+
+		assertThat(sample).containsEntry("connections.total", 10L);
+		assertThat(sample).containsEntry("connections.active", 3L);
+		assertThat(sample).containsEntry("connections.idle", 7L);
+		assertThat(sample).containsEntry("connection-waits", 5L);
+		assertThat(sample).containsEntry("connection-waits-in-progress", 1L);
+		assertThat(sample).containsEntry("connection-wait-time", 10L);
+		assertThat(sample).containsEntry("servers.localhost:40404.connections", 6L);
+		assertThat(sample).doesNotContainKey("free-connection-timeouts");
+
+		doReturn(9).when(poolStatistics).get("connectionWaits");
+		doReturn(TimeUnit.MILLISECONDS.toNanos(90L)).when(poolStatistics).get("connectionWaitTime");
+
+		sample = sampler.sample(mockPool);
+
+		assertThat(sample).containsEntry("connection-waits", 9L);
+		assertThat(sample).containsEntry("connection-wait-time", 90L);
+		assertThat(sample).doesNotContainKey("connection-wait-time-histogram");
+		assertThat(sample).doesNotContainKey("single-hop-ratio");
+
+		verify(this.mockStatisticsFactory, times(1)).findStatisticsByTextId("TestPool");
+	}
+
+	@Test
+	public void sampleSingleHopRatioWithoutCachePerfStatisticsIsNull() {
+
+		Statistics poolStatistics = mockStatistics("PoolStats", "TestPool");
+
+		doReturn(100).when(poolStatistics).get("clientOps");
+
+		register(poolStatistics, "PoolStats", "TestPool");
+
+		assertThat(new PoolStatisticsSampler(this.mockStatisticsFactory)
+			.sampleSingleHopRatio(Arrays.asList(mockPool("TestPool")))).isNull();
+	}
+
+	@Test
+	public void sampleSingleHopRatioAcrossAllPoolsOverWindow() {
+
+		Statistics poolOneStatistics = mockStatistics("PoolStats", "PoolOne");
+		Statistics poolTwoStatistics = mockStatistics("PoolStats", "PoolTwo");
+		Statistics cachePerfStatistics = mockStatistics("CachePerfStats", "cachePerfStats");
+
+		doReturn(60).when(poolOneStatistics).get("clientOps");
+		doReturn(40).when(poolTwoStatistics).get("clientOps");
+		doReturn(0).when(cachePerfStatistics).get("nonSingleHopsCount");
+
+		doReturn(new Statistics[] { poolOneStatistics }).when(this.mockStatisticsFactory).findStatisticsByTextId("PoolOne");
+		doReturn(new Statistics[] { poolTwoStatistics }).when(this.mockStatisticsFactory).findStatisticsByTextId("PoolTwo");
+		register(cachePerfStatistics, "CachePerfStats", "cachePerfStats");
+
+		PoolStatisticsSampler sampler = spy(new PoolStatisticsSampler(this.mockStatisticsFactory));
+
+		doReturn(0L, TimeUnit.SECONDS.toNanos(1L), TimeUnit.SECONDS.toNanos(2L)).when(sampler).currentTimeNanos();
+
+		Pool mockPoolOne = mockPool("PoolOne");
+		Pool mockPoolTwo = mockPool("PoolTwo");
+
+		assertThat(sampler.sampleSingleHopRatio(Arrays.asList(mockPoolOne, mockPoolTwo))).isEqualTo(1.0d);
+
+		doReturn(120).when(poolOneStatistics).get("clientOps");
+		doReturn(80).when(poolTwoStatistics).get("clientOps");
+		doReturn(25).when(cachePerfStatistics).get("nonSingleHopsCount");
+
+		assertThat(sampler.sampleSingleHopRatio(Arrays.asList(mockPoolOne, mockPoolTwo))).isEqualTo(0.75d);
+
+		doReturn(130).when(poolOneStatistics).get("clientOps");
+		doReturn(95).when(poolTwoStatistics).get("clientOps");
+
+		assertThat(sampler.sampleSingleHopRatio(Arrays.asList(mockPoolOne, mockPoolTwo))).isEqualTo(0.8d);
+
+		verify(this.mockStatisticsFactory, times(1)).findStatisticsByTextId("PoolOne");
+		verify(this.mockStatisticsFactory, times(1)).findStatisticsByTextId("PoolTwo");
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+/**
+ * Unit Tests for {@link RegionStatisticsResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver
+ * @since 2.0.0
+ */
+public class RegionStatisticsResolverUnitTests {
+
+	static BucketRegion mockBucket(int id, long hitCount, long missCount, long lastAccessedTime,
+			long lastModifiedTime) {
+
+		BucketRegion mockBucket = mock(BucketRegion.class, String.format("Bucket-%d", id));
+
+		CacheStatistics mockStatistics = mock(CacheStatistics.class, String.format("Bucket-%d-Statistics", id));
+
+		doReturn(id).when(mockBucket).getId();
+		doReturn(mockStatistics).when(mockBucket).getStatistics();
+		doReturn(hitCount).when(mockStatistics).getHitCount();
+		doReturn(missCount).when(mockStatistics).getMissCount();
+		doReturn(lastAccessedTime).when(mockStatistics).getLastAccessedTime();
+		doReturn(lastModifiedTime).when(mockStatistics).getLastModifiedTime();
+
+		return mockBucket;
+	}
+
+	static PartitionedRegion mockPartitionedRegion(String name, BucketRegion... buckets) {
+
+		PartitionedRegion mockRegion = mock(PartitionedRegion.class, name);
+
+		PartitionedRegionDataStore mockDataStore = mock(PartitionedRegionDataStore.class);
+
+		doReturn("/" + name).when(mockRegion).getFullPath();
+		doReturn(mockDataStore).when(mockRegion).getDataStore();
+		doReturn(asSet(buckets)).when(mockDataStore).getAllLocalBucketRegions();
+
+		return mockRegion;
+	}
+
+	@Test
+	public void resolveNullRegionReturnsNull() {
+		assertThat(RegionStatisticsResolver.resolve(null)).isNull();
+	}
+
+	@Test
+	public void resolveNonPartitionedRegionReturnsRegionStatistics() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		CacheStatistics mockStatistics = mock(CacheStatistics.class);
+
+		doReturn(mockStatistics).when(mockRegion).getStatistics();
+
+		assertThat(RegionStatisticsResolver.resolve(mockRegion)).isSameAs(mockStatistics);
+
+		verify(mockRegion).getStatistics();
+	}
+
+	@Test
+	public void resolvePartitionedRegionReturnsTotalsAcrossLocalBuckets() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example",
+			mockBucket(0, 100L, 20L, 10L, 5L),
+			mockBucket(1, 300L, 80L, 30L, 50L),
+			mockBucket(2, 0L, 0L, 20L, 40L));
+
+		CacheStatistics statistics = RegionStatisticsResolver.resolve(mockRegion);
+
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.getHitCount()).isEqualTo(400L);
+		assertThat(statistics.getMissCount()).isEqualTo(100L);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.8f);
+		assertThat(statistics.getLastAccessedTime()).isEqualTo(30L);
+		assertThat(statistics.getLastModifiedTime()).isEqualTo(50L);
+	}
+
+	@Test
+	public void resolvePartitionedRegionWithoutLocalBucketsReturnsZeros() {
+
+		CacheStatistics statistics = RegionStatisticsResolver.resolve(mockPartitionedRegion("Empty"));
+
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getMissCount()).isZero();
+		assertThat(statistics.getHitRatio()).isZero();
+	}
+
+	@Test
+	public void resolvePartitionedRegionWithAggregatorUsesAggregator() {
+
+		PartitionedRegion mockRegion = mockPartitionedRegion("Example", mockBucket(0, 3L, 1L, 1L, 1L));
+
+		PartitionRegionStatisticsAggregator aggregator = new PartitionRegionStatisticsAggregator();
+
+		try {
+
+			CacheStatistics statistics = RegionStatisticsResolver.resolve(mockRegion, aggregator);
+
+			assertThat(statistics).isSameAs(aggregator.getStatistics(mockRegion));
+			assertThat(statistics.getHitCount()).isEqualTo(3L);
+			assertThat(statistics.getHitRatio()).isEqualTo(0.75f);
+		}
+		finally {
+			aggregator.destroy();
+		}
+	}
+
+	@Test
+	public void computeHitRatioIsCorrect() {
+
+		Arrays.asList(new long[] { 0L, 0L }, new long[] { 1L, 0L }, new long[] { 0L, 1L }, new long[] { 1L, 3L })
+			.forEach(counts -> assertThat(RegionStatisticsResolver.computeHitRatio(counts[0], counts[1]))
+				.isEqualTo(counts[0] + counts[1] > 0 ? (float) counts[0] / (counts[0] + counts[1]) : 0.0f));
+	}
+}
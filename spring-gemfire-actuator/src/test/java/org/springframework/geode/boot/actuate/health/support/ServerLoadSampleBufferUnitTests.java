@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.Test;
+
+import org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer.Series;
+
+/**
+ * Unit Tests for {@link ServerLoadSampleBuffer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.health.support.ServerLoadSampleBuffer
+ * @since 2.0.0
+ */
+public class ServerLoadSampleBufferUnitTests {
+
+	@Test
+	public void constructWithInvalidCapacityThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ServerLoadSampleBuffer(0));
+	}
+
+	@Test
+	public void emptyBufferReportsNoSamples() {
+
+		ServerLoadSampleBuffer buffer = new ServerLoadSampleBuffer();
+
+		assertThat(buffer.getCapacity()).isEqualTo(ServerLoadSampleBuffer.DEFAULT_CAPACITY);
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.getWindow()).isZero();
+		assertThat(buffer.latest(Series.CONNECTION_LOAD)).isNaN();
+		assertThat(buffer.percentile(Series.CONNECTION_LOAD, 0.5d)).isNaN();
+		assertThat(buffer.rate(Series.CLIENT_COUNT)).isZero();
+	}
+
+	@Test
+	public void computesPercentilesAndRates() {
+
+		ServerLoadSampleBuffer buffer = new ServerLoadSampleBuffer(10);
+
+		for (int sample = 1; sample <= 10; sample++) {
+			buffer.record(sample * 1000L, sample / 10.0d, sample / 100.0d, sample * 2);
+		}
+
+		assertThat(buffer.size()).isEqualTo(10);
+		assertThat(buffer.getWindow()).isEqualTo(9000L);
+		assertThat(buffer.latest(Series.CLIENT_COUNT)).isEqualTo(20.0d);
+		assertThat(buffer.percentile(Series.CONNECTION_LOAD, 0.5d)).isEqualTo(0.5d);
+		assertThat(buffer.percentile(Series.CONNECTION_LOAD, 0.9d)).isEqualTo(0.9d);
+		assertThat(buffer.percentile(Series.CONNECTION_LOAD, 1.0d)).isEqualTo(1.0d);
+		assertThat(buffer.percentile(Series.SUBSCRIPTION_CONNECTION_LOAD, 0.0d)).isEqualTo(0.01d);
+		assertThat(buffer.rate(Series.CLIENT_COUNT)).isEqualTo(2.0d);
+	}
+
+	@Test
+	public void overwritesOldestSamplesWhenFull() {
+
+		ServerLoadSampleBuffer buffer = new ServerLoadSampleBuffer(3);
+
+		for (int sample = 1; sample <= 5; sample++) {
+			buffer.record(sample * 1000L, sample, 0.0d, sample);
+		}
+
+		assertThat(buffer.size()).isEqualTo(3);
+		assertThat(buffer.getWindow()).isEqualTo(2000L);
+		assertThat(buffer.latest(Series.CONNECTION_LOAD)).isEqualTo(5.0d);
+		assertThat(buffer.percentile(Series.CONNECTION_LOAD, 0.0d)).isEqualTo(3.0d);
+		assertThat(buffer.rate(Series.CLIENT_COUNT)).isEqualTo(1.0d);
+
+		buffer.clear();
+
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.latest(Series.CONNECTION_LOAD)).isNaN();
+	}
+
+	@Test
+	public void percentileOutOfRangeThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ServerLoadSampleBuffer().percentile(Series.CONNECTION_LOAD, 1.5d));
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+
+/**
+ * Unit Tests for {@link FunctionExecutionMetricsBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.boot.actuate.metrics.FunctionExecutionMetricsBeanPostProcessor
+ * @since 2.0.0
+ */
+public class FunctionExecutionMetricsBeanPostProcessorUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private Functions newInstrumentedFunctionExecutionProxy(Object result) {
+
+		MethodInterceptor functionExecutionInterceptor = invocation -> {
+
+			if (result instanceof RuntimeException) {
+				throw (RuntimeException) result;
+			}
+
+			return result;
+		};
+
+		Functions functions = (Functions) new ProxyFactory(Functions.class, functionExecutionInterceptor).getProxy();
+
+		new FunctionExecutionMetricsBeanPostProcessor(() -> this.meterRegistry)
+			.postProcessAfterInitialization(functions, "functions");
+
+		return functions;
+	}
+
+	@Test
+	public void constructWithNullSupplierThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new FunctionExecutionMetricsBeanPostProcessor(null))
+			.withMessage("Supplier of MeterRegistry must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void recordsSuccessfulFunctionExecution() {
+
+		Functions functions = newInstrumentedFunctionExecutionProxy(Arrays.asList(1, 2, 3));
+
+		assertThat(functions.compute()).containsExactly(1, 2, 3);
+		assertThat(functions.compute()).containsExactly(1, 2, 3);
+
+		assertThat(this.meterRegistry.get(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_EXECUTIONS_METER_NAME)
+			.tag("function", "ComputeFunction")
+			.tag("interface", "Functions")
+			.tag("outcome", "success")
+			.timer()
+			.count()).isEqualTo(2L);
+
+		assertThat(this.meterRegistry.get(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_RESULTS_METER_NAME)
+			.tag("function", "ComputeFunction")
+			.summary()
+			.totalAmount()).isEqualTo(6.0d);
+	}
+
+	@Test
+	public void recordsFailedFunctionExecution() {
+
+		Functions functions = newInstrumentedFunctionExecutionProxy(new FunctionException("TEST"));
+
+		assertThatExceptionOfType(FunctionException.class).isThrownBy(functions::count);
+
+		assertThat(this.meterRegistry.get(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_EXECUTIONS_METER_NAME)
+			.tag("function", "count")
+			.tag("outcome", "error")
+			.timer()
+			.count()).isOne();
+
+		assertThat(this.meterRegistry.get(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_ERRORS_METER_NAME)
+			.tag("function", "count")
+			.tag("exception", "FunctionException")
+			.counter()
+			.count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.find(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_TIMEOUTS_METER_NAME)
+			.counter()).isNull();
+	}
+
+	@Test
+	public void recordsTimedOutFunctionExecution() {
+
+		Functions functions =
+			newInstrumentedFunctionExecutionProxy(new FunctionException(new TimeoutException("TEST")));
+
+		assertThatExceptionOfType(FunctionException.class).isThrownBy(functions::count);
+
+		assertThat(this.meterRegistry.get(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_EXECUTIONS_METER_NAME)
+			.tag("outcome", "timeout")
+			.timer()
+			.count()).isOne();
+
+		assertThat(this.meterRegistry.get(FunctionExecutionMetricsBeanPostProcessor.FUNCTION_TIMEOUTS_METER_NAME)
+			.tag("function", "count")
+			.counter()
+			.count()).isEqualTo(1.0d);
+	}
+
+	@Test
+	public void cachesMetersPerMethodAndOutcome() throws NoSuchMethodException {
+
+		FunctionExecutionMetricsBeanPostProcessor.FunctionExecutionMetricsInterceptor interceptor =
+			new FunctionExecutionMetricsBeanPostProcessor.FunctionExecutionMetricsInterceptor(() -> this.meterRegistry);
+
+		Method compute = Functions.class.getMethod("compute");
+		Method count = Functions.class.getMethod("count");
+
+		Timer timer = interceptor.resolveExecutionTimer(this.meterRegistry, compute, "success");
+
+		assertThat(interceptor.resolveExecutionTimer(this.meterRegistry, compute, "success")).isSameAs(timer);
+		assertThat(interceptor.resolveExecutionTimer(this.meterRegistry, compute, "error")).isNotSameAs(timer);
+		assertThat(interceptor.resolveExecutionTimer(this.meterRegistry, count, "success")).isNotSameAs(timer);
+
+		DistributionSummary summary = interceptor.resolveResultsSummary(this.meterRegistry, compute);
+
+		assertThat(interceptor.resolveResultsSummary(this.meterRegistry, compute)).isSameAs(summary);
+
+		FunctionException cause = new FunctionException("TEST");
+
+		Counter counter = interceptor.resolveFailureCounter(this.meterRegistry, count, "error", cause);
+
+		assertThat(interceptor.resolveFailureCounter(this.meterRegistry, count, "error", cause)).isSameAs(counter);
+		assertThat(interceptor.resolveFailureCounter(this.meterRegistry, count, "timeout", cause))
+			.isNotSameAs(counter);
+	}
+
+	@Test
+	public void doesNotRecordMetricsWithoutMeterRegistry() {
+
+		Functions functions = (Functions) new ProxyFactory(Functions.class,
+			(MethodInterceptor) invocation -> Collections.emptyList()).getProxy();
+
+		new FunctionExecutionMetricsBeanPostProcessor(() -> null).postProcessAfterInitialization(functions, "functions");
+
+		assertThat(functions.compute()).isEmpty();
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+	}
+
+	@OnRegion(region = "Example")
+	interface Functions {
+
+		@FunctionId("ComputeFunction")
+		List<Integer> compute();
+
+		Object count();
+
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqServiceStatistics;
+import org.apache.geode.cache.query.CqStatistics;
+import org.apache.geode.cache.query.QueryService;
+import org.junit.Test;
+
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.geode.boot.actuate.health.support.ContinuousQueryListenerMonitor;
+
+/**
+ * Unit Tests for {@link GeodeContinuousQueryMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeContinuousQueryMetrics
+ * @since 2.0.0
+ */
+public class GeodeContinuousQueryMetricsUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private CqQuery mockContinuousQuery(String name, long inserts, long updates, long deletes) {
+
+		CqQuery mockContinuousQuery = mock(CqQuery.class, name);
+
+		CqStatistics mockStatistics = mock(CqStatistics.class, name + "Statistics");
+
+		doReturn(inserts).when(mockStatistics).numInserts();
+		doReturn(updates).when(mockStatistics).numUpdates();
+		doReturn(deletes).when(mockStatistics).numDeletes();
+		doReturn(inserts + updates + deletes).when(mockStatistics).numEvents();
+		doReturn(mockStatistics).when(mockContinuousQuery).getStatistics();
+
+		return mockContinuousQuery;
+	}
+
+	@Test
+	public void bindsContinuousQueryMeters() {
+
+		ContinuousQueryListenerContainer mockContainer = mock(ContinuousQueryListenerContainer.class);
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		CqServiceStatistics mockServiceStatistics = mock(CqServiceStatistics.class);
+
+		doReturn(mockQueryService).when(mockContainer).getQueryService();
+		doReturn(mockServiceStatistics).when(mockQueryService).getCqStatistics();
+		doReturn(3L).when(mockServiceStatistics).numCqsActive();
+		doReturn(1L).when(mockServiceStatistics).numCqsStopped();
+		doReturn(4L).when(mockServiceStatistics).numCqsOnClient();
+		doReturn(6L).when(mockServiceStatistics).numCqsCreated();
+		doReturn(2L).when(mockServiceStatistics).numCqsClosed();
+		doReturn(new CqQuery[] { mockContinuousQuery("One", 10L, 5L, 1L), mockContinuousQuery("Two", 2L, 3L, 4L) })
+			.when(mockQueryService).getCqs();
+
+		new GeodeContinuousQueryMetrics(mockContainer).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQS_METER_NAME)
+			.tag("state", "active").gauge().value()).isEqualTo(3.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQS_METER_NAME)
+			.tag("state", "stopped").gauge().value()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQS_METER_NAME)
+			.tag("state", "on-client").gauge().value()).isEqualTo(4.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQS_CREATED_METER_NAME)
+			.functionCounter().count()).isEqualTo(6.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQS_CLOSED_METER_NAME)
+			.functionCounter().count()).isEqualTo(2.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_EVENTS_METER_NAME)
+			.tag("type", "all").functionCounter().count()).isEqualTo(25.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_EVENTS_METER_NAME)
+			.tag("type", "insert").functionCounter().count()).isEqualTo(12.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_EVENTS_METER_NAME)
+			.tag("type", "update").functionCounter().count()).isEqualTo(8.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_EVENTS_METER_NAME)
+			.tag("type", "delete").functionCounter().count()).isEqualTo(5.0d);
+	}
+
+	@Test
+	public void bindsNothingWithoutContinuousQueryListenerContainer() {
+
+		new GeodeContinuousQueryMetrics(null).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	public void bindsContinuousQueryListenerMeters() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		ContinuousQueryListenerMonitor monitor = new ContinuousQueryListenerMonitor(tasks::add);
+
+		ContinuousQueryListenerContainer container = new ContinuousQueryListenerContainer();
+
+		container.setQueryService(mock(QueryService.class));
+		container.setTaskExecutor(monitor);
+
+		new GeodeContinuousQueryMetrics(container).bindTo(this.meterRegistry);
+
+		monitor.execute(() -> {});
+		monitor.execute(() -> {});
+		monitor.execute(() -> {});
+		tasks.get(0).run();
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_LISTENER_EVENTS_METER_NAME)
+			.tag("state", "dispatched").functionCounter().count()).isEqualTo(3.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_LISTENER_EVENTS_METER_NAME)
+			.tag("state", "processed").functionCounter().count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_LISTENER_BACKLOG_METER_NAME)
+			.gauge().value()).isEqualTo(2.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_LISTENER_PROCESSING_METER_NAME)
+			.functionTimer().count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(GeodeContinuousQueryMetrics.CQ_LISTENER_QUEUE_METER_NAME)
+			.functionTimer().totalTime(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(0.0d);
+	}
+}
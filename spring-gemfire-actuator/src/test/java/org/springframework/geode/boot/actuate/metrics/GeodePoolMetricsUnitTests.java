@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.internal.PoolImpl;
+import org.apache.geode.distributed.DistributedSystem;
+import org.junit.Test;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+
+/**
+ * Unit Tests for {@link GeodePoolMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.springframework.geode.boot.actuate.metrics.GeodePoolMetrics
+ * @since 2.0.0
+ */
+public class GeodePoolMetricsUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ClientCache mockClientCache(boolean durable) {
+
+		Properties gemfireProperties = new Properties();
+
+		if (durable) {
+			gemfireProperties.setProperty(CacheUtils.DURABLE_CLIENT_ID_PROPERTY_NAME, "test-durable-client");
+		}
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+
+		doReturn(true).when(mockDistributedSystem).isConnected();
+		doReturn(gemfireProperties).when(mockDistributedSystem).getProperties();
+		doReturn(mockDistributedSystem).when(mockClientCache).getDistributedSystem();
+
+		return mockClientCache;
+	}
+
+	@Test
+	public void bindsPoolMeters() {
+
+		PoolImpl mockPool = mock(PoolImpl.class);
+
+		doReturn("TestPool").when(mockPool).getName();
+		doReturn(7).when(mockPool).getConnectionCount();
+		doReturn(50).when(mockPool).getMaxConnections();
+		doReturn(1).when(mockPool).getMinConnections();
+		doReturn(Arrays.asList(new InetSocketAddress("localhost", 10334),
+			new InetSocketAddress("localhost", 11235))).when(mockPool).getOnlineLocators();
+		doReturn(42).when(mockPool).getPendingEventCount();
+
+		new GeodePoolMetrics(mockClientCache(true), () -> Collections.singletonMap("TestPool", mockPool))
+			.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get(GeodePoolMetrics.POOL_CONNECTIONS_METER_NAME)
+			.tag("pool", "TestPool").gauge().value()).isEqualTo(7.0d);
+
+		assertThat(this.meterRegistry.get(GeodePoolMetrics.POOL_CONNECTIONS_MAX_METER_NAME)
+			.tag("pool", "TestPool").gauge().value()).isEqualTo(50.0d);
+
+		assertThat(this.meterRegistry.get(GeodePoolMetrics.POOL_CONNECTIONS_MIN_METER_NAME)
+			.tag("pool", "TestPool").gauge().value()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(GeodePoolMetrics.POOL_LOCATORS_ONLINE_METER_NAME)
+			.tag("pool", "TestPool").gauge().value()).isEqualTo(2.0d);
+
+		assertThat(this.meterRegistry.get(GeodePoolMetrics.POOL_PENDING_EVENTS_METER_NAME)
+			.tag("pool", "TestPool").gauge().value()).isEqualTo(42.0d);
+	}
+
+	@Test
+	public void capturesPendingEventsOnceForDurableClient() {
+
+		Pool mockPool = mock(Pool.class);
+
+		doReturn("TestPool").when(mockPool).getName();
+		doReturn(42).when(mockPool).getPendingEventCount();
+
+		new GeodePoolMetrics(mockClientCache(true), () -> Collections.singletonMap("TestPool", mockPool))
+			.bindTo(this.meterRegistry);
+
+		doThrow(new IllegalStateException("TEST")).when(mockPool).getPendingEventCount();
+
+		assertThat(this.meterRegistry.get(GeodePoolMetrics.POOL_PENDING_EVENTS_METER_NAME)
+			.tag("pool", "TestPool").gauge().value()).isEqualTo(42.0d);
+
+		verify(mockPool, times(1)).getPendingEventCount();
+	}
+
+	@Test
+	public void doesNotBindPendingEventsForDurableClientReadyForEvents() {
+
+		Pool mockPool = mock(Pool.class);
+
+		doReturn("TestPool").when(mockPool).getName();
+		doThrow(new IllegalStateException("TEST")).when(mockPool).getPendingEventCount();
+
+		new GeodePoolMetrics(mockClientCache(true), () -> Collections.singletonMap("TestPool", mockPool))
+			.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.find(GeodePoolMetrics.POOL_CONNECTIONS_MAX_METER_NAME).gauge()).isNotNull();
+		assertThat(this.meterRegistry.find(GeodePoolMetrics.POOL_PENDING_EVENTS_METER_NAME).gauge()).isNull();
+	}
+
+	@Test
+	public void doesNotBindPendingEventsForNonDurableClient() {
+
+		Pool mockPool = mock(Pool.class);
+
+		doReturn("TestPool").when(mockPool).getName();
+
+		new GeodePoolMetrics(mockClientCache(false), () -> Collections.singletonMap("TestPool", mockPool))
+			.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.find(GeodePoolMetrics.POOL_CONNECTIONS_MAX_METER_NAME).gauge()).isNotNull();
+		assertThat(this.meterRegistry.find(GeodePoolMetrics.POOL_CONNECTIONS_METER_NAME).gauge()).isNull();
+		assertThat(this.meterRegistry.find(GeodePoolMetrics.POOL_PENDING_EVENTS_METER_NAME).gauge()).isNull();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.assertj.core.data.Offset;
+import org.junit.Test;
+
+import org.springframework.data.gemfire.tests.mock.CacheMockObjects;
+
+/**
+ * Unit Tests for {@link GeodeRegionMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionMetrics
+ * @since 2.0.0
+ */
+public class GeodeRegionMetricsUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	public void constructWithNullCacheThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new GeodeRegionMetrics(null));
+	}
+
+	@Test
+	public void bindsStatisticsOfRegionsWithStatisticsEnabled() {
+
+		Region<?, ?> mockRegionOne = CacheMockObjects.mockRegion("RegionOne", DataPolicy.NORMAL);
+		Region<?, ?> mockRegionTwo = CacheMockObjects.mockRegion("RegionTwo", DataPolicy.EMPTY);
+
+		CacheStatistics mockStatistics = mock(CacheStatistics.class);
+
+		doReturn(true).when(mockRegionOne.getAttributes()).getStatisticsEnabled();
+		doReturn(false).when(mockRegionTwo.getAttributes()).getStatisticsEnabled();
+		doReturn(mockStatistics).when(mockRegionOne).getStatistics();
+		doReturn(80L).when(mockStatistics).getHitCount();
+		doReturn(20L).when(mockStatistics).getMissCount();
+		doReturn(0.8f).when(mockStatistics).getHitRatio();
+		doReturn(1L).when(mockStatistics).getLastAccessedTime();
+		doReturn(2L).when(mockStatistics).getLastModifiedTime();
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		doReturn(asSet(mockRegionOne, mockRegionTwo)).when(mockClientCache).rootRegions();
+
+		new GeodeRegionMetrics(mockClientCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get(GeodeRegionMetrics.REGION_HITS_METER_NAME)
+			.tag("region", "/RegionOne").functionCounter().count()).isEqualTo(80.0d);
+
+		assertThat(this.meterRegistry.get(GeodeRegionMetrics.REGION_MISSES_METER_NAME)
+			.tag("region", "/RegionOne").functionCounter().count()).isEqualTo(20.0d);
+
+		assertThat(this.meterRegistry.get(GeodeRegionMetrics.REGION_HIT_RATIO_METER_NAME)
+			.tag("region", "/RegionOne").gauge().value()).isCloseTo(0.8d, Offset.offset(0.001d));
+
+		assertThat(this.meterRegistry.get(GeodeRegionMetrics.REGION_LAST_ACCESSED_TIME_METER_NAME)
+			.tag("region", "/RegionOne").gauge().value()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(GeodeRegionMetrics.REGION_LAST_MODIFIED_TIME_METER_NAME)
+			.tag("region", "/RegionOne").gauge().value()).isEqualTo(2.0d);
+
+		assertThat(this.meterRegistry.find(GeodeRegionMetrics.REGION_HITS_METER_NAME)
+			.tag("region", "/RegionTwo").functionCounter()).isNull();
+	}
+
+	@Test
+	public void destroyedRegionReportsNaN() {
+
+		Region<?, ?> mockRegion = CacheMockObjects.mockRegion("Example", DataPolicy.NORMAL);
+
+		doReturn(true).when(mockRegion.getAttributes()).getStatisticsEnabled();
+		doReturn(true).when(mockRegion).isDestroyed();
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		doReturn(asSet(mockRegion)).when(mockClientCache).rootRegions();
+
+		new GeodeRegionMetrics(mockClientCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get(GeodeRegionMetrics.REGION_HIT_RATIO_METER_NAME).gauge().value()).isNaN();
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerMetrics;
+import org.junit.Test;
+
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+
+/**
+ * Unit Tests for {@link GeodeServerLoadMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeServerLoadMetrics
+ * @since 2.0.0
+ */
+public class GeodeServerLoadMetricsUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	public void bindsServerLoadMeters() {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		ServerMetrics mockServerMetrics = mock(ServerMetrics.class);
+
+		doReturn(new ServerLoad(0.5f, 0.01f, 0.25f, 0.02f)).when(mockServerLoadProbe).getLoad(any());
+		doReturn(3).when(mockServerMetrics).getClientCount();
+		doReturn(12).when(mockServerMetrics).getConnectionCount();
+		doReturn(800).when(mockServerMetrics).getMaxConnections();
+		doReturn(2).when(mockServerMetrics).getSubscriptionConnectionCount();
+
+		ActuatorServerLoadProbeWrapper serverLoadProbe = new ActuatorServerLoadProbeWrapper(mockServerLoadProbe);
+
+		new GeodeServerLoadMetrics(serverLoadProbe).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_CONNECTIONS_METER_NAME).gauge().value())
+			.isNaN();
+
+		serverLoadProbe.getLoad(mockServerMetrics);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_LOAD_CONNECTION_METER_NAME)
+			.gauge().value()).isEqualTo(0.5d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_LOAD_SUBSCRIPTION_METER_NAME)
+			.gauge().value()).isEqualTo(0.25d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_CLIENTS_METER_NAME)
+			.gauge().value()).isEqualTo(3.0d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_CONNECTIONS_METER_NAME)
+			.gauge().value()).isEqualTo(12.0d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_CONNECTIONS_MAX_METER_NAME)
+			.gauge().value()).isEqualTo(800.0d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_SUBSCRIPTION_CONNECTIONS_METER_NAME)
+			.gauge().value()).isEqualTo(2.0d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_LOAD_ROLLING_METER_NAME)
+			.tag("series", "client-count").tag("percentile", "0.99").gauge().value()).isEqualTo(3.0d);
+
+		assertThat(this.meterRegistry.get(GeodeServerLoadMetrics.SERVER_LOAD_RATE_METER_NAME)
+			.tag("series", "connection-load").gauge().value()).isZero();
+	}
+
+	@Test
+	public void bindsNothingWithoutServerLoadProbe() {
+
+		new GeodeServerLoadMetrics(null).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link HotKeyTracker}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTracker
+ * @since 2.0.0
+ */
+public class HotKeyTrackerUnitTests {
+
+	private void record(HotKeyTracker hotKeyTracker, Object key, int count) {
+		IntStream.range(0, count).forEach(index -> hotKeyTracker.record(key));
+	}
+
+	@Test
+	public void constructWithInvalidTopKeysThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new HotKeyTracker(0, 16, 2))
+			.withMessage("Top keys [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void constructWithInvalidSketchDepthThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new HotKeyTracker(10, 16, 9))
+			.withMessage("Sketch depth [9] must be between 1 and 8")
+			.withNoCause();
+	}
+
+	@Test
+	public void sketchWidthIsRoundedUpToPowerOfTwo() {
+
+		HotKeyTracker hotKeyTracker = new HotKeyTracker(10, 1000, 4);
+
+		assertThat(hotKeyTracker.getSketchWidth()).isEqualTo(1024);
+		assertThat(hotKeyTracker.getSketchDepth()).isEqualTo(4);
+		assertThat(hotKeyTracker.getTopKeys()).isEqualTo(10);
+	}
+
+	@Test
+	public void estimateNeverUnderCountsKeyAccesses() {
+
+		HotKeyTracker hotKeyTracker = new HotKeyTracker(2, 8, 2);
+
+		IntStream.range(0, 100).forEach(key -> record(hotKeyTracker, key, key % 5 + 1));
+
+		IntStream.range(0, 100).forEach(key ->
+			assertThat(hotKeyTracker.estimate(key)).isGreaterThanOrEqualTo(key % 5 + 1));
+
+		assertThat(hotKeyTracker.estimate(null)).isZero();
+	}
+
+	@Test
+	public void tracksMostFrequentlyAccessedKeys() {
+
+		HotKeyTracker hotKeyTracker = new HotKeyTracker(3, 1024, 4);
+
+		IntStream.range(0, 50).forEach(key -> record(hotKeyTracker, "cold" + key, 2));
+
+		record(hotKeyTracker, "warm", 20);
+		record(hotKeyTracker, "hot", 100);
+		record(hotKeyTracker, "hotter", 500);
+
+		IntStream.range(0, 50).forEach(key -> record(hotKeyTracker, "cold" + key, 1));
+
+		hotKeyTracker.record(null);
+
+		assertThat(hotKeyTracker.getTotal()).isEqualTo(770L);
+		assertThat(hotKeyTracker.getWindowTotal()).isEqualTo(770L);
+		assertThat(hotKeyTracker.getHotKeys()).extracting(HotKeyTracker.HotKey::getKey)
+			.containsExactly("hotter", "hot", "warm");
+		assertThat(hotKeyTracker.getHotKeys().get(0).getEstimatedCount()).isGreaterThanOrEqualTo(500L);
+		assertThat(hotKeyTracker.getEstimatedCount(1)).isGreaterThanOrEqualTo(500L);
+		assertThat(hotKeyTracker.getEstimatedCount(3)).isGreaterThanOrEqualTo(20L);
+		assertThat(hotKeyTracker.getEstimatedCount(4)).isZero();
+	}
+
+	@Test
+	public void raisesEstimatedCountOfTrackedKeys() {
+
+		HotKeyTracker hotKeyTracker = new HotKeyTracker(1, 1024, 4);
+
+		record(hotKeyTracker, "hot", 10);
+		record(hotKeyTracker, "cold", 5);
+		record(hotKeyTracker, "hot", 10);
+
+		assertThat(hotKeyTracker.getHotKeys()).hasSize(1);
+		assertThat(hotKeyTracker.getHotKeys().get(0).getKey()).isEqualTo("hot");
+		assertThat(hotKeyTracker.getHotKeys().get(0).getEstimatedCount()).isGreaterThanOrEqualTo(20L);
+	}
+
+	@Test
+	public void replacesLeastFrequentlyAccessedKey() {
+
+		HotKeyTracker hotKeyTracker = new HotKeyTracker(2, 1024, 4);
+
+		record(hotKeyTracker, "one", 10);
+		record(hotKeyTracker, "two", 5);
+		record(hotKeyTracker, "three", 8);
+
+		assertThat(hotKeyTracker.getHotKeys()).extracting(HotKeyTracker.HotKey::getKey)
+			.containsExactly("one", "three");
+	}
+
+	@Test
+	public void resetClearsKeyAccessesExceptTotal() {
+
+		HotKeyTracker hotKeyTracker = new HotKeyTracker();
+
+		record(hotKeyTracker, "key", 10);
+
+		hotKeyTracker.reset();
+
+		assertThat(hotKeyTracker.getTotal()).isEqualTo(10L);
+		assertThat(hotKeyTracker.getWindowTotal()).isZero();
+		assertThat(hotKeyTracker.estimate("key")).isZero();
+		assertThat(hotKeyTracker.getHotKeys()).isEmpty();
+
+		record(hotKeyTracker, "key", 2);
+
+		assertThat(hotKeyTracker.getTotal()).isEqualTo(12L);
+		assertThat(hotKeyTracker.getWindowTotal()).isEqualTo(2L);
+		assertThat(hotKeyTracker.getHotKeys()).extracting(HotKeyTracker.HotKey::getKey).containsExactly("key");
+	}
+}
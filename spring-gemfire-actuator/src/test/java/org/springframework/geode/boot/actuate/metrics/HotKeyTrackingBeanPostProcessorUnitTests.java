@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link HotKeyTrackingBeanPostProcessor} and {@link GeodeHotKeyMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeHotKeyMetrics
+ * @see org.springframework.geode.boot.actuate.metrics.HotKeyTrackingBeanPostProcessor
+ * @since 2.0.0
+ */
+public class HotKeyTrackingBeanPostProcessorUnitTests {
+
+	private final HotKeyTrackingBeanPostProcessor beanPostProcessor =
+		new HotKeyTrackingBeanPostProcessor(Collections.singleton("Example"), 2, 64, 2);
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String name, Object regionService) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(name).when(mockRegion).getName();
+		doReturn("/" + name).when(mockRegion).getFullPath();
+		doReturn(regionService).when(mockRegion).getRegionService();
+
+		return mockRegion;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> postProcess(Object bean) {
+		return (Region<Object, Object>) this.beanPostProcessor.postProcessAfterInitialization(bean, "Example");
+	}
+
+	@Test
+	public void constructWithNullRegionNamesThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new HotKeyTrackingBeanPostProcessor(null))
+			.withMessage("Region names must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void tracksKeysOfSelectedClientRegion() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", mock(ClientCache.class));
+
+		Region<Object, Object> region = postProcess(mockRegion);
+
+		assertThat(region).isNotSameAs(mockRegion);
+
+		region.get("hot");
+		region.get("hot");
+		region.put("hot", 1);
+		region.put("warm", 2);
+		region.getAll(Arrays.asList("hot", "warm", "cold"));
+		region.destroy("cold");
+		region.size();
+
+		verify(mockRegion).put("warm", 2);
+
+		HotKeyTracker hotKeyTracker = this.beanPostProcessor.getHotKeyTracker("Example").orElse(null);
+
+		assertThat(hotKeyTracker).isNotNull();
+		assertThat(hotKeyTracker.getTotal()).isEqualTo(8L);
+		assertThat(hotKeyTracker.getHotKeys()).extracting(HotKeyTracker.HotKey::getKey)
+			.containsExactly("hot", "warm");
+	}
+
+	@Test
+	public void addsAdviceToInstrumentedRegion() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example", mock(ClientCache.class));
+
+		Object instrumentedRegion = new RegionOperationMetricsBeanPostProcessor(SimpleMeterRegistry::new)
+			.postProcessAfterInitialization(mockRegion, "Example");
+
+		Region<Object, Object> region = postProcess(instrumentedRegion);
+
+		assertThat(region).isSameAs(instrumentedRegion);
+
+		region.get("key");
+
+		assertThat(this.beanPostProcessor.getHotKeyTracker("Example").map(HotKeyTracker::getTotal)).hasValue(1L);
+	}
+
+	@Test
+	public void doesNotTrackOtherRegions() {
+
+		Region<Object, Object> otherRegion = mockRegion("Other", mock(ClientCache.class));
+		Region<Object, Object> peerRegion = mockRegion("Example", mock(Cache.class));
+
+		assertThat(postProcess(otherRegion)).isSameAs(otherRegion);
+		assertThat(postProcess(peerRegion)).isSameAs(peerRegion);
+		assertThat(this.beanPostProcessor.getHotKeyTrackers()).isEmpty();
+	}
+
+	@Test
+	public void bindsHotKeyMeters() {
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		new GeodeHotKeyMetrics(this.beanPostProcessor).bindTo(meterRegistry);
+
+		assertThat(meterRegistry.get(GeodeHotKeyMetrics.KEY_ACCESSES_METER_NAME)
+			.tag("region", "Example").functionCounter().count()).isZero();
+
+		Region<Object, Object> region = postProcess(mockRegion("Example", mock(ClientCache.class)));
+
+		region.get("hot");
+		region.get("hot");
+		region.get("cold");
+
+		assertThat(meterRegistry.get(GeodeHotKeyMetrics.KEY_ACCESSES_METER_NAME)
+			.tag("region", "Example").functionCounter().count()).isEqualTo(3.0d);
+		assertThat(meterRegistry.get(GeodeHotKeyMetrics.HOT_KEYS_METER_NAME)
+			.tag("region", "Example").tag("rank", "1").gauge().value()).isGreaterThanOrEqualTo(2.0d);
+		assertThat(meterRegistry.get(GeodeHotKeyMetrics.HOT_KEYS_METER_NAME)
+			.tag("region", "Example").gauges()).hasSize(2);
+	}
+
+	@Test
+	public void bindsNoMetersWithoutBeanPostProcessor() {
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		new GeodeHotKeyMetrics(null).bindTo(meterRegistry);
+
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+
+/**
+ * Unit Tests for {@link RegionOperationMetricsBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.metrics.RegionOperationMetricsBeanPostProcessor
+ * @since 2.0.0
+ */
+public class RegionOperationMetricsBeanPostProcessorUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(Object regionService) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(regionService).when(mockRegion).getRegionService();
+		doReturn("/Example").when(mockRegion).getFullPath();
+
+		return mockRegion;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> instrument(Region<Object, Object> region, double samplingRate) {
+
+		return (Region<Object, Object>) new RegionOperationMetricsBeanPostProcessor(() -> this.meterRegistry,
+			samplingRate).postProcessAfterInitialization(region, "Example");
+	}
+
+	private long count(String operation, String outcome) {
+
+		return this.meterRegistry.get(RegionOperationMetricsBeanPostProcessor.REGION_OPERATIONS_METER_NAME)
+			.tag("region", "/Example")
+			.tag("operation", operation)
+			.tag("outcome", outcome)
+			.timer()
+			.count();
+	}
+
+	@Test
+	public void constructWithNullSupplierThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RegionOperationMetricsBeanPostProcessor(null))
+			.withMessage("Supplier of MeterRegistry must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void constructWithInvalidSamplingRateThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RegionOperationMetricsBeanPostProcessor(() -> this.meterRegistry, 1.5d))
+			.withMessage("Sampling rate [1.5] must be between 0.0 and 1.0")
+			.withNoCause();
+	}
+
+	@Test
+	public void recordsClientRegionOperations() {
+
+		Region<Object, Object> mockRegion = mockRegion(mock(ClientCache.class));
+
+		doReturn("test").when(mockRegion).get(any());
+
+		Region<Object, Object> region = instrument(mockRegion, 1.0d);
+
+		assertThat(region).isNotSameAs(mockRegion);
+		assertThat(region.get(1)).isEqualTo("test");
+		assertThat(region.get(2)).isEqualTo("test");
+
+		region.put(1, "one");
+		region.getAll(Collections.singleton(1));
+		region.destroy(1);
+
+		verify(mockRegion).put(1, "one");
+		verify(mockRegion).destroy(1);
+
+		assertThat(count("get", "success")).isEqualTo(2L);
+		assertThat(count("put", "success")).isEqualTo(1L);
+		assertThat(count("getAll", "success")).isEqualTo(1L);
+		assertThat(count("destroy", "success")).isEqualTo(1L);
+	}
+
+	@Test
+	public void recordsFailedClientRegionOperations() {
+
+		Region<Object, Object> mockRegion = mockRegion(mock(ClientCache.class));
+
+		doThrow(new IllegalStateException("TEST")).when(mockRegion).put(any(), any());
+
+		Region<Object, Object> region = instrument(mockRegion, 1.0d);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> region.put(1, "one"))
+			.withMessage("TEST");
+
+		assertThat(count("put", "error")).isEqualTo(1L);
+	}
+
+	@Test
+	public void doesNotRecordUnsampledOperations() {
+
+		Region<Object, Object> mockRegion = mockRegion(mock(ClientCache.class));
+
+		Region<Object, Object> region = instrument(mockRegion, 0.0d);
+
+		assertThat(region).isSameAs(mockRegion);
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	public void doesNotRecordOtherRegionOperations() {
+
+		Region<Object, Object> region = instrument(mockRegion(mock(ClientCache.class)), 1.0d);
+
+		region.getName();
+		region.size();
+
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	public void doesNotInstrumentPeerCacheRegions() {
+
+		Region<Object, Object> mockRegion = mockRegion(mock(Cache.class));
+
+		assertThat(instrument(mockRegion, 1.0d)).isSameAs(mockRegion);
+	}
+
+	@Test
+	public void doesNotInstrumentRegionTwice() {
+
+		Region<Object, Object> region = instrument(mockRegion(mock(ClientCache.class)), 1.0d);
+
+		assertThat(instrument(region, 1.0d)).isSameAs(region);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void addsAdviceToProxiedRegion() {
+
+		Region<Object, Object> mockRegion = mockRegion(mock(ClientCache.class));
+
+		doReturn("test").when(mockRegion).get(any());
+
+		Region<Object, Object> proxiedRegion = (Region<Object, Object>) new ProxyFactory(mockRegion).getProxy();
+
+		Region<Object, Object> region = instrument(proxiedRegion, 1.0d);
+
+		assertThat(region).isSameAs(proxiedRegion);
+		assertThat(region.get(1)).isEqualTo("test");
+		assertThat(count("get", "success")).isEqualTo(1L);
+	}
+
+	@Test
+	public void doesNotInstrumentNonRegionBeans() {
+
+		Object bean = new Object();
+
+		assertThat(new RegionOperationMetricsBeanPostProcessor(() -> this.meterRegistry)
+			.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+	}
+}
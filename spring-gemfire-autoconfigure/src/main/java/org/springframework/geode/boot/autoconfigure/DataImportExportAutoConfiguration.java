@@ -24,6 +24,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
 import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegionBeanPostProcessor;
 import org.springframework.geode.cache.SimpleCacheResolver;
 import org.springframework.geode.data.AbstractCacheDataImporterExporter;
 import org.springframework.geode.data.CacheDataImporterExporter;
@@ -51,6 +52,7 @@ import org.springframework.lang.Nullable;
  * @see org.springframework.core.env.Environment
  * @see org.springframework.data.gemfire.client.ClientCacheFactoryBean
  * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegionBeanPostProcessor
  * @see org.springframework.geode.data.CacheDataImporterExporter
  * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
  * @see org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter
@@ -66,6 +68,11 @@ public class DataImportExportAutoConfiguration {
 	protected static final String PDX_READ_SERIALIZED_PROPERTY = "spring.data.gemfire.pdx.read-serialized";
 	protected static final String REGION_ADVICE_ENABLED_PROPERTY =
 		"spring.boot.data.gemfire.cache.region.advice.enabled";
+	protected static final String REGION_ADVICE_MODE_PROPERTY =
+		"spring.boot.data.gemfire.cache.region.advice.mode";
+
+	protected static final String REGION_ADVICE_MODE_ASPECTJ = "aspectj";
+	protected static final String REGION_ADVICE_MODE_DECORATOR = "decorator";
 
 	@Bean
 	CacheDataImporterExporter jsonCacheDataImporterExporter() {
@@ -78,10 +85,23 @@ public class DataImportExportAutoConfiguration {
 
 	@Bean
 	@Conditional(RegionAdviceConditions.class)
+	@ConditionalOnProperty(name = REGION_ADVICE_MODE_PROPERTY, havingValue = REGION_ADVICE_MODE_ASPECTJ,
+		matchIfMissing = true)
 	PdxInstanceWrapperRegionAspect pdxInstanceWrapperAspect() {
 		return new PdxInstanceWrapperRegionAspect();
 	}
 
+	/**
+	 * Decorates {@link org.apache.geode.cache.Region} beans directly, avoiding the AOP proxy dispatch
+	 * and {@literal join point} allocation of the {@link PdxInstanceWrapperRegionAspect} on every Region read.
+	 */
+	@Bean
+	@Conditional(RegionAdviceConditions.class)
+	@ConditionalOnProperty(name = REGION_ADVICE_MODE_PROPERTY, havingValue = REGION_ADVICE_MODE_DECORATOR)
+	static PdxInstanceWrappingRegionBeanPostProcessor pdxInstanceWrappingRegionBeanPostProcessor() {
+		return new PdxInstanceWrappingRegionBeanPostProcessor();
+	}
+
 	static class RegionAdviceConditions extends AnyNestedCondition {
 
 		RegionAdviceConditions() {
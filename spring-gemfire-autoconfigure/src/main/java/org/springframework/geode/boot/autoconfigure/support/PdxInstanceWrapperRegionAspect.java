@@ -4,10 +4,15 @@
  */
 package org.springframework.geode.boot.autoconfigure.support;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
 
 import org.apache.geode.cache.CacheStatistics;
 import org.apache.geode.cache.Region;
@@ -28,6 +33,10 @@ import org.aspectj.lang.annotation.Pointcut;
  * Specifically, this {@link Aspect} wraps all {@link PdxInstance} objects returned from cache {@link Region}
  * read data access operations inside a new instance of {@link PdxInstanceWrapper}.
  *
+ * {@link Map Maps} and {@link Collection Collections} returned from {@link Region#getAll(Collection)}
+ * and {@link Region#values()} are not copied, but rather decorated with views that wrap {@link PdxInstance} values
+ * lazily, on access.
+ *
  * @author John Blum
  * @see java.util.Map
  * @see org.apache.geode.cache.Region
@@ -42,12 +51,21 @@ import org.aspectj.lang.annotation.Pointcut;
 @SuppressWarnings("unused")
 public class PdxInstanceWrapperRegionAspect {
 
-	private static Collection<?> asCollection(Object value) {
-		return value instanceof Collection ? (Collection<?>) value : Collections.emptyList();
+	@SuppressWarnings("unchecked")
+	static <E> Collection<E> asCollection(Object value) {
+		return value instanceof Collection ? (Collection<E>) value : Collections.emptyList();
+	}
+
+	@SuppressWarnings("unchecked")
+	static <K, V> Map<K, V> asMap(Object value) {
+		return value instanceof Map ? (Map<K, V>) value : Collections.emptyMap();
 	}
 
-	private static Map<?, ?> asMap(Object value) {
-		return value instanceof Map ? (Map<?, ?>) value : Collections.emptyMap();
+	private static Object unwrap(Object value) {
+
+		return value instanceof PdxInstanceWrapper
+			? ((PdxInstanceWrapper) value).getDelegate()
+			: value;
 	}
 
 	@Pointcut("target(org.apache.geode.cache.Region)")
@@ -76,8 +94,7 @@ public class PdxInstanceWrapperRegionAspect {
 
 	@Around("regionPointcut() && regionGetAllPointcut()")
 	public Object regionGetAllAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
-		return asMap(joinPoint.proceed()).entrySet().stream()
-			.collect(Collectors.toMap(Map.Entry::getKey, mapEntry -> PdxInstanceWrapper.from(mapEntry.getValue())));
+		return PdxInstanceWrappingMap.from(asMap(joinPoint.proceed()));
 	}
 
 	@Around("regionPointcut() && regionGetEntryPointcut()")
@@ -92,10 +109,266 @@ public class PdxInstanceWrapperRegionAspect {
 
 	@Around("regionPointcut() && regionValuesPointcut()")
 	public Object regionValuesAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return PdxInstanceWrappingCollection.from(asCollection(joinPoint.proceed()));
+	}
+
+	/**
+	 * {@link Collection} view of a {@link Region} read data access operation result wrapping {@link PdxInstance}
+	 * elements in a {@link PdxInstanceWrapper} lazily, on access.
+	 *
+	 * Elements that are not {@link PdxInstance PDX} are returned as is without any additional allocation.
+	 *
+	 * @param <E> {@link Class type} of the elements in the {@link Collection}.
+	 * @see java.util.AbstractCollection
+	 * @see org.springframework.geode.pdx.PdxInstanceWrapper
+	 */
+	public static class PdxInstanceWrappingCollection<E> extends AbstractCollection<E> {
+
+		public static <E> PdxInstanceWrappingCollection<E> from(@NonNull Collection<E> collection) {
+
+			return collection instanceof PdxInstanceWrappingCollection
+				? (PdxInstanceWrappingCollection<E>) collection
+				: new PdxInstanceWrappingCollection<>(collection);
+		}
+
+		private final Collection<E> delegate;
+
+		protected PdxInstanceWrappingCollection(@NonNull Collection<E> collection) {
+
+			Assert.notNull(collection, "Collection must not be null");
+
+			this.delegate = collection;
+		}
+
+		protected @NonNull Collection<E> getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public boolean contains(Object element) {
+			return getDelegate().contains(unwrap(element));
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return getDelegate().isEmpty();
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+
+			Iterator<E> iterator = getDelegate().iterator();
+
+			return new Iterator<E>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public E next() {
+					return (E) PdxInstanceWrapper.from(iterator.next());
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+			};
+		}
+
+		@Override
+		public boolean remove(Object element) {
+			return getDelegate().remove(unwrap(element));
+		}
+
+		@Override
+		public int size() {
+			return getDelegate().size();
+		}
+	}
+
+	/**
+	 * {@link Map} view of a {@link Region} read data access operation result wrapping {@link PdxInstance} values
+	 * in a {@link PdxInstanceWrapper} lazily, on access.
+	 *
+	 * Keys are never wrapped and values that are not {@link PdxInstance PDX} are returned as is without any
+	 * additional allocation.
+	 *
+	 * @param <K> {@link Class type} of the keys in the {@link Map}.
+	 * @param <V> {@link Class type} of the values in the {@link Map}.
+	 * @see java.util.AbstractMap
+	 * @see org.springframework.geode.pdx.PdxInstanceWrapper
+	 */
+	public static class PdxInstanceWrappingMap<K, V> extends AbstractMap<K, V> {
+
+		public static <K, V> PdxInstanceWrappingMap<K, V> from(@NonNull Map<K, V> map) {
+
+			return map instanceof PdxInstanceWrappingMap
+				? (PdxInstanceWrappingMap<K, V>) map
+				: new PdxInstanceWrappingMap<>(map);
+		}
+
+		private final Map<K, V> delegate;
+
+		protected PdxInstanceWrappingMap(@NonNull Map<K, V> map) {
+
+			Assert.notNull(map, "Map must not be null");
+
+			this.delegate = map;
+		}
+
+		protected @NonNull Map<K, V> getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public void clear() {
+			getDelegate().clear();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return getDelegate().containsKey(key);
+		}
+
+		@Override
+		public boolean containsValue(Object value) {
+			return getDelegate().containsValue(unwrap(value));
+		}
+
+		@Override
+		public Set<Map.Entry<K, V>> entrySet() {
+
+			Set<Map.Entry<K, V>> entrySet = getDelegate().entrySet();
+
+			return new AbstractSet<Map.Entry<K, V>>() {
+
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+
+					Iterator<Map.Entry<K, V>> iterator = entrySet.iterator();
 
-		return asCollection(joinPoint.proceed()).stream()
-			.map(PdxInstanceWrapper::from)
-			.collect(Collectors.toList());
+					return new Iterator<Map.Entry<K, V>>() {
+
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Map.Entry<K, V> next() {
+
+							Map.Entry<K, V> mapEntry = iterator.next();
+
+							return mapEntry.getValue() instanceof PdxInstance
+								? new PdxInstanceWrappingMapEntry<>(mapEntry)
+								: mapEntry;
+						}
+
+						@Override
+						public void remove() {
+							iterator.remove();
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return entrySet.size();
+				}
+			};
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V get(Object key) {
+			return (V) PdxInstanceWrapper.from(getDelegate().get(key));
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return getDelegate().isEmpty();
+		}
+
+		@Override
+		public Set<K> keySet() {
+			return getDelegate().keySet();
+		}
+
+		@Override
+		public V put(K key, V value) {
+			return getDelegate().put(key, value);
+		}
+
+		@Override
+		public V remove(Object key) {
+			return getDelegate().remove(key);
+		}
+
+		@Override
+		public int size() {
+			return getDelegate().size();
+		}
+
+		@Override
+		public Collection<V> values() {
+			return PdxInstanceWrappingCollection.from(getDelegate().values());
+		}
+	}
+
+	static class PdxInstanceWrappingMapEntry<K, V> implements Map.Entry<K, V> {
+
+		private final Map.Entry<K, V> delegate;
+
+		PdxInstanceWrappingMapEntry(@NonNull Map.Entry<K, V> mapEntry) {
+			this.delegate = mapEntry;
+		}
+
+		@Override
+		public K getKey() {
+			return this.delegate.getKey();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) PdxInstanceWrapper.from(this.delegate.getValue());
+		}
+
+		@Override
+		public V setValue(V value) {
+			return this.delegate.setValue(value);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+
+			Map.Entry<?, ?> that = (Map.Entry<?, ?>) obj;
+
+			return Objects.equals(getKey(), that.getKey())
+				&& Objects.equals(this.delegate.getValue(), unwrap(that.getValue()));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.delegate.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return this.delegate.toString();
+		}
 	}
 
 	public static class RegionEntryWrapper<K, V> implements Region.Entry<K, V> {
@@ -0,0 +1,620 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.query.FunctionDomainException;
+import org.apache.geode.cache.query.NameResolutionException;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.TypeMismatchException;
+import org.apache.geode.cache.snapshot.RegionSnapshotService;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect.PdxInstanceWrappingCollection;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect.PdxInstanceWrappingMap;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect.RegionEntryWrapper;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Region} decorator wrapping all {@link PdxInstance} objects returned from cache {@link Region} read data access
+ * operations inside a new instance of {@link PdxInstanceWrapper}.
+ *
+ * This decorator has the same semantics as the {@link PdxInstanceWrapperRegionAspect}, advising the same
+ * {@link Region} operations, without the AOP proxy and {@literal join point} overhead on every call.
+ * All other {@link Region} operations are simply delegated to the underlying {@link Region}.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the {@link Region} key.
+ * @param <V> {@link Class type} of the {@link Region} value.
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect
+ * @see org.springframework.geode.pdx.PdxInstanceWrapper
+ * @since 2.0.0
+ */
+public class PdxInstanceWrappingRegion<K, V> implements Region<K, V> {
+
+	/**
+	 * Factory method used to decorate the given {@link Region} with a {@link PdxInstanceWrappingRegion}.
+	 *
+	 * The given {@link Region} is returned as is if it has already been decorated.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param region {@link Region} to decorate; must not be {@literal null}.
+	 * @return the decorated {@link Region}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public static <K, V> Region<K, V> from(@NonNull Region<K, V> region) {
+
+		return region instanceof PdxInstanceWrappingRegion
+			? region
+			: new PdxInstanceWrappingRegion<>(region);
+	}
+
+	/**
+	 * Null-safe method used to unwrap the given {@link Region} if the {@link Region} is
+	 * a {@link PdxInstanceWrappingRegion}.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param region {@link Region} to unwrap.
+	 * @return the underlying {@link Region} if the given {@link Region} is a {@link PdxInstanceWrappingRegion},
+	 * otherwise returns the given {@link Region}.
+	 */
+	public static <K, V> Region<K, V> unwrap(Region<K, V> region) {
+
+		return region instanceof PdxInstanceWrappingRegion
+			? ((PdxInstanceWrappingRegion<K, V>) region).getDelegate()
+			: region;
+	}
+
+	private final Region<K, V> delegate;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceWrappingRegion} initialized with the given, required
+	 * {@link Region} used as the delegate for all data access operations.
+	 *
+	 * @param region {@link Region} to decorate; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	protected PdxInstanceWrappingRegion(@NonNull Region<K, V> region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		this.delegate = region;
+	}
+
+	/**
+	 * Returns a reference to the underlying, decorated {@link Region}.
+	 *
+	 * @return a reference to the underlying, decorated {@link Region}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	protected @NonNull Region<K, V> getDelegate() {
+		return this.delegate;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V wrap(Object value) {
+		return (V) PdxInstanceWrapper.from(value);
+	}
+
+	// Advised (read) data access operations
+
+	@Override
+	public V get(Object key) {
+		return wrap(getDelegate().get(key));
+	}
+
+	@Override
+	public V get(Object key, Object callbackArgument) {
+		return wrap(getDelegate().get(key, callbackArgument));
+	}
+
+	@Override
+	public Map<K, V> getAll(Collection<?> keys) {
+		return PdxInstanceWrappingMap.from(PdxInstanceWrapperRegionAspect.asMap(getDelegate().getAll(keys)));
+	}
+
+	@Override
+	public <T extends K> Map<T, V> getAll(Collection<T> keys, Object callbackArgument) {
+		return PdxInstanceWrappingMap.from(PdxInstanceWrapperRegionAspect.asMap(
+			getDelegate().getAll(keys, callbackArgument)));
+	}
+
+	@Override
+	public Region.Entry<K, V> getEntry(Object key) {
+		return RegionEntryWrapper.from(getDelegate().getEntry(key));
+	}
+
+	@Override
+	public Object selectValue(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return PdxInstanceWrapper.from(getDelegate().selectValue(queryPredicate));
+	}
+
+	@Override
+	public Collection<V> values() {
+		return PdxInstanceWrappingCollection.from(PdxInstanceWrapperRegionAspect.asCollection(getDelegate().values()));
+	}
+
+	// Delegated operations
+
+	@Override
+	public String getName() {
+		return getDelegate().getName();
+	}
+
+	@Override
+	public String getFullPath() {
+		return getDelegate().getFullPath();
+	}
+
+	@Override
+	public <PK, PV> Region<PK, PV> getParentRegion() {
+		return getDelegate().getParentRegion();
+	}
+
+	@Override
+	public RegionAttributes<K, V> getAttributes() {
+		return getDelegate().getAttributes();
+	}
+
+	@Override
+	public AttributesMutator<K, V> getAttributesMutator() {
+		return getDelegate().getAttributesMutator();
+	}
+
+	@Override
+	public CacheStatistics getStatistics() {
+		return getDelegate().getStatistics();
+	}
+
+	@Override
+	public void invalidateRegion() {
+		getDelegate().invalidateRegion();
+	}
+
+	@Override
+	public void invalidateRegion(Object callbackArgument) {
+		getDelegate().invalidateRegion(callbackArgument);
+	}
+
+	@Override
+	public void localInvalidateRegion() {
+		getDelegate().localInvalidateRegion();
+	}
+
+	@Override
+	public void localInvalidateRegion(Object callbackArgument) {
+		getDelegate().localInvalidateRegion(callbackArgument);
+	}
+
+	@Override
+	public void destroyRegion() {
+		getDelegate().destroyRegion();
+	}
+
+	@Override
+	public void destroyRegion(Object callbackArgument) {
+		getDelegate().destroyRegion(callbackArgument);
+	}
+
+	@Override
+	public void localDestroyRegion() {
+		getDelegate().localDestroyRegion();
+	}
+
+	@Override
+	public void localDestroyRegion(Object callbackArgument) {
+		getDelegate().localDestroyRegion(callbackArgument);
+	}
+
+	@Override
+	public void close() {
+		getDelegate().close();
+	}
+
+	@Override
+	public RegionSnapshotService<K, V> getSnapshotService() {
+		return getDelegate().getSnapshotService();
+	}
+
+	@Override
+	@Deprecated
+	public void saveSnapshot(OutputStream outputStream) throws IOException {
+		getDelegate().saveSnapshot(outputStream);
+	}
+
+	@Override
+	@Deprecated
+	public void loadSnapshot(InputStream inputStream) throws IOException, ClassNotFoundException {
+		getDelegate().loadSnapshot(inputStream);
+	}
+
+	@Override
+	public <SK, SV> Region<SK, SV> getSubregion(String path) {
+		return getDelegate().getSubregion(path);
+	}
+
+	@Override
+	@Deprecated
+	public <SK, SV> Region<SK, SV> createSubregion(String subregionName, RegionAttributes<SK, SV> regionAttributes) {
+		return getDelegate().createSubregion(subregionName, regionAttributes);
+	}
+
+	@Override
+	public Set<Region<?, ?>> subregions(boolean recursive) {
+		return getDelegate().subregions(recursive);
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return getDelegate().put(key, value);
+	}
+
+	@Override
+	public V put(K key, V value, Object callbackArgument) {
+		return getDelegate().put(key, value, callbackArgument);
+	}
+
+	@Override
+	public void create(K key, V value) {
+		getDelegate().create(key, value);
+	}
+
+	@Override
+	public void create(K key, V value, Object callbackArgument) {
+		getDelegate().create(key, value, callbackArgument);
+	}
+
+	@Override
+	public void invalidate(Object key) {
+		getDelegate().invalidate(key);
+	}
+
+	@Override
+	public void invalidate(Object key, Object callbackArgument) {
+		getDelegate().invalidate(key, callbackArgument);
+	}
+
+	@Override
+	public void localInvalidate(Object key) {
+		getDelegate().localInvalidate(key);
+	}
+
+	@Override
+	public void localInvalidate(Object key, Object callbackArgument) {
+		getDelegate().localInvalidate(key, callbackArgument);
+	}
+
+	@Override
+	public V destroy(Object key) {
+		return getDelegate().destroy(key);
+	}
+
+	@Override
+	public V destroy(Object key, Object callbackArgument) {
+		return getDelegate().destroy(key, callbackArgument);
+	}
+
+	@Override
+	public void localDestroy(Object key) {
+		getDelegate().localDestroy(key);
+	}
+
+	@Override
+	public void localDestroy(Object key, Object callbackArgument) {
+		getDelegate().localDestroy(key, callbackArgument);
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return getDelegate().keySet();
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		return getDelegate().entrySet();
+	}
+
+	@Override
+	public Set<Region.Entry<?, ?>> entrySet(boolean recursive) {
+		return getDelegate().entrySet(recursive);
+	}
+
+	@Override
+	@Deprecated
+	public Cache getCache() {
+		return getDelegate().getCache();
+	}
+
+	@Override
+	public RegionService getRegionService() {
+		return getDelegate().getRegionService();
+	}
+
+	@Override
+	public Object getUserAttribute() {
+		return getDelegate().getUserAttribute();
+	}
+
+	@Override
+	public void setUserAttribute(Object value) {
+		getDelegate().setUserAttribute(value);
+	}
+
+	@Override
+	public boolean isDestroyed() {
+		return getDelegate().isDestroyed();
+	}
+
+	@Override
+	public boolean containsValueForKey(Object key) {
+		return getDelegate().containsValueForKey(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return getDelegate().containsKey(key);
+	}
+
+	@Override
+	public Lock getRegionDistributedLock() {
+		return getDelegate().getRegionDistributedLock();
+	}
+
+	@Override
+	public Lock getDistributedLock(Object key) {
+		return getDelegate().getDistributedLock(key);
+	}
+
+	@Override
+	public void becomeLockGrantor() {
+		getDelegate().becomeLockGrantor();
+	}
+
+	@Override
+	public void writeToDisk() {
+		getDelegate().writeToDisk();
+	}
+
+	@Override
+	public boolean existsValue(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return getDelegate().existsValue(queryPredicate);
+	}
+
+	@Override
+	public <E> SelectResults<E> query(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return getDelegate().query(queryPredicate);
+	}
+
+	@Override
+	public void forceRolling() {
+		getDelegate().forceRolling();
+	}
+
+	@Override
+	public void registerInterest(K key) {
+		getDelegate().registerInterest(key);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy) {
+		getDelegate().registerInterest(key, policy);
+	}
+
+	@Override
+	public void registerInterest(K key, boolean isDurable) {
+		getDelegate().registerInterest(key, isDurable);
+	}
+
+	@Override
+	public void registerInterest(K key, boolean isDurable, boolean receiveValues) {
+		getDelegate().registerInterest(key, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy, boolean isDurable) {
+		getDelegate().registerInterest(key, policy, isDurable);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy, boolean isDurable, boolean receiveValues) {
+		getDelegate().registerInterest(key, policy, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex) {
+		getDelegate().registerInterestRegex(regex);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy) {
+		getDelegate().registerInterestRegex(regex, policy);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, boolean isDurable) {
+		getDelegate().registerInterestRegex(regex, isDurable);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, boolean isDurable, boolean receiveValues) {
+		getDelegate().registerInterestRegex(regex, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy, boolean isDurable) {
+		getDelegate().registerInterestRegex(regex, policy, isDurable);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy, boolean isDurable,
+			boolean receiveValues) {
+
+		getDelegate().registerInterestRegex(regex, policy, isDurable, receiveValues);
+	}
+
+	@Override
+	public void unregisterInterest(K key) {
+		getDelegate().unregisterInterest(key);
+	}
+
+	@Override
+	public void unregisterInterestRegex(String regex) {
+		getDelegate().unregisterInterestRegex(regex);
+	}
+
+	@Override
+	public List<K> getInterestList() {
+		return getDelegate().getInterestList();
+	}
+
+	@Override
+	public List<String> getInterestListRegex() {
+		return getDelegate().getInterestListRegex();
+	}
+
+	@Override
+	public Set<K> keySetOnServer() {
+		return getDelegate().keySetOnServer();
+	}
+
+	@Override
+	public boolean containsKeyOnServer(Object key) {
+		return getDelegate().containsKeyOnServer(key);
+	}
+
+	@Override
+	public int sizeOnServer() {
+		return getDelegate().sizeOnServer();
+	}
+
+	@Override
+	public boolean isEmptyOnServer() {
+		return getDelegate().isEmptyOnServer();
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		getDelegate().putAll(map);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map, Object callbackArgument) {
+		getDelegate().putAll(map, callbackArgument);
+	}
+
+	@Override
+	public void removeAll(Collection<? extends K> keys) {
+		getDelegate().removeAll(keys);
+	}
+
+	@Override
+	public void removeAll(Collection<? extends K> keys, Object callbackArgument) {
+		getDelegate().removeAll(keys, callbackArgument);
+	}
+
+	@Override
+	public V remove(Object key) {
+		return getDelegate().remove(key);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		return getDelegate().remove(key, value);
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return getDelegate().putIfAbsent(key, value);
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		return getDelegate().replace(key, value);
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		return getDelegate().replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public int size() {
+		return getDelegate().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return getDelegate().isEmpty();
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return getDelegate().containsValue(value);
+	}
+
+	@Override
+	public void clear() {
+		getDelegate().clear();
+	}
+
+	@Override
+	public void localClear() {
+		getDelegate().localClear();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof PdxInstanceWrappingRegion)) {
+			return false;
+		}
+
+		return getDelegate().equals(((PdxInstanceWrappingRegion<?, ?>) obj).getDelegate());
+	}
+
+	@Override
+	public int hashCode() {
+		return getDelegate().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return getDelegate().toString();
+	}
+}
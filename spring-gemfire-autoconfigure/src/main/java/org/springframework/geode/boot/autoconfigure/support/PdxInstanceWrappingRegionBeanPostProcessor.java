@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Spring {@link BeanPostProcessor} decorating all {@link Region} beans declared and managed by the Spring container
+ * with a {@link PdxInstanceWrappingRegion}.
+ *
+ * This {@link BeanPostProcessor} is the non-AOP alternative to the {@link PdxInstanceWrapperRegionAspect}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegion
+ * @since 2.0.0
+ */
+public class PdxInstanceWrappingRegionBeanPostProcessor implements BeanPostProcessor {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		return bean instanceof Region
+			? PdxInstanceWrappingRegion.from((Region<Object, Object>) bean)
+			: bean;
+	}
+}
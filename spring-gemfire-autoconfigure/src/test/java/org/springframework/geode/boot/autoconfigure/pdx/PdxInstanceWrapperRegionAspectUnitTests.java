@@ -14,9 +14,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -27,6 +30,8 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect.PdxInstanceWrappingCollection;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect.PdxInstanceWrappingMap;
 import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect.RegionEntryWrapper;
 import org.springframework.geode.pdx.PdxInstanceWrapper;
 
@@ -113,6 +118,61 @@ public class PdxInstanceWrapperRegionAspectUnitTests {
 		verifyNoInteractions(mockPdxInstance);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionGetAllAdviceWrapsPdxLazilyWithoutCopying() throws Throwable {
+
+		ProceedingJoinPoint mockJointPoint = mock(ProceedingJoinPoint.class);
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Map<Object, Object> map = new HashMap<>();
+
+		map.put(1, "TEST");
+		map.put(2, mockPdxInstance);
+
+		doReturn(map).when(mockJointPoint).proceed();
+
+		Map<Object, Object> result = (Map<Object, Object>) this.aspect.regionGetAllAdvice(mockJointPoint);
+
+		assertThat(result).isInstanceOf(PdxInstanceWrappingMap.class);
+
+		map.put(3, "MOCK");
+
+		assertThat(result).hasSize(3);
+		assertThat(result.get(3)).isEqualTo("MOCK");
+		assertThat(result.containsValue(mockPdxInstance)).isTrue();
+		assertThat(result.values()).hasSize(3);
+
+		for (Map.Entry<Object, Object> entry : result.entrySet()) {
+			if (Integer.valueOf(2).equals(entry.getKey())) {
+				assertThat(entry.getValue()).isInstanceOf(PdxInstanceWrapper.class);
+				assertThat(((PdxInstanceWrapper) entry.getValue()).getDelegate()).isEqualTo(mockPdxInstance);
+			}
+			else {
+				assertThat(entry.getValue()).isNotInstanceOf(PdxInstanceWrapper.class);
+			}
+		}
+
+		assertThat(map.get(2)).isSameAs(mockPdxInstance);
+
+		verify(mockJointPoint, times(1)).proceed();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionGetAllAdviceHandlesNull() throws Throwable {
+
+		ProceedingJoinPoint mockJointPoint = mock(ProceedingJoinPoint.class);
+
+		doReturn(null).when(mockJointPoint).proceed();
+
+		assertThat((Map<Object, Object>) this.aspect.regionGetAllAdvice(mockJointPoint)).isEmpty();
+
+		verify(mockJointPoint, times(1)).proceed();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void regionGetEntryAdviceWrapsPdx() throws Throwable {
@@ -206,6 +266,40 @@ public class PdxInstanceWrapperRegionAspectUnitTests {
 		verifyNoInteractions(mockPdxInstance);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionValuesAdviceWrapsPdxLazilyWithoutCopying() throws Throwable {
+
+		ProceedingJoinPoint mockJointPoint = mock(ProceedingJoinPoint.class);
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		List<Object> regionValues = new ArrayList<>(Arrays.asList("TEST", mockPdxInstance));
+
+		doReturn(regionValues).when(mockJointPoint).proceed();
+
+		Collection<Object> result = (Collection<Object>) this.aspect.regionValuesAdvice(mockJointPoint);
+
+		assertThat(result).isInstanceOf(PdxInstanceWrappingCollection.class);
+
+		regionValues.add("MOCK");
+
+		assertThat(result).hasSize(3);
+		assertThat(result.contains(mockPdxInstance)).isTrue();
+		assertThat(result.contains(PdxInstanceWrapper.from(mockPdxInstance))).isTrue();
+
+		Iterator<Object> iterator = result.iterator();
+
+		assertThat(iterator.next()).isEqualTo("TEST");
+		assertThat(iterator.next()).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(iterator.next()).isEqualTo("MOCK");
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(regionValues.get(1)).isSameAs(mockPdxInstance);
+
+		verify(mockJointPoint, times(1)).proceed();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void constructRegionEntryWrapperWithRegionEntry() {
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.boot.autoconfigure.pdx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegion;
+import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegionBeanPostProcessor;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+
+/**
+ * Unit Tests for {@link PdxInstanceWrappingRegion} and {@link PdxInstanceWrappingRegionBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegion
+ * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrappingRegionBeanPostProcessor
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class PdxInstanceWrappingRegionUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fromNullRegionThrowsIllegalArgumentException() {
+
+		try {
+			PdxInstanceWrappingRegion.from(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void fromWrappedRegionReturnsSameRegion() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region<Object, Object> region = PdxInstanceWrappingRegion.from(mockRegion);
+
+		assertThat(region).isInstanceOf(PdxInstanceWrappingRegion.class);
+		assertThat(PdxInstanceWrappingRegion.from(region)).isSameAs(region);
+		assertThat(PdxInstanceWrappingRegion.unwrap(region)).isSameAs(mockRegion);
+		assertThat(PdxInstanceWrappingRegion.unwrap(mockRegion)).isSameAs(mockRegion);
+
+		verifyNoInteractions(mockRegion);
+	}
+
+	@Test
+	public void getWrapsPdx() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(mockPdxInstance).when(mockRegion).get(eq(1));
+		doReturn("TEST").when(mockRegion).get(eq(2), eq("ARG"));
+
+		Region<Object, Object> region = PdxInstanceWrappingRegion.from(mockRegion);
+
+		Object value = region.get(1);
+
+		assertThat(value).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(((PdxInstanceWrapper) value).getDelegate()).isEqualTo(mockPdxInstance);
+		assertThat(region.get(2, "ARG")).isEqualTo("TEST");
+		assertThat(region.get(3)).isNull();
+
+		verify(mockRegion, times(1)).get(eq(1));
+		verify(mockRegion, times(1)).get(eq(2), eq("ARG"));
+		verify(mockRegion, times(1)).get(eq(3));
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void getAllWrapsPdx() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Map<Object, Object> map = new HashMap<>();
+
+		map.put(1, "TEST");
+		map.put(2, mockPdxInstance);
+
+		doReturn(map).when(mockRegion).getAll(any());
+
+		Map<Object, Object> result = PdxInstanceWrappingRegion.from(mockRegion).getAll(Arrays.asList(1, 2));
+
+		assertThat(result).hasSize(2);
+		assertThat(result.get(1)).isEqualTo("TEST");
+		assertThat(result.get(2)).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(((PdxInstanceWrapper) result.get(2)).getDelegate()).isEqualTo(mockPdxInstance);
+
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void getAllAndValuesWithNullResultsReturnEmpty() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(null).when(mockRegion).getAll(any());
+		doReturn(null).when(mockRegion).getAll(any(), any());
+		doReturn(null).when(mockRegion).values();
+
+		Region<Object, Object> region = PdxInstanceWrappingRegion.from(mockRegion);
+
+		assertThat(region.getAll(Arrays.asList(1, 2))).isEmpty();
+		assertThat(region.getAll(Arrays.asList(1, 2), "ARG")).isEmpty();
+		assertThat(region.values()).isEmpty();
+	}
+
+	@Test
+	public void getEntryWrapsPdx() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		doReturn(mockPdxInstance).when(mockRegionEntry).getValue();
+		doReturn(mockRegionEntry).when(mockRegion).getEntry(eq(1));
+
+		Region.Entry<Object, Object> regionEntry = PdxInstanceWrappingRegion.from(mockRegion).getEntry(1);
+
+		assertThat(regionEntry).isNotSameAs(mockRegionEntry);
+		assertThat(regionEntry.getValue()).isInstanceOf(PdxInstanceWrapper.class);
+
+		verify(mockRegion, times(1)).getEntry(eq(1));
+		verify(mockRegionEntry, times(1)).getValue();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void selectValueWrapsPdx() throws Exception {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(mockPdxInstance).when(mockRegion).selectValue(eq("id = 1"));
+
+		Object value = PdxInstanceWrappingRegion.from(mockRegion).selectValue("id = 1");
+
+		assertThat(value).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(((PdxInstanceWrapper) value).getDelegate()).isEqualTo(mockPdxInstance);
+
+		verify(mockRegion, times(1)).selectValue(eq("id = 1"));
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void valuesWrapsPdx() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(Arrays.asList("TEST", mockPdxInstance)).when(mockRegion).values();
+
+		Collection<Object> values = PdxInstanceWrappingRegion.from(mockRegion).values();
+
+		assertThat(values).hasSize(2);
+		assertThat(values).element(0).isEqualTo("TEST");
+		assertThat(values).element(1).isInstanceOf(PdxInstanceWrapper.class);
+
+		verify(mockRegion, times(1)).values();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void writeOperationsAreDelegated() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+
+		Region<Object, Object> region = PdxInstanceWrappingRegion.from(mockRegion);
+
+		region.put(1, mockPdxInstance);
+		region.remove(2);
+
+		assertThat(region.getFullPath()).isEqualTo("/Example");
+
+		verify(mockRegion, times(1)).put(eq(1), eq(mockPdxInstance));
+		verify(mockRegion, times(1)).remove(eq(2));
+		verify(mockRegion, times(1)).getFullPath();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void equalsIsSymmetric() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region<Object, Object> region = PdxInstanceWrappingRegion.from(mockRegion);
+
+		assertThat(region).isEqualTo(region);
+		assertThat(region).isEqualTo(PdxInstanceWrappingRegion.from(mockRegion));
+		assertThat(region).isNotEqualTo(mockRegion);
+		assertThat(mockRegion).isNotEqualTo(region);
+		assertThat(region).hasSameHashCodeAs(PdxInstanceWrappingRegion.from(mockRegion));
+	}
+
+	@Test
+	public void beanPostProcessorDecoratesRegionBeansOnly() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		PdxInstanceWrappingRegionBeanPostProcessor beanPostProcessor = new PdxInstanceWrappingRegionBeanPostProcessor();
+
+		Object bean = beanPostProcessor.postProcessAfterInitialization(mockRegion, "Example");
+
+		assertThat(bean).isInstanceOf(PdxInstanceWrappingRegion.class);
+		assertThat(PdxInstanceWrappingRegion.unwrap((Region<Object, Object>) bean)).isSameAs(mockRegion);
+		assertThat(beanPostProcessor.postProcessAfterInitialization("TEST", "testBean")).isEqualTo("TEST");
+
+		verifyNoInteractions(mockRegion);
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.config.annotation;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.support.ConnectionEndpoint;
+import org.springframework.data.gemfire.support.ConnectionEndpointList;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ClusterAvailabilityCache} class caches the result of probing a {@link ConnectionEndpointList}
+ * for an available Apache Geode-based cluster for a configurable {@link Duration time-to-live (TTL)}.
+ *
+ * Unlike the result cached by the {@link ClusterAwareConfiguration.ClusterAwareCondition}, which is reset when
+ * the Spring {@link org.springframework.context.ApplicationContext} is closed, cached entries survive context
+ * refreshes and test contexts.  Entries are keyed by the {@link ConnectionEndpointList} that was probed and can
+ * optionally be persisted to a local {@link File} to be reused across JVM restarts (e.g. during development).
+ *
+ * Whenever a cached entry is used, the {@link ConnectionEndpointList} is re-probed once in the background
+ * and the entry is invalidated if the availability of the cluster changed.
+ *
+ * Caching is disabled unless a positive {@literal TTL} is configured.
+ *
+ * @author John Blum
+ * @see Duration
+ * @see ConnectionEndpointList
+ * @see ClusterAwareConfiguration.ClusterAwareCondition
+ * @since 2.0.0
+ */
+class ClusterAvailabilityCache {
+
+	static final String SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_FILE_PROPERTY =
+		"spring.boot.data.gemfire.cluster.condition.cache.file";
+
+	static final String SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_TTL_PROPERTY =
+		"spring.boot.data.gemfire.cluster.condition.cache.ttl";
+
+	private static final ClusterAvailabilityCache INSTANCE = new ClusterAvailabilityCache();
+
+	private static final Logger logger = LoggerFactory.getLogger(ClusterAvailabilityCache.class);
+
+	/**
+	 * Returns the single, shared instance of the {@link ClusterAvailabilityCache}.
+	 *
+	 * @return the single, shared instance of the {@link ClusterAvailabilityCache}.
+	 */
+	static @NonNull ClusterAvailabilityCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link String key} used to cache the result of probing the given {@link ConnectionEndpointList}.
+	 *
+	 * The {@link String key} is independent of the order of the {@link ConnectionEndpoint ConnectionEndpoints}.
+	 *
+	 * @param connectionEndpoints {@link ConnectionEndpointList} to convert into a {@link String key}.
+	 * @return the {@link String key} for the given {@link ConnectionEndpointList}.
+	 */
+	static @NonNull String toKey(@NonNull ConnectionEndpointList connectionEndpoints) {
+
+		return StreamSupport.stream(connectionEndpoints.spliterator(), false)
+			.map(connectionEndpoint -> String.format("%1$s[%2$d]",
+				connectionEndpoint.getHost(), connectionEndpoint.getPort()))
+			.sorted()
+			.distinct()
+			.collect(Collectors.joining(","));
+	}
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Set<String> loadedFiles = ConcurrentHashMap.newKeySet();
+	private final Set<String> revalidatingKeys = ConcurrentHashMap.newKeySet();
+
+	private volatile ExecutorService revalidationExecutor;
+
+	/**
+	 * Resolves the configured {@link Duration time-to-live (TTL)} for cached entries from the {@link Environment}.
+	 *
+	 * The {@literal TTL} can be expressed in milliseconds or in the Spring Boot {@link Duration} format
+	 * (e.g. {@literal 5m}).
+	 *
+	 * @param environment Spring {@link Environment} to evaluate.
+	 * @return the configured {@link Duration TTL}; {@link Duration#ZERO} if caching is disabled.
+	 */
+	@NonNull Duration resolveTimeToLive(@Nullable Environment environment) {
+
+		return Optional.ofNullable(environment)
+			.map(it -> it.getProperty(SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_TTL_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(ttl -> DurationStyle.detectAndParse(ttl.trim(), ChronoUnit.MILLIS))
+			.filter(ttl -> !ttl.isNegative())
+			.orElse(Duration.ZERO);
+	}
+
+	/**
+	 * Resolves the {@link File} used to persist cached entries from the {@link Environment}.
+	 *
+	 * @param environment Spring {@link Environment} to evaluate.
+	 * @return the configured {@link File}, or {@literal null} if cached entries are not persisted.
+	 */
+	@Nullable File resolveFile(@Nullable Environment environment) {
+
+		return Optional.ofNullable(environment)
+			.map(it -> it.getProperty(SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_FILE_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(String::trim)
+			.map(File::new)
+			.orElse(null);
+	}
+
+	/**
+	 * Returns the cached, unexpired number of successful connections for the given {@link String key}.
+	 *
+	 * @param key {@link String key} identifying the probed {@link ConnectionEndpointList}.
+	 * @param ttl {@link Duration time-to-live} of cached entries.
+	 * @param file optional {@link File} from which cached entries are loaded.
+	 * @return the cached connection count, or {@link Optional#empty()} if the entry was not cached or has expired.
+	 */
+	@NonNull Optional<Integer> get(@NonNull String key, @NonNull Duration ttl, @Nullable File file) {
+
+		load(file);
+
+		Entry entry = this.entries.get(key);
+
+		if (entry != null && entry.isExpired(ttl)) {
+			this.entries.remove(key, entry);
+			entry = null;
+		}
+
+		return Optional.ofNullable(entry).map(Entry::getConnectionCount);
+	}
+
+	/**
+	 * Caches the number of successful connections for the given {@link String key}.
+	 *
+	 * @param key {@link String key} identifying the probed {@link ConnectionEndpointList}.
+	 * @param connectionCount number of successful connections.
+	 * @param file optional {@link File} to which cached entries are persisted.
+	 */
+	void put(@NonNull String key, int connectionCount, @Nullable File file) {
+
+		this.entries.put(key, new Entry(connectionCount, System.currentTimeMillis()));
+		store(file);
+	}
+
+	/**
+	 * Invalidates the cached entry for the given {@link String key}.
+	 *
+	 * @param key {@link String key} identifying the probed {@link ConnectionEndpointList}.
+	 * @param file optional {@link File} to which cached entries are persisted.
+	 * @return a boolean value indicating whether a cached entry was invalidated.
+	 */
+	boolean invalidate(@NonNull String key, @Nullable File file) {
+
+		boolean invalidated = this.entries.remove(key) != null;
+
+		if (invalidated) {
+			store(file);
+		}
+
+		return invalidated;
+	}
+
+	/**
+	 * Clears all cached entries held in memory.
+	 *
+	 * Persisted entries are reloaded from the {@link File} on the next lookup.
+	 */
+	void clear() {
+		this.entries.clear();
+		this.loadedFiles.clear();
+	}
+
+	/**
+	 * Re-probes the {@link ConnectionEndpointList} identified by the {@link String key} in the background
+	 * and invalidates the cached entry if the availability of the cluster changed.
+	 *
+	 * At most one background probe runs per {@link String key} at a time.
+	 *
+	 * @param key {@link String key} identifying the probed {@link ConnectionEndpointList}.
+	 * @param file optional {@link File} to which cached entries are persisted.
+	 * @param connectionCounter {@link IntSupplier} probing the {@link ConnectionEndpointList}.
+	 */
+	void revalidate(@NonNull String key, @Nullable File file, @NonNull IntSupplier connectionCounter) {
+
+		Assert.notNull(connectionCounter, "Connection counter must not be null");
+
+		if (this.revalidatingKeys.add(key)) {
+			try {
+				getRevalidationExecutor().execute(() -> {
+					try {
+
+						Entry entry = this.entries.get(key);
+
+						if (entry != null) {
+
+							boolean available = connectionCounter.getAsInt() > 0;
+
+							if (available != entry.isAvailable() && invalidate(key, file)) {
+								logger.info("Cluster availability changed for connection endpoints [{}];"
+									+ " cached result invalidated", key);
+							}
+						}
+					}
+					catch (RuntimeException cause) {
+						logger.debug("Background cluster availability check failed", cause);
+					}
+					finally {
+						this.revalidatingKeys.remove(key);
+					}
+				});
+			}
+			catch (RuntimeException cause) {
+				this.revalidatingKeys.remove(key);
+				logger.debug("Unable to schedule background cluster availability check", cause);
+			}
+		}
+	}
+
+	private @NonNull ExecutorService getRevalidationExecutor() {
+
+		ExecutorService executor = this.revalidationExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.revalidationExecutor;
+				if (executor == null) {
+					executor = Executors.newSingleThreadExecutor(runnable -> {
+						Thread thread = new Thread(runnable, "cluster-availability-cache-revalidation");
+						thread.setDaemon(true);
+						return thread;
+					});
+					this.revalidationExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	private void load(@Nullable File file) {
+
+		if (file != null && file.isFile() && this.loadedFiles.add(file.getAbsolutePath())) {
+
+			Properties properties = new Properties();
+
+			try (InputStream in = new FileInputStream(file)) {
+
+				properties.load(in);
+
+				properties.stringPropertyNames().forEach(key ->
+					Entry.parse(properties.getProperty(key)).ifPresent(entry -> this.entries.putIfAbsent(key, entry)));
+			}
+			catch (IOException cause) {
+				logger.debug(String.format("Failed to load cluster availability cache from file [%s]", file), cause);
+			}
+		}
+	}
+
+	private synchronized void store(@Nullable File file) {
+
+		if (file != null) {
+
+			Properties properties = new Properties();
+
+			this.entries.forEach((key, entry) -> properties.setProperty(key, entry.toString()));
+
+			File parentDirectory = file.getAbsoluteFile().getParentFile();
+
+			if (parentDirectory != null && !parentDirectory.isDirectory()) {
+				parentDirectory.mkdirs();
+			}
+
+			try (OutputStream out = new FileOutputStream(file)) {
+				properties.store(out, "Cluster availability cache");
+			}
+			catch (IOException cause) {
+				logger.debug(String.format("Failed to store cluster availability cache in file [%s]", file), cause);
+			}
+		}
+	}
+
+	static final class Entry {
+
+		private static final String SEPARATOR = ",";
+
+		static @NonNull Optional<Entry> parse(@Nullable String value) {
+
+			String[] values = StringUtils.hasText(value) ? value.split(SEPARATOR) : new String[0];
+
+			try {
+				return values.length == 2
+					? Optional.of(new Entry(Integer.parseInt(values[0].trim()), Long.parseLong(values[1].trim())))
+					: Optional.empty();
+			}
+			catch (NumberFormatException ignore) {
+				return Optional.empty();
+			}
+		}
+
+		private final int connectionCount;
+
+		private final long timestamp;
+
+		Entry(int connectionCount, long timestamp) {
+			this.connectionCount = connectionCount;
+			this.timestamp = timestamp;
+		}
+
+		int getConnectionCount() {
+			return this.connectionCount;
+		}
+
+		boolean isAvailable() {
+			return getConnectionCount() > 0;
+		}
+
+		boolean isExpired(@NonNull Duration ttl) {
+			return System.currentTimeMillis() - this.timestamp >= ttl.toMillis();
+		}
+
+		@Override
+		public String toString() {
+			return this.connectionCount + SEPARATOR + this.timestamp;
+		}
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.config.annotation;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.support.ConnectionEndpointList;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ClusterAvailabilityMonitor} class is a Spring {@link SmartLifecycle} bean that continues to probe
+ * for an available Apache Geode-based cluster in the background when no cluster was available at the time
+ * the {@link ClusterAwareConfiguration.ClusterAwareCondition} was evaluated.
+ *
+ * When the cluster becomes reachable, a {@link ClusterAvailableEvent} is published, the cluster is recorded as
+ * {@link #isClusterReachable() reachable} and probing stops.  The
+ * {@link ClusterAwareConfiguration.ClusterAwareCondition#isAvailable() cluster availability} determined at startup
+ * is not changed, since the Regions remain {@literal LOCAL} until the application is reconfigured.  Applications
+ * can listen for the {@link ClusterAvailableEvent} to react to the cluster becoming reachable (e.g. by refreshing
+ * the Spring {@link org.springframework.context.ApplicationContext} to switch from {@literal LOCAL}
+ * to client/server Regions).
+ *
+ * The {@link ClusterAvailabilityMonitor} is enabled with the
+ * {@literal spring.boot.data.gemfire.cluster.condition.monitor.enabled} property.
+ *
+ * @author John Blum
+ * @see ApplicationEventPublisher
+ * @see SmartLifecycle
+ * @see ClusterAwareConfiguration.ClusterAwareCondition
+ * @see ClusterAvailableEvent
+ * @since 2.0.0
+ */
+public class ClusterAvailabilityMonitor implements ApplicationEventPublisherAware, EnvironmentAware, SmartLifecycle {
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_MONITOR_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.cluster.condition.monitor.enabled";
+
+	public static final String SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_MONITOR_INTERVAL_PROPERTY =
+		"spring.boot.data.gemfire.cluster.condition.monitor.interval";
+
+	protected static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+
+	private final AtomicBoolean clusterFound = new AtomicBoolean(false);
+
+	private final AtomicInteger probeCount = new AtomicInteger(0);
+
+	private final AtomicLong lastProbeTime = new AtomicLong(0L);
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private final ClusterAwareConfiguration.ClusterAwareCondition condition;
+
+	private Environment environment;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile ScheduledExecutorService scheduler;
+
+	/**
+	 * Constructs a new instance of {@link ClusterAvailabilityMonitor} probing the cluster using
+	 * the {@link ClusterAwareConfiguration.ClusterAwareCondition}.
+	 */
+	public ClusterAvailabilityMonitor() {
+		this(new ClusterAwareConfiguration.ClusterAwareCondition());
+	}
+
+	ClusterAvailabilityMonitor(@NonNull ClusterAwareConfiguration.ClusterAwareCondition condition) {
+		this.condition = condition;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(@NonNull ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	protected Optional<ApplicationEventPublisher> getApplicationEventPublisher() {
+		return Optional.ofNullable(this.applicationEventPublisher);
+	}
+
+	@Override
+	public void setEnvironment(@NonNull Environment environment) {
+		this.environment = environment;
+	}
+
+	protected @Nullable Environment getEnvironment() {
+		return this.environment;
+	}
+
+	protected @NonNull Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Determines whether an Apache Geode-based cluster was available when the
+	 * {@link ClusterAwareConfiguration.ClusterAwareCondition} was evaluated, in which case the application
+	 * is configured with client/server Regions.
+	 *
+	 * @return a boolean value indicating whether an Apache Geode-based cluster was available at startup.
+	 * @see ClusterAwareConfiguration.ClusterAwareCondition#isAvailable()
+	 * @see #isClusterReachable()
+	 */
+	public boolean isClusterAvailable() {
+		return ClusterAwareConfiguration.ClusterAwareCondition.isAvailable();
+	}
+
+	/**
+	 * Determines whether an Apache Geode-based cluster is reachable, either because the cluster was
+	 * {@link #isClusterAvailable() available} at startup or because a background probe found the cluster afterwards.
+	 *
+	 * A cluster found by a background probe does not change the {@literal LOCAL} Regions the application
+	 * was configured with.
+	 *
+	 * @return a boolean value indicating whether an Apache Geode-based cluster is reachable.
+	 * @see #isClusterAvailable()
+	 */
+	public boolean isClusterReachable() {
+		return isClusterAvailable() || this.clusterFound.get();
+	}
+
+	/**
+	 * Returns the {@link Duration interval} between background probes, configured with the
+	 * {@literal spring.boot.data.gemfire.cluster.condition.monitor.interval} property.
+	 *
+	 * @return the {@link Duration interval} between background probes; defaults to {@literal 10 seconds}.
+	 */
+	public @NonNull Duration getInterval() {
+
+		return Optional.ofNullable(getEnvironment())
+			.map(environment ->
+				environment.getProperty(SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_MONITOR_INTERVAL_PROPERTY))
+			.filter(StringUtils::hasText)
+			.map(interval -> DurationStyle.detectAndParse(interval.trim(), ChronoUnit.MILLIS))
+			.filter(interval -> !interval.isNegative() && !interval.isZero())
+			.orElse(DEFAULT_INTERVAL);
+	}
+
+	/**
+	 * Returns the time, in milliseconds since the epoch, of the last background probe.
+	 *
+	 * @return the time of the last background probe, or {@literal 0} if no probe was performed.
+	 */
+	public long getLastProbeTime() {
+		return this.lastProbeTime.get();
+	}
+
+	/**
+	 * Returns the number of background probes performed.
+	 *
+	 * @return the number of background probes performed.
+	 */
+	public int getProbeCount() {
+		return this.probeCount.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isRunning() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		return scheduler != null && !scheduler.isShutdown();
+	}
+
+	/**
+	 * Starts probing for an available cluster in the background unless the cluster is already available.
+	 */
+	@Override
+	public synchronized void start() {
+
+		if (!isRunning() && !isClusterReachable()) {
+
+			stop();
+
+			Duration interval = getInterval();
+
+			ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "cluster-availability-monitor");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			scheduler.scheduleWithFixedDelay(this::probe, interval.toMillis(), interval.toMillis(),
+				TimeUnit.MILLISECONDS);
+
+			this.scheduler = scheduler;
+
+			getLogger().info("No cluster was found; probing for a cluster every [{}] ms", interval.toMillis());
+		}
+	}
+
+	/**
+	 * Stops probing for an available cluster.
+	 */
+	@Override
+	public synchronized void stop() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			this.scheduler = null;
+		}
+	}
+
+	/**
+	 * Probes the configured and pooled {@link org.springframework.data.gemfire.support.ConnectionEndpoint
+	 * ConnectionEndpoints} for an available cluster.
+	 *
+	 * When the cluster is found, the cluster is recorded as {@link #isClusterReachable() reachable},
+	 * a {@link ClusterAvailableEvent} is published and probing stops.
+	 *
+	 * @return a boolean value indicating whether the cluster is reachable.
+	 */
+	boolean probe() {
+
+		try {
+
+			this.probeCount.incrementAndGet();
+			this.lastProbeTime.set(System.currentTimeMillis());
+
+			ConnectionEndpointList connectionEndpoints = this.condition.getConnectionEndpoints(getEnvironment());
+
+			int connectionCount = this.condition.countConnections(connectionEndpoints);
+
+			if (connectionCount > 0) {
+
+				this.clusterFound.set(true);
+
+				getLogger().info("Cluster is now reachable; made [{}] successful connection(s);"
+					+ " Regions remain LOCAL until the application is reconfigured", connectionCount);
+
+				getApplicationEventPublisher().ifPresent(eventPublisher ->
+					eventPublisher.publishEvent(new ClusterAvailableEvent(this, connectionEndpoints, connectionCount)));
+
+				stopAsync();
+
+				return true;
+			}
+		}
+		catch (RuntimeException cause) {
+			getLogger().debug("Background cluster availability probe failed", cause);
+		}
+
+		return false;
+	}
+
+	private void stopAsync() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * Spring {@link ApplicationEvent} published when an Apache Geode-based cluster becomes available
+	 * after the Spring {@link org.springframework.context.ApplicationContext} started in {@literal local-only mode}.
+	 */
+	public static class ClusterAvailableEvent extends ApplicationEvent {
+
+		private final ConnectionEndpointList connectionEndpoints;
+
+		private final int connectionCount;
+
+		public ClusterAvailableEvent(@NonNull Object source, @NonNull ConnectionEndpointList connectionEndpoints,
+				int connectionCount) {
+
+			super(source);
+
+			this.connectionEndpoints = connectionEndpoints;
+			this.connectionCount = connectionCount;
+		}
+
+		/**
+		 * Returns the number of successful connections made to the cluster.
+		 *
+		 * @return the number of successful connections made to the cluster.
+		 */
+		public int getConnectionCount() {
+			return this.connectionCount;
+		}
+
+		/**
+		 * Returns the {@link ConnectionEndpointList} that was probed.
+		 *
+		 * @return the {@link ConnectionEndpointList} that was probed.
+		 */
+		public @NonNull ConnectionEndpointList getConnectionEndpoints() {
+			return this.connectionEndpoints;
+		}
+	}
+}
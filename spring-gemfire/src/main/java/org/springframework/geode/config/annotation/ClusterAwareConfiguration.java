@@ -4,11 +4,13 @@
  */
 package org.springframework.geode.config.annotation;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -19,11 +21,18 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
@@ -32,8 +41,10 @@ import org.apache.geode.cache.client.PoolManager;
 import org.apache.geode.cache.server.CacheServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Configuration;
@@ -52,7 +63,6 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.support.ConnectionEndpoint;
 import org.springframework.data.gemfire.support.ConnectionEndpointList;
-import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.geode.cache.SimpleCacheResolver;
 import org.springframework.geode.core.util.ObjectUtils;
@@ -103,9 +113,11 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 	static final int DEFAULT_CACHE_SERVER_PORT = CacheServer.DEFAULT_PORT;
 	static final int DEFAULT_LOCATOR_PORT = 10334;
 	static final int DEFAULT_TIMEOUT_IN_MILLISECONDS = 500;
+	static final int DEFAULT_PROBE_TIMEOUT_IN_MILLISECONDS = 2 * DEFAULT_TIMEOUT_IN_MILLISECONDS;
 
 	static final ClientRegionShortcut LOCAL_CLIENT_REGION_SHORTCUT = ClientRegionShortcut.LOCAL;
 
+	static final String CONNECTION_PROBE_THREAD_NAME = "cluster-aware-connection-probe";
 	static final String LOCALHOST = "localhost";
 	static final String MATCHING_PROPERTY_PATTERN = "spring\\.data\\.gemfire\\.pool\\..*locators|servers";
 
@@ -135,6 +147,22 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 		return EnableClusterAware.class;
 	}
 
+	/**
+	 * Declares the {@link ClusterAvailabilityMonitor} bean used to continue probing for an available cluster
+	 * in the background when the application started in {@literal local-only mode}.
+	 *
+	 * @return a new {@link ClusterAvailabilityMonitor}.
+	 * @see ClusterAvailabilityMonitor
+	 */
+	@Bean
+	@ConditionalOnProperty(
+		name = ClusterAvailabilityMonitor.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_MONITOR_ENABLED_PROPERTY,
+		havingValue = "true"
+	)
+	static @NonNull ClusterAvailabilityMonitor clusterAvailabilityMonitor() {
+		return new ClusterAvailabilityMonitor();
+	}
+
 	@SuppressWarnings("unused")
 	public static class ClusterAwareCondition implements Condition {
 
@@ -260,7 +288,7 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 		 * @see ConditionContext
 		 * @see #doCachedMatch(ConditionContext)
 		 * @see #getConnectionEndpoints(Environment)
-		 * @see #countConnections(ConnectionEndpointList)
+		 * @see #countConnections(Environment, ConnectionEndpointList)
 		 * @see #configureTopology(Environment, ConnectionEndpointList, int)
 		 * @see #logRuntimeEnvironment(Logger, int)
 		 * @see #isMatch(ConnectionEndpointList, int)
@@ -271,7 +299,7 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 
 			ConnectionEndpointList connectionEndpoints = getConnectionEndpoints(environment);
 
-			int connectionCount = countConnections(connectionEndpoints);
+			int connectionCount = countConnections(environment, connectionEndpoints);
 
 			configureTopology(environment, connectionEndpoints, connectionCount);
 			logRuntimeEnvironment(getLogger(), connectionCount);
@@ -302,6 +330,17 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 			);
 		}
 
+		/**
+		 * Returns the {@link ConnectionEndpoint ConnectionEndpoints} configured with the
+		 * {@literal spring.data.gemfire.pool.*locators} and {@literal *servers} properties.
+		 *
+		 * The property names are looked up in a {@link ConnectionEndpointPropertyIndex} built once per
+		 * {@link Environment} rather than by matching every property name in every {@link PropertySource}.
+		 *
+		 * @param environment Spring {@link Environment} to evaluate.
+		 * @return a {@link List} of configured {@link ConnectionEndpoint ConnectionEndpoints}.
+		 * @see ConnectionEndpointPropertyIndex
+		 */
 		protected List<ConnectionEndpoint> getConfiguredConnectionEndpoints(@NonNull Environment environment) {
 
 			List<ConnectionEndpoint> connectionEndpoints = new ArrayList<>();
@@ -314,39 +353,25 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 
 				if (propertySources != null) {
 
-					Pattern pattern = Pattern.compile(MATCHING_PROPERTY_PATTERN);
-
-					for (PropertySource<?> propertySource : propertySources) {
-						if (propertySource instanceof EnumerablePropertySource) {
-
-							EnumerablePropertySource<?> enumerablePropertySource =
-								(EnumerablePropertySource<?>) propertySource;
-
-							String[] propertyNames = enumerablePropertySource.getPropertyNames();
-
-							Arrays.stream(ArrayUtils.nullSafeArray(propertyNames, String.class))
-								.filter(StringUtils::hasText)
-								.filter(propertyName-> pattern.matcher(propertyName).find())
-								.forEach(propertyName -> {
+					ConnectionEndpointPropertyIndex.from(configurableEnvironment, propertySources).getPropertyNames()
+						.forEach(propertyName -> {
 
-									String propertyValue = environment.getProperty(propertyName);
+							String propertyValue = environment.getProperty(propertyName);
 
-									if (StringUtils.hasText(propertyValue)) {
+							if (StringUtils.hasText(propertyValue)) {
 
-										int defaultPort = propertyName.toLowerCase().contains("servers")
-											? DEFAULT_CACHE_SERVER_PORT
-											: DEFAULT_LOCATOR_PORT;
+								int defaultPort = propertyName.toLowerCase().contains("servers")
+									? DEFAULT_CACHE_SERVER_PORT
+									: DEFAULT_LOCATOR_PORT;
 
-										String[] propertyValueArray = propertyValue.split(",");
+								String[] propertyValueArray = propertyValue.split(",");
 
-										ConnectionEndpointList list =
-											ConnectionEndpointList.parse(defaultPort, propertyValueArray);
+								ConnectionEndpointList list =
+									ConnectionEndpointList.parse(defaultPort, propertyValueArray);
 
-										connectionEndpoints.addAll(list);
-									}
-								});
-						}
-					}
+								connectionEndpoints.addAll(list);
+							}
+						});
 				}
 			}
 
@@ -393,35 +418,219 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 				.collect(Collectors.toSet());
 		}
 
+		/**
+		 * Counts the number of {@link ConnectionEndpoint ConnectionEndpoints} that can be connected to, using the
+		 * result cached in the {@link ClusterAvailabilityCache} when a {@literal TTL} is configured.
+		 *
+		 * When a cached result is used, the {@link ConnectionEndpointList} is re-probed in the background
+		 * and the cached result is invalidated if the availability of the cluster changed.
+		 *
+		 * @param environment Spring {@link Environment} used to configure the {@link ClusterAvailabilityCache}.
+		 * @param connectionEndpoints {@link ConnectionEndpointList} to probe; must not be {@literal null}.
+		 * @return the number of successful connections.
+		 * @see #countConnections(ConnectionEndpointList)
+		 * @see ClusterAvailabilityCache
+		 */
+		protected int countConnections(@Nullable Environment environment,
+				@NonNull ConnectionEndpointList connectionEndpoints) {
+
+			ClusterAvailabilityCache cache = getClusterAvailabilityCache();
+
+			Duration ttl = cache.resolveTimeToLive(environment);
+
+			if (ttl.isZero()) {
+				return countConnections(connectionEndpoints);
+			}
+
+			File file = cache.resolveFile(environment);
+
+			String key = ClusterAvailabilityCache.toKey(connectionEndpoints);
+
+			Optional<Integer> cachedConnectionCount = cache.get(key, ttl, file);
+
+			if (cachedConnectionCount.isPresent()) {
+
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Using cached cluster availability for connection endpoints [{}]", key);
+				}
+
+				cache.revalidate(key, file, () -> countConnections(connectionEndpoints));
+
+				return cachedConnectionCount.get();
+			}
+
+			int connectionCount = countConnections(connectionEndpoints);
+
+			cache.put(key, connectionCount, file);
+
+			return connectionCount;
+		}
+
+		@NonNull ClusterAvailabilityCache getClusterAvailabilityCache() {
+			return ClusterAvailabilityCache.getInstance();
+		}
+
+		/**
+		 * Counts the number of {@link ConnectionEndpoint ConnectionEndpoints} that can be connected to, stopping
+		 * as soon as the {@link #getRequiredConnectionCount() required number of connections} have been made.
+		 *
+		 * @param connectionEndpoints {@link ConnectionEndpointList} to probe; must not be {@literal null}.
+		 * @return the number of successful connections.
+		 * @see #countConnections(ConnectionEndpointList, int)
+		 * @see #getRequiredConnectionCount()
+		 */
 		protected int countConnections(@NonNull ConnectionEndpointList connectionEndpoints) {
+			return countConnections(connectionEndpoints, getRequiredConnectionCount());
+		}
+
+		/**
+		 * Counts the number of {@link ConnectionEndpoint ConnectionEndpoints} that can be connected to.
+		 *
+		 * All {@link ConnectionEndpoint ConnectionEndpoints} are probed concurrently, so that unreachable
+		 * {@link ConnectionEndpoint ConnectionEndpoints} do not add up their connect timeouts.  Counting stops
+		 * as soon as the {@literal required connection count} is reached; the remaining probes are cancelled.
+		 *
+		 * @param connectionEndpoints {@link ConnectionEndpointList} to probe; must not be {@literal null}.
+		 * @param requiredConnectionCount number of successful connections after which counting stops.
+		 * @return the number of successful connections.
+		 * @see #probe(ConnectionEndpoint)
+		 */
+		protected int countConnections(@NonNull ConnectionEndpointList connectionEndpoints,
+				int requiredConnectionCount) {
+
+			List<ConnectionEndpoint> connectionEndpointList = new ArrayList<>();
+
+			connectionEndpoints.forEach(connectionEndpointList::add);
+
+			if (connectionEndpointList.isEmpty()) {
+				return 0;
+			}
+
+			ExecutorService connectionProbeExecutor = newConnectionProbeExecutor(connectionEndpointList.size());
 
 			int count = 0;
 
-			for (ConnectionEndpoint connectionEndpoint : connectionEndpoints) {
+			try {
 
-				try (Socket socket = connect(connectionEndpoint)){
+				CompletionService<Boolean> connectionProbes =
+					new ExecutorCompletionService<>(connectionProbeExecutor);
 
-					count += isConnected(socket) ? 1 : 0;
+				connectionEndpointList.forEach(connectionEndpoint ->
+					connectionProbes.submit(() -> probe(connectionEndpoint)));
 
-					if (getLogger().isInfoEnabled()) {
-						getLogger().info("Successfully connected to {}", connectionEndpoint);
-					}
-				}
-				catch (IOException | SocketCreationException cause) {
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_PROBE_TIMEOUT_IN_MILLISECONDS);
 
-					if (getLogger().isInfoEnabled()) {
-						getLogger().info("Failed to connect to {}", connectionEndpoint);
-					}
+				for (int index = 0, size = connectionEndpointList.size();
+						index < size && count < requiredConnectionCount; index++) {
 
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Connection failed because:", cause);
+					Future<Boolean> connectionProbe =
+						connectionProbes.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+					if (connectionProbe == null) {
+						break;
 					}
+
+					count += isConnected(connectionProbe) ? 1 : 0;
 				}
 			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				connectionProbeExecutor.shutdownNow();
+			}
 
 			return count;
 		}
 
+		/**
+		 * Returns the number of successful connections required before the probing of
+		 * {@link ConnectionEndpoint ConnectionEndpoints} stops.
+		 *
+		 * Defaults to {@literal 1} since a single connection is sufficient to determine that a cluster is available.
+		 *
+		 * @return the number of successful connections required before the probing stops.
+		 * @see #countConnections(ConnectionEndpointList)
+		 */
+		protected int getRequiredConnectionCount() {
+			return 1;
+		}
+
+		/**
+		 * Constructs a new {@link ExecutorService} used to probe {@link ConnectionEndpoint ConnectionEndpoints}
+		 * concurrently.
+		 *
+		 * @param connectionEndpointCount number of {@link ConnectionEndpoint ConnectionEndpoints} to probe.
+		 * @return a new {@link ExecutorService}; never {@literal null}.
+		 * @see ExecutorService
+		 */
+		protected @NonNull ExecutorService newConnectionProbeExecutor(int connectionEndpointCount) {
+
+			AtomicInteger threadCount = new AtomicInteger(0);
+
+			return Executors.newFixedThreadPool(Math.max(connectionEndpointCount, 1), runnable -> {
+
+				Thread thread = new Thread(runnable,
+					String.format("%1$s-%2$d", CONNECTION_PROBE_THREAD_NAME, threadCount.incrementAndGet()));
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+		}
+
+		private boolean isConnected(@NonNull Future<Boolean> connectionProbe) {
+
+			try {
+				return Boolean.TRUE.equals(connectionProbe.get());
+			}
+			catch (ExecutionException cause) {
+
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Connection probe failed because:", cause.getCause());
+				}
+
+				return false;
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		/**
+		 * Probes the given {@link ConnectionEndpoint} by opening (and closing) a {@link Socket} connection.
+		 *
+		 * @param connectionEndpoint {@link ConnectionEndpoint} to probe; must not be {@literal null}.
+		 * @return a boolean value indicating whether the {@link ConnectionEndpoint} could be connected to.
+		 * @see #connect(ConnectionEndpoint)
+		 */
+		protected boolean probe(@NonNull ConnectionEndpoint connectionEndpoint) {
+
+			try (Socket socket = connect(connectionEndpoint)) {
+
+				boolean connected = isConnected(socket);
+
+				if (connected && getLogger().isInfoEnabled()) {
+					getLogger().info("Successfully connected to {}", connectionEndpoint);
+				}
+
+				return connected;
+			}
+			catch (IOException | SocketCreationException cause) {
+
+				if (getLogger().isInfoEnabled()) {
+					getLogger().info("Failed to connect to {}", connectionEndpoint);
+				}
+
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Connection failed because:", cause);
+				}
+
+				return false;
+			}
+		}
+
 		protected boolean isConnected(@NonNull Socket socket) {
 			return socket != null && socket.isConnected();
 		}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.config.annotation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.PropertySources;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ConnectionEndpointPropertyIndex} class is an index of the {@link String names} of all
+ * {@literal spring.data.gemfire.pool.*locators} and {@literal *servers} properties declared in
+ * the {@link EnumerablePropertySource EnumerablePropertySources} of a {@link ConfigurableEnvironment}.
+ *
+ * The index is built once per {@link Environment} and shared by all
+ * {@link ClusterAwareConfiguration.ClusterAwareCondition ClusterAwareConditions}, so that the (possibly thousands of)
+ * property names in large environments are only matched once during condition evaluation.  The index is rebuilt when
+ * {@link PropertySource PropertySources} are added to, removed from or replaced in the {@link Environment}, which is
+ * checked by identity without enumerating any property names.  Properties added to an existing
+ * {@link PropertySource} are not indexed until the {@link PropertySource} is replaced.
+ *
+ * A property name declared in multiple {@link PropertySource PropertySources} is indexed once per
+ * {@link PropertySource}, the same as when the {@link PropertySource PropertySources} are scanned directly.
+ *
+ * @author John Blum
+ * @see ConfigurableEnvironment
+ * @see EnumerablePropertySource
+ * @see ClusterAwareConfiguration.ClusterAwareCondition
+ * @since 2.0.0
+ */
+final class ConnectionEndpointPropertyIndex {
+
+	static final String LOCATORS_PROPERTY_NAME_SUFFIX = "locators";
+	static final String POOL_PROPERTY_NAME_PREFIX = "spring.data.gemfire.pool.";
+	static final String SERVERS_PROPERTY_NAME_SUFFIX = "servers";
+
+	private static final Map<Environment, ConnectionEndpointPropertyIndex> indexes = new WeakHashMap<>();
+
+	/**
+	 * Returns the {@link ConnectionEndpointPropertyIndex} for the given {@link ConfigurableEnvironment},
+	 * building the index if the {@link ConfigurableEnvironment} was not indexed yet or if its
+	 * {@link PropertySource PropertySources} changed.
+	 *
+	 * @param environment {@link ConfigurableEnvironment} to index; must not be {@literal null}.
+	 * @param environmentPropertySources {@link PropertySources} of the {@link ConfigurableEnvironment};
+	 * must not be {@literal null}.
+	 * @return the {@link ConnectionEndpointPropertyIndex} for the given {@link ConfigurableEnvironment}.
+	 */
+	static @NonNull ConnectionEndpointPropertyIndex from(@NonNull ConfigurableEnvironment environment,
+			@NonNull PropertySources environmentPropertySources) {
+
+		synchronized (indexes) {
+
+			ConnectionEndpointPropertyIndex index = indexes.get(environment);
+
+			if (index == null || !index.isIndexOf(environmentPropertySources)) {
+				index = new ConnectionEndpointPropertyIndex(environmentPropertySources);
+				indexes.put(environment, index);
+			}
+
+			return index;
+		}
+	}
+
+	/**
+	 * Determines whether the given {@link String property name} names a {@literal locators} or {@literal servers}
+	 * property.
+	 *
+	 * This is equivalent to finding the {@link ClusterAwareConfiguration#MATCHING_PROPERTY_PATTERN} in the
+	 * {@link String property name}, without the cost of a regular expression.
+	 *
+	 * @param propertyName {@link String} containing the property name to evaluate.
+	 * @return a boolean value indicating whether the {@link String property name} names a {@literal locators}
+	 * or {@literal servers} property.
+	 */
+	static boolean isMatchingPropertyName(@Nullable String propertyName) {
+
+		if (!StringUtils.hasText(propertyName)) {
+			return false;
+		}
+
+		if (propertyName.contains(SERVERS_PROPERTY_NAME_SUFFIX)) {
+			return true;
+		}
+
+		int poolPropertyNameIndex = propertyName.indexOf(POOL_PROPERTY_NAME_PREFIX);
+
+		return poolPropertyNameIndex > -1 && propertyName.indexOf(LOCATORS_PROPERTY_NAME_SUFFIX,
+			poolPropertyNameIndex + POOL_PROPERTY_NAME_PREFIX.length()) > -1;
+	}
+
+	private final List<PropertySource<?>> propertySources;
+
+	private final List<String> propertyNames;
+
+	private final PropertySources environmentPropertySources;
+
+	private ConnectionEndpointPropertyIndex(@NonNull PropertySources environmentPropertySources) {
+
+		List<PropertySource<?>> propertySources = new ArrayList<>();
+		List<String> propertyNames = new ArrayList<>();
+
+		for (PropertySource<?> propertySource : environmentPropertySources) {
+
+			propertySources.add(propertySource);
+
+			if (propertySource instanceof EnumerablePropertySource) {
+
+				String[] enumerablePropertyNames = ArrayUtils.nullSafeArray(
+					((EnumerablePropertySource<?>) propertySource).getPropertyNames(), String.class);
+
+				for (String propertyName : enumerablePropertyNames) {
+					if (isMatchingPropertyName(propertyName)) {
+						propertyNames.add(propertyName);
+					}
+				}
+			}
+		}
+
+		this.environmentPropertySources = environmentPropertySources;
+		this.propertySources = propertySources;
+		this.propertyNames = Collections.unmodifiableList(propertyNames);
+	}
+
+	/**
+	 * Returns the indexed {@link String names} of the {@literal locators} and {@literal servers} properties,
+	 * in {@link PropertySource} order.
+	 *
+	 * @return the indexed {@link String property names}; never {@literal null}.
+	 */
+	@NonNull List<String> getPropertyNames() {
+		return this.propertyNames;
+	}
+
+	private boolean isIndexOf(@NonNull PropertySources environmentPropertySources) {
+
+		if (this.environmentPropertySources != environmentPropertySources) {
+			return false;
+		}
+
+		int index = 0;
+
+		for (PropertySource<?> propertySource : environmentPropertySources) {
+			if (index >= this.propertySources.size() || this.propertySources.get(index++) != propertySource) {
+				return false;
+			}
+		}
+
+		return index == this.propertySources.size();
+	}
+}
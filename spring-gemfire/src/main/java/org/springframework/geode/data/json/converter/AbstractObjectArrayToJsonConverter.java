@@ -31,9 +31,15 @@ public abstract class AbstractObjectArrayToJsonConverter implements ObjectArrayT
 
 	private ObjectToJsonConverter converter = newObjectToJsonConverter();
 
-	// TODO configure via an SPI
+	/**
+	 * Constructs the {@link ObjectToJsonConverter} registered in {@literal META-INF/spring.factories}, defaulting to
+	 * the {@link JSONFormatterPdxToJsonConverter}.
+	 *
+	 * @return a new {@link ObjectToJsonConverter}; never {@literal null}.
+	 * @see JsonConverterFactoriesLoader#load(Class, java.util.function.Supplier)
+	 */
 	private @NonNull ObjectToJsonConverter newObjectToJsonConverter() {
-		return new JSONFormatterPdxToJsonConverter();
+		return JsonConverterFactoriesLoader.load(ObjectToJsonConverter.class, JSONFormatterPdxToJsonConverter::new);
 	}
 
 	/**
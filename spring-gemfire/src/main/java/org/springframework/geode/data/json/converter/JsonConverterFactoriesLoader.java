@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.data.json.converter;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Abstract utility class used to load the implementations of the {@literal JSON} converter collaborators,
+ * such as the {@link ObjectMapperProvider} and the {@link ObjectToJsonConverter}, {@link JsonToObjectConverter}
+ * and {@link JsonToPdxConverter}, registered in {@literal META-INF/spring.factories}.
+ *
+ * @author John Blum
+ * @see SpringFactoriesLoader
+ * @see ObjectMapperProvider
+ * @since 2.0.0
+ */
+public abstract class JsonConverterFactoriesLoader {
+
+	/**
+	 * Loads the first, highest priority implementation of the given {@link Class type} registered in
+	 * {@literal META-INF/spring.factories}, or returns the default implementation provided by the {@link Supplier}
+	 * if no implementation was registered.
+	 *
+	 * @param <T> {@link Class type} of the implementation to load.
+	 * @param type {@link Class} used as the key to load the implementation; must not be {@literal null}.
+	 * @param defaultImplementation {@link Supplier} of the default implementation; must not be {@literal null}.
+	 * @return the loaded implementation; never {@literal null}.
+	 * @throws IllegalArgumentException if {@link Class type} or the {@link Supplier} is {@literal null}.
+	 * @see SpringFactoriesLoader#loadFactories(Class, ClassLoader)
+	 */
+	public static @NonNull <T> T load(@NonNull Class<T> type, @NonNull Supplier<T> defaultImplementation) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(defaultImplementation, "Default implementation must not be null");
+
+		List<T> implementations = SpringFactoriesLoader.loadFactories(type, ClassUtils.getDefaultClassLoader());
+
+		return implementations.isEmpty() ? defaultImplementation.get() : implementations.get(0);
+	}
+}
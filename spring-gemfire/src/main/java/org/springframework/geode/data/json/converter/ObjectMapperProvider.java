@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.data.json.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.lang.NonNull;
+
+/**
+ * Service Provider Interface (SPI) used by the {@literal JSON} converters to resolve the Jackson {@link ObjectMapper}
+ * and the collaborating converters used to process {@literal JSON}.
+ *
+ * Applications supply a tuned, shared Jackson {@link ObjectMapper} (for example, with the Afterburner or Blackbird
+ * modules registered, or unused features disabled) by registering an implementation of this interface
+ * in {@literal META-INF/spring.factories} under the {@literal org.springframework.geode.data.json.converter
+ * .ObjectMapperProvider} key.  The {@link ObjectMapper} returned by {@link #getObjectMapper()} is never modified
+ * by the converters; converters that require additional configuration {@link ObjectMapper#copy() copy} it once.
+ *
+ * The collaborating converters ({@link ObjectToJsonConverter}, {@link JsonToObjectConverter}
+ * and {@link JsonToPdxConverter}) can be replaced in the same way, using the converter interface as the key.
+ *
+ * @author John Blum
+ * @see ObjectMapper
+ * @see SpringFactoriesLoader
+ * @see JsonConverterFactoriesLoader
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface ObjectMapperProvider {
+
+	/**
+	 * Returns the shared Jackson {@link ObjectMapper} used to process {@literal JSON}.
+	 *
+	 * Implementations should return the same {@link ObjectMapper} on every invocation.
+	 *
+	 * @return the shared Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see ObjectMapper
+	 */
+	@NonNull ObjectMapper getObjectMapper();
+
+	/**
+	 * Resolves the {@link ObjectMapperProvider} registered in {@literal META-INF/spring.factories}.
+	 *
+	 * If no {@link ObjectMapperProvider} was registered, then a default {@link ObjectMapperProvider} returning
+	 * a single, shared Jackson {@link ObjectMapper} is returned.  The {@link ObjectMapperProvider} is only loaded
+	 * once, on first use, and the same instance is returned afterwards.
+	 *
+	 * @return the resolved {@link ObjectMapperProvider}; never {@literal null}.
+	 * @see JsonConverterFactoriesLoader#load(Class, java.util.function.Supplier)
+	 */
+	static @NonNull ObjectMapperProvider getInstance() {
+		return ObjectMapperProviderHolder.INSTANCE;
+	}
+
+	/**
+	 * Holder of the {@link ObjectMapperProvider} loaded from {@literal META-INF/spring.factories}.
+	 */
+	final class ObjectMapperProviderHolder {
+
+		static final ObjectMapperProvider INSTANCE =
+			JsonConverterFactoriesLoader.load(ObjectMapperProvider.class, () -> DefaultObjectMapperProvider.INSTANCE);
+
+		private ObjectMapperProviderHolder() { }
+
+	}
+
+	/**
+	 * Default {@link ObjectMapperProvider} implementation returning a single, shared Jackson {@link ObjectMapper}
+	 * with all Jackson modules found on the classpath registered.
+	 */
+	final class DefaultObjectMapperProvider implements ObjectMapperProvider {
+
+		static final DefaultObjectMapperProvider INSTANCE = new DefaultObjectMapperProvider();
+
+		private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+		private DefaultObjectMapperProvider() { }
+
+		@Override
+		public @NonNull ObjectMapper getObjectMapper() {
+			return this.objectMapper;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.JSONFormatterException;
 import org.apache.geode.pdx.PdxInstance;
 
+import org.springframework.geode.data.json.converter.JsonConverterFactoriesLoader;
 import org.springframework.geode.data.json.converter.JsonToObjectConverter;
 import org.springframework.geode.data.json.converter.JsonToPdxConverter;
 import org.springframework.geode.pdx.ObjectPdxInstanceAdapter;
@@ -28,9 +29,15 @@ public class JSONFormatterJsonToPdxConverter implements JsonToPdxConverter {
 
 	private JsonToObjectConverter converter = newJsonToObjectConverter();
 
-	// TODO configure via an SPIs
-	private JsonToObjectConverter newJsonToObjectConverter() {
-		return new JacksonJsonToObjectConverter();
+	/**
+	 * Constructs the {@link JsonToObjectConverter} registered in {@literal META-INF/spring.factories}, defaulting to
+	 * the {@link JacksonJsonToObjectConverter}.
+	 *
+	 * @return a new {@link JsonToObjectConverter}; never {@literal null}.
+	 * @see JsonConverterFactoriesLoader#load(Class, java.util.function.Supplier)
+	 */
+	private @NonNull JsonToObjectConverter newJsonToObjectConverter() {
+		return JsonConverterFactoriesLoader.load(JsonToObjectConverter.class, JacksonJsonToObjectConverter::new);
 	}
 
 	/**
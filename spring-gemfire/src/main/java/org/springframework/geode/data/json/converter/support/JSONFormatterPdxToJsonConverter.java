@@ -4,8 +4,15 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +23,7 @@ import org.apache.geode.pdx.PdxInstance;
 import org.apache.geode.pdx.WritablePdxInstance;
 
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
 import org.springframework.geode.pdx.PdxInstanceBuilder;
 import org.springframework.lang.NonNull;
@@ -24,10 +32,18 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * An {@link ObjectToJsonConverter} implementation using the Apache Geode {@link JSONFormatter} to convert
- * from a {@link PdxInstance} to a {@literal JSON} {@link String}.
+ * An {@link ObjectToJsonConverter} implementation converting from a {@link PdxInstance} to a {@literal JSON}
+ * {@link String} compatible with the Apache Geode {@link JSONFormatter}.
+ *
+ * {@link PdxInstance PDX} is written in a single pass, walking the {@link PdxInstance#getFieldNames() fields}
+ * of the {@link PdxInstance} straight into a Jackson {@link JsonGenerator} and writing the {@literal @type}
+ * metadata property inline, rather than first generating {@literal JSON} with the {@link JSONFormatter}
+ * and then parsing and re-serializing the {@literal JSON} to add the {@literal @type} metadata property.
+ * Subclasses may customize the generated {@literal JSON} by overriding {@link #writePdx(JsonGenerator, PdxInstance,
+ * boolean)} or {@link #writeValue(JsonGenerator, Object)}.
  *
  * @author John Blum
+ * @see JsonGenerator
  * @see JsonNode
  * @see ObjectMapper
  * @see ObjectNode
@@ -41,6 +57,8 @@ import org.springframework.util.StringUtils;
  */
 public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverter {
 
+	private final ObjectMapper pdxObjectMapper = newPdxObjectMapper();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -68,14 +86,199 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 	/**
 	 * Converts the given {@link PdxInstance PDX} to {@link String JSON}.
 	 *
+	 * If an {@link IOException} is thrown while writing the {@link PdxInstance} and the {@link PdxInstance}
+	 * has a {@link #hasValidClassName(PdxInstance) valid class name}, then an attempt is made to serialize
+	 * the {@link PdxInstance#getObject() object instance} of the {@link PdxInstance} to {@link String JSON}
+	 * using Jackson's {@link ObjectMapper}.
+	 *
 	 * @param pdxInstance {@link PdxInstance} to convert to JSON; must not be {@literal null}.
 	 * @return JSON generated from the given {@link PdxInstance}.
-	 * @see JSONFormatter#toJSON(PdxInstance)
+	 * @throws DataRetrievalFailureException if the {@link PdxInstance} cannot be written as {@link String JSON}
+	 * and the {@link PdxInstance} is not based on a valid {@link Class} type.
 	 * @see PdxInstance
-	 * @see #jsonFormatterToJson(PdxInstance)
+	 * @see #writePdxAsJson(PdxInstance)
 	 */
 	protected @NonNull String convertPdxToJson(@NonNull PdxInstance pdxInstance) {
-		return decorate(pdxInstance, jsonFormatterToJson(pdxInstance));
+
+		try {
+			return writePdxAsJson(pdxInstance);
+		}
+		catch (IOException cause) {
+
+			if (hasValidClassName(pdxInstance)) {
+				return convertPojoToJson(pdxInstance.getObject());
+			}
+
+			String message = String.format("Failed to write PDX [%s] as JSON", pdxInstance.getClassName());
+
+			throw new DataRetrievalFailureException(message, cause);
+		}
+	}
+
+	/**
+	 * Writes the given {@link PdxInstance PDX} as {@link String JSON} in a single pass, including
+	 * the {@literal @type} metadata property when the {@link PdxInstance} does not already declare it.
+	 *
+	 * @param pdxInstance {@link PdxInstance PDX} to write as {@link String JSON}; must not be {@literal null}.
+	 * @return {@link String JSON} generated from the given, required {@link PdxInstance PDX}.
+	 * @throws IOException if the {@link PdxInstance PDX} cannot be written as {@link String JSON}.
+	 * @see #writePdx(JsonGenerator, PdxInstance, boolean)
+	 */
+	@NonNull String writePdxAsJson(@NonNull PdxInstance pdxInstance) throws IOException {
+
+		StringWriter json = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = getPdxObjectMapper().createGenerator(json)) {
+			jsonGenerator.useDefaultPrettyPrinter();
+			writePdx(jsonGenerator, pdxInstance, true);
+		}
+
+		return json.toString();
+	}
+
+	/**
+	 * Writes the {@link PdxInstance#getFieldNames() fields} of the given {@link PdxInstance} as a {@literal JSON}
+	 * object using the given {@link JsonGenerator}.
+	 *
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @param pdxInstance {@link PdxInstance} to write; must not be {@literal null}.
+	 * @param includeTypeMetadata boolean indicating whether to write the {@literal @type} metadata property.
+	 * @throws IOException if the {@link PdxInstance} cannot be written.
+	 * @see JsonGenerator
+	 * @see PdxInstance
+	 */
+	protected void writePdx(@NonNull JsonGenerator jsonGenerator, @NonNull PdxInstance pdxInstance,
+			boolean includeTypeMetadata) throws IOException {
+
+		jsonGenerator.writeStartObject();
+
+		for (String fieldName : CollectionUtils.nullSafeList(pdxInstance.getFieldNames())) {
+			jsonGenerator.writeFieldName(fieldName);
+			writeValue(jsonGenerator, pdxInstance.getField(fieldName));
+		}
+
+		if (includeTypeMetadata && isMissingObjectTypeMetadata(pdxInstance)) {
+			jsonGenerator.writeStringField(AT_TYPE_METADATA_PROPERTY_NAME, pdxInstance.getClassName());
+		}
+
+		jsonGenerator.writeEndObject();
+	}
+
+	/**
+	 * Writes the value of a {@link PdxInstance} field using the given {@link JsonGenerator}.
+	 *
+	 * Nested {@link PdxInstance PDX}, arrays, {@link Collection Collections} and {@link Map Maps} are walked
+	 * in the same pass.  Any other {@link Object} is serialized with Jackson's {@link ObjectMapper}.
+	 *
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @param value {@link Object value} to write; may be {@literal null}.
+	 * @throws IOException if the {@link Object value} cannot be written.
+	 * @see JsonGenerator
+	 */
+	protected void writeValue(@NonNull JsonGenerator jsonGenerator, @Nullable Object value) throws IOException {
+
+		if (value == null) {
+			jsonGenerator.writeNull();
+		}
+		else if (value instanceof PdxInstance) {
+			writePdx(jsonGenerator, (PdxInstance) value, false);
+		}
+		else if (value instanceof String || value instanceof Character) {
+			jsonGenerator.writeString(value.toString());
+		}
+		else if (value instanceof Boolean) {
+			jsonGenerator.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Number) {
+			writeNumber(jsonGenerator, (Number) value);
+		}
+		else if (value instanceof byte[]) {
+
+			jsonGenerator.writeStartArray();
+
+			for (byte element : (byte[]) value) {
+				jsonGenerator.writeNumber(element);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else if (value instanceof Object[]) {
+
+			jsonGenerator.writeStartArray();
+
+			for (Object element : (Object[]) value) {
+				writeValue(jsonGenerator, element);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else if (value instanceof Collection) {
+
+			jsonGenerator.writeStartArray();
+
+			for (Object element : (Collection<?>) value) {
+				writeValue(jsonGenerator, element);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else if (value instanceof Map) {
+
+			jsonGenerator.writeStartObject();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				jsonGenerator.writeFieldName(String.valueOf(entry.getKey()));
+				writeValue(jsonGenerator, entry.getValue());
+			}
+
+			jsonGenerator.writeEndObject();
+		}
+		else {
+			jsonGenerator.writeObject(value);
+		}
+	}
+
+	private void writeNumber(@NonNull JsonGenerator jsonGenerator, @NonNull Number number) throws IOException {
+
+		if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+			jsonGenerator.writeNumber(number.intValue());
+		}
+		else if (number instanceof Long) {
+			jsonGenerator.writeNumber(number.longValue());
+		}
+		else if (number instanceof Double) {
+			jsonGenerator.writeNumber(number.doubleValue());
+		}
+		else if (number instanceof Float) {
+			jsonGenerator.writeNumber(number.floatValue());
+		}
+		else if (number instanceof BigDecimal) {
+			jsonGenerator.writeNumber((BigDecimal) number);
+		}
+		else if (number instanceof BigInteger) {
+			jsonGenerator.writeNumber((BigInteger) number);
+		}
+		else {
+			jsonGenerator.writeObject(number);
+		}
+	}
+
+	/**
+	 * Returns the Jackson {@link ObjectMapper} used to create the {@link JsonGenerator} that writes
+	 * {@link PdxInstance PDX} as {@link String JSON}.
+	 *
+	 * @return the Jackson {@link ObjectMapper} used to write {@link PdxInstance PDX} as {@link String JSON}.
+	 * @see ObjectMapper
+	 */
+	protected @NonNull ObjectMapper getPdxObjectMapper() {
+		return this.pdxObjectMapper;
+	}
+
+	private @NonNull ObjectMapper newPdxObjectMapper() {
+
+		return newObjectMapper()
+			.configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
+			.findAndRegisterModules();
 	}
 
 	/**
@@ -85,7 +288,10 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 	 * @return {@link String JSON} generated from the given, required {@link PdxInstance PDX}; never {@literal null}.
 	 * @see JSONFormatter#toJSON(PdxInstance)
 	 * @see PdxInstance
+	 * @deprecated {@link #convertPdxToJson(PdxInstance)} no longer uses the {@link JSONFormatter};
+	 * use {@link #writePdxAsJson(PdxInstance)} instead.
 	 */
+	@Deprecated
 	@NonNull String jsonFormatterToJson(@NonNull PdxInstance pdxInstance) {
 		return JSONFormatter.toJSON(pdxInstance);
 	}
@@ -157,15 +363,18 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 	 * and the {@link PdxInstance} is not based on a valid {@link Class} type.
 	 * @see JacksonObjectToJsonConverter#convert(Object)
 	 * @see PdxInstance
-	 * @see #newObjectMapper(Object)
+	 * @see #resolveObjectMapper(Object)
+	 * @deprecated {@link #convertPdxToJson(PdxInstance)} writes the {@literal @type} metadata property inline;
+	 * override {@link #writePdx(JsonGenerator, PdxInstance, boolean)} to customize the generated {@literal JSON}.
 	 */
+	@Deprecated
 	@SuppressWarnings("unused")
 	protected @NonNull String decorate(@NonNull PdxInstance pdxInstance, @NonNull String json) {
 
 		if (isDecorationRequired(pdxInstance, json)) {
 			try {
 
-				ObjectMapper objectMapper = newObjectMapper(json);
+				ObjectMapper objectMapper = resolveObjectMapper(json);
 
 				JsonNode jsonNode = objectMapper.readTree(json);
 
@@ -16,6 +16,7 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.geode.data.json.converter.JsonToObjectConverter;
+import org.springframework.geode.data.json.converter.ObjectMapperProvider;
 import org.springframework.geode.pdx.PdxInstanceWrapper;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -44,13 +45,16 @@ public class JacksonJsonToObjectConverter implements JsonToObjectConverter {
 	/**
 	 * Constructs a new Jackson {@link ObjectMapper} to convert {@link String JSON} into an {@link Object} (POJO).
 	 *
+	 * The {@link ObjectMapper} is a {@link ObjectMapper#copy() copy} of the shared {@link ObjectMapper}
+	 * resolved from the {@link ObjectMapperProvider} SPI.
+	 *
 	 * @return a new Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see ObjectMapperProvider#getInstance()
 	 * @see ObjectMapper
 	 */
-	// TODO configure via an SPI
 	private @NonNull ObjectMapper newObjectMapper() {
 
-		return new ObjectMapper()
+		return ObjectMapperProvider.getInstance().getObjectMapper().copy()
 			.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false)
 			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
 			.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
@@ -4,36 +4,60 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
 
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.geode.data.json.converter.JsonConverterFactoriesLoader;
 import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
 import org.springframework.geode.data.json.converter.JsonToPdxConverter;
+import org.springframework.geode.data.json.converter.ObjectMapperProvider;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * The {@link JacksonJsonToPdxConverter} class is an implementation of the {@link JsonToPdxArrayConverter} that is
  * capable of converting an array of {@literal JSON} objects into an array of {@link PdxInstance PdxInstances}.
  *
+ * When a cache is available, each {@link PdxInstance} is built directly from the Jackson {@link JsonParser} tokens
+ * using a {@link PdxInstanceFactory}, in a single pass over the {@literal JSON}.  The {@link PdxInstance PDX} is
+ * equivalent to the {@link PdxInstance PDX} created by the Apache Geode {@link JSONFormatter}.  How {@literal JSON}
+ * numbers are typed in PDX is determined by the configured {@link TypeInference}.  A custom
+ * {@link JsonToPdxConverter} disables the single pass.
+ *
  * @author John Blum
  * @see JsonNode
+ * @see JsonParser
  * @see ObjectMapper
  * @see ArrayNode
  * @see ObjectNode
  * @see PdxInstance
+ * @see PdxInstanceFactory
  * @see JsonToPdxArrayConverter
  * @see JsonToPdxConverter
  * @since 1.3.0
@@ -44,18 +68,33 @@ public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 
 	private ObjectMapper objectMapper = newObjectMapper();
 
+	private TypeInference typeInference = TypeInference.JSON_FORMATTER;
+
 	private @NonNull <T> Iterable<T> asIterable(@NonNull Iterator<T> iterator) {
 		return () -> iterator;
 	}
 
-	// TODO configure via an SPI
-	private JsonToPdxConverter newJsonToPdxConverter() {
-		return new JSONFormatterJsonToPdxConverter();
+	/**
+	 * Constructs the {@link JsonToPdxConverter} registered in {@literal META-INF/spring.factories}, defaulting to
+	 * the {@link JSONFormatterJsonToPdxConverter}.
+	 *
+	 * @return a new {@link JsonToPdxConverter}; never {@literal null}.
+	 * @see JsonConverterFactoriesLoader#load(Class, java.util.function.Supplier)
+	 */
+	private @NonNull JsonToPdxConverter newJsonToPdxConverter() {
+		return JsonConverterFactoriesLoader.load(JsonToPdxConverter.class, JSONFormatterJsonToPdxConverter::new);
 	}
 
-	// TODO configure via an SPI
-	private ObjectMapper newObjectMapper() {
-		return new ObjectMapper();
+	/**
+	 * Resolves the shared Jackson {@link ObjectMapper} from the {@link ObjectMapperProvider} SPI.
+	 *
+	 * The {@link ObjectMapper} is only used to read {@literal JSON} and is therefore used as is.
+	 *
+	 * @return the shared Jackson {@link ObjectMapper}; never {@literal null}.
+	 * @see ObjectMapperProvider#getInstance()
+	 */
+	private @NonNull ObjectMapper newObjectMapper() {
+		return ObjectMapperProvider.getInstance().getObjectMapper();
 	}
 
 	/**
@@ -79,6 +118,82 @@ public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 		return this.objectMapper;
 	}
 
+	/**
+	 * Returns the configured {@link TypeInference} used to type {@literal JSON} numbers in PDX.
+	 *
+	 * Defaults to {@link TypeInference#JSON_FORMATTER}.
+	 *
+	 * @return the configured {@link TypeInference}; never {@literal null}.
+	 * @see TypeInference
+	 */
+	protected @NonNull TypeInference getTypeInference() {
+		return this.typeInference;
+	}
+
+	/**
+	 * Builder method used to configure the {@link TypeInference} used to type {@literal JSON} numbers in PDX.
+	 *
+	 * @param typeInference {@link TypeInference} to use; must not be {@literal null}.
+	 * @return this {@link JacksonJsonToPdxConverter}.
+	 * @throws IllegalArgumentException if {@link TypeInference} is {@literal null}.
+	 * @see TypeInference
+	 */
+	public @NonNull JacksonJsonToPdxConverter withTypeInference(@NonNull TypeInference typeInference) {
+
+		Assert.notNull(typeInference, "TypeInference must not be null");
+
+		this.typeInference = typeInference;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link RegionService} used to create the {@link PdxInstanceFactory} that builds
+	 * {@link PdxInstance PDX} directly from {@literal JSON}.
+	 *
+	 * Either a {@link org.apache.geode.cache.client.ClientCache} or a peer {@link org.apache.geode.cache.Cache}
+	 * is resolved.
+	 *
+	 * @return an {@link Optional} {@link RegionService}.
+	 * @see org.springframework.data.gemfire.util.CacheUtils#resolveGemFireCache()
+	 * @see RegionService
+	 */
+	@NonNull Optional<RegionService> resolveRegionService() {
+		return Optional.ofNullable(CacheUtils.resolveGemFireCache());
+	}
+
+	/**
+	 * Determines whether {@link PdxInstance PDX} is built directly from the {@literal JSON} tokens.
+	 *
+	 * {@link PdxInstance PDX} is only built directly from the {@literal JSON} tokens when the configured
+	 * {@link JsonToPdxConverter} is the default {@link JSONFormatterJsonToPdxConverter}, which the single pass
+	 * is equivalent to.  A custom {@link JsonToPdxConverter}, whether configured by a subclass or registered in
+	 * {@literal META-INF/spring.factories}, is always used to convert each {@literal JSON} object.
+	 *
+	 * @return a boolean value indicating whether {@link PdxInstance PDX} is built directly
+	 * from the {@literal JSON} tokens.
+	 * @see #getJsonToPdxConverter()
+	 */
+	protected boolean isSinglePassConversionEnabled() {
+		return JSONFormatterJsonToPdxConverter.class.equals(getJsonToPdxConverter().getClass());
+	}
+
+	/**
+	 * Converts the array of {@link Byte#TYPE bytes} containing multiple {@literal JSON} objects into an array of
+	 * {@link PdxInstance} objects.
+	 *
+	 * The {@link Byte#TYPE bytes} are decoded as {@literal UTF-8} when the {@literal JSON} is not read
+	 * in a single pass.
+	 *
+	 * @param json array of {@link Byte#TYPE bytes} containing the {@literal JSON} to convert.
+	 * @return an array of {@link PdxInstance} objects from the given {@literal JSON}.
+	 * @see #convert(String)
+	 */
+	@Override
+	public @NonNull PdxInstance[] convert(@NonNull byte[] json) {
+		return convert(() -> getObjectMapper().createParser(json), () -> new String(json, StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * Converts the given {@link String JSON} containing multiple objects into an array of {@link PdxInstance} objects.
 	 *
@@ -90,6 +205,221 @@ public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 	 */
 	@Nullable @Override
 	public PdxInstance[] convert(String json) {
+		return convert(() -> getObjectMapper().createParser(json), () -> json);
+	}
+
+	/**
+	 * Converts the {@literal JSON} into an array of {@link PdxInstance} objects, reading the {@literal JSON}
+	 * in a single pass when a cache is available and {@link #isSinglePassConversionEnabled() enabled}.
+	 *
+	 * If the {@link PdxInstance PDX} cannot be built from the {@literal JSON} tokens, then the {@literal JSON} is
+	 * converted with the configured {@link JsonToPdxConverter} instead, which falls back to converting
+	 * the {@literal JSON} to an {@link Object} and then to PDX.  Malformed {@literal JSON} is not retried.
+	 *
+	 * @param parserSupplier {@link JsonParserSupplier} supplying the {@link JsonParser} to read.
+	 * @param json {@link Supplier} of the {@link String JSON} converted with the {@link JsonToPdxConverter}.
+	 * @return an array of {@link PdxInstance} objects from the given {@literal JSON}.
+	 * @see #readPdx(JsonParserSupplier, RegionService)
+	 * @see #convertJsonNodeToPdx(String)
+	 */
+	private PdxInstance[] convert(@NonNull JsonParserSupplier parserSupplier, @NonNull Supplier<String> json) {
+
+		Optional<RegionService> regionService = resolveRegionService()
+			.filter(it -> isSinglePassConversionEnabled());
+
+		if (regionService.isPresent()) {
+			try {
+				return readPdx(parserSupplier, regionService.get());
+			}
+			catch (DataRetrievalFailureException cause) {
+				throw cause;
+			}
+			catch (RuntimeException ignore) {
+				// Fall back to the configured JsonToPdxConverter
+			}
+		}
+
+		return convertJsonNodeToPdx(json.get());
+	}
+
+	/**
+	 * Reads the {@literal JSON} from the {@link JsonParser} into an array of {@link PdxInstance} objects in a single
+	 * pass, building each {@link PdxInstance} directly from the {@literal JSON} tokens.
+	 *
+	 * @param parserSupplier {@link JsonParserSupplier} supplying the {@link JsonParser} to read.
+	 * @param regionService {@link RegionService} used to create {@link PdxInstanceFactory PdxInstanceFactories}.
+	 * @return an array of {@link PdxInstance} objects read from the {@literal JSON}.
+	 * @throws IllegalStateException if the {@literal JSON} does not start with either a JSON array
+	 * or a JSON object, or a JSON array contains elements other than JSON objects.
+	 * @throws DataRetrievalFailureException if the {@literal JSON} cannot be read.
+	 * @see #readPdx(JsonParser, RegionService)
+	 */
+	PdxInstance[] readPdx(@NonNull JsonParserSupplier parserSupplier, @NonNull RegionService regionService) {
+
+		try (JsonParser parser = parserSupplier.get()) {
+
+			List<PdxInstance> pdxList = new ArrayList<>();
+
+			JsonToken token = parser.nextToken();
+
+			if (JsonToken.START_ARRAY.equals(token)) {
+				while (JsonToken.START_OBJECT.equals(token = parser.nextToken())) {
+					pdxList.add(PdxInstanceWrapper.from(readPdx(parser, regionService)));
+				}
+
+				if (!JsonToken.END_ARRAY.equals(token)) {
+					throw newIllegalStateException(token, JsonNodeType.OBJECT);
+				}
+			}
+			else if (JsonToken.START_OBJECT.equals(token)) {
+				pdxList.add(PdxInstanceWrapper.from(readPdx(parser, regionService)));
+			}
+			else {
+				throw newIllegalStateException(token, JsonNodeType.OBJECT, JsonNodeType.ARRAY);
+			}
+
+			return pdxList.toArray(new PdxInstance[0]);
+		}
+		catch (IOException cause) {
+			throw new DataRetrievalFailureException("Failed to read JSON content", cause);
+		}
+	}
+
+	private IllegalStateException newIllegalStateException(@Nullable JsonToken token, JsonNodeType... expectedTypes) {
+
+		String message = expectedTypes.length > 1
+			? String.format("Unable to process JSON token [%s]; expected either an [%s] or an [%s]",
+				token, expectedTypes[0], expectedTypes[1])
+			: String.format("Unable to process JSON array element [%s]; expected an [%s]", token, expectedTypes[0]);
+
+		return new IllegalStateException(message);
+	}
+
+	/**
+	 * Reads a single {@literal JSON} object into a {@link PdxInstance}.
+	 *
+	 * The {@link JsonParser} must be positioned on the {@link JsonToken#START_OBJECT} token of the object to read
+	 * and is positioned on the matching {@link JsonToken#END_OBJECT} token when this method returns.
+	 *
+	 * @param parser {@link JsonParser} positioned at the start of a {@literal JSON} object.
+	 * @param regionService {@link RegionService} used to create the {@link PdxInstanceFactory}.
+	 * @return the {@link PdxInstance} built from the {@literal JSON} object.
+	 * @throws IOException if the {@literal JSON} object cannot be read.
+	 * @see PdxInstanceFactory
+	 */
+	protected @NonNull PdxInstance readPdx(@NonNull JsonParser parser, @NonNull RegionService regionService)
+			throws IOException {
+
+		PdxInstanceFactory pdxInstanceFactory = newPdxInstanceFactory(regionService);
+
+		while (JsonToken.FIELD_NAME.equals(parser.nextToken())) {
+
+			String fieldName = parser.currentName();
+
+			writeField(pdxInstanceFactory, fieldName, readValue(parser, parser.nextToken(), regionService));
+		}
+
+		return pdxInstanceFactory.create();
+	}
+
+	/**
+	 * Constructs a new {@link PdxInstanceFactory} for {@literal JSON} based {@link PdxInstance PDX}.
+	 *
+	 * @param regionService {@link RegionService} used to create the {@link PdxInstanceFactory}.
+	 * @return a new {@link PdxInstanceFactory}.
+	 * @see JSONFormatter#JSON_CLASSNAME
+	 * @see PdxInstanceFactory
+	 */
+	protected @NonNull PdxInstanceFactory newPdxInstanceFactory(@NonNull RegionService regionService) {
+		return regionService.createPdxInstanceFactory(JSONFormatter.JSON_CLASSNAME).neverDeserialize();
+	}
+
+	private @Nullable Object readValue(@NonNull JsonParser parser, @Nullable JsonToken token,
+			@NonNull RegionService regionService) throws IOException {
+
+		if (token == null) {
+			throw new IllegalStateException("Unexpected end of JSON content");
+		}
+
+		switch (token) {
+			case START_OBJECT:
+				return readPdx(parser, regionService);
+			case START_ARRAY:
+				return readList(parser, regionService);
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_TRUE:
+				return Boolean.TRUE;
+			case VALUE_FALSE:
+				return Boolean.FALSE;
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				return getTypeInference().readNumber(parser);
+			case VALUE_NULL:
+				return null;
+			default:
+				throw new IllegalStateException(String.format("Unable to process JSON token [%s]", token));
+		}
+	}
+
+	private @NonNull List<Object> readList(@NonNull JsonParser parser, @NonNull RegionService regionService)
+			throws IOException {
+
+		List<Object> list = new ArrayList<>();
+
+		for (JsonToken token = parser.nextToken(); !JsonToken.END_ARRAY.equals(token); token = parser.nextToken()) {
+			list.add(readValue(parser, token, regionService));
+		}
+
+		return list;
+	}
+
+	private void writeField(@NonNull PdxInstanceFactory pdxInstanceFactory, @NonNull String fieldName,
+			@Nullable Object value) {
+
+		if (value instanceof String) {
+			pdxInstanceFactory.writeString(fieldName, (String) value);
+		}
+		else if (value instanceof Boolean) {
+			pdxInstanceFactory.writeBoolean(fieldName, (Boolean) value);
+		}
+		else if (value instanceof Byte) {
+			pdxInstanceFactory.writeByte(fieldName, (Byte) value);
+		}
+		else if (value instanceof Short) {
+			pdxInstanceFactory.writeShort(fieldName, (Short) value);
+		}
+		else if (value instanceof Integer) {
+			pdxInstanceFactory.writeInt(fieldName, (Integer) value);
+		}
+		else if (value instanceof Long) {
+			pdxInstanceFactory.writeLong(fieldName, (Long) value);
+		}
+		else if (value instanceof Float) {
+			pdxInstanceFactory.writeFloat(fieldName, (Float) value);
+		}
+		else if (value instanceof Double) {
+			pdxInstanceFactory.writeDouble(fieldName, (Double) value);
+		}
+		else {
+			pdxInstanceFactory.writeObject(fieldName, value);
+		}
+	}
+
+	/**
+	 * Converts the given {@link String JSON} containing multiple objects into an array of {@link PdxInstance} objects
+	 * by first reading the {@link String JSON} into a {@link JsonNode} tree and then converting each object
+	 * with the configured {@link JsonToPdxConverter}.
+	 *
+	 * This is used when a cache is not available to build {@link PdxInstance PDX} directly.
+	 *
+	 * @param json {@link String JSON} data to convert.
+	 * @return an array of {@link PdxInstance} objects from the given {@link String JSON}.
+	 * @throws IllegalStateException if the {@link String JSON} does not start with
+	 * either a JSON array or a JSON object.
+	 * @see #getJsonToPdxConverter()
+	 */
+	protected @Nullable PdxInstance[] convertJsonNodeToPdx(String json) {
 
 		try {
 			JsonNode jsonNode = getObjectMapper().readTree(json);
@@ -135,4 +465,93 @@ public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 	private boolean isObject(@Nullable JsonNode node) {
 		return node != null && (node.isObject() || JsonNodeType.OBJECT.equals(node.getNodeType()));
 	}
+
+	/**
+	 * Strategy used to determine the PDX field type of a {@literal JSON} number.
+	 */
+	public enum TypeInference {
+
+		/**
+		 * Types {@literal JSON} numbers the same as the Apache Geode {@link JSONFormatter}, using the narrowest
+		 * integral type ({@literal byte}, {@literal short}, {@literal int} or {@literal long}) that can hold
+		 * the value.
+		 *
+		 * The same field may be typed differently across {@literal JSON} objects, resulting in multiple PDX types.
+		 */
+		JSON_FORMATTER {
+
+			@Override
+			Number readIntegralNumber(JsonParser parser) throws IOException {
+
+				JsonParser.NumberType numberType = parser.getNumberType();
+
+				if (JsonParser.NumberType.INT.equals(numberType)) {
+
+					int value = parser.getIntValue();
+
+					return value > Short.MAX_VALUE || value < Short.MIN_VALUE ? Integer.valueOf(value)
+						: value > Byte.MAX_VALUE || value < Byte.MIN_VALUE ? Short.valueOf((short) value)
+						: Byte.valueOf((byte) value);
+				}
+
+				return JsonParser.NumberType.LONG.equals(numberType)
+					? Long.valueOf(parser.getLongValue())
+					: parser.getBigIntegerValue();
+			}
+
+			@Override
+			Number readFloatingPointNumber(JsonParser parser) throws IOException {
+
+				JsonParser.NumberType numberType = parser.getNumberType();
+
+				return JsonParser.NumberType.FLOAT.equals(numberType) ? Float.valueOf(parser.getFloatValue())
+					: JsonParser.NumberType.DOUBLE.equals(numberType) ? Double.valueOf(parser.getDoubleValue())
+					: parser.getDecimalValue();
+			}
+		},
+
+		/**
+		 * Types all integral {@literal JSON} numbers as {@literal long} and all floating point {@literal JSON}
+		 * numbers as {@literal double}, unless the value requires a {@link BigInteger} or {@link BigDecimal}.
+		 *
+		 * The same field is typed consistently across {@literal JSON} objects, avoiding multiple PDX types.
+		 */
+		WIDEST {
+
+			@Override
+			Number readIntegralNumber(JsonParser parser) throws IOException {
+
+				JsonParser.NumberType numberType = parser.getNumberType();
+
+				return JsonParser.NumberType.BIG_INTEGER.equals(numberType)
+					? parser.getBigIntegerValue()
+					: Long.valueOf(parser.getLongValue());
+			}
+
+			@Override
+			Number readFloatingPointNumber(JsonParser parser) throws IOException {
+
+				return JsonParser.NumberType.BIG_DECIMAL.equals(parser.getNumberType())
+					? parser.getDecimalValue()
+					: Double.valueOf(parser.getDoubleValue());
+			}
+		};
+
+		Number readNumber(JsonParser parser) throws IOException {
+
+			return JsonToken.VALUE_NUMBER_INT.equals(parser.currentToken())
+				? readIntegralNumber(parser)
+				: readFloatingPointNumber(parser);
+		}
+
+		abstract Number readIntegralNumber(JsonParser parser) throws IOException;
+
+		abstract Number readFloatingPointNumber(JsonParser parser) throws IOException;
+
+	}
+
+	@FunctionalInterface
+	interface JsonParserSupplier {
+		JsonParser get() throws IOException;
+	}
 }
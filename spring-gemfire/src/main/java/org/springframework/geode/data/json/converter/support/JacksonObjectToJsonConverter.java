@@ -4,6 +4,9 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,6 +16,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.geode.data.json.converter.ObjectMapperProvider;
 import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
 import org.springframework.geode.pdx.PdxInstanceWrapper;
 import org.springframework.lang.NonNull;
@@ -34,8 +38,12 @@ import org.springframework.util.Assert;
  */
 public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 
+	protected static final int MAX_CACHED_OBJECT_MAPPERS = 64;
+
 	protected static final String AT_TYPE_METADATA_PROPERTY_NAME = PdxInstanceWrapper.AT_TYPE_FIELD_NAME;
 
+	private final Map<Class<?>, ObjectMapper> objectMappers = new ConcurrentHashMap<>();
+
 	/**
 	 * Converts the given {@link Object} into {@link String JSON}.
 	 *
@@ -70,19 +78,65 @@ public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 	 * @throws JsonProcessingException if the generation of {@link String JSON} from the given {@link Object}
 	 * results in an error.
 	 * @see ObjectMapper#writeValueAsString(Object)
-	 * @see #newObjectMapper(Object)
+	 * @see #resolveObjectMapper(Object)
 	 */
 	protected @NonNull String convertObjectToJson(@NonNull Object source) throws JsonProcessingException {
 
 		Assert.notNull(source, "Source object to convert must not be null");
 
-		return newObjectMapper(source).writeValueAsString(source);
+		return resolveObjectMapper(source).writeValueAsString(source);
+	}
+
+	/**
+	 * Resolves the Jackson {@link ObjectMapper} configured for the {@link Class type} of the given {@link Object}.
+	 *
+	 * The {@link ObjectMapper} is constructed once per {@link Class type} and cached, since the
+	 * {@link ObjectTypeMetadataMixin} is registered for the specific {@link Class type} of the {@link Object}.
+	 * At most {@link #getMaxCachedObjectMappers()} {@link ObjectMapper ObjectMappers} are cached; once the cache
+	 * is full, an {@link ObjectMapper} is constructed for each {@link Object} of an uncached {@link Class type}.
+	 *
+	 * @param target {@link Object} to serialize as {@link String JSON}; must not be {@literal null}.
+	 * @return the Jackson {@link ObjectMapper} used to serialize the given {@link Object}; never {@literal null}.
+	 * @throws IllegalArgumentException if {@link Object target} is {@literal null}.
+	 * @see #newObjectMapper(Object)
+	 */
+	protected @NonNull ObjectMapper resolveObjectMapper(@NonNull Object target) {
+
+		Assert.notNull(target, "Target object must not be null");
+
+		ObjectMapper objectMapper = this.objectMappers.get(target.getClass());
+
+		if (objectMapper == null) {
+
+			objectMapper = newObjectMapper(target);
+
+			if (this.objectMappers.size() < getMaxCachedObjectMappers()) {
+
+				ObjectMapper cachedObjectMapper = this.objectMappers.putIfAbsent(target.getClass(), objectMapper);
+
+				objectMapper = cachedObjectMapper != null ? cachedObjectMapper : objectMapper;
+			}
+		}
+
+		return objectMapper;
+	}
+
+	/**
+	 * Returns the maximum number of {@link ObjectMapper ObjectMappers} cached by {@link Class type}.
+	 *
+	 * @return the maximum number of {@link ObjectMapper ObjectMappers} cached by {@link Class type}.
+	 * @see #MAX_CACHED_OBJECT_MAPPERS
+	 */
+	int getMaxCachedObjectMappers() {
+		return MAX_CACHED_OBJECT_MAPPERS;
 	}
 
 	/**
-	 * Constructs a new instance of the Jackson {@link ObjectMapper} class.
+	 * Constructs a new instance of the Jackson {@link ObjectMapper} class configured for the given {@link Object}.
 	 *
+	 * @param target {@link Object} to serialize as {@link String JSON}; must not be {@literal null}.
 	 * @return a new instance of the Jackson {@link ObjectMapper} class.
+	 * @throws IllegalArgumentException if {@link Object target} is {@literal null}.
 	 * @see ObjectMapper
 	 */
 	protected @NonNull ObjectMapper newObjectMapper(@NonNull Object target) {
@@ -98,13 +152,15 @@ public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 	}
 
 	/**
-	 * Constructs a new instance of Jackson's {@link ObjectMapper}.
+	 * Constructs a new instance of Jackson's {@link ObjectMapper} by {@link ObjectMapper#copy() copying}
+	 * the shared {@link ObjectMapper} resolved from the {@link ObjectMapperProvider} SPI.
 	 *
 	 * @return a new instance of Jackson's {@link ObjectMapper}; never {@literal null}.
+	 * @see ObjectMapperProvider#getInstance()
 	 * @see ObjectMapper
 	 */
 	@NonNull ObjectMapper newObjectMapper() {
-		return new ObjectMapper();
+		return ObjectMapperProvider.getInstance().getObjectMapper().copy();
 	}
 
 	@JsonTypeInfo(
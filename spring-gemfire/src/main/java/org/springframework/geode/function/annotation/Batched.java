@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.geode.cache.execute.Execution;
+
+import org.springframework.data.gemfire.function.annotation.Filter;
+
+/**
+ * The {@link Batched} annotation declares that concurrent invocations of a SDG POJO Function {@link Execution}
+ * interface method, occurring within a small {@link #window() window} of time, are merged into a single
+ * Function execution with the combined {@link Filter} set of keys.
+ *
+ * The annotated method must declare a {@link Set} parameter annotated with {@link Filter} and return a {@link Map}
+ * of keys to values.  The results of the Function execution are demultiplexed back to each caller by key, that is,
+ * each caller receives a {@link Map} containing only the keys in its own {@link Filter} set.  Invocations are only
+ * merged when all other arguments are {@link Object#equals(Object) equal}.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Annotation
+ * @see org.springframework.data.gemfire.function.annotation.Filter
+ * @see org.springframework.geode.function.config.BatchingFunctionExecutionBeanPostProcessor
+ * @since 2.0.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings("unused")
+public @interface Batched {
+
+	long DEFAULT_WINDOW = 5L;
+
+	int DEFAULT_MAX_BATCH_SIZE = 100;
+
+	/**
+	 * Maximum number of keys in a batch.  A batch is executed as soon as it contains this number of keys,
+	 * even before the {@link #window()} has elapsed.
+	 *
+	 * Defaults to {@literal 100}.
+	 */
+	int maxBatchSize() default DEFAULT_MAX_BATCH_SIZE;
+
+	/**
+	 * Time, in milliseconds, during which concurrent invocations are merged into the same batch.
+	 *
+	 * Defaults to {@literal 5} milliseconds.
+	 */
+	long window() default DEFAULT_WINDOW;
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.geode.cache.execute.Execution;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.function.annotation.OnMember;
+import org.springframework.data.gemfire.function.annotation.OnMembers;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+import org.springframework.data.gemfire.function.annotation.OnServer;
+import org.springframework.data.gemfire.function.annotation.OnServers;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link AbstractFunctionExecutionProxyBeanPostProcessor} class is an abstract base Spring {@link BeanPostProcessor}
+ * used to advise the proxies created by SDG for POJO interfaces defining Apache Geode Function
+ * {@link Execution Executions} (i.e. interfaces annotated with {@link OnMember}, {@link OnMembers},
+ * {@link OnRegion}, {@link OnServer} or {@link OnServers}) with a {@link MethodInterceptor}.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.aop.framework.Advised
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @since 2.0.0
+ */
+public abstract class AbstractFunctionExecutionProxyBeanPostProcessor implements BeanPostProcessor {
+
+	static final List<Class<? extends Annotation>> FUNCTION_EXECUTION_ANNOTATION_TYPES =
+		Arrays.asList(OnMember.class, OnMembers.class, OnRegion.class, OnServer.class, OnServers.class);
+
+	@Override
+	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+			throws BeansException {
+
+		if (isFunctionExecutionProxy(bean)) {
+
+			Advised advised = (Advised) bean;
+
+			advised.addAdvice(resolveAdvicePosition(advised), newMethodInterceptor());
+		}
+
+		return bean;
+	}
+
+	/**
+	 * Determines whether the given bean is a SDG Function {@link Execution} proxy that should be advised
+	 * by this {@link BeanPostProcessor}.
+	 *
+	 * @param bean {@link Object} to evaluate.
+	 * @return a boolean value indicating whether the given bean is a SDG Function {@link Execution} proxy
+	 * that should be advised by this {@link BeanPostProcessor}.
+	 * @see #isFunctionExecutionInterface(Class)
+	 * @see #isApplicable(Class)
+	 */
+	protected boolean isFunctionExecutionProxy(@Nullable Object bean) {
+
+		if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+			for (Class<?> proxiedInterface : ((Advised) bean).getProxiedInterfaces()) {
+				if (isFunctionExecutionInterface(proxiedInterface) && isApplicable(proxiedInterface)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines whether the given {@link Class type} is a SDG POJO interface defining Function
+	 * {@link Execution Executions}.
+	 *
+	 * @param type {@link Class type} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class type} is a SDG POJO interface
+	 * defining Function {@link Execution Executions}.
+	 */
+	protected boolean isFunctionExecutionInterface(@Nullable Class<?> type) {
+
+		return type != null && FUNCTION_EXECUTION_ANNOTATION_TYPES.stream()
+			.anyMatch(annotationType -> AnnotatedElementUtils.hasAnnotation(type, annotationType));
+	}
+
+	/**
+	 * Determines whether proxies for the given Function {@link Execution} interface should be advised.
+	 *
+	 * Returns {@literal true} by default.
+	 *
+	 * @param functionExecutionInterface SDG POJO interface defining Function {@link Execution Executions}.
+	 * @return a boolean value indicating whether proxies for the given Function {@link Execution} interface
+	 * should be advised.
+	 */
+	protected boolean isApplicable(@NonNull Class<?> functionExecutionInterface) {
+		return true;
+	}
+
+	/**
+	 * Resolves the position in the advice chain of the given {@link Advised} proxy at which
+	 * the {@link MethodInterceptor} is added.
+	 *
+	 * By default, the {@link MethodInterceptor} is added immediately in front of SDG's Function execution advice,
+	 * so that it only applies to the Function execution.
+	 *
+	 * @param advised {@link Advised} proxy.
+	 * @return the position in the advice chain at which the {@link MethodInterceptor} is added.
+	 * @see #resolveFunctionExecutionAdvicePosition(Advised)
+	 * @see org.springframework.aop.framework.Advised
+	 */
+	protected int resolveAdvicePosition(@NonNull Advised advised) {
+		return resolveFunctionExecutionAdvicePosition(advised);
+	}
+
+	/**
+	 * Resolves the position of SDG's Function execution advice, which is the last advice in the advice chain
+	 * of the given {@link Advised} proxy.
+	 *
+	 * @param advised {@link Advised} proxy.
+	 * @return the position of the last advice in the advice chain.
+	 * @see org.springframework.aop.framework.Advised
+	 */
+	protected int resolveFunctionExecutionAdvicePosition(@NonNull Advised advised) {
+		return Math.max(0, advised.getAdvisors().length - 1);
+	}
+
+	/**
+	 * Constructs a new {@link MethodInterceptor} used to advise SDG Function {@link Execution} proxies.
+	 *
+	 * @return a new {@link MethodInterceptor}.
+	 * @see org.aopalliance.intercept.MethodInterceptor
+	 */
+	protected abstract @NonNull MethodInterceptor newMethodInterceptor();
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link BeanPostProcessor} used to enable SDG POJO interfaces defining Apache Geode Function
+ * {@link Execution Executions} to declare methods returning a {@link CompletableFuture}.
+ *
+ * Invocations of such methods return immediately.  The Function is executed on a separate {@link Thread}
+ * using the configured {@link Executor} and the {@link CompletableFuture} is completed with the result
+ * the Function execution would have returned, or completed exceptionally if the Function execution failed.
+ * This allows callers (e.g. web request {@link Thread Threads}) to execute several Functions concurrently
+ * without blocking on the responses from the members.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.aop.framework.Advised
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see AbstractFunctionExecutionProxyBeanPostProcessor
+ * @since 2.0.0
+ */
+public class AsyncFunctionExecutionBeanPostProcessor extends AbstractFunctionExecutionProxyBeanPostProcessor
+		implements DisposableBean {
+
+	protected static final String THREAD_NAME_PREFIX = "async-function-execution-";
+
+	private volatile Executor executor;
+
+	private volatile ExecutorService defaultExecutorService;
+
+	/**
+	 * Sets the {@link Executor} used to execute Functions asynchronously.
+	 *
+	 * @param executor {@link Executor} used to execute Functions asynchronously; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Executor} is {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setExecutor(@NonNull Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to execute Functions asynchronously.
+	 *
+	 * If an {@link Executor} was not configured, then a cached {@link Thread} pool of daemon {@link Thread Threads}
+	 * is used.
+	 *
+	 * @return the {@link Executor} used to execute Functions asynchronously.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected synchronized @NonNull Executor getExecutor() {
+
+		if (this.executor == null) {
+			this.defaultExecutorService = newDefaultExecutorService();
+			this.executor = this.defaultExecutorService;
+		}
+
+		return this.executor;
+	}
+
+	private ExecutorService newDefaultExecutorService() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	protected boolean isApplicable(@NonNull Class<?> functionExecutionInterface) {
+
+		return Arrays.stream(functionExecutionInterface.getMethods())
+			.anyMatch(AsyncFunctionExecutionBeanPostProcessor::isAsyncMethod);
+	}
+
+	/**
+	 * Adds the {@link MethodInterceptor} at the front of the advice chain so that all other advice
+	 * runs asynchronously as well.
+	 *
+	 * @param advised {@link Advised} proxy.
+	 * @return {@literal 0}.
+	 */
+	@Override
+	protected int resolveAdvicePosition(@NonNull Advised advised) {
+		return 0;
+	}
+
+	@Override
+	protected @NonNull MethodInterceptor newMethodInterceptor() {
+		return new AsyncFunctionExecutionInterceptor(this::getExecutor);
+	}
+
+	static boolean isAsyncMethod(@NonNull Method method) {
+
+		Class<?> returnType = method.getReturnType();
+
+		return CompletableFuture.class.equals(returnType)
+			|| CompletionStage.class.equals(returnType)
+			|| Future.class.equals(returnType);
+	}
+
+	@Override
+	public synchronized void destroy() {
+
+		ExecutorService defaultExecutorService = this.defaultExecutorService;
+
+		if (defaultExecutorService != null) {
+			defaultExecutorService.shutdownNow();
+			this.defaultExecutorService = null;
+		}
+	}
+
+	/**
+	 * {@link MethodInterceptor} executing SDG Function {@link Execution} proxy methods returning
+	 * a {@link CompletableFuture} asynchronously.
+	 */
+	static class AsyncFunctionExecutionInterceptor implements MethodInterceptor {
+
+		private final Supplier<Executor> executor;
+
+		AsyncFunctionExecutionInterceptor(@NonNull Supplier<Executor> executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (invocation instanceof ProxyMethodInvocation && isAsyncMethod(method)) {
+
+				MethodInvocation asyncInvocation = ((ProxyMethodInvocation) invocation).invocableClone();
+
+				return CompletableFuture.supplyAsync(() -> {
+					try {
+						return asyncInvocation.proceed();
+					}
+					catch (Throwable cause) {
+						throw cause instanceof CompletionException ? (CompletionException) cause
+							: new CompletionException(cause);
+					}
+				}, this.executor.get());
+			}
+
+			return invocation.proceed();
+		}
+	}
+}
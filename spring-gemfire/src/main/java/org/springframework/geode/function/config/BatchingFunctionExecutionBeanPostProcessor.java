@@ -0,0 +1,312 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.geode.function.annotation.Batched;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring {@link org.springframework.beans.factory.config.BeanPostProcessor} used to merge concurrent invocations of
+ * SDG POJO Function {@link Execution} interface methods annotated with {@link Batched} into a single
+ * Function execution.
+ *
+ * The first caller of a batch (the leader) waits for the {@link Batched#window() window} to elapse,
+ * or for the batch to reach the {@link Batched#maxBatchSize() maximum batch size}, and then executes the Function
+ * with the combined {@link Filter} set of keys from all callers in the batch.  The {@link Map} results
+ * of the Function execution are then demultiplexed back to each caller by key.  No additional
+ * {@link Thread Threads} are used.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.function.annotation.Batched
+ * @see org.springframework.data.gemfire.function.annotation.Filter
+ * @see AbstractFunctionExecutionProxyBeanPostProcessor
+ * @since 2.0.0
+ */
+public class BatchingFunctionExecutionBeanPostProcessor extends AbstractFunctionExecutionProxyBeanPostProcessor {
+
+	@Override
+	protected boolean isApplicable(@NonNull Class<?> functionExecutionInterface) {
+
+		boolean applicable = false;
+
+		for (Method method : functionExecutionInterface.getMethods()) {
+			if (isBatchedMethod(method)) {
+				assertBatchableMethod(method);
+				applicable = true;
+			}
+		}
+
+		return applicable;
+	}
+
+	static boolean isBatchedMethod(@NonNull Method method) {
+		return AnnotatedElementUtils.hasAnnotation(method, Batched.class);
+	}
+
+	private void assertBatchableMethod(Method method) {
+
+		if (!Map.class.isAssignableFrom(method.getReturnType()) || resolveFilterParameterIndex(method) < 0) {
+			throw new IllegalStateException(String.format("@Batched method [%s] must return a Map"
+				+ " and declare a Set parameter annotated with @Filter", method));
+		}
+	}
+
+	static int resolveFilterParameterIndex(@NonNull Method method) {
+
+		Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int index = 0; index < parameterTypes.length; index++) {
+			if (Set.class.isAssignableFrom(parameterTypes[index])
+				&& Arrays.stream(parameterAnnotations[index]).anyMatch(Filter.class::isInstance)) {
+
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	protected @NonNull MethodInterceptor newMethodInterceptor() {
+		return new BatchingFunctionExecutionInterceptor();
+	}
+
+	/**
+	 * {@link MethodInterceptor} merging concurrent invocations of {@link Batched} SDG Function {@link Execution}
+	 * proxy methods into a single Function execution.
+	 */
+	static class BatchingFunctionExecutionInterceptor implements MethodInterceptor {
+
+		private final Map<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+		@Override
+		public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (!(invocation instanceof ProxyMethodInvocation) || !isBatchedMethod(method)) {
+				return invocation.proceed();
+			}
+
+			int filterParameterIndex = resolveFilterParameterIndex(method);
+
+			Object[] arguments = invocation.getArguments();
+
+			Set<?> keys = (Set<?>) arguments[filterParameterIndex];
+
+			if (keys == null || keys.isEmpty()) {
+				return invocation.proceed();
+			}
+
+			Batched batched = AnnotatedElementUtils.findMergedAnnotation(method, Batched.class);
+
+			BatchKey batchKey = new BatchKey(method, arguments, filterParameterIndex);
+
+			while (true) {
+
+				Batch newBatch = new Batch(batched.maxBatchSize());
+				Batch batch = this.batches.computeIfAbsent(batchKey, key -> newBatch);
+				CompletableFuture<Map<Object, Object>> result = batch.join(keys);
+
+				if (result != null) {
+
+					if (batch == newBatch) {
+						execute((ProxyMethodInvocation) invocation, filterParameterIndex, batchKey, batch,
+							batched.window());
+					}
+
+					return demultiplex(await(result), keys);
+				}
+
+				// The batch was closed before the keys could be added; join (or lead) the next batch
+			}
+		}
+
+		private void execute(ProxyMethodInvocation invocation, int filterParameterIndex, BatchKey batchKey,
+				Batch batch, long window) {
+
+			try {
+				batch.awaitFull(window);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+
+			this.batches.remove(batchKey, batch);
+
+			Set<Object> keys = batch.close();
+
+			try {
+
+				Object[] arguments = invocation.getArguments().clone();
+
+				arguments[filterParameterIndex] = keys;
+
+				batch.complete(toMap(invocation.invocableClone(arguments).proceed()));
+			}
+			catch (Throwable cause) {
+				batch.completeExceptionally(cause);
+			}
+		}
+
+		private Map<Object, Object> await(CompletableFuture<Map<Object, Object>> result) throws Throwable {
+
+			try {
+				return result.join();
+			}
+			catch (CompletionException cause) {
+				throw cause.getCause() != null ? cause.getCause() : cause;
+			}
+		}
+
+		private Map<Object, Object> demultiplex(Map<Object, Object> results, Set<?> keys) {
+
+			Map<Object, Object> callerResults = new LinkedHashMap<>(keys.size());
+
+			for (Object key : keys) {
+				if (results.containsKey(key)) {
+					callerResults.put(key, results.get(key));
+				}
+			}
+
+			return callerResults;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Map<Object, Object> toMap(@Nullable Object result) {
+
+			if (result instanceof Map) {
+				return (Map<Object, Object>) result;
+			}
+
+			Map<Object, Object> map = new LinkedHashMap<>();
+
+			if (result instanceof Iterable) {
+				for (Object element : (Iterable<?>) result) {
+					if (element instanceof Map) {
+						map.putAll((Map<Object, Object>) element);
+					}
+				}
+			}
+
+			return map;
+		}
+	}
+
+	static final class Batch {
+
+		private final CompletableFuture<Map<Object, Object>> result = new CompletableFuture<>();
+
+		private final CountDownLatch full = new CountDownLatch(1);
+
+		private final int maxBatchSize;
+
+		private final Set<Object> keys = new LinkedHashSet<>();
+
+		private boolean closed = false;
+
+		Batch(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+		}
+
+		synchronized @Nullable CompletableFuture<Map<Object, Object>> join(@NonNull Collection<?> keys) {
+
+			if (this.closed) {
+				return null;
+			}
+
+			this.keys.addAll(keys);
+
+			if (this.keys.size() >= this.maxBatchSize) {
+				this.full.countDown();
+			}
+
+			return this.result;
+		}
+
+		void awaitFull(long window) throws InterruptedException {
+			this.full.await(window, TimeUnit.MILLISECONDS);
+		}
+
+		synchronized @NonNull Set<Object> close() {
+			this.closed = true;
+			return Collections.unmodifiableSet(new LinkedHashSet<>(this.keys));
+		}
+
+		void complete(@NonNull Map<Object, Object> results) {
+			this.result.complete(results);
+		}
+
+		void completeExceptionally(@NonNull Throwable cause) {
+			this.result.completeExceptionally(cause);
+		}
+	}
+
+	static final class BatchKey {
+
+		private final Method method;
+
+		private final List<Object> arguments;
+
+		BatchKey(@NonNull Method method, @NonNull Object[] arguments, int filterParameterIndex) {
+
+			List<Object> argumentList = new ArrayList<>(Arrays.asList(arguments));
+
+			argumentList.set(filterParameterIndex, null);
+
+			this.method = method;
+			this.arguments = argumentList;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof BatchKey)) {
+				return false;
+			}
+
+			BatchKey that = (BatchKey) obj;
+
+			return this.method.equals(that.method)
+				&& this.arguments.equals(that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.method, this.arguments);
+		}
+	}
+}
@@ -4,31 +4,246 @@
  */
 package org.springframework.geode.function.config;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.ResultCollector;
 
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.gemfire.function.config.EnableGemfireFunctionExecutions;
+import org.springframework.geode.function.support.MergeSortingResultCollector;
+import org.springframework.geode.function.support.PerExecutionResultCollector;
+import org.springframework.geode.function.support.ReducingResultCollector;
 
 /**
  * The {@link GemFireFunctionExecutionAutoConfigurationRegistrar} class is a Spring {@link ImportBeanDefinitionRegistrar}
  * used to register SDG POJO interfaces defining Apache Geode {@link Function} {@link Execution Executions}.
  *
+ * Additionally, beans for the reducing {@link ResultCollector ResultCollectors} are registered when referenced by name
+ * in the {@literal resultCollector} attribute of the {@literal @OnRegion}, {@literal @OnServers} and similar
+ * annotations of a Function execution interface, unless beans with the same names are already defined,
+ * for example: {@literal @OnRegion(region = "Sales", resultCollector = "countingResultCollector")}.
+ * Each registered {@link ResultCollector} is a {@link PerExecutionResultCollector} and
+ * a {@link ResultCollectorFunctionExecutionBeanPostProcessor} binds a new delegate {@link ResultCollector}
+ * to each invocation of the Function execution interfaces referencing it, so that executions do not share state.
+ *
+ * An {@link AsyncFunctionExecutionBeanPostProcessor} is also registered so that Function execution interface methods
+ * may return a {@link java.util.concurrent.CompletableFuture}, along with a
+ * {@link BatchingFunctionExecutionBeanPostProcessor} merging concurrent invocations of
+ * {@link org.springframework.geode.function.annotation.Batched} methods.
+ *
  * @author John Blum
  * @see Execution
  * @see Function
+ * @see ResultCollector
  * @see EnableGemfireFunctionExecutions
  * @see AbstractFunctionExecutionAutoConfigurationExtension
+ * @see AsyncFunctionExecutionBeanPostProcessor
+ * @see BatchingFunctionExecutionBeanPostProcessor
+ * @see ResultCollectorFunctionExecutionBeanPostProcessor
+ * @see org.springframework.geode.function.support.MergeSortingResultCollector
+ * @see org.springframework.geode.function.support.PerExecutionResultCollector
+ * @see org.springframework.geode.function.support.ReducingResultCollector
  * @since 1.0.0
  */
 public class GemFireFunctionExecutionAutoConfigurationRegistrar
 		extends AbstractFunctionExecutionAutoConfigurationExtension {
 
+	public static final String ASYNC_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME =
+		"asyncFunctionExecutionBeanPostProcessor";
+
+	public static final String BATCHING_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME =
+		"batchingFunctionExecutionBeanPostProcessor";
+
+	public static final String RESULT_COLLECTOR_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME =
+		"resultCollectorFunctionExecutionBeanPostProcessor";
+
+	public static final String COUNTING_RESULT_COLLECTOR_BEAN_NAME = "countingResultCollector";
+	public static final String MAXIMUM_RESULT_COLLECTOR_BEAN_NAME = "maximumResultCollector";
+	public static final String MERGE_SORTING_RESULT_COLLECTOR_BEAN_NAME = "mergeSortingResultCollector";
+	public static final String MINIMUM_RESULT_COLLECTOR_BEAN_NAME = "minimumResultCollector";
+	public static final String SUMMING_RESULT_COLLECTOR_BEAN_NAME = "summingResultCollector";
+
 	@Override
 	protected Class<?> getConfiguration() {
 		return EnableGemfireFunctionExecutionsConfiguration.class;
 	}
 
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata annotationMetadata, BeanDefinitionRegistry registry) {
+
+		registerAsyncFunctionExecutionBeanPostProcessor(registry);
+		registerBatchingFunctionExecutionBeanPostProcessor(registry);
+		registerResultCollectors(registry);
+
+		super.registerBeanDefinitions(annotationMetadata, registry);
+	}
+
+	/**
+	 * Registers the {@link AsyncFunctionExecutionBeanPostProcessor} with the given {@link BeanDefinitionRegistry}.
+	 *
+	 * @param registry {@link BeanDefinitionRegistry} used to register the bean definition.
+	 * @see org.springframework.beans.factory.support.BeanDefinitionRegistry
+	 * @see AsyncFunctionExecutionBeanPostProcessor
+	 */
+	protected void registerAsyncFunctionExecutionBeanPostProcessor(BeanDefinitionRegistry registry) {
+
+		if (!registry.containsBeanDefinition(ASYNC_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME)) {
+
+			BeanDefinition beanDefinition = BeanDefinitionBuilder
+				.rootBeanDefinition(AsyncFunctionExecutionBeanPostProcessor.class)
+				.setRole(BeanDefinition.ROLE_INFRASTRUCTURE)
+				.getBeanDefinition();
+
+			registry.registerBeanDefinition(ASYNC_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME, beanDefinition);
+		}
+	}
+
+	/**
+	 * Registers the {@link BatchingFunctionExecutionBeanPostProcessor} with the given {@link BeanDefinitionRegistry}.
+	 *
+	 * @param registry {@link BeanDefinitionRegistry} used to register the bean definition.
+	 * @see org.springframework.beans.factory.support.BeanDefinitionRegistry
+	 * @see BatchingFunctionExecutionBeanPostProcessor
+	 */
+	protected void registerBatchingFunctionExecutionBeanPostProcessor(BeanDefinitionRegistry registry) {
+
+		if (!registry.containsBeanDefinition(BATCHING_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME)) {
+
+			BeanDefinition beanDefinition = BeanDefinitionBuilder
+				.rootBeanDefinition(BatchingFunctionExecutionBeanPostProcessor.class)
+				.setRole(BeanDefinition.ROLE_INFRASTRUCTURE)
+				.getBeanDefinition();
+
+			registry.registerBeanDefinition(BATCHING_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME, beanDefinition);
+		}
+	}
+
+	/**
+	 * Registers bean definitions for the reducing {@link ResultCollector ResultCollectors} referenced by
+	 * the Function execution interfaces with the given {@link BeanDefinitionRegistry}, along with
+	 * the {@link ResultCollectorFunctionExecutionBeanPostProcessor} binding a new delegate {@link ResultCollector}
+	 * to each Function execution using the registered {@link ResultCollector ResultCollectors}.
+	 *
+	 * @param registry {@link BeanDefinitionRegistry} used to register the bean definitions.
+	 * @see org.springframework.beans.factory.support.BeanDefinitionRegistry
+	 * @see #resolveResultCollectorBeanNames()
+	 */
+	protected void registerResultCollectors(BeanDefinitionRegistry registry) {
+
+		Set<String> referencedBeanNames = resolveResultCollectorBeanNames();
+		Set<String> registeredBeanNames = new LinkedHashSet<>();
+
+		for (Map.Entry<String, Supplier<? extends ResultCollector<?, ?>>> resultCollector
+				: resultCollectors().entrySet()) {
+
+			String beanName = resultCollector.getKey();
+
+			if (referencedBeanNames.contains(beanName) && !registry.containsBeanDefinition(beanName)) {
+				registerResultCollector(registry, beanName, resultCollector.getValue());
+				registeredBeanNames.add(beanName);
+			}
+		}
+
+		if (!registeredBeanNames.isEmpty()
+				&& !registry.containsBeanDefinition(RESULT_COLLECTOR_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME)) {
+
+			BeanDefinition beanDefinition = BeanDefinitionBuilder
+				.rootBeanDefinition(ResultCollectorFunctionExecutionBeanPostProcessor.class)
+				.addConstructorArgValue(registeredBeanNames)
+				.setRole(BeanDefinition.ROLE_INFRASTRUCTURE)
+				.getBeanDefinition();
+
+			registry.registerBeanDefinition(RESULT_COLLECTOR_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME,
+				beanDefinition);
+		}
+	}
+
+	private Map<String, Supplier<? extends ResultCollector<?, ?>>> resultCollectors() {
+
+		Map<String, Supplier<? extends ResultCollector<?, ?>>> resultCollectors = new LinkedHashMap<>();
+
+		resultCollectors.put(COUNTING_RESULT_COLLECTOR_BEAN_NAME, ReducingResultCollector::counting);
+		resultCollectors.put(MAXIMUM_RESULT_COLLECTOR_BEAN_NAME, ReducingResultCollector::maximum);
+		resultCollectors.put(MERGE_SORTING_RESULT_COLLECTOR_BEAN_NAME, MergeSortingResultCollector::new);
+		resultCollectors.put(MINIMUM_RESULT_COLLECTOR_BEAN_NAME, ReducingResultCollector::minimum);
+		resultCollectors.put(SUMMING_RESULT_COLLECTOR_BEAN_NAME,
+			() -> ReducingResultCollector.<Number>summingDouble(Number::doubleValue));
+
+		return resultCollectors;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void registerResultCollector(BeanDefinitionRegistry registry, String beanName,
+			Supplier<? extends ResultCollector<?, ?>> resultCollectorSupplier) {
+
+		BeanDefinition beanDefinition = BeanDefinitionBuilder
+			.genericBeanDefinition(ResultCollector.class,
+				() -> new PerExecutionResultCollector<>((Supplier) resultCollectorSupplier))
+			.getBeanDefinition();
+
+		registry.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	/**
+	 * Resolves the {@link String names} of the {@link ResultCollector} beans referenced in
+	 * the {@literal resultCollector} attribute of the Function execution interfaces declared in
+	 * the {@link AutoConfigurationPackages auto-configuration packages}.
+	 *
+	 * @return the {@link String names} of the referenced {@link ResultCollector} beans.
+	 * @see org.springframework.boot.autoconfigure.AutoConfigurationPackages
+	 */
+	protected Set<String> resolveResultCollectorBeanNames() {
+
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return beanDefinition.getMetadata().isInterface();
+			}
+		};
+
+		AbstractFunctionExecutionProxyBeanPostProcessor.FUNCTION_EXECUTION_ANNOTATION_TYPES.forEach(annotationType ->
+			scanner.addIncludeFilter(new AnnotationTypeFilter(annotationType, true, true)));
+
+		Set<String> resultCollectorBeanNames = new LinkedHashSet<>();
+
+		for (String basePackage : AutoConfigurationPackages.get(getBeanFactory())) {
+			for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+				if (candidate instanceof AnnotatedBeanDefinition) {
+
+					AnnotationMetadata metadata = ((AnnotatedBeanDefinition) candidate).getMetadata();
+
+					AbstractFunctionExecutionProxyBeanPostProcessor.FUNCTION_EXECUTION_ANNOTATION_TYPES.stream()
+						.map(annotationType -> metadata.getAnnotationAttributes(annotationType.getName()))
+						.filter(Objects::nonNull)
+						.map(attributes -> attributes.get(
+							ResultCollectorFunctionExecutionBeanPostProcessor.RESULT_COLLECTOR_ATTRIBUTE_NAME))
+						.filter(String.class::isInstance)
+						.map(String.class::cast)
+						.forEach(resultCollectorBeanNames::add);
+				}
+			}
+		}
+
+		return Collections.unmodifiableSet(resultCollectorBeanNames);
+	}
+
 	@EnableGemfireFunctionExecutions
 	private static class EnableGemfireFunctionExecutionsConfiguration { }
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.ResultCollector;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.geode.function.support.PerExecutionResultCollector;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link org.springframework.beans.factory.config.BeanPostProcessor} used to bind a new {@link ResultCollector}
+ * to each invocation of SDG POJO Function {@link Execution} interfaces referencing one of the given, stateful
+ * {@link ResultCollector} beans in the {@literal resultCollector} attribute of the {@literal @OnRegion},
+ * {@literal @OnServers} or similar annotation.
+ *
+ * SDG injects the {@link ResultCollector} only once, when the Function {@link Execution} proxy is created,
+ * therefore concurrent invocations of the proxy would otherwise share the state of the {@link ResultCollector}.
+ * The {@link ResultCollector} beans must be {@link PerExecutionResultCollector PerExecutionResultCollectors},
+ * which are {@link PerExecutionResultCollector#bind() bound} to the invoking {@link Thread} for the duration
+ * of each invocation.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.function.support.PerExecutionResultCollector
+ * @see AbstractFunctionExecutionProxyBeanPostProcessor
+ * @since 2.0.0
+ */
+public class ResultCollectorFunctionExecutionBeanPostProcessor extends AbstractFunctionExecutionProxyBeanPostProcessor
+		implements BeanFactoryAware {
+
+	protected static final String RESULT_COLLECTOR_ATTRIBUTE_NAME = "resultCollector";
+
+	private BeanFactory beanFactory;
+
+	private final ConcurrentMap<Class<?>, Optional<PerExecutionResultCollector<?, ?>>> resultCollectors =
+		new ConcurrentHashMap<>();
+
+	private final Set<String> resultCollectorBeanNames;
+
+	/**
+	 * Constructs a new instance of {@link ResultCollectorFunctionExecutionBeanPostProcessor} initialized with
+	 * the {@link String names} of the stateful {@link ResultCollector} beans.
+	 *
+	 * @param resultCollectorBeanNames {@link Collection} of {@link String names} of the stateful
+	 * {@link ResultCollector} beans; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+	 */
+	public ResultCollectorFunctionExecutionBeanPostProcessor(@NonNull Collection<String> resultCollectorBeanNames) {
+
+		Assert.notNull(resultCollectorBeanNames, "ResultCollector bean names must not be null");
+
+		this.resultCollectorBeanNames = Collections.unmodifiableSet(new LinkedHashSet<>(resultCollectorBeanNames));
+	}
+
+	/**
+	 * Returns the {@link String names} of the stateful {@link ResultCollector} beans.
+	 *
+	 * @return the {@link String names} of the stateful {@link ResultCollector} beans.
+	 */
+	public @NonNull Set<String> getResultCollectorBeanNames() {
+		return this.resultCollectorBeanNames;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Returns the configured {@link BeanFactory} used to look up the {@link ResultCollector} beans.
+	 *
+	 * @return the configured {@link BeanFactory}.
+	 * @throws IllegalStateException if the {@link BeanFactory} was not configured.
+	 */
+	protected @NonNull BeanFactory getBeanFactory() {
+
+		Assert.state(this.beanFactory != null, "BeanFactory was not configured");
+
+		return this.beanFactory;
+	}
+
+	@Override
+	protected boolean isApplicable(@NonNull Class<?> functionExecutionInterface) {
+		return resolveResultCollectorBeanName(functionExecutionInterface).isPresent();
+	}
+
+	/**
+	 * Resolves the {@link String name} of the stateful {@link ResultCollector} bean referenced by
+	 * the given Function {@link Execution} interface.
+	 *
+	 * @param functionExecutionInterface SDG POJO interface defining Function {@link Execution Executions}.
+	 * @return an {@link Optional} {@link String name} of the referenced, stateful {@link ResultCollector} bean.
+	 */
+	protected Optional<String> resolveResultCollectorBeanName(@NonNull Class<?> functionExecutionInterface) {
+
+		for (Class<? extends Annotation> annotationType : FUNCTION_EXECUTION_ANNOTATION_TYPES) {
+
+			Annotation annotation = AnnotationUtils.findAnnotation(functionExecutionInterface, annotationType);
+
+			Object resultCollectorBeanName = annotation != null
+				? AnnotationUtils.getValue(annotation, RESULT_COLLECTOR_ATTRIBUTE_NAME)
+				: null;
+
+			if (resultCollectorBeanName != null && getResultCollectorBeanNames().contains(resultCollectorBeanName)) {
+				return Optional.of(resultCollectorBeanName.toString());
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Resolves the {@link PerExecutionResultCollector} bean referenced by the given Function {@link Execution}
+	 * interface.
+	 *
+	 * @param functionExecutionInterface SDG POJO interface defining Function {@link Execution Executions}.
+	 * @return an {@link Optional} {@link PerExecutionResultCollector} referenced by the given interface.
+	 */
+	protected Optional<PerExecutionResultCollector<?, ?>> resolveResultCollector(
+			@NonNull Class<?> functionExecutionInterface) {
+
+		return this.resultCollectors.computeIfAbsent(functionExecutionInterface, type ->
+			resolveResultCollectorBeanName(type)
+				.map(beanName -> getBeanFactory().getBean(beanName))
+				.filter(PerExecutionResultCollector.class::isInstance)
+				.map(resultCollector -> (PerExecutionResultCollector<?, ?>) resultCollector));
+	}
+
+	@Override
+	protected @NonNull MethodInterceptor newMethodInterceptor() {
+		return new ResultCollectorBindingInterceptor(this::resolveResultCollector);
+	}
+
+	/**
+	 * {@link MethodInterceptor} binding a new {@link ResultCollector} to each Function execution of
+	 * a SDG Function {@link Execution} proxy.
+	 */
+	static class ResultCollectorBindingInterceptor implements MethodInterceptor {
+
+		private final Function<Class<?>, Optional<PerExecutionResultCollector<?, ?>>> resultCollectorResolver;
+
+		ResultCollectorBindingInterceptor(
+				@NonNull Function<Class<?>, Optional<PerExecutionResultCollector<?, ?>>> resultCollectorResolver) {
+
+			this.resultCollectorResolver = resultCollectorResolver;
+		}
+
+		@Override
+		public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			PerExecutionResultCollector<?, ?> resultCollector =
+				this.resultCollectorResolver.apply(invocation.getMethod().getDeclaringClass()).orElse(null);
+
+			if (resultCollector == null) {
+				return invocation.proceed();
+			}
+
+			resultCollector.bind();
+
+			try {
+				return invocation.proceed();
+			}
+			finally {
+				resultCollector.unbind();
+			}
+		}
+	}
+}
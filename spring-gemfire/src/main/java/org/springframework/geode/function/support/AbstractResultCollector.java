@@ -5,7 +5,10 @@
 
 package org.springframework.geode.function.support;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.cache.execute.FunctionException;
@@ -15,6 +18,10 @@ import org.apache.geode.cache.execute.ResultCollector;
  * The {@link AbstractResultCollector} class is an abstract base implementation of the {@link ResultCollector} interface
  * encapsulating common functionality for collecting results from a Function execution.
  *
+ * Threads waiting on a result in {@link #getResult(long, TimeUnit)} are signaled as soon as a {@literal non-null}
+ * result is {@link #setResult(Object) set} or the {@link #endResults() results have ended}, rather than polling
+ * for the result in fixed time slices.
+ *
  * @author John Blum
  * @see ResultCollector
  * @since 1.0.0
@@ -28,6 +35,8 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 	private AtomicBoolean resultsEnded = new AtomicBoolean(false);
 
+	private volatile CompletableFuture<Void> resultSignal = new CompletableFuture<>();
+
 	private S result = null;
 
 	@Override
@@ -40,13 +49,15 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 		unit = resolveTimeUnit(unit);
 
-		long durationInMilliseconds = unit.toMillis(duration);
-		long timeout = System.currentTimeMillis() + unit.toMillis(duration);
-		long waitInMilliseconds = Math.max(50, Math.min(durationInMilliseconds / 5, durationInMilliseconds));
-
-		synchronized (this) {
-			while (getResult() == null && System.currentTimeMillis() < timeout) {
-				unit.timedWait(this, waitInMilliseconds);
+		if (getResult() == null && hasResultsNotEnded()) {
+			try {
+				getResultSignal().get(duration, unit);
+			}
+			catch (ExecutionException cause) {
+				throw new FunctionException(cause.getCause());
+			}
+			catch (TimeoutException ignore) {
+				// The result was not available within the given duration; return the current result (possibly null)
 			}
 		}
 
@@ -54,7 +65,30 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 	}
 
 	protected synchronized void setResult(S result) {
+
 		this.result = result;
+
+		if (result != null) {
+			signalResult();
+		}
+	}
+
+	/**
+	 * Returns the {@link CompletableFuture} used to signal threads waiting on a result
+	 * in {@link #getResult(long, TimeUnit)}.
+	 *
+	 * @return the {@link CompletableFuture} signaling the availability of a result.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	protected CompletableFuture<Void> getResultSignal() {
+		return this.resultSignal;
+	}
+
+	/**
+	 * Signals all threads waiting on a result in {@link #getResult(long, TimeUnit)}.
+	 */
+	protected void signalResult() {
+		this.resultSignal.complete(null);
 	}
 
 	protected TimeUnit resolveTimeUnit(TimeUnit unit) {
@@ -62,13 +96,19 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 	}
 
 	@Override
-	public void clearResults() {
+	public synchronized void clearResults() {
+
 		setResult(null);
+
+		if (hasResultsNotEnded() && this.resultSignal.isDone()) {
+			this.resultSignal = new CompletableFuture<>();
+		}
 	}
 
 	@Override
 	public void endResults() {
 		this.resultsEnded.set(true);
+		signalResult();
 	}
 
 	protected boolean hasResultsEnded() {
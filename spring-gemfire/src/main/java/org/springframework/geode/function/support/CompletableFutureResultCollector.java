@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CompletableFutureResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * decorating a {@link ResultCollector} in order to complete a {@link CompletableFuture} with the result
+ * of the decorated {@link ResultCollector} when the {@link #endResults() results have ended}.
+ *
+ * This allows a caller to react to the result of a Function execution without blocking on {@link #getResult()},
+ * for example:
+ *
+ * <pre>
+ * <code>
+ * CompletableFutureResultCollector&lt;Object, Long&gt; resultCollector =
+ *   new CompletableFutureResultCollector&lt;&gt;(ReducingResultCollector.counting());
+ *
+ * FunctionService.onMembers().withCollector(resultCollector).execute("CountFunction");
+ *
+ * resultCollector.toCompletableFuture().thenAccept(count -&gt; ...);
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see ResultCollector
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class CompletableFutureResultCollector<T, S> implements ResultCollector<T, S> {
+
+	private final CompletableFuture<S> future = new CompletableFuture<>();
+
+	private final ResultCollector<T, S> resultCollector;
+
+	/**
+	 * Constructs a new instance of {@link CompletableFutureResultCollector} decorating the given,
+	 * required {@link ResultCollector}.
+	 *
+	 * @param resultCollector {@link ResultCollector} to decorate; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ResultCollector} is {@literal null}.
+	 * @see ResultCollector
+	 */
+	public CompletableFutureResultCollector(@NonNull ResultCollector<T, S> resultCollector) {
+
+		Assert.notNull(resultCollector, "ResultCollector must not be null");
+
+		this.resultCollector = resultCollector;
+	}
+
+	/**
+	 * Returns the decorated {@link ResultCollector}.
+	 *
+	 * @return the decorated {@link ResultCollector}.
+	 * @see ResultCollector
+	 */
+	protected @NonNull ResultCollector<T, S> getResultCollector() {
+		return this.resultCollector;
+	}
+
+	/**
+	 * Returns the {@link CompletableFuture} completed with the result of the decorated {@link ResultCollector}
+	 * when the {@link #endResults() results have ended}, or completed exceptionally if the result could not be
+	 * determined.
+	 *
+	 * @return the {@link CompletableFuture} completed with the result of the Function execution.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	public @NonNull CompletableFuture<S> toCompletableFuture() {
+		return this.future;
+	}
+
+	@Override
+	public S getResult() throws FunctionException {
+		return getResultCollector().getResult();
+	}
+
+	@Override
+	public S getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+		return getResultCollector().getResult(timeout, unit);
+	}
+
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+		getResultCollector().addResult(memberID, resultOfSingleExecution);
+	}
+
+	@Override
+	public void clearResults() {
+		getResultCollector().clearResults();
+	}
+
+	@Override
+	public void endResults() {
+
+		try {
+			getResultCollector().endResults();
+			this.future.complete(getResultCollector().getResult());
+		}
+		catch (RuntimeException cause) {
+			this.future.completeExceptionally(cause);
+			throw cause;
+		}
+	}
+}
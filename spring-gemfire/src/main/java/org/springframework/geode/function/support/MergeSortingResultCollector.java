@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MergeSortingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * merging results that are already sorted by each member into a single, sorted {@link List}.
+ *
+ * Each result sent by a member is expected to be an {@link Iterable} sorted by the configured {@link Comparator}
+ * and is merged with the results received so far in linear time.  Optionally, only the first {@link Integer limit}
+ * results are retained.  {@literal null} results and elements are ignored.  The merged results are only available
+ * after the {@link #endResults() results have ended}.
+ *
+ * This {@link ResultCollector} is stateful and must not be shared by concurrent Function executions.
+ *
+ * @author John Blum
+ * @see java.util.Comparator
+ * @see ResultCollector
+ * @see AbstractResultCollector
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class MergeSortingResultCollector<T> extends AbstractResultCollector<Object, List<T>> {
+
+	protected static final int UNLIMITED = Integer.MAX_VALUE;
+
+	private final Comparator<? super T> comparator;
+
+	private final int limit;
+
+	private List<T> mergedResults = Collections.emptyList();
+
+	/**
+	 * Constructs a new instance of {@link MergeSortingResultCollector} merging results
+	 * in their {@link Comparable natural order}.
+	 */
+	public MergeSortingResultCollector() {
+		this(ReducingResultCollector.naturalOrder());
+	}
+
+	/**
+	 * Constructs a new instance of {@link MergeSortingResultCollector} merging all results
+	 * in the order determined by the given {@link Comparator}.
+	 *
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @see java.util.Comparator
+	 */
+	public MergeSortingResultCollector(@NonNull Comparator<? super T> comparator) {
+		this(comparator, UNLIMITED);
+	}
+
+	/**
+	 * Constructs a new instance of {@link MergeSortingResultCollector} merging results in the order determined by
+	 * the given {@link Comparator} and retaining only the first {@link Integer limit} results.
+	 *
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @param limit {@link Integer maximum number} of results to retain; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the {@link Comparator} is {@literal null}
+	 * or the {@link Integer limit} is less than {@literal 1}.
+	 * @see java.util.Comparator
+	 */
+	public MergeSortingResultCollector(@NonNull Comparator<? super T> comparator, int limit) {
+
+		Assert.notNull(comparator, "Comparator must not be null");
+		Assert.isTrue(limit > 0, () -> String.format("Limit [%d] must be greater than 0", limit));
+
+		this.comparator = comparator;
+		this.limit = limit;
+	}
+
+	/**
+	 * Returns the configured {@link Comparator} used to order the results.
+	 *
+	 * @return the configured {@link Comparator} used to order the results.
+	 * @see java.util.Comparator
+	 */
+	protected @NonNull Comparator<? super T> getComparator() {
+		return this.comparator;
+	}
+
+	/**
+	 * Returns the configured {@link Integer maximum number} of results to retain.
+	 *
+	 * @return the configured {@link Integer maximum number} of results to retain.
+	 */
+	protected int getLimit() {
+		return this.limit;
+	}
+
+	@Override
+	public synchronized void addResult(DistributedMember memberID, Object resultOfSingleExecution) {
+
+		if (resultOfSingleExecution != null) {
+			this.mergedResults = merge(this.mergedResults, toIterator(resultOfSingleExecution));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterator<T> toIterator(Object result) {
+
+		return result instanceof Iterable
+			? ((Iterable<T>) result).iterator()
+			: Collections.singletonList((T) result).iterator();
+	}
+
+	private List<T> merge(List<T> mergedResults, Iterator<T> sortedResults) {
+
+		List<T> newMergedResults = new ArrayList<>(Math.min(getLimit(), mergedResults.size() + 16));
+
+		Iterator<T> mergedResultsIterator = mergedResults.iterator();
+
+		T mergedResult = next(mergedResultsIterator);
+		T sortedResult = next(sortedResults);
+
+		while (newMergedResults.size() < getLimit() && (mergedResult != null || sortedResult != null)) {
+
+			if (sortedResult == null
+				|| (mergedResult != null && getComparator().compare(mergedResult, sortedResult) <= 0)) {
+
+				newMergedResults.add(mergedResult);
+				mergedResult = next(mergedResultsIterator);
+			}
+			else {
+				newMergedResults.add(sortedResult);
+				sortedResult = next(sortedResults);
+			}
+		}
+
+		return newMergedResults;
+	}
+
+	private T next(Iterator<T> iterator) {
+
+		while (iterator.hasNext()) {
+
+			T next = iterator.next();
+
+			if (next != null) {
+				return next;
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public synchronized void clearResults() {
+		super.clearResults();
+		this.mergedResults = Collections.emptyList();
+	}
+
+	@Override
+	public synchronized void endResults() {
+		setResult(Collections.unmodifiableList(this.mergedResults));
+		super.endResults();
+	}
+}
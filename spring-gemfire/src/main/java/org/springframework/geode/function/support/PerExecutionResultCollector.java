@@ -0,0 +1,216 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PerExecutionResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * delegating to a new, stateful {@link ResultCollector} for every Function execution.
+ *
+ * SDG's POJO Function execution interfaces inject the {@link ResultCollector} referenced in
+ * the {@literal resultCollector} attribute of the {@literal @OnRegion}, {@literal @OnServers} or similar annotation
+ * only once, when the Function execution interface proxy is created.  A Function execution {@link #bind() binds}
+ * a new delegate {@link ResultCollector} from the {@link Supplier} to the executing {@link Thread}, so that
+ * concurrent executions collect their results separately.  Results added on a different {@link Thread}, as they are
+ * by single-hop client and peer Function executions, are collected by the only bound execution, therefore
+ * executions of that kind must not run concurrently.
+ *
+ * When no execution is bound, the delegate {@link ResultCollector} is replaced with a new instance once the result
+ * of an execution has been read, the results have been cleared, or a result arrives after the results of
+ * the previous execution have ended, so that state does not carry over from one execution to the next.
+ *
+ * @author John Blum
+ * @see java.util.function.Supplier
+ * @see ResultCollector
+ * @since 2.0.0
+ */
+public class PerExecutionResultCollector<T, S> implements ResultCollector<T, S> {
+
+	private boolean resultsEnded;
+
+	private final Map<Thread, ResultCollector<T, S>> boundResultCollectors = new ConcurrentHashMap<>();
+
+	private ResultCollector<T, S> resultCollector;
+
+	private final Supplier<? extends ResultCollector<T, S>> resultCollectorSupplier;
+
+	/**
+	 * Constructs a new instance of {@link PerExecutionResultCollector} initialized with the given {@link Supplier}
+	 * of the {@link ResultCollector} used for each Function execution.
+	 *
+	 * @param resultCollectorSupplier {@link Supplier} of a new {@link ResultCollector} for each Function execution;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 * @see java.util.function.Supplier
+	 */
+	public PerExecutionResultCollector(@NonNull Supplier<? extends ResultCollector<T, S>> resultCollectorSupplier) {
+
+		Assert.notNull(resultCollectorSupplier, "Supplier of ResultCollector must not be null");
+
+		this.resultCollectorSupplier = resultCollectorSupplier;
+		this.resultCollector = newResultCollector();
+	}
+
+	private ResultCollector<T, S> newResultCollector() {
+
+		ResultCollector<T, S> resultCollector = this.resultCollectorSupplier.get();
+
+		Assert.state(resultCollector != null, "ResultCollector must not be null");
+
+		return resultCollector;
+	}
+
+	/**
+	 * Binds a new {@link ResultCollector} to the current {@link Thread} for the duration of a Function execution.
+	 *
+	 * @see #unbind()
+	 */
+	public void bind() {
+		this.boundResultCollectors.put(Thread.currentThread(), newResultCollector());
+	}
+
+	/**
+	 * Releases the {@link ResultCollector} bound to the current {@link Thread} once the Function execution completes.
+	 *
+	 * @see #bind()
+	 */
+	public void unbind() {
+		this.boundResultCollectors.remove(Thread.currentThread());
+	}
+
+	/**
+	 * Returns the {@link ResultCollector} collecting the results of the current Function execution.
+	 *
+	 * @return the {@link ResultCollector} collecting the results of the current Function execution.
+	 */
+	protected @NonNull ResultCollector<T, S> getResultCollector() {
+
+		ResultCollector<T, S> resultCollector = this.boundResultCollectors.get(Thread.currentThread());
+
+		return resultCollector != null ? resultCollector : getUnboundResultCollector();
+	}
+
+	private synchronized ResultCollector<T, S> getUnboundResultCollector() {
+		return this.resultCollector;
+	}
+
+	private ResultCollector<T, S> resolveResultCollector() {
+
+		ResultCollector<T, S> resultCollector = resolveBoundResultCollector();
+
+		return resultCollector != null ? resultCollector : resolveUnboundResultCollector();
+	}
+
+	private @Nullable ResultCollector<T, S> resolveBoundResultCollector() {
+
+		ResultCollector<T, S> resultCollector = this.boundResultCollectors.get(Thread.currentThread());
+
+		if (resultCollector == null && !this.boundResultCollectors.isEmpty()) {
+
+			Iterator<ResultCollector<T, S>> boundResultCollectors = this.boundResultCollectors.values().iterator();
+
+			resultCollector = boundResultCollectors.hasNext() ? boundResultCollectors.next() : null;
+
+			Assert.state(!boundResultCollectors.hasNext(),
+				"Results added outside the executing Thread cannot be attributed to one of the concurrent executions");
+		}
+
+		return resultCollector;
+	}
+
+	private synchronized ResultCollector<T, S> resolveUnboundResultCollector() {
+
+		if (this.resultsEnded) {
+			reset(this.resultCollector);
+		}
+
+		return this.resultCollector;
+	}
+
+	private synchronized void reset(ResultCollector<T, S> resultCollector) {
+
+		if (this.resultCollector == resultCollector) {
+			this.resultCollector = newResultCollector();
+			this.resultsEnded = false;
+		}
+	}
+
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+		resolveResultCollector().addResult(memberID, resultOfSingleExecution);
+	}
+
+	@Override
+	public S getResult() throws FunctionException {
+
+		ResultCollector<T, S> resultCollector = getResultCollector();
+
+		try {
+			return resultCollector.getResult();
+		}
+		finally {
+			reset(resultCollector);
+		}
+	}
+
+	@Override
+	public S getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+
+		ResultCollector<T, S> resultCollector = getResultCollector();
+
+		try {
+			return resultCollector.getResult(timeout, unit);
+		}
+		finally {
+			reset(resultCollector);
+		}
+	}
+
+	@Override
+	public void clearResults() {
+
+		ResultCollector<T, S> resultCollector = resolveBoundResultCollector();
+
+		if (resultCollector != null) {
+			resultCollector.clearResults();
+		}
+		else {
+			reset(getUnboundResultCollector());
+		}
+	}
+
+	@Override
+	public void endResults() {
+
+		ResultCollector<T, S> resultCollector = resolveBoundResultCollector();
+
+		if (resultCollector != null) {
+			resultCollector.endResults();
+		}
+		else {
+
+			resultCollector = getUnboundResultCollector();
+			resultCollector.endResults();
+
+			synchronized (this) {
+				this.resultsEnded = this.resultCollector == resultCollector;
+			}
+		}
+	}
+}
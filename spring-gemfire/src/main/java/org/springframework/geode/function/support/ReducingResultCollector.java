@@ -0,0 +1,257 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ReducingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * folding each result into an accumulation as the result arrives from a member, using a {@link Collector},
+ * rather than storing all results.
+ *
+ * Results that are {@link Iterable} are folded element by element.  {@literal null} results and elements are ignored.
+ * The reduced result is only available after the {@link #endResults() results have ended}.
+ *
+ * This {@link ResultCollector} is stateful and must not be shared by Function executions.  SDG's POJO Function
+ * execution interfaces reuse the same {@link ResultCollector} for every execution, therefore wrap it in
+ * a {@link PerExecutionResultCollector} bound to each execution.
+ *
+ * @author John Blum
+ * @see java.util.stream.Collector
+ * @see ResultCollector
+ * @see AbstractResultCollector
+ * @see PerExecutionResultCollector
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class ReducingResultCollector<T, S> extends AbstractResultCollector<T, S> {
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} counting all results.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @return a new {@link ReducingResultCollector} counting all results.
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, Long> counting() {
+		return new ReducingResultCollector<>(Collectors.counting());
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} summing the {@link Long long values}
+	 * of all results.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param mapper {@link ToLongFunction} used to map each result to a {@link Long long value};
+	 * must not be {@literal null}.
+	 * @return a new {@link ReducingResultCollector} summing the {@link Long long values} of all results.
+	 * @see java.util.function.ToLongFunction
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, Long> summingLong(@NonNull ToLongFunction<? super T> mapper) {
+		return new ReducingResultCollector<>(Collectors.summingLong(mapper));
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} summing the {@link Double double values}
+	 * of all results.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param mapper {@link ToDoubleFunction} used to map each result to a {@link Double double value};
+	 * must not be {@literal null}.
+	 * @return a new {@link ReducingResultCollector} summing the {@link Double double values} of all results.
+	 * @see java.util.function.ToDoubleFunction
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, Double> summingDouble(
+			@NonNull ToDoubleFunction<? super T> mapper) {
+
+		return new ReducingResultCollector<>(Collectors.summingDouble(mapper));
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} returning the minimum result
+	 * in the {@link Comparable natural order} of the results.
+	 *
+	 * @param <T> {@link Class type} of the results; must be {@link Comparable}.
+	 * @return a new {@link ReducingResultCollector} returning the minimum result, or {@literal null}
+	 * if no results were sent.
+	 * @see #minimum(Comparator)
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, T> minimum() {
+		return minimum(naturalOrder());
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} returning the minimum result
+	 * as determined by the given {@link Comparator}.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @return a new {@link ReducingResultCollector} returning the minimum result, or {@literal null}
+	 * if no results were sent.
+	 * @see java.util.Comparator
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, T> minimum(@NonNull Comparator<? super T> comparator) {
+		return new ReducingResultCollector<>(Collectors.collectingAndThen(Collectors.minBy(comparator),
+			minimum -> minimum.orElse(null)));
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} returning the maximum result
+	 * in the {@link Comparable natural order} of the results.
+	 *
+	 * @param <T> {@link Class type} of the results; must be {@link Comparable}.
+	 * @return a new {@link ReducingResultCollector} returning the maximum result, or {@literal null}
+	 * if no results were sent.
+	 * @see #maximum(Comparator)
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, T> maximum() {
+		return maximum(naturalOrder());
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} returning the maximum result
+	 * as determined by the given {@link Comparator}.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @return a new {@link ReducingResultCollector} returning the maximum result, or {@literal null}
+	 * if no results were sent.
+	 * @see java.util.Comparator
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, T> maximum(@NonNull Comparator<? super T> comparator) {
+		return new ReducingResultCollector<>(Collectors.collectingAndThen(Collectors.maxBy(comparator),
+			maximum -> maximum.orElse(null)));
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ReducingResultCollector} returning the {@link Integer K} greatest
+	 * results, as determined by the given {@link Comparator}, in descending order.
+	 *
+	 * Only {@link Integer K} results are retained at any time, using a bounded heap.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param k {@link Integer number} of results to return; must be greater than {@literal 0}.
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @return a new {@link ReducingResultCollector} returning the {@link Integer K} greatest results.
+	 * @throws IllegalArgumentException if {@link Integer K} is less than {@literal 1}
+	 * or the {@link Comparator} is {@literal null}.
+	 * @see java.util.PriorityQueue
+	 * @see java.util.Comparator
+	 */
+	public static @NonNull <T> ReducingResultCollector<T, List<T>> topK(int k,
+			@NonNull Comparator<? super T> comparator) {
+
+		Assert.isTrue(k > 0, () -> String.format("K [%d] must be greater than 0", k));
+		Assert.notNull(comparator, "Comparator must not be null");
+
+		Collector<T, PriorityQueue<T>, List<T>> topK = Collector.of(
+			() -> new PriorityQueue<>(k + 1, comparator),
+			(heap, result) -> {
+				heap.offer(result);
+				if (heap.size() > k) {
+					heap.poll();
+				}
+			},
+			(heap, otherHeap) -> {
+				otherHeap.forEach(result -> {
+					heap.offer(result);
+					if (heap.size() > k) {
+						heap.poll();
+					}
+				});
+				return heap;
+			},
+			heap -> {
+				List<T> results = new ArrayList<>(heap);
+				results.sort(comparator.reversed());
+				return Collections.unmodifiableList(results);
+			});
+
+		return new ReducingResultCollector<>(topK);
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Comparator<T> naturalOrder() {
+		return (Comparator<T>) Comparator.naturalOrder();
+	}
+
+	private final Collector<T, Object, S> collector;
+
+	private Object accumulation;
+
+	/**
+	 * Constructs a new instance of {@link ReducingResultCollector} initialized with the given {@link Collector}
+	 * used to fold the results.
+	 *
+	 * @param collector {@link Collector} used to fold the results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Collector} is {@literal null}.
+	 * @see java.util.stream.Collector
+	 */
+	@SuppressWarnings("unchecked")
+	public ReducingResultCollector(@NonNull Collector<? super T, ?, S> collector) {
+
+		Assert.notNull(collector, "Collector must not be null");
+
+		this.collector = (Collector<T, Object, S>) collector;
+		this.accumulation = this.collector.supplier().get();
+	}
+
+	/**
+	 * Returns the configured {@link Collector} used to fold the results.
+	 *
+	 * @return the configured {@link Collector} used to fold the results.
+	 * @see java.util.stream.Collector
+	 */
+	protected @NonNull Collector<T, Object, S> getCollector() {
+		return this.collector;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		if (resultOfSingleExecution instanceof Iterable) {
+			for (Object result : (Iterable<?>) resultOfSingleExecution) {
+				accumulate((T) result);
+			}
+		}
+		else {
+			accumulate(resultOfSingleExecution);
+		}
+	}
+
+	private void accumulate(T result) {
+
+		if (result != null) {
+			getCollector().accumulator().accept(this.accumulation, result);
+		}
+	}
+
+	@Override
+	public synchronized void clearResults() {
+		super.clearResults();
+		this.accumulation = getCollector().supplier().get();
+	}
+
+	@Override
+	public synchronized void endResults() {
+		setResult(getCollector().finisher().apply(this.accumulation));
+		super.endResults();
+	}
+}
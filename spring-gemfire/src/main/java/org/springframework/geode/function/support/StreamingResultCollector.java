@@ -0,0 +1,316 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link StreamingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * publishing each result sent by a Function as soon as the result arrives from a member, rather than collecting
+ * all results before returning them to the caller.
+ *
+ * The results are buffered in a bounded buffer and exposed as a {@link Stream} (from {@link #getResult()})
+ * or an {@link Iterator} (from {@link #iterator()}), which are available immediately after the Function is executed.
+ * When the buffer is full, the thread delivering results blocks until the caller consumes a result, up to
+ * the configured {@link #getTimeout() timeout}.  Therefore, results must be consumed on a different {@link Thread}
+ * than the {@link Thread} delivering the results.  Client Function executions deliver results on the {@link Thread}
+ * calling {@literal execute(..)}, which blocks until all results have been received, so a result set larger than
+ * the buffer would time out.  Use {@link #execute(Consumer, Executor)} to run the Function execution on
+ * a separate {@link Thread} and consume the results on the calling {@link Thread} while they arrive.
+ * {@literal null} results are not published.
+ *
+ * The {@link Stream} and {@link Iterator} can only be consumed once.
+ *
+ * @author John Blum
+ * @see java.util.Iterator
+ * @see java.util.concurrent.BlockingQueue
+ * @see java.util.concurrent.Semaphore
+ * @see java.util.stream.Stream
+ * @see ResultCollector
+ * @see AbstractResultCollector
+ * @since 2.0.0
+ */
+@SuppressWarnings("unused")
+public class StreamingResultCollector<T> extends AbstractResultCollector<T, Stream<T>> {
+
+	protected static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+	protected static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private final AtomicBoolean endOfResultsPublished = new AtomicBoolean(false);
+
+	private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Semaphore bufferCapacity;
+
+	private final Duration timeout;
+
+	private final Iterator<T> iterator;
+
+	private volatile Throwable failure;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with
+	 * the {@link #DEFAULT_BUFFER_CAPACITY default buffer capacity} and {@link #DEFAULT_TIMEOUT default timeout}.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_BUFFER_CAPACITY, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with the given
+	 * {@link Integer buffer capacity} and {@link Duration timeout}.
+	 *
+	 * @param bufferCapacity {@link Integer maximum number} of results buffered before results are consumed;
+	 * must be greater than {@literal 0}.
+	 * @param timeout {@link Duration} to wait for space in the buffer when adding a result, or for a result
+	 * when consuming results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Integer buffer capacity} is less than {@literal 1}
+	 * or the {@link Duration timeout} is {@literal null}.
+	 * @see java.time.Duration
+	 */
+	public StreamingResultCollector(int bufferCapacity, @NonNull Duration timeout) {
+
+		Assert.isTrue(bufferCapacity > 0, () -> String.format("Buffer capacity [%d] must be greater than 0",
+			bufferCapacity));
+
+		Assert.notNull(timeout, "Timeout must not be null");
+
+		this.bufferCapacity = new Semaphore(bufferCapacity);
+		this.timeout = timeout;
+		this.iterator = new ResultIterator();
+
+		setResult(StreamSupport.stream(Spliterators.spliteratorUnknownSize(this.iterator,
+			Spliterator.NONNULL | Spliterator.ORDERED), false));
+	}
+
+	/**
+	 * Returns the configured {@link Duration timeout} to wait for space in the buffer when adding a result,
+	 * or for a result when consuming results.
+	 *
+	 * @return the configured {@link Duration timeout}.
+	 * @see java.time.Duration
+	 */
+	protected @NonNull Duration getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Returns the {@link Logger} used to report Function execution failures occurring after the results ended.
+	 *
+	 * @return the {@link Logger} used by this {@link StreamingResultCollector}.
+	 */
+	protected @NonNull Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns an {@link Iterator} over the results as they arrive.
+	 *
+	 * {@link Iterator#hasNext()} blocks until the next result arrives or the results have ended.
+	 *
+	 * @return an {@link Iterator} over the results as they arrive.
+	 * @see java.util.Iterator
+	 */
+	public @NonNull Iterator<T> iterator() {
+		return this.iterator;
+	}
+
+	/**
+	 * Runs the given Function execution on a separate {@link Thread} using the given {@link Executor}
+	 * and returns the {@link Stream} of results immediately.
+	 *
+	 * The Function execution is passed this {@link StreamingResultCollector} to set as the {@link ResultCollector}
+	 * of the {@link org.apache.geode.cache.execute.Execution}, for example:
+	 *
+	 * <pre>
+	 * <code>
+	 * Stream&lt;Customer&gt; customers = new StreamingResultCollector&lt;Customer&gt;().execute(resultCollector -&gt;
+	 *     FunctionService.onServer(pool).withCollector(resultCollector).execute("findCustomers"), executor);
+	 * </code>
+	 * </pre>
+	 *
+	 * Since results are delivered on the {@link Executor} {@link Thread}, the calling {@link Thread} can consume
+	 * any number of results, including more results than the buffer can hold.  If the Function execution fails,
+	 * then the results received before the failure are published, after which a {@link FunctionException}
+	 * caused by the failure is thrown.  A failure occurring after the Function execution ended the results
+	 * is logged, since the results may already have been consumed.
+	 *
+	 * @param execution {@link Consumer} executing the Function with the given {@link ResultCollector};
+	 * must not be {@literal null}.
+	 * @param executor {@link Executor} used to run the Function execution; must not be {@literal null}.
+	 * @return the {@link Stream} of results.
+	 * @throws IllegalArgumentException if the Function execution or {@link Executor} is {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 * @see #getResult()
+	 */
+	public @NonNull Stream<T> execute(@NonNull Consumer<? super StreamingResultCollector<T>> execution,
+			@NonNull Executor executor) {
+
+		Assert.notNull(execution, "Function execution must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		CompletableFuture.runAsync(() -> {
+			try {
+				execution.accept(this);
+			}
+			catch (Throwable cause) {
+
+				this.failure = cause;
+
+				if (this.endOfResultsPublished.get()) {
+					getLogger().warn("Function execution failed after the results ended", cause);
+				}
+			}
+			finally {
+				endResults();
+			}
+		}, executor);
+
+		return getResult();
+	}
+
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		if (resultOfSingleExecution != null) {
+			offer(resultOfSingleExecution);
+		}
+	}
+
+	/**
+	 * Clears all buffered results that have not yet been consumed.
+	 *
+	 * The {@link Stream} returned by {@link #getResult()} remains valid.
+	 */
+	@Override
+	public void clearResults() {
+
+		for (Object result = this.buffer.poll(); result != null; result = this.buffer.poll()) {
+
+			if (result == END_OF_RESULTS) {
+				this.buffer.offer(END_OF_RESULTS);
+				break;
+			}
+
+			this.bufferCapacity.release();
+		}
+	}
+
+	/**
+	 * Ends the results, after which the {@link Stream} and {@link Iterator} complete once all buffered results
+	 * have been consumed.  Ending the results more than once has no further effect.
+	 */
+	@Override
+	public void endResults() {
+
+		super.endResults();
+
+		if (this.endOfResultsPublished.compareAndSet(false, true)) {
+			this.buffer.offer(END_OF_RESULTS);
+		}
+	}
+
+	private void offer(Object result) {
+
+		try {
+			if (!this.bufferCapacity.tryAcquire(getTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new FunctionException(String.format("Timed out after [%d] ms waiting for results to be consumed",
+					getTimeout().toMillis()));
+			}
+
+			this.buffer.offer(result);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for results to be consumed", cause);
+		}
+	}
+
+	private Object take() {
+
+		try {
+			Object result = this.buffer.poll(getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+			if (result == null) {
+				throw new FunctionException(String.format("Timed out after [%d] ms waiting for results",
+					getTimeout().toMillis()));
+			}
+
+			if (result != END_OF_RESULTS) {
+				this.bufferCapacity.release();
+			}
+
+			return result;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for results", cause);
+		}
+	}
+
+	private class ResultIterator implements Iterator<T> {
+
+		private Object next;
+
+		@Override
+		public boolean hasNext() {
+
+			if (this.next == null) {
+				this.next = take();
+			}
+
+			if (this.next == END_OF_RESULTS && failure != null) {
+				throw new FunctionException("Function execution failed", failure);
+			}
+
+			return this.next != END_OF_RESULTS;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more results");
+			}
+
+			T result = (T) this.next;
+
+			this.next = null;
+
+			return result;
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.support.ConnectionEndpoint;
+import org.springframework.data.gemfire.support.ConnectionEndpointList;
+
+/**
+ * Unit Tests for {@link ClusterAvailabilityCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.config.annotation.ClusterAvailabilityCache
+ * @since 2.0.0
+ */
+public class ClusterAvailabilityCacheUnitTests {
+
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	@Test
+	public void toKeyIsIndependentOfConnectionEndpointOrder() {
+
+		ConnectionEndpointList one = new ConnectionEndpointList(
+			new ConnectionEndpoint("mailbox", 9012),
+			new ConnectionEndpoint("boombox", 1234)
+		);
+
+		ConnectionEndpointList two = new ConnectionEndpointList(
+			new ConnectionEndpoint("boombox", 1234),
+			new ConnectionEndpoint("mailbox", 9012),
+			new ConnectionEndpoint("boombox", 1234)
+		);
+
+		assertThat(ClusterAvailabilityCache.toKey(one)).isEqualTo("boombox[1234],mailbox[9012]");
+		assertThat(ClusterAvailabilityCache.toKey(two)).isEqualTo(ClusterAvailabilityCache.toKey(one));
+	}
+
+	@Test
+	public void resolveTimeToLiveFromEnvironment() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		assertThat(cache.resolveTimeToLive(null)).isEqualTo(Duration.ZERO);
+		assertThat(cache.resolveTimeToLive(mockEnvironment)).isEqualTo(Duration.ZERO);
+
+		doReturn("30s").when(mockEnvironment)
+			.getProperty(eq(ClusterAvailabilityCache.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_TTL_PROPERTY));
+
+		assertThat(cache.resolveTimeToLive(mockEnvironment)).isEqualTo(Duration.ofSeconds(30));
+
+		doReturn("1500").when(mockEnvironment)
+			.getProperty(eq(ClusterAvailabilityCache.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_TTL_PROPERTY));
+
+		assertThat(cache.resolveTimeToLive(mockEnvironment)).isEqualTo(Duration.ofMillis(1500));
+	}
+
+	@Test
+	public void putThenGetReturnsCachedConnectionCount() {
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		assertThat(cache.get("key", TTL, null)).isEmpty();
+
+		cache.put("key", 2, null);
+
+		assertThat(cache.get("key", TTL, null)).contains(2);
+		assertThat(cache.get("otherKey", TTL, null)).isEmpty();
+	}
+
+	@Test
+	public void expiredEntriesAreNotReturned() {
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		cache.put("key", 1, null);
+
+		assertThat(cache.get("key", Duration.ZERO, null)).isEmpty();
+		assertThat(cache.get("key", TTL, null)).isEmpty();
+	}
+
+	@Test
+	public void invalidateRemovesCachedEntry() {
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		cache.put("key", 1, null);
+
+		assertThat(cache.invalidate("key", null)).isTrue();
+		assertThat(cache.invalidate("key", null)).isFalse();
+		assertThat(cache.get("key", TTL, null)).isEmpty();
+	}
+
+	@Test
+	public void cachedEntriesArePersistedToAndLoadedFromFile() throws IOException {
+
+		File file = Files.createTempFile("cluster-availability", ".properties").toFile();
+
+		file.deleteOnExit();
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		cache.put("boombox[1234],mailbox[9012]", 1, file);
+
+		ClusterAvailabilityCache newCache = new ClusterAvailabilityCache();
+
+		assertThat(newCache.get("boombox[1234],mailbox[9012]", TTL, file)).contains(1);
+
+		newCache.invalidate("boombox[1234],mailbox[9012]", file);
+		newCache.clear();
+
+		assertThat(newCache.get("boombox[1234],mailbox[9012]", TTL, file)).isEmpty();
+	}
+
+	@Test
+	public void revalidateInvalidatesEntryWhenClusterAvailabilityChanges() throws InterruptedException {
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		cache.put("key", 1, null);
+		cache.revalidate("key", null, () -> {
+			latch.countDown();
+			return 0;
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		waitOn(() -> !cache.get("key", TTL, null).isPresent());
+
+		assertThat(cache.get("key", TTL, null)).isEmpty();
+	}
+
+	@Test
+	public void revalidateRetainsEntryWhenClusterAvailabilityIsUnchanged() throws InterruptedException {
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		cache.put("key", 1, null);
+		cache.put("otherKey", 1, null);
+		cache.revalidate("key", null, () -> 2);
+		cache.revalidate("otherKey", null, () -> {
+			latch.countDown();
+			return 0;
+		});
+
+		// the revalidation executor is single-threaded, so "key" has been revalidated once "otherKey" runs
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(cache.get("key", TTL, null)).contains(1);
+	}
+
+	private void waitOn(BooleanSupplier condition) throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.support.ConnectionEndpoint;
+import org.springframework.data.gemfire.support.ConnectionEndpointList;
+
+/**
+ * Unit Tests for {@link ClusterAvailabilityMonitor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.geode.config.annotation.ClusterAvailabilityMonitor
+ * @since 2.0.0
+ */
+public class ClusterAvailabilityMonitorUnitTests {
+
+	private final ClusterAwareConfiguration.ClusterAwareCondition condition =
+		spy(new ClusterAwareConfiguration.ClusterAwareCondition());
+
+	private final ConnectionEndpointList connectionEndpoints =
+		new ConnectionEndpointList(new ConnectionEndpoint("mailbox", 9012));
+
+	@Before @After
+	public void resetClusterAwareCondition() {
+		ClusterAwareConfiguration.ClusterAwareCondition.reset();
+	}
+
+	@Test
+	public void probePublishesClusterAvailableEventWhenClusterIsFound() {
+
+		ApplicationEventPublisher mockEventPublisher = mock(ApplicationEventPublisher.class);
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		monitor.setApplicationEventPublisher(mockEventPublisher);
+
+		doReturn(this.connectionEndpoints).when(this.condition).getConnectionEndpoints(any());
+		doReturn(1).when(this.condition).countConnections(eq(this.connectionEndpoints));
+
+		assertThat(monitor.isClusterAvailable()).isFalse();
+		assertThat(monitor.isClusterReachable()).isFalse();
+		assertThat(monitor.probe()).isTrue();
+		assertThat(monitor.isClusterAvailable()).isFalse();
+		assertThat(monitor.isClusterReachable()).isTrue();
+		assertThat(ClusterAwareConfiguration.ClusterAwareCondition.isAvailable()).isFalse();
+		assertThat(monitor.getProbeCount()).isOne();
+		assertThat(monitor.getLastProbeTime()).isPositive();
+
+		verify(mockEventPublisher, times(1))
+			.publishEvent(isA(ClusterAvailabilityMonitor.ClusterAvailableEvent.class));
+	}
+
+	@Test
+	public void probeDoesNotPublishEventWhenClusterIsNotFound() {
+
+		ApplicationEventPublisher mockEventPublisher = mock(ApplicationEventPublisher.class);
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		monitor.setApplicationEventPublisher(mockEventPublisher);
+
+		doReturn(this.connectionEndpoints).when(this.condition).getConnectionEndpoints(any());
+		doReturn(0).when(this.condition).countConnections(eq(this.connectionEndpoints));
+
+		assertThat(monitor.probe()).isFalse();
+		assertThat(monitor.isClusterAvailable()).isFalse();
+		assertThat(monitor.isClusterReachable()).isFalse();
+
+		verify(mockEventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	public void probeHandlesRuntimeException() {
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		doThrow(new IllegalStateException("TEST")).when(this.condition).getConnectionEndpoints(any());
+
+		assertThat(monitor.probe()).isFalse();
+		assertThat(monitor.getProbeCount()).isOne();
+	}
+
+	@Test
+	public void startAndStopWhenClusterIsNotAvailable() {
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		assertThat(monitor.isRunning()).isFalse();
+
+		monitor.start();
+
+		assertThat(monitor.isRunning()).isTrue();
+
+		monitor.stop();
+
+		assertThat(monitor.isRunning()).isFalse();
+	}
+
+	@Test
+	public void startDoesNothingWhenClusterWasFound() {
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		doReturn(this.connectionEndpoints).when(this.condition).getConnectionEndpoints(any());
+		doReturn(1).when(this.condition).countConnections(eq(this.connectionEndpoints));
+
+		assertThat(monitor.probe()).isTrue();
+
+		monitor.start();
+
+		assertThat(monitor.isRunning()).isFalse();
+	}
+
+	@Test
+	public void startDoesNothingWhenClusterIsAvailable() {
+
+		ClusterAwareConfiguration.ClusterAwareCondition.set(true);
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		monitor.start();
+
+		assertThat(monitor.isRunning()).isFalse();
+	}
+
+	@Test
+	public void intervalIsConfigurable() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		ClusterAvailabilityMonitor monitor = new ClusterAvailabilityMonitor(this.condition);
+
+		assertThat(monitor.getInterval()).isEqualTo(ClusterAvailabilityMonitor.DEFAULT_INTERVAL);
+
+		monitor.setEnvironment(mockEnvironment);
+
+		doReturn("30s").when(mockEnvironment).getProperty(
+			eq(ClusterAvailabilityMonitor.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_MONITOR_INTERVAL_PROPERTY));
+
+		assertThat(monitor.getInterval()).isEqualTo(Duration.ofSeconds(30));
+	}
+}
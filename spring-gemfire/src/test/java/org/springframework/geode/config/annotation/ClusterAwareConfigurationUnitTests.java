@@ -9,8 +9,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -26,11 +28,14 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.junit.After;
@@ -220,16 +225,61 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 		order.verify(this.condition, times(1)).doMatch(eq(mockConditionContext));
 		order.verify(mockConditionContext, times(1)).getEnvironment();
 		order.verify(this.condition, times(1)).getConnectionEndpoints(eq(mockEnvironment));
+		order.verify(this.condition, times(1)).countConnections(eq(mockEnvironment), eq(mockConnectionEndpointList));
 		order.verify(this.condition, times(1)).countConnections(eq(mockConnectionEndpointList));
 		order.verify(this.condition, times(1))
 			.configureTopology(eq(mockEnvironment), eq(mockConnectionEndpointList), eq(1));
 		order.verify(this.condition, times(1)).isMatch(eq(mockConnectionEndpointList), eq(1));
 
 		verify(this.condition, atLeastOnce()).getLogger();
+		verify(mockEnvironment, times(1))
+			.getProperty(eq(ClusterAvailabilityCache.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_TTL_PROPERTY));
 
-		verifyNoMoreInteractions(mockConditionContext);
+		verifyNoMoreInteractions(mockConditionContext, mockEnvironment);
 
-		verifyNoInteractions(mockConnectionEndpointList, mockEnvironment);
+		verifyNoInteractions(mockConnectionEndpointList);
+	}
+
+	@Test
+	public void countConnectionsUsesCachedConnectionCountWithinTimeToLive() {
+
+		ClusterAvailabilityCache cache = spy(new ClusterAvailabilityCache());
+
+		ConnectionEndpointList list = new ConnectionEndpointList(new ConnectionEndpoint("mailbox", 9012));
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doNothing().when(cache).revalidate(any(), any(), any());
+		doReturn("5m").when(mockEnvironment)
+			.getProperty(eq(ClusterAvailabilityCache.SPRING_BOOT_DATA_GEMFIRE_CLUSTER_CONDITION_CACHE_TTL_PROPERTY));
+		doReturn(cache).when(this.condition).getClusterAvailabilityCache();
+		doReturn(1).when(this.condition).countConnections(eq(list));
+
+		assertThat(this.condition.countConnections(mockEnvironment, list)).isOne();
+		assertThat(this.condition.countConnections(mockEnvironment, list)).isOne();
+		assertThat(cache.get(ClusterAvailabilityCache.toKey(list), Duration.ofMinutes(5), null)).contains(1);
+
+		verify(this.condition, times(1)).countConnections(eq(list));
+		verify(cache, times(1)).revalidate(eq(ClusterAvailabilityCache.toKey(list)), isNull(), any());
+	}
+
+	@Test
+	public void countConnectionsWithoutTimeToLiveDoesNotCache() {
+
+		ClusterAvailabilityCache cache = new ClusterAvailabilityCache();
+
+		ConnectionEndpointList list = new ConnectionEndpointList(new ConnectionEndpoint("mailbox", 9012));
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(cache).when(this.condition).getClusterAvailabilityCache();
+		doReturn(0).when(this.condition).countConnections(eq(list));
+
+		assertThat(this.condition.countConnections(mockEnvironment, list)).isZero();
+		assertThat(this.condition.countConnections(mockEnvironment, list)).isZero();
+		assertThat(cache.get(ClusterAvailabilityCache.toKey(list), Duration.ofMinutes(5), null)).isEmpty();
+
+		verify(this.condition, times(2)).countConnections(eq(list));
 	}
 
 	@Test
@@ -447,7 +497,74 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 
 		}).when(this.condition).connect(any(ConnectionEndpoint.class));
 
-		assertThat(this.condition.countConnections(list)).isEqualTo(2);
+		assertThat(this.condition.countConnections(list, Integer.MAX_VALUE)).isEqualTo(2);
+	}
+
+	@Test
+	public void countConnectionsStopsOnFirstSuccessfulConnection() throws Exception {
+
+		ConnectionEndpointList list = new ConnectionEndpointList(
+			new ConnectionEndpoint("boombox", 1234),
+			new ConnectionEndpoint("mailbox", 9012),
+			new ConnectionEndpoint("pobox", 40404)
+		);
+
+		doReturn(mock(Logger.class)).when(this.condition).getLogger();
+
+		doAnswer(invocation -> {
+
+			ConnectionEndpoint connectionEndpoint = invocation.getArgument(0);
+
+			if ("boombox".equals(connectionEndpoint.getHost())) {
+				throw new IOException("TEST");
+			}
+
+			Socket mockSocket = mock(Socket.class);
+			doReturn(true).when(mockSocket).isConnected();
+			return mockSocket;
+
+		}).when(this.condition).connect(any(ConnectionEndpoint.class));
+
+		assertThat(this.condition.getRequiredConnectionCount()).isOne();
+		assertThat(this.condition.countConnections(list)).isOne();
+
+		verify(this.condition, times(1)).countConnections(eq(list), eq(1));
+	}
+
+	@Test
+	public void countConnectionsProbesConnectionEndpointsConcurrently() throws Exception {
+
+		ConnectionEndpointList list = new ConnectionEndpointList(
+			new ConnectionEndpoint("boombox", 1234),
+			new ConnectionEndpoint("cardboardbox", 5678),
+			new ConnectionEndpoint("mailbox", 9012)
+		);
+
+		CountDownLatch latch = new CountDownLatch(list.size());
+
+		doReturn(mock(Logger.class)).when(this.condition).getLogger();
+
+		doAnswer(invocation -> {
+
+			latch.countDown();
+
+			// All probes must be in-flight at the same time for the latch to open
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new IOException("TEST");
+			}
+
+			Socket mockSocket = mock(Socket.class);
+			doReturn(true).when(mockSocket).isConnected();
+			return mockSocket;
+
+		}).when(this.condition).connect(any(ConnectionEndpoint.class));
+
+		assertThat(this.condition.countConnections(list, Integer.MAX_VALUE)).isEqualTo(3);
+	}
+
+	@Test
+	public void countConnectionsWithNoConnectionEndpointsReturnsZero() {
+		assertThat(this.condition.countConnections(new ConnectionEndpointList())).isZero();
 	}
 
 	@Test
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Unit Tests for {@link ConnectionEndpointPropertyIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.core.env.StandardEnvironment
+ * @see org.springframework.geode.config.annotation.ConnectionEndpointPropertyIndex
+ * @since 2.0.0
+ */
+public class ConnectionEndpointPropertyIndexUnitTests {
+
+	@Test
+	public void isMatchingPropertyNameIsEquivalentToMatchingPropertyPattern() {
+
+		Pattern pattern = Pattern.compile(ClusterAwareConfiguration.MATCHING_PROPERTY_PATTERN);
+
+		Arrays.asList(null, "", " ", "spring.data.gemfire.pool.locators", "spring.data.gemfire.pool.car.locators",
+			"spring.data.gemfire.pool.servers", "spring.data.gemfire.pool.swimming.servers",
+			"spring.data.gemfire.pool.other-property", "spring.data.gemfire.locators", "locators", "servers",
+			"spring.data.gemfire.cache.servers", "spring.data.gemfire.pool.", "spring.data.gemfire.poollocators",
+			"test.spring.data.gemfire.pool.locators.test", "JAVA_HOME", "spring.data.gemfire.pool.servers.port")
+			.forEach(propertyName -> assertThat(ConnectionEndpointPropertyIndex.isMatchingPropertyName(propertyName))
+				.describedAs("Property [%s]", propertyName)
+				.isEqualTo(propertyName != null && !propertyName.trim().isEmpty()
+					&& pattern.matcher(propertyName).find()));
+	}
+
+	@Test
+	public void indexContainsLocatorsAndServersPropertyNamesOfEachPropertySource() {
+
+		StandardEnvironment environment = new StandardEnvironment();
+
+		environment.getPropertySources().addFirst(new MapPropertySource("one",
+			Collections.singletonMap("spring.data.gemfire.pool.locators", "boombox[1234]")));
+
+		environment.getPropertySources().addFirst(new MapPropertySource("two",
+			Collections.singletonMap("spring.data.gemfire.pool.locators", "mailbox[9012]")));
+
+		environment.getPropertySources().addLast(new MapPropertySource("three",
+			Collections.singletonMap("spring.data.gemfire.pool.car.servers", "skullbox[40404]")));
+
+		ConnectionEndpointPropertyIndex index =
+			ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources());
+
+		assertThat(index.getPropertyNames())
+			.contains("spring.data.gemfire.pool.locators", "spring.data.gemfire.pool.car.servers");
+
+		assertThat(index.getPropertyNames().stream()
+			.filter("spring.data.gemfire.pool.locators"::equals)
+			.count()).isEqualTo(2L);
+	}
+
+	@Test
+	public void indexIsReusedUntilPropertySourcesChange() {
+
+		StandardEnvironment environment = new StandardEnvironment();
+
+		ConnectionEndpointPropertyIndex index =
+			ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources());
+
+		assertThat(ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources()))
+			.isSameAs(index);
+
+		environment.getPropertySources().addFirst(new MapPropertySource("test",
+			Collections.singletonMap("spring.data.gemfire.pool.servers", "mars[41414]")));
+
+		ConnectionEndpointPropertyIndex newIndex =
+			ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources());
+
+		assertThat(newIndex).isNotSameAs(index);
+		assertThat(newIndex.getPropertyNames()).contains("spring.data.gemfire.pool.servers");
+		assertThat(ConnectionEndpointPropertyIndex.from(new StandardEnvironment(),
+			new StandardEnvironment().getPropertySources())).isNotSameAs(newIndex);
+	}
+
+	@Test
+	public void indexIsRebuiltWhenPropertySourceIsReplaced() {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("spring.data.gemfire.pool.locators", "boombox[1234]");
+
+		StandardEnvironment environment = new StandardEnvironment();
+
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+		ConnectionEndpointPropertyIndex index =
+			ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources());
+
+		assertThat(index.getPropertyNames()).doesNotContain("spring.data.gemfire.pool.servers");
+
+		properties.put("spring.data.gemfire.pool.servers", "mars[41414]");
+
+		assertThat(ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources()))
+			.isSameAs(index);
+
+		environment.getPropertySources().replace("test", new MapPropertySource("test", properties));
+
+		ConnectionEndpointPropertyIndex newIndex =
+			ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources());
+
+		assertThat(newIndex).isNotSameAs(index);
+		assertThat(newIndex.getPropertyNames())
+			.contains("spring.data.gemfire.pool.locators", "spring.data.gemfire.pool.servers");
+		assertThat(ConnectionEndpointPropertyIndex.from(environment, environment.getPropertySources()))
+			.isSameAs(newIndex);
+	}
+}
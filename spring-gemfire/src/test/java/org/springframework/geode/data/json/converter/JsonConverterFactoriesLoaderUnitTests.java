@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.data.json.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.springframework.geode.data.json.converter.support.JSONFormatterPdxToJsonConverter;
+
+/**
+ * Unit Tests for {@link JsonConverterFactoriesLoader}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.data.json.converter.JsonConverterFactoriesLoader
+ * @since 2.0.0
+ */
+public class JsonConverterFactoriesLoaderUnitTests {
+
+	@Test
+	public void loadReturnsDefaultImplementationWhenNoneRegistered() {
+
+		ObjectToJsonConverter converter = new JSONFormatterPdxToJsonConverter();
+
+		assertThat(JsonConverterFactoriesLoader.load(ObjectToJsonConverter.class, () -> converter)).isSameAs(converter);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void loadWithNullTypeThrowsIllegalArgumentException() {
+
+		try {
+			JsonConverterFactoriesLoader.load(null, () -> null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Type must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void loadWithNullDefaultImplementationThrowsIllegalArgumentException() {
+
+		try {
+			JsonConverterFactoriesLoader.load(ObjectToJsonConverter.class, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Default implementation must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.data.json.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ObjectMapperProvider}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see org.springframework.geode.data.json.converter.ObjectMapperProvider
+ * @since 2.0.0
+ */
+public class ObjectMapperProviderUnitTests {
+
+	@Test
+	public void getInstanceReturnsDefaultObjectMapperProvider() {
+
+		ObjectMapperProvider objectMapperProvider = ObjectMapperProvider.getInstance();
+
+		assertThat(objectMapperProvider).isInstanceOf(ObjectMapperProvider.DefaultObjectMapperProvider.class);
+		assertThat(ObjectMapperProvider.getInstance()).isSameAs(objectMapperProvider);
+	}
+
+	@Test
+	public void getInstanceReturnsObjectMapperProviderLoadedOnce() {
+
+		assertThat(ObjectMapperProvider.getInstance())
+			.isSameAs(ObjectMapperProvider.ObjectMapperProviderHolder.INSTANCE);
+	}
+
+	@Test
+	public void defaultObjectMapperProviderReturnsSharedObjectMapper() {
+
+		ObjectMapper objectMapper = ObjectMapperProvider.getInstance().getObjectMapper();
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(ObjectMapperProvider.getInstance().getObjectMapper()).isSameAs(objectMapper);
+	}
+}
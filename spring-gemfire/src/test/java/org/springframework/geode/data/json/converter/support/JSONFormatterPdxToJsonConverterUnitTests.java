@@ -18,6 +18,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -90,7 +94,7 @@ public class JSONFormatterPdxToJsonConverterUnitTests {
 	}
 
 	@Test
-	public void convertPdxToJsonCallsDecorateAndJsonFormatterToJson() {
+	public void convertPdxToJsonCallsWritePdxAsJson() throws IOException {
 
 		String json = "{ \"name\": \"Jon Doe\" }";
 
@@ -98,16 +102,123 @@ public class JSONFormatterPdxToJsonConverterUnitTests {
 
 		JSONFormatterPdxToJsonConverter converter = spy(new JSONFormatterPdxToJsonConverter());
 
-		doReturn(json).when(converter).jsonFormatterToJson(eq(mockPdxInstance));
-		doReturn(json).when(converter).decorate(eq(mockPdxInstance), eq(json));
+		doReturn(json).when(converter).writePdxAsJson(eq(mockPdxInstance));
 
 		assertThat(converter.convertPdxToJson(mockPdxInstance)).isEqualTo(json);
 
-		verify(converter, times(1)).jsonFormatterToJson(eq(mockPdxInstance));
-		verify(converter, times(1)).decorate(eq(mockPdxInstance), eq(json));
+		verify(converter, times(1)).writePdxAsJson(eq(mockPdxInstance));
+		verify(converter, never()).convertPojoToJson(any());
 		verifyNoInteractions(mockPdxInstance);
 	}
 
+	@Test
+	public void convertPdxToJsonWritesPdxInSinglePass() throws IOException {
+
+		PdxInstance mockAddress = mock(PdxInstance.class);
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(Collections.singletonList("city")).when(mockAddress).getFieldNames();
+		doReturn("Portland").when(mockAddress).getField(eq("city"));
+		doReturn(Arrays.asList("id", "name", "active", "tags", "address", "notes")).when(mockPdxInstance).getFieldNames();
+		doReturn(1L).when(mockPdxInstance).getField(eq("id"));
+		doReturn("Jon Doe").when(mockPdxInstance).getField(eq("name"));
+		doReturn(true).when(mockPdxInstance).getField(eq("active"));
+		doReturn(Arrays.asList("a", "b")).when(mockPdxInstance).getField(eq("tags"));
+		doReturn(mockAddress).when(mockPdxInstance).getField(eq("address"));
+		doReturn(null).when(mockPdxInstance).getField(eq("notes"));
+		doReturn(false).when(mockPdxInstance).hasField(anyString());
+		doReturn(Customer.class.getName()).when(mockPdxInstance).getClassName();
+
+		String expectedJson = String.format("{\n  \"id\" : 1,\n  \"name\" : \"Jon Doe\",\n  \"active\" : true,"
+			+ "\n  \"tags\" : [ \"a\", \"b\" ],\n  \"address\" : {\n    \"city\" : \"Portland\"\n  },"
+			+ "\n  \"notes\" : null,\n  \"%s\" : \"%s\"\n}",
+				JSONFormatterPdxToJsonConverter.AT_TYPE_METADATA_PROPERTY_NAME, Customer.class.getName());
+
+		JSONFormatterPdxToJsonConverter converter = spy(new JSONFormatterPdxToJsonConverter());
+
+		assertThat(converter.convertPdxToJson(mockPdxInstance)).isEqualTo(expectedJson);
+
+		verify(converter, times(1)).writePdxAsJson(eq(mockPdxInstance));
+		verify(converter, never()).jsonFormatterToJson(any());
+		verify(converter, never()).decorate(any(), any());
+		verify(mockPdxInstance, times(1))
+			.hasField(eq(JSONFormatterPdxToJsonConverter.AT_TYPE_METADATA_PROPERTY_NAME));
+		verify(mockAddress, never()).hasField(anyString());
+		verify(mockAddress, never()).getClassName();
+	}
+
+	@Test
+	public void convertPdxToJsonDoesNotDuplicateTypeMetadata() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(Arrays.asList("name", JSONFormatterPdxToJsonConverter.AT_TYPE_METADATA_PROPERTY_NAME))
+			.when(mockPdxInstance).getFieldNames();
+		doReturn("Jon Doe").when(mockPdxInstance).getField(eq("name"));
+		doReturn(Customer.class.getName()).when(mockPdxInstance)
+			.getField(eq(JSONFormatterPdxToJsonConverter.AT_TYPE_METADATA_PROPERTY_NAME));
+		doReturn(true).when(mockPdxInstance)
+			.hasField(eq(JSONFormatterPdxToJsonConverter.AT_TYPE_METADATA_PROPERTY_NAME));
+
+		String expectedJson = String.format("{\n  \"name\" : \"Jon Doe\",\n  \"%s\" : \"%s\"\n}",
+			JSONFormatterPdxToJsonConverter.AT_TYPE_METADATA_PROPERTY_NAME, Customer.class.getName());
+
+		assertThat(new JSONFormatterPdxToJsonConverter().convertPdxToJson(mockPdxInstance)).isEqualTo(expectedJson);
+
+		verify(mockPdxInstance, never()).getClassName();
+	}
+
+	@Test
+	public void convertPdxToJsonFallsBackToPojoWhenWritingFails() throws IOException {
+
+		Customer jonDoe = Customer.newCustomer(1L, "Jon Doe");
+
+		String json = "{ \"name\": \"Jon Doe\" }";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(jonDoe.getClass().getName()).when(mockPdxInstance).getClassName();
+		doReturn(jonDoe).when(mockPdxInstance).getObject();
+
+		JSONFormatterPdxToJsonConverter converter = spy(new JSONFormatterPdxToJsonConverter());
+
+		doThrow(new JsonGenerationException("TEST", (JsonGenerator) null))
+			.when(converter).writePdxAsJson(eq(mockPdxInstance));
+		doReturn(json).when(converter).convertPojoToJson(eq(jonDoe));
+
+		assertThat(converter.convertPdxToJson(mockPdxInstance)).isEqualTo(json);
+
+		verify(converter, times(1)).writePdxAsJson(eq(mockPdxInstance));
+		verify(converter, times(1)).convertPojoToJson(eq(jonDoe));
+	}
+
+	@Test(expected = DataRetrievalFailureException.class)
+	public void convertPdxToJsonThrowsDataRetrievalFailureException() throws IOException {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(JSONFormatter.JSON_CLASSNAME).when(mockPdxInstance).getClassName();
+
+		JSONFormatterPdxToJsonConverter converter = spy(new JSONFormatterPdxToJsonConverter());
+
+		doThrow(new JsonGenerationException("TEST", (JsonGenerator) null))
+			.when(converter).writePdxAsJson(eq(mockPdxInstance));
+
+		try {
+			converter.convertPdxToJson(mockPdxInstance);
+		}
+		catch (DataRetrievalFailureException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Failed to write PDX [%s] as JSON", JSONFormatter.JSON_CLASSNAME);
+			assertThat(expected).hasCauseInstanceOf(JsonGenerationException.class);
+
+			throw expected;
+		}
+		finally {
+			verify(converter, never()).convertPojoToJson(any());
+		}
+	}
+
 	@Test
 	public void decoratePdxInstance() {
 
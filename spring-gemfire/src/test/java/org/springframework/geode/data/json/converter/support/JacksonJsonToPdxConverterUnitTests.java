@@ -5,6 +5,7 @@
 package org.springframework.geode.data.json.converter.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -14,8 +15,11 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Optional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.io.JsonEOFException;
@@ -26,11 +30,17 @@ import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.junit.Test;
+import org.mockito.Answers;
 
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.geode.data.json.converter.JsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter.TypeInference;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
 
 /**
  * Unit Tests for {@link JacksonJsonToPdxConverter}.
@@ -185,4 +195,204 @@ public class JacksonJsonToPdxConverterUnitTests {
 			throw expected;
 		}
 	}
+
+	private PdxInstanceFactory mockPdxInstanceFactory(RegionService mockRegionService, PdxInstance pdxInstance) {
+
+		PdxInstanceFactory mockPdxInstanceFactory =
+			mock(PdxInstanceFactory.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
+
+		doReturn(mockPdxInstanceFactory).when(mockRegionService)
+			.createPdxInstanceFactory(eq(JSONFormatter.JSON_CLASSNAME));
+		doReturn(pdxInstance).when(mockPdxInstanceFactory).create();
+
+		return mockPdxInstanceFactory;
+	}
+
+	@Test
+	public void convertJsonArrayToPdxInSinglePass() {
+
+		String json = "[{ \"id\": 1, \"name\": \"Jon Doe\", \"active\": true, \"count\": 100000, \"ratio\": 1.5 },"
+			+ " { \"id\": 300, \"name\": \"Jane Doe\" }]";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		PdxInstanceFactory mockPdxInstanceFactory = mockPdxInstanceFactory(mockRegionService, mockPdxInstance);
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(Optional.of(mockRegionService)).when(converter).resolveRegionService();
+
+		PdxInstance[] pdx = converter.convert(json);
+
+		assertThat(pdx).hasSize(2);
+		assertThat(pdx).allSatisfy(pdxInstance -> {
+			assertThat(pdxInstance).isInstanceOf(PdxInstanceWrapper.class);
+			assertThat(((PdxInstanceWrapper) pdxInstance).getDelegate()).isSameAs(mockPdxInstance);
+		});
+
+		verify(converter, times(1)).isSinglePassConversionEnabled();
+		verify(converter, never()).convertJsonNodeToPdx(any());
+		verify(mockRegionService, times(2)).createPdxInstanceFactory(eq(JSONFormatter.JSON_CLASSNAME));
+		verify(mockPdxInstanceFactory, times(2)).neverDeserialize();
+		verify(mockPdxInstanceFactory, times(1)).writeByte(eq("id"), eq((byte) 1));
+		verify(mockPdxInstanceFactory, times(1)).writeShort(eq("id"), eq((short) 300));
+		verify(mockPdxInstanceFactory, times(1)).writeString(eq("name"), eq("Jon Doe"));
+		verify(mockPdxInstanceFactory, times(1)).writeString(eq("name"), eq("Jane Doe"));
+		verify(mockPdxInstanceFactory, times(1)).writeBoolean(eq("active"), eq(true));
+		verify(mockPdxInstanceFactory, times(1)).writeInt(eq("count"), eq(100000));
+		verify(mockPdxInstanceFactory, times(1)).writeDouble(eq("ratio"), eq(1.5d));
+		verify(mockPdxInstanceFactory, times(2)).create();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void convertJsonArrayToPdxWithWidestTypeInference() {
+
+		String json = "[{ \"id\": 1, \"ratio\": 1.5 }, { \"id\": 300 }]";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		PdxInstanceFactory mockPdxInstanceFactory = mockPdxInstanceFactory(mockRegionService, mockPdxInstance);
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter()
+			.withTypeInference(TypeInference.WIDEST));
+
+		doReturn(Optional.of(mockRegionService)).when(converter).resolveRegionService();
+
+		assertThat(converter.convert(json.getBytes())).hasSize(2);
+
+		verify(mockPdxInstanceFactory, times(1)).writeLong(eq("id"), eq(1L));
+		verify(mockPdxInstanceFactory, times(1)).writeLong(eq("id"), eq(300L));
+		verify(mockPdxInstanceFactory, times(1)).writeDouble(eq("ratio"), eq(1.5d));
+		verify(mockPdxInstanceFactory, never()).writeByte(any(), any(Byte.class));
+		verify(mockPdxInstanceFactory, never()).writeShort(any(), any(Short.class));
+	}
+
+	@Test
+	public void convertJsonObjectWithNestedObjectsAndArraysToPdxInSinglePass() {
+
+		String json = "{ \"name\": \"Jon Doe\", \"tags\": [\"a\", 1], \"address\": { \"city\": \"Portland\" },"
+			+ " \"notes\": null }";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		PdxInstanceFactory mockPdxInstanceFactory = mockPdxInstanceFactory(mockRegionService, mockPdxInstance);
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(Optional.of(mockRegionService)).when(converter).resolveRegionService();
+
+		assertThat(converter.convert(json)).hasSize(1);
+
+		verify(mockRegionService, times(2)).createPdxInstanceFactory(eq(JSONFormatter.JSON_CLASSNAME));
+		verify(mockPdxInstanceFactory, times(1)).writeString(eq("name"), eq("Jon Doe"));
+		verify(mockPdxInstanceFactory, times(1)).writeObject(eq("tags"), eq(Arrays.asList("a", (byte) 1)));
+		verify(mockPdxInstanceFactory, times(1)).writeString(eq("city"), eq("Portland"));
+		verify(mockPdxInstanceFactory, times(1)).writeObject(eq("address"), eq(mockPdxInstance));
+		verify(mockPdxInstanceFactory, times(1)).writeObject(eq("notes"), eq(null));
+	}
+
+	@Test
+	public void convertJsonArrayContainingNonObjectElementFallsBackToJsonToPdxConverter() {
+
+		String json = "[{ \"name\": \"Jon Doe\" }, \"test\"]";
+
+		PdxInstance[] pdx = { mock(PdxInstance.class), mock(PdxInstance.class) };
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		mockPdxInstanceFactory(mockRegionService, mock(PdxInstance.class));
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(Optional.of(mockRegionService)).when(converter).resolveRegionService();
+		doReturn(true).when(converter).isSinglePassConversionEnabled();
+		doReturn(pdx).when(converter).convertJsonNodeToPdx(eq(json));
+
+		assertThat(converter.convert(json)).isSameAs(pdx);
+
+		verify(converter, times(1)).readPdx(any(JacksonJsonToPdxConverter.JsonParserSupplier.class),
+			eq(mockRegionService));
+		verify(converter, times(1)).convertJsonNodeToPdx(eq(json));
+	}
+
+	@Test
+	public void convertWithCustomJsonToPdxConverterDoesNotReadJsonInSinglePass() {
+
+		String json = "{ \"name\": \"Jon Doe\" }";
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		JsonToPdxConverter mockJsonToPdxConverter = mock(JsonToPdxConverter.class);
+
+		doReturn(mockPdxInstance).when(mockJsonToPdxConverter).convert(any(String.class));
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(Optional.of(mockRegionService)).when(converter).resolveRegionService();
+		doReturn(mockJsonToPdxConverter).when(converter).getJsonToPdxConverter();
+
+		assertThat(converter.isSinglePassConversionEnabled()).isFalse();
+		assertThat(converter.convert(json)).containsExactly(mockPdxInstance);
+
+		verify(converter, never()).readPdx(any(JacksonJsonToPdxConverter.JsonParserSupplier.class), any());
+		verify(mockJsonToPdxConverter, times(1)).convert(any(String.class));
+		verifyNoInteractions(mockRegionService);
+	}
+
+	@Test
+	public void isSinglePassConversionEnabledWithDefaultJsonToPdxConverter() {
+		assertThat(new JacksonJsonToPdxConverter().isSinglePassConversionEnabled()).isTrue();
+	}
+
+	@Test
+	public void resolveRegionServiceWithoutCacheIsEmpty() {
+		assertThat(new JacksonJsonToPdxConverter().resolveRegionService()).isNotPresent();
+	}
+
+	@Test
+	public void convertBytesDecodesJsonAsUtf8() {
+
+		String json = "{ \"name\": \"J\u00f6rg M\u00fcller\" }";
+
+		PdxInstance[] pdx = { mock(PdxInstance.class) };
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(Optional.empty()).when(converter).resolveRegionService();
+		doReturn(pdx).when(converter).convertJsonNodeToPdx(eq(json));
+
+		assertThat(converter.convert(json.getBytes(StandardCharsets.UTF_8))).isSameAs(pdx);
+
+		verify(converter, times(1)).convertJsonNodeToPdx(eq(json));
+	}
+
+	@Test(expected = DataRetrievalFailureException.class)
+	public void convertInvalidJsonInSinglePassThrowsDataRetrievalFailureException() {
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(Optional.of(mockRegionService)).when(converter).resolveRegionService();
+
+		try {
+			converter.convert("[{ \"name\": ");
+		}
+		catch (DataRetrievalFailureException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Failed to read JSON content");
+			assertThat(expected).hasCauseInstanceOf(JsonProcessingException.class);
+
+			throw expected;
+		}
+	}
 }
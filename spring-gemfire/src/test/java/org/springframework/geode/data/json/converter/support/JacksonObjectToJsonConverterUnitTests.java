@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.Test;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.geode.data.json.converter.ObjectMapperProvider;
 
 import example.app.crm.model.Customer;
 
@@ -160,4 +161,62 @@ public class JacksonObjectToJsonConverterUnitTests {
 		verify(mockObjectMapper, times(1)).findAndRegisterModules();
 		verifyNoMoreInteractions(mockObjectMapper);
 	}
+
+	@Test
+	public void resolveObjectMapperCachesObjectMapperPerType() throws JsonProcessingException {
+
+		Customer jonDoe = Customer.newCustomer(1L, "Jon Doe");
+		Customer janeDoe = Customer.newCustomer(2L, "Jane Doe");
+
+		ObjectMapper mockObjectMapper = mock(ObjectMapper.class);
+
+		JacksonObjectToJsonConverter converter = spy(new JacksonObjectToJsonConverter());
+
+		doReturn(mockObjectMapper).when(converter).newObjectMapper(any());
+		doReturn("{}").when(mockObjectMapper).writeValueAsString(any());
+
+		assertThat(converter.convert(jonDoe)).isEqualTo("{}");
+		assertThat(converter.convert(janeDoe)).isEqualTo("{}");
+		assertThat(converter.resolveObjectMapper(jonDoe)).isSameAs(mockObjectMapper);
+
+		verify(converter, times(1)).newObjectMapper(eq(jonDoe));
+		verify(converter, never()).newObjectMapper(eq(janeDoe));
+		verify(mockObjectMapper, times(1)).writeValueAsString(eq(jonDoe));
+		verify(mockObjectMapper, times(1)).writeValueAsString(eq(janeDoe));
+	}
+
+	@Test
+	public void resolveObjectMapperDoesNotCacheMoreThanMaxCachedObjectMappers() {
+
+		Customer jonDoe = Customer.newCustomer(1L, "Jon Doe");
+
+		ObjectMapper mockCustomerObjectMapper = mock(ObjectMapper.class);
+		ObjectMapper mockStringObjectMapperOne = mock(ObjectMapper.class);
+		ObjectMapper mockStringObjectMapperTwo = mock(ObjectMapper.class);
+
+		JacksonObjectToJsonConverter converter = spy(new JacksonObjectToJsonConverter());
+
+		doReturn(1).when(converter).getMaxCachedObjectMappers();
+		doReturn(mockCustomerObjectMapper).when(converter).newObjectMapper(eq(jonDoe));
+		doReturn(mockStringObjectMapperOne).doReturn(mockStringObjectMapperTwo).when(converter).newObjectMapper(eq("test"));
+
+		assertThat(converter.resolveObjectMapper(jonDoe)).isSameAs(mockCustomerObjectMapper);
+		assertThat(converter.resolveObjectMapper("test")).isSameAs(mockStringObjectMapperOne);
+		assertThat(converter.resolveObjectMapper("test")).isSameAs(mockStringObjectMapperTwo);
+		assertThat(converter.resolveObjectMapper(jonDoe)).isSameAs(mockCustomerObjectMapper);
+
+		verify(converter, times(1)).newObjectMapper(eq(jonDoe));
+		verify(converter, times(2)).newObjectMapper(eq("test"));
+	}
+
+	@Test
+	public void newObjectMapperCopiesSharedObjectMapper() {
+
+		ObjectMapper sharedObjectMapper = ObjectMapperProvider.getInstance().getObjectMapper();
+
+		ObjectMapper objectMapper = new JacksonObjectToJsonConverter().newObjectMapper();
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(objectMapper).isNotSameAs(sharedObjectMapper);
+	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+
+/**
+ * Unit Tests for {@link AsyncFunctionExecutionBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.function.config.AsyncFunctionExecutionBeanPostProcessor
+ * @since 2.0.0
+ */
+public class AsyncFunctionExecutionBeanPostProcessorUnitTests {
+
+	private final AsyncFunctionExecutionBeanPostProcessor beanPostProcessor =
+		new AsyncFunctionExecutionBeanPostProcessor();
+
+	private final AtomicReference<Thread> functionExecutionThread = new AtomicReference<>();
+
+	@After
+	public void tearDown() {
+		this.beanPostProcessor.destroy();
+	}
+
+	private <T> T newFunctionExecutionProxy(Class<T> functionExecutionInterface, Object result) {
+
+		MethodInterceptor functionExecutionInterceptor = invocation -> {
+
+			this.functionExecutionThread.set(Thread.currentThread());
+
+			if (result instanceof RuntimeException) {
+				throw (RuntimeException) result;
+			}
+
+			return result;
+		};
+
+		ProxyFactory proxyFactory = new ProxyFactory(functionExecutionInterface, functionExecutionInterceptor);
+
+		return functionExecutionInterface.cast(proxyFactory.getProxy());
+	}
+
+	@Test
+	public void asyncMethodReturnsCompletableFutureCompletedWithFunctionResult() throws Exception {
+
+		AsyncFunctions functions = newFunctionExecutionProxy(AsyncFunctions.class, "test");
+
+		Object bean = this.beanPostProcessor.postProcessAfterInitialization(functions, "asyncFunctions");
+
+		assertThat(bean).isSameAs(functions);
+
+		CompletableFuture<Object> future = functions.asyncFunction();
+
+		assertThat(future).isNotNull();
+		assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("test");
+		assertThat(this.functionExecutionThread.get()).isNotSameAs(Thread.currentThread());
+		assertThat(this.functionExecutionThread.get().getName())
+			.startsWith(AsyncFunctionExecutionBeanPostProcessor.THREAD_NAME_PREFIX);
+	}
+
+	@Test
+	public void asyncMethodReturnsCompletableFutureCompletedExceptionallyWhenFunctionFails() {
+
+		AsyncFunctions functions = newFunctionExecutionProxy(AsyncFunctions.class, new IllegalStateException("TEST"));
+
+		this.beanPostProcessor.postProcessAfterInitialization(functions, "asyncFunctions");
+
+		assertThatExceptionOfType(ExecutionException.class)
+			.isThrownBy(() -> functions.asyncFunction().get(5, TimeUnit.SECONDS))
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void synchronousMethodIsExecutedOnCallingThread() {
+
+		AsyncFunctions functions = newFunctionExecutionProxy(AsyncFunctions.class, "test");
+
+		this.beanPostProcessor.postProcessAfterInitialization(functions, "asyncFunctions");
+
+		assertThat(functions.syncFunction()).isEqualTo("test");
+		assertThat(this.functionExecutionThread.get()).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	public void isFunctionExecutionProxyWithAsyncFunctionExecutionProxyReturnsTrue() {
+
+		assertThat(this.beanPostProcessor.isFunctionExecutionProxy(
+			newFunctionExecutionProxy(AsyncFunctions.class, "test"))).isTrue();
+	}
+
+	@Test
+	public void isFunctionExecutionProxyWithSynchronousFunctionExecutionProxyReturnsFalse() {
+
+		assertThat(this.beanPostProcessor.isFunctionExecutionProxy(
+			newFunctionExecutionProxy(SyncFunctions.class, "test"))).isFalse();
+	}
+
+	@Test
+	public void isFunctionExecutionProxyWithNonFunctionExecutionProxyReturnsFalse() {
+
+		assertThat(this.beanPostProcessor.isFunctionExecutionProxy(
+			newFunctionExecutionProxy(NonFunctions.class, "test"))).isFalse();
+
+		assertThat(this.beanPostProcessor.isFunctionExecutionProxy("test")).isFalse();
+		assertThat(this.beanPostProcessor.isFunctionExecutionProxy(null)).isFalse();
+	}
+
+	@OnRegion(region = "Example")
+	interface AsyncFunctions {
+
+		CompletableFuture<Object> asyncFunction();
+
+		Object syncFunction();
+
+	}
+
+	@OnRegion(region = "Example")
+	interface SyncFunctions {
+
+		Object syncFunction();
+
+	}
+
+	interface NonFunctions {
+
+		CompletableFuture<Object> asyncFunction();
+
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+import org.springframework.geode.function.annotation.Batched;
+
+/**
+ * Unit Tests for {@link BatchingFunctionExecutionBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.function.annotation.Batched
+ * @see org.springframework.geode.function.config.BatchingFunctionExecutionBeanPostProcessor
+ * @since 2.0.0
+ */
+public class BatchingFunctionExecutionBeanPostProcessorUnitTests {
+
+	private final BatchingFunctionExecutionBeanPostProcessor beanPostProcessor =
+		new BatchingFunctionExecutionBeanPostProcessor();
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+	private final List<Set<?>> filters = new CopyOnWriteArrayList<>();
+
+	@After
+	public void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T newFunctionExecutionProxy(Class<T> functionExecutionInterface, boolean fail) {
+
+		MethodInterceptor functionExecutionInterceptor = invocation -> {
+
+			Set<Object> filter = (Set<Object>) invocation.getArguments()[0];
+
+			this.filters.add(filter);
+
+			if (fail) {
+				throw new FunctionException("TEST");
+			}
+
+			// Simulate one Map result per member
+			return Collections.singletonList(filter.stream()
+				.collect(Collectors.toMap(Function.identity(), key -> key + "!")));
+		};
+
+		T proxy = functionExecutionInterface.cast(
+			new ProxyFactory(functionExecutionInterface, functionExecutionInterceptor).getProxy());
+
+		return functionExecutionInterface.cast(this.beanPostProcessor.postProcessAfterInitialization(proxy, "proxy"));
+	}
+
+	private static Set<Object> setOf(Object... keys) {
+		return new HashSet<>(Arrays.asList(keys));
+	}
+
+	@Test
+	public void concurrentInvocationsAreMergedIntoSingleFunctionExecution() throws Exception {
+
+		Lookups lookups = newFunctionExecutionProxy(Lookups.class, false);
+
+		List<Future<Map<Object, Object>>> results = new ArrayList<>();
+
+		results.add(this.executorService.submit(() -> lookups.lookup(setOf(1, 2), "region")));
+		results.add(this.executorService.submit(() -> lookups.lookup(setOf(3), "region")));
+		results.add(this.executorService.submit(() -> lookups.lookup(setOf(4), "region")));
+
+		assertThat(results.get(0).get(10, TimeUnit.SECONDS)).containsOnlyKeys(1, 2).containsEntry(1, "1!");
+		assertThat(results.get(1).get(10, TimeUnit.SECONDS)).containsOnlyKeys(3).containsEntry(3, "3!");
+		assertThat(results.get(2).get(10, TimeUnit.SECONDS)).containsOnlyKeys(4).containsEntry(4, "4!");
+
+		assertThat(this.filters).hasSize(1);
+		assertThat(this.filters.get(0)).containsExactlyInAnyOrder(1, 2, 3, 4);
+	}
+
+	@Test
+	public void invocationsWithDifferentArgumentsAreNotMerged() throws Exception {
+
+		Lookups lookups = newFunctionExecutionProxy(Lookups.class, false);
+
+		Future<Map<Object, Object>> one = this.executorService.submit(() -> lookups.shortLookup(setOf(1), "one"));
+		Future<Map<Object, Object>> two = this.executorService.submit(() -> lookups.shortLookup(setOf(2), "two"));
+
+		assertThat(one.get(10, TimeUnit.SECONDS)).containsOnlyKeys(1);
+		assertThat(two.get(10, TimeUnit.SECONDS)).containsOnlyKeys(2);
+		assertThat(this.filters).hasSize(2);
+	}
+
+	@Test
+	public void nonBatchedMethodIsNotMerged() {
+
+		Lookups lookups = newFunctionExecutionProxy(Lookups.class, false);
+
+		assertThat(lookups.unbatchedLookup(setOf(1, 2), "region")).isNotNull();
+		assertThat(this.filters).hasSize(1);
+	}
+
+	@Test
+	public void functionExecutionFailureIsRethrownToCaller() {
+
+		Lookups lookups = newFunctionExecutionProxy(Lookups.class, true);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> lookups.shortLookup(setOf(1), "region"))
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void invalidBatchedMethodThrowsIllegalStateException() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> newFunctionExecutionProxy(InvalidLookups.class, false))
+			.withMessageContaining("must return a Map and declare a Set parameter annotated with @Filter");
+	}
+
+	@OnRegion(region = "Example")
+	interface Lookups {
+
+		@Batched(window = 10000L, maxBatchSize = 4)
+		Map<Object, Object> lookup(@Filter Set<Object> keys, String context);
+
+		@Batched(window = 1L)
+		Map<Object, Object> shortLookup(@Filter Set<Object> keys, String context);
+
+		Object unbatchedLookup(@Filter Set<Object> keys, String context);
+
+	}
+
+	@OnRegion(region = "Example")
+	interface InvalidLookups {
+
+		@Batched
+		Object lookup(@Filter Set<Object> keys);
+
+	}
+}
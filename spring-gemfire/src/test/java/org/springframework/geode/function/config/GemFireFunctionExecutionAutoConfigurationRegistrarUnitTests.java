@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.ASYNC_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.BATCHING_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.COUNTING_RESULT_COLLECTOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.MAXIMUM_RESULT_COLLECTOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.MERGE_SORTING_RESULT_COLLECTOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.MINIMUM_RESULT_COLLECTOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.RESULT_COLLECTOR_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME;
+import static org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar.SUMMING_RESULT_COLLECTOR_BEAN_NAME;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.geode.function.support.MergeSortingResultCollector;
+import org.springframework.geode.function.support.PerExecutionResultCollector;
+
+/**
+ * Unit Tests for {@link GemFireFunctionExecutionAutoConfigurationRegistrar}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.beans.factory.support.DefaultListableBeanFactory
+ * @see org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar
+ * @since 2.0.0
+ */
+public class GemFireFunctionExecutionAutoConfigurationRegistrarUnitTests {
+
+	private GemFireFunctionExecutionAutoConfigurationRegistrar newRegistrar(String... resultCollectorBeanNames) {
+
+		GemFireFunctionExecutionAutoConfigurationRegistrar registrar =
+			spy(new GemFireFunctionExecutionAutoConfigurationRegistrar());
+
+		doReturn(new HashSet<>(Arrays.asList(resultCollectorBeanNames)))
+			.when(registrar).resolveResultCollectorBeanNames();
+
+		return registrar;
+	}
+
+	@Test
+	public void registersReferencedResultCollectors() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		newRegistrar(COUNTING_RESULT_COLLECTOR_BEAN_NAME, MAXIMUM_RESULT_COLLECTOR_BEAN_NAME,
+			MERGE_SORTING_RESULT_COLLECTOR_BEAN_NAME, MINIMUM_RESULT_COLLECTOR_BEAN_NAME,
+			SUMMING_RESULT_COLLECTOR_BEAN_NAME, "userDefinedResultCollector").registerResultCollectors(beanFactory);
+
+		assertThat(beanFactory.getBean(COUNTING_RESULT_COLLECTOR_BEAN_NAME))
+			.isInstanceOf(PerExecutionResultCollector.class)
+			.isSameAs(beanFactory.getBean(COUNTING_RESULT_COLLECTOR_BEAN_NAME));
+
+		assertThat(beanFactory.getBean(MAXIMUM_RESULT_COLLECTOR_BEAN_NAME))
+			.isInstanceOf(PerExecutionResultCollector.class);
+
+		assertThat(beanFactory.getBean(MERGE_SORTING_RESULT_COLLECTOR_BEAN_NAME))
+			.isInstanceOf(PerExecutionResultCollector.class);
+
+		assertThat(beanFactory.getBean(MINIMUM_RESULT_COLLECTOR_BEAN_NAME))
+			.isInstanceOf(PerExecutionResultCollector.class);
+
+		assertThat(beanFactory.getBean(SUMMING_RESULT_COLLECTOR_BEAN_NAME))
+			.isInstanceOf(PerExecutionResultCollector.class);
+
+		assertThat(beanFactory.containsBeanDefinition("userDefinedResultCollector")).isFalse();
+
+		assertThat(beanFactory.getBean(RESULT_COLLECTOR_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME,
+				ResultCollectorFunctionExecutionBeanPostProcessor.class).getResultCollectorBeanNames())
+			.containsExactly(COUNTING_RESULT_COLLECTOR_BEAN_NAME, MAXIMUM_RESULT_COLLECTOR_BEAN_NAME,
+				MERGE_SORTING_RESULT_COLLECTOR_BEAN_NAME, MINIMUM_RESULT_COLLECTOR_BEAN_NAME,
+				SUMMING_RESULT_COLLECTOR_BEAN_NAME);
+	}
+
+	@Test
+	public void doesNotRegisterUnreferencedResultCollectors() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		newRegistrar().registerResultCollectors(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinitionNames()).isEmpty();
+	}
+
+	@Test
+	public void doesNotOverrideUserDefinedResultCollectors() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		RootBeanDefinition userDefinedBeanDefinition = new RootBeanDefinition(MergeSortingResultCollector.class);
+
+		beanFactory.registerBeanDefinition(COUNTING_RESULT_COLLECTOR_BEAN_NAME, userDefinedBeanDefinition);
+
+		newRegistrar(COUNTING_RESULT_COLLECTOR_BEAN_NAME).registerResultCollectors(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinition(COUNTING_RESULT_COLLECTOR_BEAN_NAME))
+			.isSameAs(userDefinedBeanDefinition);
+
+		assertThat(beanFactory.containsBeanDefinition(RESULT_COLLECTOR_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME))
+			.isFalse();
+	}
+
+	@Test
+	public void registersAsyncFunctionExecutionBeanPostProcessor() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		new GemFireFunctionExecutionAutoConfigurationRegistrar()
+			.registerAsyncFunctionExecutionBeanPostProcessor(beanFactory);
+
+		assertThat(beanFactory.getBean(ASYNC_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME))
+			.isInstanceOf(AsyncFunctionExecutionBeanPostProcessor.class);
+	}
+
+	@Test
+	public void registersBatchingFunctionExecutionBeanPostProcessor() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		new GemFireFunctionExecutionAutoConfigurationRegistrar()
+			.registerBatchingFunctionExecutionBeanPostProcessor(beanFactory);
+
+		assertThat(beanFactory.getBean(BATCHING_FUNCTION_EXECUTION_BEAN_POST_PROCESSOR_BEAN_NAME))
+			.isInstanceOf(BatchingFunctionExecutionBeanPostProcessor.class);
+	}
+}
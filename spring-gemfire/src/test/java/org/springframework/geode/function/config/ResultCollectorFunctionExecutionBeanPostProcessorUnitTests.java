@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.geode.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+import org.springframework.geode.function.support.PerExecutionResultCollector;
+import org.springframework.geode.function.support.ReducingResultCollector;
+
+/**
+ * Unit Tests for {@link ResultCollectorFunctionExecutionBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.function.config.ResultCollectorFunctionExecutionBeanPostProcessor
+ * @since 2.0.0
+ */
+public class ResultCollectorFunctionExecutionBeanPostProcessorUnitTests {
+
+	private static final DistributedMember MOCK_DISTRIBUTED_MEMBER = mock(DistributedMember.class);
+
+	private static final ResultCollectorFunctionExecutionBeanPostProcessor BEAN_POST_PROCESSOR =
+		new ResultCollectorFunctionExecutionBeanPostProcessor(Collections.singleton("countingResultCollector"));
+
+	private static final PerExecutionResultCollector<Object, Long> RESULT_COLLECTOR =
+		new PerExecutionResultCollector<>(ReducingResultCollector::counting);
+
+	static {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("countingResultCollector", RESULT_COLLECTOR);
+
+		BEAN_POST_PROCESSOR.setBeanFactory(beanFactory);
+	}
+
+	/**
+	 * Simulates the SDG Function execution proxy, which uses the same {@link ResultCollector} for every execution.
+	 */
+	private static Counters newFunctionExecutionProxy(MethodInterceptor functionExecutionInterceptor) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(Counters.class, functionExecutionInterceptor);
+
+		return (Counters) BEAN_POST_PROCESSOR.postProcessAfterInitialization(proxyFactory.getProxy(), "counters");
+	}
+
+	private static Long execute(ResultCollector<Object, Long> resultCollector, int numberOfResults) {
+
+		addResults(resultCollector, numberOfResults);
+		resultCollector.endResults();
+
+		return resultCollector.getResult();
+	}
+
+	private static void addResults(ResultCollector<Object, Long> resultCollector, int numberOfResults) {
+
+		for (int count = 0; count < numberOfResults; count++) {
+			resultCollector.addResult(MOCK_DISTRIBUTED_MEMBER, count);
+		}
+	}
+
+	@Test
+	public void isApplicableToFunctionExecutionInterfaceReferencingResultCollector() {
+
+		assertThat(BEAN_POST_PROCESSOR.isApplicable(Counters.class)).isTrue();
+		assertThat(BEAN_POST_PROCESSOR.isApplicable(UserDefinedCounters.class)).isFalse();
+	}
+
+	@Test
+	public void advisesFunctionExecutionProxyInFrontOfFunctionExecutionAdvice() {
+
+		Counters counters = newFunctionExecutionProxy(invocation -> 0L);
+
+		assertThat(((Advised) counters).getAdvisors()).hasSize(2);
+		assertThat(((Advised) counters).getAdvisors()[0].getAdvice())
+			.isInstanceOf(ResultCollectorFunctionExecutionBeanPostProcessor.ResultCollectorBindingInterceptor.class);
+	}
+
+	@Test
+	public void resolvesReferencedResultCollectorBean() {
+
+		assertThat(BEAN_POST_PROCESSOR.resolveResultCollector(Counters.class)).containsSame(RESULT_COLLECTOR);
+		assertThat(BEAN_POST_PROCESSOR.resolveResultCollector(UserDefinedCounters.class)).isEmpty();
+	}
+
+	@Test
+	public void sequentialFunctionExecutionsDoNotShareResults() {
+
+		Counters counters = newFunctionExecutionProxy(invocation ->
+			execute(RESULT_COLLECTOR, (Integer) invocation.getArguments()[0]));
+
+		assertThat(counters.count(3)).isEqualTo(3L);
+		assertThat(counters.count(2)).isEqualTo(2L);
+	}
+
+	@Test
+	public void resultsAddedOutsideTheExecutingThreadAreCollectedByTheExecution() {
+
+		Counters counters = newFunctionExecutionProxy(invocation -> {
+
+			Thread resultThread = new Thread(() -> addResults(RESULT_COLLECTOR, 4));
+
+			resultThread.start();
+			resultThread.join();
+
+			RESULT_COLLECTOR.endResults();
+
+			return RESULT_COLLECTOR.getResult();
+		});
+
+		assertThat(counters.count(4)).isEqualTo(4L);
+	}
+
+	@Test
+	public void concurrentFunctionExecutionsDoNotShareResults() throws Throwable {
+		TestFramework.runOnce(new ConcurrentFunctionExecutionsMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	static class ConcurrentFunctionExecutionsMultithreadedTestCase extends MultithreadedTestCase {
+
+		private Counters counters;
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			this.counters = newFunctionExecutionProxy(invocation -> {
+
+				addResults(RESULT_COLLECTOR, 1);
+
+				// Hold the first Function execution open until the second Function execution has completed;
+				// the second Function execution must run while the first Function execution is in progress
+				if (Thread.currentThread().getName().equals("Function Execution One")) {
+					waitForTick(2);
+				}
+				else {
+					assertTick(1);
+				}
+
+				return execute(RESULT_COLLECTOR, (Integer) invocation.getArguments()[0] - 1);
+			});
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Function Execution One");
+
+			assertThat(this.counters.count(3)).isEqualTo(3L);
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Function Execution Two");
+
+			waitForTick(1);
+
+			assertThat(this.counters.count(5)).isEqualTo(5L);
+		}
+	}
+
+	@OnRegion(region = "Example", resultCollector = "countingResultCollector")
+	interface Counters {
+		Long count(int numberOfResults);
+	}
+
+	@OnRegion(region = "Example", resultCollector = "userDefinedResultCollector")
+	interface UserDefinedCounters {
+		Long count(int numberOfResults);
+	}
+}
@@ -81,6 +81,58 @@ public class AbstractResultCollectorUnitTests {
 		TestFramework.runOnce(new ReturnsResultWithinTimeoutMultithreadedTestCase());
 	}
 
+	@Test
+	public void getResultWithTimeoutReturnsAvailableResultImmediately() throws InterruptedException {
+
+		this.resultCollector.setResult("test");
+
+		long startTimestamp = System.nanoTime();
+
+		assertThat(this.resultCollector.getResult(5, TimeUnit.SECONDS)).isEqualTo("test");
+		assertThat(System.nanoTime() - startTimestamp).isLessThan(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	public void getResultWithTimeoutReturnsNullAfterTimeout() throws InterruptedException {
+		assertThat(this.resultCollector.getResult(10, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	public void getResultWithTimeoutReturnsWhenResultsEnd() throws Throwable {
+		TestFramework.runOnce(new ReturnsWhenResultsEndMultithreadedTestCase());
+	}
+
+	@Test
+	public void clearResultsResetsResultSignal() {
+
+		this.resultCollector.setResult("test");
+
+		assertThat(this.resultCollector.getResultSignal()).isDone();
+
+		this.resultCollector.clearResults();
+
+		assertThat(this.resultCollector.getResult()).isNull();
+		assertThat(this.resultCollector.getResultSignal()).isNotDone();
+	}
+
+	@Test
+	public void endResultsSignalsResult() {
+
+		assertThat(this.resultCollector.getResultSignal()).isNotDone();
+
+		this.resultCollector.endResults();
+
+		assertThat(this.resultCollector.getResultSignal()).isDone();
+	}
+
+	@Test
+	public void setResultWithNullDoesNotSignalResult() {
+
+		this.resultCollector.setResult(null);
+
+		assertThat(this.resultCollector.getResultSignal()).isNotDone();
+	}
+
 	@Test
 	public void resultsHaveEnded() {
 
@@ -138,4 +190,36 @@ public class AbstractResultCollectorUnitTests {
 			assertThat(endTimestamp - this.startTimestamp).isLessThan(TimeUnit.SECONDS.toMillis(2));
 		}
 	}
+
+	@SuppressWarnings("unused")
+	static class ReturnsWhenResultsEndMultithreadedTestCase extends MultithreadedTestCase {
+
+		private AbstractResultCollector<Object, Object> resultCollector;
+
+		@Override
+		public void initialize() {
+			super.initialize();
+			this.resultCollector = newResultCollector();
+		}
+
+		public void thread1() throws InterruptedException {
+
+			Thread.currentThread().setName("ResultCollector.getResult(..)");
+
+			long startTimestamp = System.nanoTime();
+
+			assertThat(this.resultCollector.getResult(30, TimeUnit.SECONDS)).isNull();
+			assertThat(System.nanoTime() - startTimestamp).isLessThan(TimeUnit.SECONDS.toNanos(10));
+			assertTick(1);
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("ResultCollector.endResults()");
+
+			waitForTick(1);
+
+			this.resultCollector.endResults();
+		}
+	}
 }
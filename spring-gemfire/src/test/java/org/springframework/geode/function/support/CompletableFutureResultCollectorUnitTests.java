@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompletableFutureResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.geode.function.support.CompletableFutureResultCollector
+ * @since 2.0.0
+ */
+public class CompletableFutureResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	@Test
+	public void constructWithNullResultCollectorThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CompletableFutureResultCollector<>(null))
+			.withMessage("ResultCollector must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void completesFutureWithResultWhenResultsEnd() {
+
+		CompletableFutureResultCollector<Object, Long> resultCollector =
+			new CompletableFutureResultCollector<>(ReducingResultCollector.counting());
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+		resultCollector.addResult(this.mockDistributedMember, "two");
+
+		assertThat(resultCollector.toCompletableFuture()).isNotDone();
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.toCompletableFuture()).isCompletedWithValue(2L);
+		assertThat(resultCollector.getResult()).isEqualTo(2L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void delegatesToResultCollector() {
+
+		ResultCollector<Object, Object> mockResultCollector = mock(ResultCollector.class);
+
+		doReturn("test").when(mockResultCollector).getResult();
+
+		CompletableFutureResultCollector<Object, Object> resultCollector =
+			new CompletableFutureResultCollector<>(mockResultCollector);
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+		resultCollector.clearResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo("test");
+
+		verify(mockResultCollector).addResult(this.mockDistributedMember, "one");
+		verify(mockResultCollector).clearResults();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void completesFutureExceptionallyWhenResultCannotBeDetermined() {
+
+		ResultCollector<Object, Object> mockResultCollector = mock(ResultCollector.class);
+
+		doThrow(new FunctionException("TEST")).when(mockResultCollector).getResult();
+
+		CompletableFutureResultCollector<Object, Object> resultCollector =
+			new CompletableFutureResultCollector<>(mockResultCollector);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(resultCollector::endResults)
+			.withMessage("TEST");
+
+		assertThat(resultCollector.toCompletableFuture()).isCompletedExceptionally();
+	}
+}
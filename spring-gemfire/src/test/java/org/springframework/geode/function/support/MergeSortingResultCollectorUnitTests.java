@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MergeSortingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.MergeSortingResultCollector
+ * @since 2.0.0
+ */
+public class MergeSortingResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	@Test
+	public void constructWithNullComparatorThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MergeSortingResultCollector<>(null))
+			.withMessage("Comparator must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void constructWithInvalidLimitThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MergeSortingResultCollector<>(Comparator.naturalOrder(), 0))
+			.withMessage("Limit [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void mergesSortedResults() {
+
+		MergeSortingResultCollector<Integer> resultCollector = new MergeSortingResultCollector<>();
+
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(1, 4, 7));
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(2, null, 5, 8));
+		resultCollector.addResult(this.mockDistributedMember, 3);
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(0, 6, 9));
+
+		assertThat(resultCollector.getResult()).isNull();
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+	}
+
+	@Test
+	public void mergesSortedResultsUpToLimit() {
+
+		MergeSortingResultCollector<Integer> resultCollector =
+			new MergeSortingResultCollector<>(Comparator.<Integer>reverseOrder(), 3);
+
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(9, 5, 1));
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(8, 7, 6));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(9, 8, 7);
+	}
+
+	@Test
+	public void clearResultsDiscardsMergedResults() {
+
+		MergeSortingResultCollector<Integer> resultCollector = new MergeSortingResultCollector<>();
+
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(1, 2));
+		resultCollector.clearResults();
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(3, 4));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(3, 4);
+	}
+}
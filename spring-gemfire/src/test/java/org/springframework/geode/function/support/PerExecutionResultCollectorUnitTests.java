@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link PerExecutionResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.PerExecutionResultCollector
+ * @since 2.0.0
+ */
+public class PerExecutionResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	private final PerExecutionResultCollector<Object, Long> resultCollector =
+		new PerExecutionResultCollector<>(ReducingResultCollector::counting);
+
+	private void execute(int numberOfResults) {
+
+		for (int count = 0; count < numberOfResults; count++) {
+			this.resultCollector.addResult(this.mockDistributedMember, count);
+		}
+
+		this.resultCollector.endResults();
+	}
+
+	@Test
+	public void constructWithNullSupplierThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PerExecutionResultCollector<>(null))
+			.withMessage("Supplier of ResultCollector must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void sequentialExecutionsDoNotShareResults() throws InterruptedException {
+
+		execute(3);
+
+		assertThat(this.resultCollector.getResult()).isEqualTo(3L);
+
+		execute(2);
+
+		assertThat(this.resultCollector.getResult(1, TimeUnit.SECONDS)).isEqualTo(2L);
+	}
+
+	@Test
+	public void executionAfterUnreadExecutionStartsWithNewState() {
+
+		execute(3);
+		execute(2);
+
+		assertThat(this.resultCollector.getResult()).isEqualTo(2L);
+	}
+
+	@Test
+	public void boundExecutionsDoNotShareResults() throws InterruptedException {
+
+		AtomicLong concurrentResult = new AtomicLong();
+
+		Thread concurrentExecution = new Thread(() -> {
+
+			this.resultCollector.bind();
+
+			try {
+				execute(3);
+				concurrentResult.set(this.resultCollector.getResult());
+			}
+			finally {
+				this.resultCollector.unbind();
+			}
+		});
+
+		this.resultCollector.bind();
+
+		try {
+
+			this.resultCollector.addResult(this.mockDistributedMember, "one");
+
+			concurrentExecution.start();
+			concurrentExecution.join();
+
+			execute(1);
+
+			assertThat(this.resultCollector.getResult()).isEqualTo(2L);
+			assertThat(concurrentResult.get()).isEqualTo(3L);
+		}
+		finally {
+			this.resultCollector.unbind();
+		}
+	}
+
+	@Test
+	public void unbindDiscardsBoundResults() {
+
+		this.resultCollector.bind();
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.unbind();
+
+		execute(1);
+
+		assertThat(this.resultCollector.getResult()).isEqualTo(1L);
+	}
+
+	@Test
+	public void clearResultsDiscardsResults() {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.clearResults();
+
+		execute(1);
+
+		assertThat(this.resultCollector.getResult()).isEqualTo(1L);
+	}
+}
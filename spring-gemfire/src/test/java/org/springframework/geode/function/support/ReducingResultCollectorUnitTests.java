@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReducingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.ReducingResultCollector
+ * @since 2.0.0
+ */
+public class ReducingResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	@Test
+	public void constructWithNullCollectorThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ReducingResultCollector<>(null))
+			.withMessage("Collector must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void countingCountsNonNullResultsAndElements() {
+
+		ReducingResultCollector<Object, Long> resultCollector = ReducingResultCollector.counting();
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList("two", null, "three"));
+
+		assertThat(resultCollector.getResult()).isNull();
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(3L);
+	}
+
+	@Test
+	public void summingLongSumsResults() {
+
+		ReducingResultCollector<Integer, Long> resultCollector = ReducingResultCollector.summingLong(Integer::longValue);
+
+		resultCollector.addResult(this.mockDistributedMember, 1);
+		resultCollector.addResult(this.mockDistributedMember, 2);
+		resultCollector.addResult(this.mockDistributedMember, 3);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(6L);
+	}
+
+	@Test
+	public void summingDoubleSumsResults() {
+
+		ReducingResultCollector<Number, Double> resultCollector =
+			ReducingResultCollector.summingDouble(Number::doubleValue);
+
+		resultCollector.addResult(this.mockDistributedMember, 1.5d);
+		resultCollector.addResult(this.mockDistributedMember, 2);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(3.5d);
+	}
+
+	@Test
+	public void minimumAndMaximumReturnSmallestAndLargestResults() {
+
+		ReducingResultCollector<Integer, Integer> minimum = ReducingResultCollector.minimum();
+		ReducingResultCollector<Integer, Integer> maximum = ReducingResultCollector.maximum();
+
+		Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6).forEach(result -> {
+			minimum.addResult(this.mockDistributedMember, result);
+			maximum.addResult(this.mockDistributedMember, result);
+		});
+
+		minimum.endResults();
+		maximum.endResults();
+
+		assertThat(minimum.getResult()).isEqualTo(1);
+		assertThat(maximum.getResult()).isEqualTo(9);
+	}
+
+	@Test
+	public void minimumWithNoResultsReturnsNull() throws InterruptedException {
+
+		ReducingResultCollector<Integer, Integer> minimum = ReducingResultCollector.minimum();
+
+		minimum.endResults();
+
+		assertThat(minimum.getResult(1, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void topKReturnsGreatestResultsInDescendingOrder() {
+
+		ReducingResultCollector<String, List<String>> resultCollector =
+			ReducingResultCollector.topK(3, Comparator.comparingInt(String::length));
+
+		resultCollector.addResult(this.mockDistributedMember, "a");
+		resultCollector.addResult(this.mockDistributedMember, "abcd");
+		resultCollector.addResult(this.mockDistributedMember, "ab");
+		resultCollector.addResult(this.mockDistributedMember, "abcdef");
+		resultCollector.addResult(this.mockDistributedMember, "abc");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly("abcdef", "abcd", "abc");
+	}
+
+	@Test
+	public void topKWithInvalidKThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> ReducingResultCollector.topK(0, Comparator.naturalOrder()))
+			.withMessage("K [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void clearResultsResetsAccumulation() {
+
+		ReducingResultCollector<Object, Long> resultCollector = ReducingResultCollector.counting();
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+		resultCollector.clearResults();
+		resultCollector.addResult(this.mockDistributedMember, "two");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(1L);
+	}
+}
@@ -10,6 +10,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.distributed.DistributedMember;
 import org.junit.Before;
@@ -116,4 +118,29 @@ public class SingleResultReturningCollectorUnitTests {
 
 		assertThat(this.resultCollector.getResult()).isEqualTo("one");
 	}
+
+	@Test
+	public void getResultWithTimeoutReturnsResultAsSoonAsResultIsAdded() throws Exception {
+
+		long startTimestamp = System.nanoTime();
+
+		CompletableFuture.runAsync(() -> this.resultCollector.addResult(this.mockDistributedMember, "test"));
+
+		assertThat(this.resultCollector.getResult(30, TimeUnit.SECONDS)).isEqualTo("test");
+		assertThat(System.nanoTime() - startTimestamp).isLessThan(TimeUnit.SECONDS.toNanos(10));
+	}
+
+	@Test
+	public void getResultWithTimeoutReturnsNullAsSoonAsResultsEnd() throws Exception {
+
+		long startTimestamp = System.nanoTime();
+
+		CompletableFuture.runAsync(() -> {
+			this.resultCollector.addResult(this.mockDistributedMember, null);
+			this.resultCollector.endResults();
+		});
+
+		assertThat(this.resultCollector.getResult(30, TimeUnit.SECONDS)).isNull();
+		assertThat(System.nanoTime() - startTimestamp).isLessThan(TimeUnit.SECONDS.toNanos(10));
+	}
 }
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2023-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+import org.slf4j.Logger;
+
+/**
+ * Unit tests for {@link StreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 2.0.0
+ */
+public class StreamingResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	@Test
+	public void constructWithInvalidBufferCapacityThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>(0, Duration.ofSeconds(1)))
+			.withMessage("Buffer capacity [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void constructWithNullTimeoutThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>(1, null))
+			.withMessage("Timeout must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void getResultReturnsStreamImmediately() throws InterruptedException {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		assertThat(resultCollector.getResult()).isNotNull();
+		assertThat(resultCollector.getResult(10, TimeUnit.SECONDS)).isSameAs(resultCollector.getResult());
+	}
+
+	@Test
+	public void streamsResultsInOrderSkippingNulls() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, "two");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult().collect(Collectors.toList())).containsExactly("one", "two");
+	}
+
+	@Test
+	public void iteratorWithNoResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.endResults();
+
+		Iterator<Object> iterator = resultCollector.iterator();
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void clearResultsDiscardsBufferedResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(2, Duration.ofSeconds(5));
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+		resultCollector.addResult(this.mockDistributedMember, "two");
+		resultCollector.clearResults();
+		resultCollector.addResult(this.mockDistributedMember, "three");
+		resultCollector.addResult(this.mockDistributedMember, "four");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult().collect(Collectors.toList())).containsExactly("three", "four");
+	}
+
+	@Test
+	public void addResultWhenBufferIsFullTimesOut() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1, Duration.ofMillis(10));
+
+		resultCollector.addResult(this.mockDistributedMember, "one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> resultCollector.addResult(this.mockDistributedMember, "two"))
+			.withMessage("Timed out after [10] ms waiting for results to be consumed");
+	}
+
+	@Test
+	public void iteratorTimesOutWaitingForResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1, Duration.ofMillis(10));
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> resultCollector.iterator().hasNext())
+			.withMessage("Timed out after [10] ms waiting for results");
+	}
+
+	@Test
+	public void executeWithNullExecutionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>().execute(null, Runnable::run))
+			.withMessage("Function execution must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void executeWithNullExecutorThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>().execute(resultCollector -> {}, null))
+			.withMessage("Executor must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void executeStreamsMoreResultsThanBufferCapacityFromSynchronousExecution() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			StreamingResultCollector<Object> resultCollector =
+				new StreamingResultCollector<>(2, Duration.ofSeconds(5));
+
+			// Simulates a client Function execution delivering all results before execute(..) returns
+			List<Object> results = resultCollector.execute(it -> {
+					for (int result = 1; result <= 10; result++) {
+						it.addResult(this.mockDistributedMember, result);
+					}
+					it.endResults();
+				}, executor)
+				.collect(Collectors.toList());
+
+			assertThat(results).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void executeEndsResultsWhenExecutionDoesNotEndResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(2, Duration.ofSeconds(5));
+
+		List<Object> results = resultCollector
+			.execute(it -> it.addResult(this.mockDistributedMember, "one"), Runnable::run)
+			.collect(Collectors.toList());
+
+		assertThat(results).containsExactly("one");
+	}
+
+	@Test
+	public void executePublishesResultsThenThrowsExecutionFailure() {
+
+		RuntimeException cause = new RuntimeException("TEST");
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(2, Duration.ofSeconds(5));
+
+		Iterator<Object> iterator = resultCollector.execute(it -> {
+			it.addResult(this.mockDistributedMember, "one");
+			throw cause;
+		}, Runnable::run).iterator();
+
+		assertThat(iterator.next()).isEqualTo("one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(iterator::hasNext)
+			.withMessage("Function execution failed")
+			.withCause(cause);
+	}
+
+	private StreamingResultCollector<Object> newStreamingResultCollector(Logger logger) {
+
+		return new StreamingResultCollector<Object>(2, Duration.ofSeconds(5)) {
+
+			@Override
+			protected Logger getLogger() {
+				return logger;
+			}
+		};
+	}
+
+	@Test
+	public void executeReportsExecutionFailureAfterResultsEnded() {
+
+		Logger mockLogger = mock(Logger.class);
+
+		RuntimeException cause = new RuntimeException("TEST");
+
+		StreamingResultCollector<Object> resultCollector = newStreamingResultCollector(mockLogger);
+
+		Iterator<Object> iterator = resultCollector.execute(it -> {
+			it.addResult(this.mockDistributedMember, "one");
+			it.endResults();
+			throw cause;
+		}, Runnable::run).iterator();
+
+		assertThat(iterator.next()).isEqualTo("one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(iterator::hasNext)
+			.withMessage("Function execution failed")
+			.withCause(cause);
+
+		verify(mockLogger, times(1)).warn(anyString(), eq(cause));
+	}
+
+	@Test
+	public void executeDoesNotReportExecutionFailureBeforeResultsEnded() {
+
+		Logger mockLogger = mock(Logger.class);
+
+		StreamingResultCollector<Object> resultCollector = newStreamingResultCollector(mockLogger);
+
+		Iterator<Object> iterator = resultCollector.execute(it -> {
+			throw new RuntimeException("TEST");
+		}, Runnable::run).iterator();
+
+		assertThatExceptionOfType(FunctionException.class).isThrownBy(iterator::hasNext);
+
+		verify(mockLogger, never()).warn(anyString(), any(Throwable.class));
+	}
+
+	@Test
+	public void streamsResultsWithBackpressure() throws Throwable {
+		TestFramework.runOnce(new StreamsResultsWithBackpressureMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	static class StreamsResultsWithBackpressureMultithreadedTestCase extends MultithreadedTestCase {
+
+		private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+		private StreamingResultCollector<Object> resultCollector;
+
+		@Override
+		public void initialize() {
+			super.initialize();
+			this.resultCollector = new StreamingResultCollector<>(1, Duration.ofSeconds(30));
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("ResultCollector.addResult(..)");
+
+			this.resultCollector.addResult(this.mockDistributedMember, "one");
+			this.resultCollector.addResult(this.mockDistributedMember, "two");
+
+			assertTick(1);
+
+			this.resultCollector.addResult(this.mockDistributedMember, "three");
+			this.resultCollector.endResults();
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("ResultCollector.getResult()");
+
+			waitForTick(1);
+
+			List<Object> results = this.resultCollector.getResult().collect(Collectors.toList());
+
+			assertThat(results).containsExactly("one", "two", "three");
+		}
+	}
+}